@@ -0,0 +1,12 @@
+package dev.coms4156.project.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the periodic background tasks that refresh derived in-memory structures.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
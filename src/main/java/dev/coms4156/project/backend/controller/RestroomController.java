@@ -1,26 +1,45 @@
 package dev.coms4156.project.backend.controller;
 
+import dev.coms4156.project.backend.dto.NearbyBatchRequest;
+import dev.coms4156.project.backend.dto.NearbyQueryRequest;
 import dev.coms4156.project.backend.dto.RestroomCreateRequest;
 import dev.coms4156.project.backend.dto.RestroomEditProposalRequest;
 import dev.coms4156.project.backend.model.EditProposal;
 import dev.coms4156.project.backend.model.Restroom;
+import dev.coms4156.project.backend.model.WeeklySchedule;
 import dev.coms4156.project.backend.service.db.EditProposalDbService;
+import dev.coms4156.project.backend.service.db.NearbyPage;
+import dev.coms4156.project.backend.service.db.NearbyQuery;
+import dev.coms4156.project.backend.service.db.RestroomCsvImporter;
 import dev.coms4156.project.backend.service.db.RestroomDbService;
 import dev.coms4156.project.backend.service.db.ReviewDbService;
+import dev.coms4156.project.backend.service.db.VisitDbService;
+import dev.coms4156.project.backend.service.index.NearbyCache;
+import dev.coms4156.project.backend.service.index.SuggestIndex;
+import dev.coms4156.project.backend.service.index.TileCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -30,12 +49,14 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
- * Bathroom endpoints: submit, nearby, details, propose edit, visit.
+ * Bathroom endpoints: submit, CSV import, nearby, batch nearby, nearby cache stats, route/polygon
+ * search, text search, suggest, clusters, tiles, details, propose and review edits, visit.
  */
 @RestController
 @RequestMapping("/v1/bathrooms")
@@ -43,11 +64,27 @@ public class RestroomController {
 
   private static final String ROLE_MEMBER_EXPRESSION =
       "hasAnyRole('USER','THIRD_PARTY_INTEGRATION','ADMIN')";
+  private static final String ROLE_ADMIN = "hasRole('ADMIN')";
   private static final String ERROR_KEY = "error";
+  private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+  private static final int MAX_BATCH_QUERIES = 1000;
+  private static final int MAX_BATCH_RESULTS = 10_000;
+  private static final double DEFAULT_RADIUS_METERS = 1500;
+  private static final double MAX_ROUTE_BUFFER_METERS = 5000;
+  private static final int MAX_SHAPE_RESULTS = 500;
+  private static final int MAX_ZOOM = 22;
+  private static final int MAX_CLUSTERS = 5000;
+  private static final int MAX_TEXT_RESULTS = 100;
+  private static final int MAX_TEXT_QUERY_LENGTH = 200;
+  private static final MediaType TILE_MEDIA_TYPE =
+      MediaType.parseMediaType("application/vnd.restroom-tile");
+  private static final Duration TILE_MAX_AGE = Duration.ofMinutes(5);
 
   private final RestroomDbService restroomDbService;
   private final ReviewDbService reviewDbService;
   private final EditProposalDbService editProposalDbService;
+  private final RestroomCsvImporter csvImporter;
+  private final VisitDbService visitDbService;
 
   /**
    * Constructor for DI.
@@ -55,14 +92,20 @@ public class RestroomController {
    * @param restroomDbService database service implementation
    * @param reviewDbService review database service for getting top reviews
    * @param editProposalDbService edit proposal database service
+   * @param csvImporter bulk CSV import pipeline
+   * @param visitDbService write-behind visit counts
    */
   public RestroomController(
       @Autowired final RestroomDbService restroomDbService,
       @Autowired final ReviewDbService reviewDbService,
-      @Autowired final EditProposalDbService editProposalDbService) {
+      @Autowired final EditProposalDbService editProposalDbService,
+      @Autowired final RestroomCsvImporter csvImporter,
+      @Autowired final VisitDbService visitDbService) {
     this.restroomDbService = restroomDbService;
     this.reviewDbService = reviewDbService;
     this.editProposalDbService = editProposalDbService;
+    this.csvImporter = csvImporter;
+    this.visitDbService = visitDbService;
   }
 
   /**
@@ -99,12 +142,51 @@ public class RestroomController {
     return ResponseEntity.status(201).body(saved);
   }
 
+  /**
+   * Bulk import restrooms from a CSV request body (admin only). The body is streamed, so files
+   * far larger than memory can be uploaded.
+   *
+   * @param body CSV with a header row; same columns as {@code sql/restroom_converted.csv}
+   * @return inserted, updated and rejected counts with the first rejection reasons
+   */
+  @Operation(
+      summary = "Bulk import restrooms from CSV, admin only",
+      description = "Streams a CSV body (header: id,name,address,latitude,longitude,operator,"
+          + "hours_json,amenities,avg_rating,visit_count). Rows with an id update that restroom, "
+          + "others are inserted; invalid rows are skipped and reported by line number.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Import finished",
+          content = @Content(schema = @Schema(implementation =
+              RestroomCsvImporter.ImportResult.class))),
+      @ApiResponse(responseCode = "400", description = "Missing columns or malformed CSV")
+  })
+  @PostMapping(value = "/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE,
+      MediaType.APPLICATION_OCTET_STREAM_VALUE})
+  @PreAuthorize(ROLE_ADMIN)
+  public ResponseEntity<?> importCsv(final InputStream body) {
+    try {
+      return ResponseEntity.ok(csvImporter.importCsv(body));
+    } catch (IllegalArgumentException ex) {
+      return ResponseEntity.badRequest().body(Map.of(ERROR_KEY, ex.getMessage()));
+    } catch (IOException ex) {
+      return ResponseEntity.badRequest().body(Map.of(ERROR_KEY, "Unable to read CSV body"));
+    }
+  }
+
   /**
    * Nearby search with optional filters (auth required).
    */
   @Operation(
       summary = "Find nearby restrooms, login required",
-      description = "Returns restrooms filtered by radius, open status, amenities, and limit.")
+      description = "Returns restrooms filtered by radius, open status, amenity codes, "
+          + "operational status, and limit; radius is in meters, up to 50000, and limit is 1 "
+          + "to " + NearbyQuery.MAX_LIMIT + ". When more results exist the X-Next-Cursor header "
+          + "holds a cursor that returns the next page. sort=best orders by a blend of "
+          + "distance, smoothed rating, visits and open-now instead of distance alone and "
+          + "returns a single page. openAt (ISO-8601 date-time with offset) keeps restrooms "
+          + "open at that time on their local clock; openFor (ISO-8601 duration or minutes) "
+          + "keeps those that stay open that long from openAt, or from now. visitCount "
+          + "includes visits not yet written.")
   @GetMapping("/nearby")
   @PreAuthorize(ROLE_MEMBER_EXPRESSION)
   public ResponseEntity<?> nearby(@RequestParam final double lat,
@@ -112,14 +194,269 @@ public class RestroomController {
                                   @RequestParam(defaultValue = "1500") final double radius,
                                   @RequestParam(required = false) final Boolean openNow,
                                   @RequestParam(required = false) final String amenities,
-                                  @RequestParam(required = false) final Integer limit) {
-    Set<String> amSet = null;
-    if (amenities != null && !amenities.isBlank()) {
-      amSet = Arrays.stream(amenities.split(","))
-              .map(String::trim).filter(s -> !s.isEmpty()).collect(Collectors.toSet());
+                                  @RequestParam(required = false) final String status,
+                                  @RequestParam(required = false) final Integer limit,
+                                  @RequestParam(required = false) final String cursor,
+                                  @RequestParam(required = false) final String sort,
+                                  @RequestParam(required = false) final String openAt,
+                                  @RequestParam(required = false) final String openFor) {
+    Set<String> amSet = splitAmenities(amenities);
+    try {
+      NearbyPage page = restroomDbService.getNearby(NearbyQuery.of(lat, lng, radius, openNow,
+          amSet, status, limit, cursor, sort, openAt, openFor));
+      ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+      if (page.getNextCursor() != null) {
+        response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+      }
+      return response.body(visitDbService.withVisitCounts(page.getRestrooms()));
+    } catch (IllegalArgumentException ex) {
+      return ResponseEntity.badRequest().body(Map.of(ERROR_KEY, ex.getMessage()));
+    }
+  }
+
+  /**
+   * Route-corridor or polygon search (auth required).
+   */
+  @Operation(
+      summary = "Find restrooms along a route or inside an area, login required",
+      description = "Pass route (encoded polyline) with buffer in meters to get restrooms "
+          + "within that distance of the route, ordered along it; or pass polygon (encoded "
+          + "polyline of the ring) to get restrooms inside it, closest to its center first. "
+          + "Accepts the same openNow, openAt, openFor, amenities and status filters as "
+          + "nearby.")
+  @GetMapping
+  @PreAuthorize(ROLE_MEMBER_EXPRESSION)
+  public ResponseEntity<?> search(@RequestParam(required = false) final String route,
+                                  @RequestParam(defaultValue = "200") final double buffer,
+                                  @RequestParam(required = false) final String polygon,
+                                  @RequestParam(required = false) final Boolean openNow,
+                                  @RequestParam(required = false) final String openAt,
+                                  @RequestParam(required = false) final String openFor,
+                                  @RequestParam(required = false) final String amenities,
+                                  @RequestParam(required = false) final String status,
+                                  @RequestParam(defaultValue = "50") final int limit) {
+    if ((route == null) == (polygon == null)) {
+      return ResponseEntity.badRequest()
+          .body(Map.of(ERROR_KEY, "exactly one of route or polygon is required"));
+    }
+    if (buffer < 0 || buffer > MAX_ROUTE_BUFFER_METERS) {
+      return ResponseEntity.badRequest().body(Map.of(ERROR_KEY,
+          "buffer must be between 0 and " + (int) MAX_ROUTE_BUFFER_METERS + " meters"));
+    }
+    if (limit < 1 || limit > MAX_SHAPE_RESULTS) {
+      return ResponseEntity.badRequest()
+          .body(Map.of(ERROR_KEY, "limit must be between 1 and " + MAX_SHAPE_RESULTS));
+    }
+    Set<String> amSet = splitAmenities(amenities);
+    try {
+      ZonedDateTime at = NearbyQuery.parseOpenAt(openAt);
+      Duration during = NearbyQuery.parseOpenFor(openFor);
+      if (route != null) {
+        return ResponseEntity.ok(restroomDbService.searchAlongRoute(route, buffer, openNow, at,
+            during, amSet, status, limit));
+      }
+      return ResponseEntity.ok(restroomDbService.searchWithinPolygon(polygon, openNow, at,
+          during, amSet, status, limit));
+    } catch (IllegalArgumentException ex) {
+      return ResponseEntity.badRequest().body(Map.of(ERROR_KEY, ex.getMessage()));
+    }
+  }
+
+  /**
+   * Name and address search (auth required).
+   */
+  @Operation(
+      summary = "Search restrooms by name or address, login required",
+      description = "Matches q against restroom names and addresses, tolerating typos. With "
+          + "lat and lng, closer restrooms rank higher among similar matches.")
+  @GetMapping("/search")
+  @PreAuthorize(ROLE_MEMBER_EXPRESSION)
+  public ResponseEntity<?> searchText(@RequestParam final String q,
+                                      @RequestParam(required = false) final Double lat,
+                                      @RequestParam(required = false) final Double lng,
+                                      @RequestParam(defaultValue = "10") final int limit) {
+    if (q.isBlank() || q.length() > MAX_TEXT_QUERY_LENGTH) {
+      return ResponseEntity.badRequest().body(Map.of(ERROR_KEY,
+          "q must be between 1 and " + MAX_TEXT_QUERY_LENGTH + " characters"));
+    }
+    if ((lat == null) != (lng == null)) {
+      return ResponseEntity.badRequest()
+          .body(Map.of(ERROR_KEY, "lat and lng must be given together"));
+    }
+    if (limit < 1 || limit > MAX_TEXT_RESULTS) {
+      return ResponseEntity.badRequest()
+          .body(Map.of(ERROR_KEY, "limit must be between 1 and " + MAX_TEXT_RESULTS));
+    }
+    return ResponseEntity.ok(restroomDbService.searchText(q, lat, lng, limit));
+  }
+
+  /**
+   * Name autocomplete (auth required).
+   */
+  @Operation(
+      summary = "Autocomplete restroom names, login required",
+      description = "Returns up to " + SuggestIndex.TOP_N + " restroom names with a word "
+          + "starting with prefix, most visited and best rated first.")
+  @GetMapping("/suggest")
+  @PreAuthorize(ROLE_MEMBER_EXPRESSION)
+  public ResponseEntity<?> suggest(@RequestParam final String prefix,
+                                   @RequestParam(defaultValue = "5") final int limit) {
+    if (prefix.isBlank() || prefix.length() > MAX_TEXT_QUERY_LENGTH) {
+      return ResponseEntity.badRequest().body(Map.of(ERROR_KEY,
+          "prefix must be between 1 and " + MAX_TEXT_QUERY_LENGTH + " characters"));
+    }
+    if (limit < 1 || limit > SuggestIndex.TOP_N) {
+      return ResponseEntity.badRequest()
+          .body(Map.of(ERROR_KEY, "limit must be between 1 and " + SuggestIndex.TOP_N));
     }
-    return ResponseEntity.ok(
-        restroomDbService.getNearby(lat, lng, radius, openNow, amSet, limit));
+    return ResponseEntity.ok(restroomDbService.suggest(prefix, limit));
+  }
+
+  /**
+   * Map clusters for a viewport (auth required).
+   */
+  @Operation(
+      summary = "Get map clusters for a viewport, login required",
+      description = "bbox is west,south,east,north in degrees. Returns clusters with their "
+          + "centroid and count; single restrooms carry restroomId and clusters the zoom at "
+          + "which they split.")
+  @GetMapping("/clusters")
+  @PreAuthorize(ROLE_MEMBER_EXPRESSION)
+  public ResponseEntity<?> clusters(@RequestParam final String bbox,
+                                    @RequestParam final int zoom) {
+    double[] box;
+    try {
+      box = Arrays.stream(bbox.split(",")).map(String::trim).mapToDouble(Double::parseDouble)
+          .toArray();
+    } catch (NumberFormatException ex) {
+      box = new double[0];
+    }
+    if (box.length != 4 || Math.abs(box[0]) > 180 || Math.abs(box[2]) > 180
+        || Math.abs(box[1]) > 90 || Math.abs(box[3]) > 90 || box[1] > box[3]) {
+      return ResponseEntity.badRequest()
+          .body(Map.of(ERROR_KEY, "bbox must be west,south,east,north in degrees"));
+    }
+    if (zoom < 0 || zoom > MAX_ZOOM) {
+      return ResponseEntity.badRequest()
+          .body(Map.of(ERROR_KEY, "zoom must be between 0 and " + MAX_ZOOM));
+    }
+    try {
+      return ResponseEntity.ok(restroomDbService.getClusters(box[0], box[1], box[2], box[3],
+          zoom, MAX_CLUSTERS));
+    } catch (IllegalArgumentException ex) {
+      return ResponseEntity.badRequest().body(Map.of(ERROR_KEY, ex.getMessage()));
+    }
+  }
+
+  /**
+   * Binary map tile of restroom points (auth required).
+   */
+  @Operation(
+      summary = "Get a binary map tile of restrooms, login required",
+      description = "Returns id, position, status and amenity mask of every restroom in tile "
+          + "z/x/y (zoom " + TileCache.MIN_ZOOM + " to " + TileCache.MAX_ZOOM + ") as "
+          + "delta-encoded varints; see TileEncoder for the layout. Use clusters for lower "
+          + "zooms.")
+  @GetMapping("/tiles/{z}/{x}/{y}")
+  @PreAuthorize(ROLE_MEMBER_EXPRESSION)
+  public ResponseEntity<?> tile(
+      @PathVariable final int z,
+      @PathVariable final int x,
+      @PathVariable final int y,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+      final String ifNoneMatch) {
+    if (z < TileCache.MIN_ZOOM || z > TileCache.MAX_ZOOM) {
+      return ResponseEntity.badRequest().body(Map.of(ERROR_KEY,
+          "z must be between " + TileCache.MIN_ZOOM + " and " + TileCache.MAX_ZOOM));
+    }
+    if (x < 0 || y < 0 || x >= 1 << z || y >= 1 << z) {
+      return ResponseEntity.status(404).body(Map.of(ERROR_KEY, "Tile not found"));
+    }
+    TileCache.Tile tile = restroomDbService.getTile(z, x, y);
+    CacheControl cacheControl = CacheControl.maxAge(TILE_MAX_AGE).cachePublic();
+    if (ifNoneMatch != null && Arrays.stream(ifNoneMatch.split(","))
+        .map(tag -> tag.trim().replaceFirst("^W/", ""))
+        .anyMatch(tag -> "*".equals(tag) || tile.etag().equals(tag))) {
+      return ResponseEntity.status(304).cacheControl(cacheControl).eTag(tile.etag()).build();
+    }
+    return ResponseEntity.ok()
+        .contentType(TILE_MEDIA_TYPE)
+        .cacheControl(cacheControl)
+        .eTag(tile.etag())
+        .body(tile.bytes());
+  }
+
+  /**
+   * Nearby search for many query points at once (auth required).
+   *
+   * @param request list of nearby searches
+   * @return one result per query, in request order
+   */
+  @Operation(
+      summary = "Find nearby restrooms for many points, login required",
+      description = "Evaluates up to " + MAX_BATCH_QUERIES + " nearby searches together, "
+          + "each validated like nearby, whose limits add up to at most " + MAX_BATCH_RESULTS
+          + ". Each result holds the restrooms and next cursor of its query, or an error for "
+          + "that query alone.")
+  @PostMapping("/nearby:batch")
+  @PreAuthorize(ROLE_MEMBER_EXPRESSION)
+  public ResponseEntity<?> nearbyBatch(@RequestBody final NearbyBatchRequest request) {
+    List<NearbyQueryRequest> items = request == null ? null : request.getQueries();
+    if (items == null || items.isEmpty()) {
+      return ResponseEntity.badRequest().body(Map.of(ERROR_KEY, "queries is required"));
+    }
+    if (items.size() > MAX_BATCH_QUERIES) {
+      return ResponseEntity.badRequest()
+          .body(Map.of(ERROR_KEY, "at most " + MAX_BATCH_QUERIES + " queries are allowed"));
+    }
+    List<Map<String, Object>> results = new ArrayList<>(items.size());
+    List<NearbyQuery> queries = new ArrayList<>(items.size());
+    List<Integer> positions = new ArrayList<>(items.size());
+    for (NearbyQueryRequest item : items) {
+      Map<String, Object> result = new LinkedHashMap<>();
+      results.add(result);
+      if (item == null || item.getLat() == null || item.getLng() == null) {
+        result.put(ERROR_KEY, "lat and lng are required");
+        continue;
+      }
+      try {
+        queries.add(NearbyQuery.of(item.getLat(), item.getLng(),
+            item.getRadius() != null ? item.getRadius() : DEFAULT_RADIUS_METERS,
+            item.getOpenNow(), item.getAmenities(), item.getStatus(), item.getLimit(),
+            item.getCursor(), item.getSort(), item.getOpenAt(), item.getOpenFor()));
+        positions.add(results.size() - 1);
+      } catch (IllegalArgumentException ex) {
+        result.put(ERROR_KEY, ex.getMessage());
+      }
+    }
+    int total = queries.stream().mapToInt(NearbyQuery::getLimit).sum();
+    if (total > MAX_BATCH_RESULTS) {
+      return ResponseEntity.badRequest().body(Map.of(ERROR_KEY,
+          "limits add up to " + total + ", at most " + MAX_BATCH_RESULTS + " are allowed"));
+    }
+    List<NearbyPage> pages = restroomDbService.getNearbyBatch(queries);
+    for (int i = 0; i < pages.size(); i++) {
+      Map<String, Object> result = results.get(positions.get(i));
+      result.put("restrooms", visitDbService.withVisitCounts(pages.get(i).getRestrooms()));
+      result.put("nextCursor", pages.get(i).getNextCursor());
+    }
+    return ResponseEntity.ok(Map.of("results", results));
+  }
+
+  /**
+   * Nearby result cache counters (admin only).
+   *
+   * @return hits, misses, evictions, invalidations and size
+   */
+  @Operation(
+      summary = "Nearby cache statistics, admin only",
+      description = "Returns hit, miss, eviction and invalidation counts of the nearby cache.")
+  @ApiResponse(responseCode = "200", description = "Cache counters",
+      content = @Content(schema = @Schema(implementation = NearbyCache.Stats.class)))
+  @GetMapping("/nearby/cache-stats")
+  @PreAuthorize(ROLE_ADMIN)
+  public ResponseEntity<NearbyCache.Stats> nearbyCacheStats() {
+    return ResponseEntity.ok(restroomDbService.getNearbyCacheStats());
   }
 
   /**
@@ -127,7 +464,9 @@ public class RestroomController {
    */
   @Operation(
       summary = "Get restroom details, login required",
-      description = "Fetches metadata and up to three helpful reviews for the restroom identifier.")
+      description = "Fetches metadata and up to three helpful reviews for the restroom identifier. "
+          + "hours is an object keyed by day; openNow and nextChangeAt (when it next opens or "
+          + "closes, null if never) are evaluated in the configured time zone.")
   @GetMapping("/{id}")
   @PreAuthorize(ROLE_MEMBER_EXPRESSION)
   public ResponseEntity<?> details(@PathVariable final Long id) {
@@ -138,14 +477,21 @@ public class RestroomController {
       dto.put("id", r.getId());
       dto.put("name", r.getName());
       dto.put("address", r.getAddress());
+      dto.put("operator", r.getOperator());
       dto.put("latitude", r.getLatitude());
       dto.put("longitude", r.getLongitude());
-      dto.put("hours", r.getHours());
+      WeeklySchedule schedule = r.getSchedule();
+      ZonedDateTime now = ZonedDateTime.now(restroomDbService.getTimeZone());
+      boolean openNow = schedule.isOpenAt(now);
+      dto.put("hours", schedule);
+      dto.put("openNow", openNow);
+      dto.put("nextChangeAt", (openNow ? schedule.nextClose(now) : schedule.nextOpen(now))
+          .map(time -> time.toOffsetDateTime().toString())
+          .orElse(null));
       dto.put("amenities", r.getAmenities());
       dto.put("avg_rating", r.getAvgRating());
-      dto.put("visitCount", r.getVisitCount());
-      dto.put("topReviews", reviewDbService.getByRestroomId(id, "helpful")
-          .stream().limit(3).collect(Collectors.toList()));
+      dto.put("visitCount", visitDbService.getVisitCount(id).orElse(r.getVisitCount()));
+      dto.put("topReviews", reviewDbService.getTopHelpful(id));
       return ResponseEntity.ok(dto);
     } catch (NoSuchElementException ex) {
       return ResponseEntity.status(404).body(Map.of(ERROR_KEY, ex.getMessage()));
@@ -175,7 +521,9 @@ public class RestroomController {
       proposal.setRestroomId(id);
       proposal.setProposedName(request.getProposedName());
       proposal.setProposedAddress(request.getProposedAddress());
-      proposal.setProposedHours(request.getProposedHours());
+      proposal.setProposedHours(request.getProposedHours() == null
+          ? null
+          : WeeklySchedule.normalize(request.getProposedHours()));
       proposal.setProposedAmenities(request.getProposedAmenities());
       proposal.setProposerUserId(subject);
       proposal.setStatus("PENDING");
@@ -183,15 +531,109 @@ public class RestroomController {
       return ResponseEntity.status(202).body(created);
     } catch (NoSuchElementException ex) {
       return ResponseEntity.status(404).body(Map.of(ERROR_KEY, ex.getMessage()));
+    } catch (IllegalArgumentException ex) {
+      return ResponseEntity.badRequest().body(Map.of(ERROR_KEY, ex.getMessage()));
     }
   }
 
+  /**
+   * Pending edit proposals of a restroom (admin only).
+   *
+   * @param id restroom identifier
+   * @return pending proposals, newest first
+   */
+  @Operation(
+      summary = "List pending restroom edits, admin only",
+      description = "Returns the edit proposals of the restroom that await a decision.")
+  @GetMapping("/{id}/edits")
+  @PreAuthorize(ROLE_ADMIN)
+  public ResponseEntity<List<EditProposal>> pendingEdits(@PathVariable final Long id) {
+    return ResponseEntity.ok(editProposalDbService.getPendingByRestroomId(id));
+  }
+
+  /**
+   * Approve an edit proposal and apply it to the restroom (admin only).
+   *
+   * @param id restroom identifier
+   * @param editId proposal identifier
+   * @return edited restroom, 400 if its hours are invalid, 404 if either is not found, 409 if
+   *     already decided
+   */
+  @Operation(
+      summary = "Approve a restroom edit, admin only",
+      description = "Applies a pending edit proposal to its restroom, including the search "
+          + "and nearby indexes, and returns the edited restroom. The proposal stays pending "
+          + "when the edit cannot be applied.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Edit applied",
+          content = @Content(schema = @Schema(implementation = Restroom.class))),
+      @ApiResponse(responseCode = "400", description = "Proposed hours are invalid"),
+      @ApiResponse(responseCode = "404", description = "Restroom or proposal not found"),
+      @ApiResponse(responseCode = "409", description = "Proposal already decided")
+  })
+  @PostMapping("/{id}/edits/{editId}/approve")
+  @PreAuthorize(ROLE_ADMIN)
+  public ResponseEntity<?> approveEdit(@PathVariable final Long id,
+                                       @PathVariable final Long editId) {
+    EditProposal proposal = editProposalDbService.getById(editId)
+        .filter(p -> id.equals(p.getRestroomId()))
+        .orElse(null);
+    if (proposal == null) {
+      return ResponseEntity.status(404).body(Map.of(ERROR_KEY, "Edit proposal not found"));
+    }
+    EditProposalDbService.Approval approval;
+    try {
+      approval = editProposalDbService.approve(proposal);
+    } catch (IllegalArgumentException ex) {
+      return ResponseEntity.badRequest().body(Map.of(ERROR_KEY, ex.getMessage()));
+    }
+    if (!approval.pending()) {
+      return ResponseEntity.status(409).body(Map.of(ERROR_KEY, "Edit proposal already decided"));
+    }
+    if (approval.restroom() == null) {
+      return ResponseEntity.status(404).body(Map.of(ERROR_KEY, "Restroom not found"));
+    }
+    return ResponseEntity.ok(approval.restroom());
+  }
+
+  /**
+   * Reject an edit proposal, leaving the restroom unchanged (admin only).
+   *
+   * @param id restroom identifier
+   * @param editId proposal identifier
+   * @return 204 on success, 404 if not found, 409 if already decided
+   */
+  @Operation(
+      summary = "Reject a restroom edit, admin only",
+      description = "Marks a pending edit proposal rejected without changing the restroom.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "204", description = "Edit rejected"),
+      @ApiResponse(responseCode = "404", description = "Proposal not found"),
+      @ApiResponse(responseCode = "409", description = "Proposal already decided")
+  })
+  @PostMapping("/{id}/edits/{editId}/reject")
+  @PreAuthorize(ROLE_ADMIN)
+  public ResponseEntity<?> rejectEdit(@PathVariable final Long id,
+                                      @PathVariable final Long editId) {
+    boolean found = editProposalDbService.getById(editId)
+        .filter(p -> id.equals(p.getRestroomId()))
+        .isPresent();
+    if (!found) {
+      return ResponseEntity.status(404).body(Map.of(ERROR_KEY, "Edit proposal not found"));
+    }
+    if (!editProposalDbService.decide(editId, "REJECTED")) {
+      return ResponseEntity.status(409).body(Map.of(ERROR_KEY, "Edit proposal already decided"));
+    }
+    return ResponseEntity.noContent().build();
+  }
+
   /**
    * Record a user visit (auth required).
    */
   @Operation(
       summary = "Record a restroom visit",
-      description = "Increments restroom visit counts, need a user token.")
+      description = "Increments restroom visit counts, need a user token. Visits are counted "
+          + "in memory and written in periodic batches; the returned count includes them.")
   @PostMapping("/{id}/visit")
   @PreAuthorize(ROLE_MEMBER_EXPRESSION)
   public ResponseEntity<?> visit(
@@ -202,13 +644,11 @@ public class RestroomController {
       return ResponseEntity.status(401).body(Map.of(ERROR_KEY, "Unable to resolve user subject"));
     }
     try {
-      restroomDbService.getById(id)
+      long visitCount = visitDbService.recordVisit(id)
           .orElseThrow(() -> new NoSuchElementException("Restroom not found"));
-      restroomDbService.incrementVisitCount(id);
       Map<String, Object> response = new HashMap<>();
       response.put("restroomId", id);
-      response.put("visitCount",
-          restroomDbService.getById(id).map(Restroom::getVisitCount).orElse(0L));
+      response.put("visitCount", visitCount);
       response.put("visitedAt", Instant.now().toString());
       return ResponseEntity.ok(response);
     } catch (NoSuchElementException ex) {
@@ -216,6 +656,14 @@ public class RestroomController {
     }
   }
 
+  private static Set<String> splitAmenities(final String amenities) {
+    if (amenities == null || amenities.isBlank()) {
+      return null;
+    }
+    return Arrays.stream(amenities.split(","))
+        .map(String::trim).filter(s -> !s.isEmpty()).collect(Collectors.toSet());
+  }
+
   private String resolveUserIdentifier(final OAuth2AuthenticatedPrincipal principal) {
     if (principal == null) {
       return null;
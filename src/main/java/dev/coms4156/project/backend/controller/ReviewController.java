@@ -1,10 +1,19 @@
 package dev.coms4156.project.backend.controller;
 
+import dev.coms4156.project.backend.dto.ReviewBulkItem;
+import dev.coms4156.project.backend.dto.ReviewBulkRequest;
 import dev.coms4156.project.backend.model.Review;
 import dev.coms4156.project.backend.model.ReviewRequest;
 import dev.coms4156.project.backend.service.db.RestroomDbService;
+import dev.coms4156.project.backend.service.db.ReviewCursor;
 import dev.coms4156.project.backend.service.db.ReviewDbService;
+import dev.coms4156.project.backend.service.db.ReviewPage;
+import dev.coms4156.project.backend.service.db.ReviewSort;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -19,15 +28,21 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
- * Review endpoints for a restroom.
+ * Review endpoints for a restroom, and bulk review ingestion for integrations.
  */
 @RestController
-@RequestMapping("/v1/bathrooms/{id}/reviews")
+@RequestMapping("/v1")
 public class ReviewController {
 
   private static final String ROLE_MEMBER_EXPRESSION =
       "hasAnyRole('USER','THIRD_PARTY_INTEGRATION','ADMIN')";
+  private static final String ROLE_INTEGRATION_EXPRESSION =
+      "hasAnyRole('THIRD_PARTY_INTEGRATION','ADMIN')";
   private static final String ERROR_KEY = "error";
+  private static final String STATUS_KEY = "status";
+  private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+  private static final int MAX_PAGE_SIZE = 100;
+  private static final int MAX_BULK_REVIEWS = 5000;
 
   private final ReviewDbService reviewDbService;
   private final RestroomDbService restroomDbService;
@@ -48,7 +63,7 @@ public class ReviewController {
   /**
    * Create a review (auth required).
    */
-  @PostMapping
+  @PostMapping("/bathrooms/{id}/reviews")
   @PreAuthorize(ROLE_MEMBER_EXPRESSION)
   public ResponseEntity<?> addReview(
       @PathVariable final Long id,
@@ -60,12 +75,9 @@ public class ReviewController {
       return ResponseEntity.status(401).body(Map.of(ERROR_KEY, "Unable to resolve user subject"));
     }
 
-    if (body.getRating() == null || body.getCleanliness() == null) {
-      return ResponseEntity.badRequest().body(Map.of(ERROR_KEY, "rating and cleanliness required"));
-    }
-    if (body.getRating() < 1 || body.getRating() > 5
-        || body.getCleanliness() < 1 || body.getCleanliness() > 5) {
-      return ResponseEntity.badRequest().body(Map.of(ERROR_KEY, "rating/cleanliness must be 1-5"));
+    String invalid = validateScores(body);
+    if (invalid != null) {
+      return ResponseEntity.badRequest().body(Map.of(ERROR_KEY, invalid));
     }
 
     try {
@@ -86,25 +98,158 @@ public class ReviewController {
   }
 
   /**
-   * List reviews for a restroom.
+   * List reviews for a restroom, one page at a time.
    *
    * @param id restroom id
    * @param sort recent|helpful
-   * @return list of reviews
+   * @param limit page size, 1 to 100
+   * @param cursor X-Next-Cursor value of the previous page
+   * @return one page of reviews
    */
-  @GetMapping
+  @GetMapping("/bathrooms/{id}/reviews")
   @PreAuthorize(ROLE_MEMBER_EXPRESSION)
   public ResponseEntity<?> list(@PathVariable final Long id,
-                                @RequestParam(defaultValue = "recent") final String sort) {
+                                @RequestParam(defaultValue = "recent") final String sort,
+                                @RequestParam(defaultValue = "20") final int limit,
+                                @RequestParam(required = false) final String cursor) {
+    if (limit < 1 || limit > MAX_PAGE_SIZE) {
+      return ResponseEntity.badRequest()
+          .body(Map.of(ERROR_KEY, "limit must be between 1 and " + MAX_PAGE_SIZE));
+    }
+    ReviewSort order;
+    ReviewCursor after;
+    try {
+      order = ReviewSort.parse(sort);
+      after = ReviewCursor.decode(cursor, order);
+    } catch (IllegalArgumentException ex) {
+      return ResponseEntity.badRequest().body(Map.of(ERROR_KEY, ex.getMessage()));
+    }
     try {
       restroomDbService.getById(id)
           .orElseThrow(() -> new IllegalArgumentException("Restroom not found"));
-      return ResponseEntity.ok(reviewDbService.getByRestroomId(id, sort));
+      ReviewPage page = reviewDbService.getPage(id, order, limit, after);
+      ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+      if (page.getNextCursor() != null) {
+        response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+      }
+      return response.body(page.getReviews());
     } catch (Exception ex) {
       return ResponseEntity.status(404).body(Map.of(ERROR_KEY, ex.getMessage()));
     }
   }
 
+  /**
+   * Review statistics for a restroom: review count, average rating and cleanliness, and the
+   * number of reviews per star, read from counters kept up to date by every review write.
+   *
+   * @param id restroom id
+   * @return statistics, or 404 if the restroom does not exist
+   */
+  @GetMapping("/bathrooms/{id}/stats")
+  @PreAuthorize(ROLE_MEMBER_EXPRESSION)
+  public ResponseEntity<?> stats(@PathVariable final Long id) {
+    return restroomDbService.getReviewStats(id)
+        .<ResponseEntity<?>>map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.status(404)
+            .body(Map.of(ERROR_KEY, "Restroom not found")));
+  }
+
+  /**
+   * Store many reviews for an integration migrating them from its own app (integration or
+   * admin only). The whole request is validated in one pass, with a single existence check for
+   * all its restrooms; valid reviews are then stored in batched, chunked transactions.
+   *
+   * @param request reviews to store, attributed to the caller
+   * @param principal authenticated caller
+   * @return per review, in request order, its status and the stored review or an error
+   */
+  @PostMapping("/reviews:bulk")
+  @PreAuthorize(ROLE_INTEGRATION_EXPRESSION)
+  public ResponseEntity<?> bulk(
+      @RequestBody final ReviewBulkRequest request,
+      @AuthenticationPrincipal final OAuth2AuthenticatedPrincipal principal) {
+    String reviewer = resolveUserIdentifier(principal);
+    if (reviewer == null || reviewer.isBlank()) {
+      return ResponseEntity.status(401).body(Map.of(ERROR_KEY, "Unable to resolve user subject"));
+    }
+    List<ReviewBulkItem> items = request == null ? null : request.getReviews();
+    if (items == null || items.isEmpty()) {
+      return ResponseEntity.badRequest().body(Map.of(ERROR_KEY, "reviews is required"));
+    }
+    if (items.size() > MAX_BULK_REVIEWS) {
+      return ResponseEntity.badRequest()
+          .body(Map.of(ERROR_KEY, "at most " + MAX_BULK_REVIEWS + " reviews are allowed"));
+    }
+
+    Set<Long> restrooms = restroomDbService.existingIds(items.stream()
+        .filter(item -> item != null && item.getRestroomId() != null)
+        .map(ReviewBulkItem::getRestroomId)
+        .toList());
+    List<Map<String, Object>> results = new ArrayList<>(items.size());
+    List<Review> reviews = new ArrayList<>(items.size());
+    List<Integer> positions = new ArrayList<>(items.size());
+    for (ReviewBulkItem item : items) {
+      Map<String, Object> result = new LinkedHashMap<>();
+      results.add(result);
+      String invalid = item == null || item.getRestroomId() == null
+          ? "restroomId is required"
+          : validateScores(item);
+      if (invalid == null && !restrooms.contains(item.getRestroomId())) {
+        invalid = "Restroom not found";
+      }
+      if (invalid != null) {
+        result.put(STATUS_KEY, "invalid");
+        result.put(ERROR_KEY, invalid);
+        continue;
+      }
+      Review review = new Review();
+      review.setRestroomId(item.getRestroomId());
+      review.setUserId(reviewer);
+      review.setRating(item.getRating());
+      review.setCleanliness(item.getCleanliness());
+      review.setComment(item.getComment());
+      review.setHelpfulVotes(0);
+      reviews.add(review);
+      positions.add(results.size() - 1);
+    }
+
+    List<ReviewDbService.BulkOutcome> outcomes = reviewDbService.createBulk(reviews);
+    int created = 0;
+    for (int i = 0; i < outcomes.size(); i++) {
+      Map<String, Object> result = results.get(positions.get(i));
+      ReviewDbService.BulkOutcome outcome = outcomes.get(i);
+      if (outcome.error() == null) {
+        result.put(STATUS_KEY, "created");
+        result.put("review", outcome.review());
+        created++;
+      } else {
+        result.put(STATUS_KEY, "failed");
+        result.put(ERROR_KEY, outcome.error());
+      }
+    }
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("created", created);
+    body.put("rejected", items.size() - created);
+    body.put("results", results);
+    return ResponseEntity.ok(body);
+  }
+
+  /**
+   * Check the scores of a review request.
+   *
+   * @return the problem, or null when both scores are present and in range
+   */
+  private static String validateScores(final ReviewRequest body) {
+    if (body.getRating() == null || body.getCleanliness() == null) {
+      return "rating and cleanliness required";
+    }
+    if (body.getRating() < 1 || body.getRating() > 5
+        || body.getCleanliness() < 1 || body.getCleanliness() > 5) {
+      return "rating/cleanliness must be 1-5";
+    }
+    return null;
+  }
+
   private String resolveUserIdentifier(final OAuth2AuthenticatedPrincipal principal) {
     if (principal == null) {
       return null;
@@ -0,0 +1,22 @@
+package dev.coms4156.project.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Payload for resolving nearby restrooms for many query points in one request.
+ */
+public class NearbyBatchRequest {
+
+  @Schema(description = "Nearby searches, answered in the same order", required = true)
+  private List<NearbyQueryRequest> queries = new ArrayList<>();
+
+  public List<NearbyQueryRequest> getQueries() {
+    return queries;
+  }
+
+  public void setQueries(List<NearbyQueryRequest> queries) {
+    this.queries = queries;
+  }
+}
@@ -0,0 +1,135 @@
+package dev.coms4156.project.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * One nearby search inside a batch request; mirrors the query parameters of the nearby
+ * endpoint.
+ */
+public class NearbyQueryRequest {
+
+  @Schema(description = "Latitude in decimal degrees", example = "40.7536", required = true)
+  private Double lat;
+
+  @Schema(description = "Longitude in decimal degrees", example = "-73.9832", required = true)
+  private Double lng;
+
+  @Schema(description = "Search radius in meters", example = "1500")
+  private Double radius;
+
+  @Schema(description = "Only return restrooms open now", example = "false")
+  private Boolean openNow;
+
+  @Schema(description = "Only return restrooms open at this time (ISO-8601 with offset)",
+      example = "2025-11-08T22:00-05:00")
+  private String openAt;
+
+  @Schema(description = "Only return restrooms that stay open this long (ISO-8601 duration "
+      + "or minutes) from openAt, or from now", example = "PT45M")
+  private String openFor;
+
+  @Schema(description = "Amenity codes every result must have",
+      example = "[\"CHANGING_STATION\"]")
+  private List<String> amenities;
+
+  @Schema(description = "Operational status every result must have", example = "OPERATIONAL")
+  private String status;
+
+  @Schema(description = "Maximum number of results", example = "10")
+  private Integer limit;
+
+  @Schema(description = "Cursor returned with the previous page of this query")
+  private String cursor;
+
+  @Schema(description = "Result order: distance (default) or best", example = "best")
+  private String sort;
+
+  public Double getLat() {
+    return lat;
+  }
+
+  public void setLat(Double lat) {
+    this.lat = lat;
+  }
+
+  public Double getLng() {
+    return lng;
+  }
+
+  public void setLng(Double lng) {
+    this.lng = lng;
+  }
+
+  public Double getRadius() {
+    return radius;
+  }
+
+  public void setRadius(Double radius) {
+    this.radius = radius;
+  }
+
+  public Boolean getOpenNow() {
+    return openNow;
+  }
+
+  public void setOpenNow(Boolean openNow) {
+    this.openNow = openNow;
+  }
+
+  public String getOpenAt() {
+    return openAt;
+  }
+
+  public void setOpenAt(String openAt) {
+    this.openAt = openAt;
+  }
+
+  public String getOpenFor() {
+    return openFor;
+  }
+
+  public void setOpenFor(String openFor) {
+    this.openFor = openFor;
+  }
+
+  public List<String> getAmenities() {
+    return amenities;
+  }
+
+  public void setAmenities(List<String> amenities) {
+    this.amenities = amenities;
+  }
+
+  public String getStatus() {
+    return status;
+  }
+
+  public void setStatus(String status) {
+    this.status = status;
+  }
+
+  public Integer getLimit() {
+    return limit;
+  }
+
+  public void setLimit(Integer limit) {
+    this.limit = limit;
+  }
+
+  public String getCursor() {
+    return cursor;
+  }
+
+  public void setCursor(String cursor) {
+    this.cursor = cursor;
+  }
+
+  public String getSort() {
+    return sort;
+  }
+
+  public void setSort(String sort) {
+    this.sort = sort;
+  }
+}
@@ -0,0 +1,21 @@
+package dev.coms4156.project.backend.dto;
+
+import dev.coms4156.project.backend.model.ReviewRequest;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * One review of a bulk ingestion request.
+ */
+public class ReviewBulkItem extends ReviewRequest {
+
+  @Schema(description = "Restroom being reviewed", example = "1", required = true)
+  private Long restroomId;
+
+  public Long getRestroomId() {
+    return restroomId;
+  }
+
+  public void setRestroomId(Long restroomId) {
+    this.restroomId = restroomId;
+  }
+}
@@ -0,0 +1,22 @@
+package dev.coms4156.project.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Payload for ingesting many reviews in one request.
+ */
+public class ReviewBulkRequest {
+
+  @Schema(description = "Reviews to store, reported on in the same order", required = true)
+  private List<ReviewBulkItem> reviews = new ArrayList<>();
+
+  public List<ReviewBulkItem> getReviews() {
+    return reviews;
+  }
+
+  public void setReviews(List<ReviewBulkItem> reviews) {
+    this.reviews = reviews;
+  }
+}
@@ -0,0 +1,142 @@
+package dev.coms4156.project.backend.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Normalized amenity dictionary. Each code owns a fixed bit in a restroom's amenity mask, so
+ * "has all of these amenities" is {@code (mask & required) == required}.
+ *
+ * <p>Bits are persisted in {@code restroom.amenity_mask}; add new codes with a new bit and
+ * never renumber existing ones.
+ */
+public enum Amenity {
+  CHANGING_STATION(0),
+  MULTI_STALL(1),
+  SINGLE_STALL(2),
+  ALL_GENDER(3),
+  FULLY_ACCESSIBLE(4),
+  PARTIALLY_ACCESSIBLE(5),
+  KEY_REQUIRED(6),
+  FEE_REQUIRED(7),
+  HYGIENE_PRODUCTS(8);
+
+  private final long bit;
+
+  Amenity(int bitIndex) {
+    this.bit = 1L << bitIndex;
+  }
+
+  public long bit() {
+    return bit;
+  }
+
+  /**
+   * Classify one free-text amenity as recorded in the source data, e.g. "Changing Stations, in
+   * women's restroom only" or "Yes, a key is needed to enter".
+   *
+   * @param text raw amenity text
+   * @return mask of every code the text describes, 0 if none
+   */
+  public static long classify(String text) {
+    if (text == null) {
+      return 0L;
+    }
+    String t = text.toLowerCase(Locale.ROOT);
+    long mask = 0L;
+    if ((t.contains("changing station") || t.contains("changing table"))
+        && !t.contains("changing stations: no")) {
+      mask |= CHANGING_STATION.bit;
+    }
+    if (t.contains("multi-stall")) {
+      mask |= MULTI_STALL.bit;
+    }
+    if (t.matches(".*single\\s*-\\s*stall.*")) {
+      mask |= SINGLE_STALL.bit;
+    }
+    if (t.contains("all gender")) {
+      mask |= ALL_GENDER.bit;
+    }
+    if (t.contains("fully accessible") || t.contains("handicap accessible")) {
+      mask |= FULLY_ACCESSIBLE.bit;
+    }
+    if (t.contains("partially accessible") || t.contains("limited accessibility")
+        || t.contains("partially ada")) {
+      mask |= PARTIALLY_ACCESSIBLE.bit;
+    }
+    if (t.contains("key")) {
+      mask |= KEY_REQUIRED.bit;
+    }
+    if (t.contains("costs $")) {
+      mask |= FEE_REQUIRED.bit;
+    }
+    if (t.contains("feminine hygiene")) {
+      mask |= HYGIENE_PRODUCTS.bit;
+    }
+    return mask;
+  }
+
+  /**
+   * Combined mask of a restroom's free-text amenities.
+   *
+   * @param amenities raw amenity strings, may be null
+   * @return amenity mask
+   */
+  public static long maskOf(Collection<String> amenities) {
+    long mask = 0L;
+    if (amenities != null) {
+      for (String amenity : amenities) {
+        mask |= classify(amenity);
+      }
+    }
+    return mask;
+  }
+
+  /**
+   * Resolve amenity filter tokens from a query string. Tokens may be codes in any case
+   * ({@code changing_station}, {@code changing-station}) or free text the classifier
+   * understands ({@code Changing Stations}).
+   *
+   * @param tokens requested amenities, may be null
+   * @return required mask, 0 when nothing was requested
+   * @throws IllegalArgumentException if a token matches no amenity
+   */
+  public static long parseFilter(Collection<String> tokens) {
+    long mask = 0L;
+    if (tokens == null) {
+      return mask;
+    }
+    for (String token : tokens) {
+      String code = token.trim().toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]+", "_");
+      long tokenMask;
+      try {
+        tokenMask = valueOf(code).bit;
+      } catch (IllegalArgumentException ex) {
+        tokenMask = classify(token);
+      }
+      if (tokenMask == 0L) {
+        throw new IllegalArgumentException("Unknown amenity: " + token);
+      }
+      mask |= tokenMask;
+    }
+    return mask;
+  }
+
+  /**
+   * Codes contained in a mask, in dictionary order.
+   *
+   * @param mask amenity mask
+   * @return amenity codes
+   */
+  public static List<Amenity> fromMask(long mask) {
+    List<Amenity> amenities = new ArrayList<>();
+    for (Amenity amenity : values()) {
+      if ((mask & amenity.bit) != 0) {
+        amenities.add(amenity);
+      }
+    }
+    return amenities;
+  }
+}
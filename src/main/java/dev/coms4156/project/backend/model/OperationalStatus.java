@@ -0,0 +1,63 @@
+package dev.coms4156.project.backend.model;
+
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Operational status of a restroom, split out of the free-text amenity list where the source
+ * data records it ("Status: Not Operational").
+ */
+public enum OperationalStatus {
+  OPERATIONAL,
+  NOT_OPERATIONAL,
+  CLOSED_FOR_CONSTRUCTION,
+  CLOSED;
+
+  /**
+   * Derive the status from a restroom's raw amenity strings.
+   *
+   * @param amenities raw amenity strings, may be null
+   * @return status, {@link #OPERATIONAL} unless an entry says otherwise
+   */
+  public static OperationalStatus fromAmenities(Collection<String> amenities) {
+    if (amenities == null) {
+      return OPERATIONAL;
+    }
+    for (String amenity : amenities) {
+      if (amenity == null) {
+        continue;
+      }
+      String text = amenity.trim().toLowerCase(Locale.ROOT);
+      if (text.contains("not operational")) {
+        return NOT_OPERATIONAL;
+      }
+      if (text.startsWith("status:") && text.contains("construction")) {
+        return CLOSED_FOR_CONSTRUCTION;
+      }
+      if (text.startsWith("status: closed") || text.startsWith("closed")) {
+        return CLOSED;
+      }
+    }
+    return OPERATIONAL;
+  }
+
+  /**
+   * Parse a stored or requested status name, case-insensitively.
+   *
+   * @param value status name, may be null
+   * @return status, or null when blank
+   * @throws IllegalArgumentException if the name is not a known status
+   */
+  public static OperationalStatus parse(String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    String code = value.trim().toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]+", "_");
+    for (OperationalStatus status : values()) {
+      if (status.name().equals(code)) {
+        return status;
+      }
+    }
+    throw new IllegalArgumentException("Unknown status: " + value);
+  }
+}
@@ -1,6 +1,8 @@
 package dev.coms4156.project.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSetter;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -17,11 +19,16 @@ public class Restroom {
   private Long id;
   private String name;
   private String address;
+  private String operator;
   private double latitude;
   private double longitude;
   private String hoursJson;
+  private WeeklySchedule schedule = WeeklySchedule.UNKNOWN;
   private List<String> amenities = new ArrayList<>();
+  private long amenityMask;
+  private String status;
   private double avgRating;
+  private long ratingCount;
   private long visitCount;
   private List<EditProposal> pendingEdits = new ArrayList<>();
 
@@ -49,6 +56,14 @@ public class Restroom {
     this.address = address;
   }
 
+  public String getOperator() {
+    return operator;
+  }
+
+  public void setOperator(final String operator) {
+    this.operator = operator;
+  }
+
   public double getLatitude() {
     return latitude;
   }
@@ -65,20 +80,34 @@ public class Restroom {
     this.longitude = longitude;
   }
 
+  @JsonIgnore
   public String getHours() {
     return hoursJson;
   }
 
   public void setHours(final String hours) {
-    this.hoursJson = hours;
+    setHoursJson(hours);
   }
 
+  @JsonIgnore
   public String getHoursJson() {
     return hoursJson;
   }
 
+  /**
+   * Store the raw hours text and compile it once; identical texts share one schedule.
+   */
   public void setHoursJson(final String hoursJson) {
     this.hoursJson = hoursJson;
+    this.schedule = WeeklySchedule.parse(hoursJson);
+  }
+
+  /**
+   * Compiled opening hours, serialized as the {@code hours} object.
+   */
+  @JsonProperty("hours")
+  public WeeklySchedule getSchedule() {
+    return schedule;
   }
 
   public List<String> getAmenities() {
@@ -120,6 +149,24 @@ public class Restroom {
     throw new IllegalArgumentException("Unsupported amenities format");
   }
 
+  @JsonIgnore
+  public long getAmenityMask() {
+    return amenityMask;
+  }
+
+  @JsonIgnore
+  public void setAmenityMask(final long amenityMask) {
+    this.amenityMask = amenityMask;
+  }
+
+  public String getStatus() {
+    return status;
+  }
+
+  public void setStatus(final String status) {
+    this.status = status;
+  }
+
   public double getAvgRating() {
     return avgRating;
   }
@@ -128,6 +175,14 @@ public class Restroom {
     this.avgRating = avgRating;
   }
 
+  public long getRatingCount() {
+    return ratingCount;
+  }
+
+  public void setRatingCount(final long ratingCount) {
+    this.ratingCount = ratingCount;
+  }
+
   public long getVisitCount() {
     return visitCount;
   }
@@ -136,6 +191,33 @@ public class Restroom {
     this.visitCount = visitCount;
   }
 
+  /**
+   * Copy of this restroom with a new visit count, leaving this instance, which may be shared
+   * by a cache, untouched.
+   *
+   * @param newVisitCount recorded visits
+   * @return updated copy
+   */
+  public Restroom withVisitCount(final long newVisitCount) {
+    Restroom copy = new Restroom();
+    copy.id = id;
+    copy.name = name;
+    copy.address = address;
+    copy.operator = operator;
+    copy.latitude = latitude;
+    copy.longitude = longitude;
+    copy.hoursJson = hoursJson;
+    copy.schedule = schedule;
+    copy.amenities = amenities;
+    copy.amenityMask = amenityMask;
+    copy.status = status;
+    copy.avgRating = avgRating;
+    copy.ratingCount = ratingCount;
+    copy.visitCount = newVisitCount;
+    copy.pendingEdits = pendingEdits;
+    return copy;
+  }
+
   public List<EditProposal> getPendingEdits() {
     return pendingEdits;
   }
@@ -0,0 +1,447 @@
+package dev.coms4156.project.backend.model;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable weekly opening hours compiled into a 7 x 96 quarter-hour bitmap.
+ *
+ * <p>Built once from the {@code hours_json} column ({@code {"mon": "08:00-16:00", ...}}) so
+ * that "is it open at time T" is a single bit test. Ranges that end at or before their start
+ * run past midnight into the next day, {@code "00:00-24:00"} covers the whole day and
+ * {@code "Closed"} marks a known closed day. Ranges are rounded inward to whole quarter hours
+ * ({@code "08:10-16:10"} counts as 08:15 to 16:00), so a partial quarter hour never counts as
+ * open. Days whose text cannot be understood (blank, {@code "Park Hours"},
+ * {@code "07:30-Dusk"}) are recorded as unknown and never count as open.
+ *
+ * <p>Parsed schedules are shared through a cache keyed by the JSON text, since a dataset repeats
+ * a handful of distinct hours across many restrooms. Serialized to JSON as the per-day text
+ * object, e.g. {@code {"mon": "08:00-16:00", "sun": "Closed"}}.
+ */
+public final class WeeklySchedule {
+
+  public static final int SLOT_MINUTES = 15;
+  public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+  public static final int SLOTS_PER_WEEK = 7 * SLOTS_PER_DAY;
+  private static final long SLOT_SECONDS = SLOT_MINUTES * 60L;
+
+  /** Schedule with every day unknown. */
+  public static final WeeklySchedule UNKNOWN =
+      new WeeklySchedule(new long[words()], 0, Collections.emptyMap());
+
+  private static final String[] DAY_KEYS = {"mon", "tue", "wed", "thu", "fri", "sat", "sun"};
+  private static final Pattern RANGE =
+      Pattern.compile("\\s*(\\d{1,2}):(\\d{2})\\s*-\\s*(\\d{1,2}):(\\d{2})\\s*");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final int MAX_CACHED = 4096;
+  private static final Map<String, WeeklySchedule> CACHE = new ConcurrentHashMap<>();
+
+  private final long[] bits;
+  private final int knownDays;
+  private final Map<String, String> days;
+
+  private WeeklySchedule(long[] bits, int knownDays, Map<String, String> days) {
+    this.bits = bits;
+    this.knownDays = knownDays;
+    this.days = days;
+  }
+
+  /**
+   * Compile an {@code hours_json} value, reusing the schedule of an identical text parsed
+   * before.
+   *
+   * @param hoursJson JSON object keyed by three-letter day names, may be null
+   * @return compiled schedule, {@link #UNKNOWN} when nothing could be parsed
+   */
+  public static WeeklySchedule parse(String hoursJson) {
+    if (hoursJson == null || hoursJson.isBlank()) {
+      return UNKNOWN;
+    }
+    WeeklySchedule schedule = CACHE.get(hoursJson);
+    if (schedule == null) {
+      schedule = compile(hoursJson);
+      if (CACHE.size() >= MAX_CACHED) {
+        CACHE.clear();
+      }
+      CACHE.put(hoursJson, schedule);
+    }
+    return schedule;
+  }
+
+  private static WeeklySchedule compile(String hoursJson) {
+    JsonNode root;
+    try {
+      root = MAPPER.readTree(hoursJson);
+      if (root != null && root.isTextual()) {
+        // H2 hands back text bound to a JSON column as a JSON string wrapping the object.
+        root = MAPPER.readTree(root.asText());
+      }
+    } catch (Exception ex) {
+      return UNKNOWN;
+    }
+    if (root == null || !root.isObject()) {
+      return UNKNOWN;
+    }
+    long[] bits = new long[words()];
+    int knownDays = 0;
+    Map<String, String> days = new LinkedHashMap<>();
+    for (int day = 0; day < DAY_KEYS.length; day++) {
+      JsonNode value = root.get(DAY_KEYS[day]);
+      if (value == null || !value.isTextual()) {
+        continue;
+      }
+      String text = normalizeDay(value.asText());
+      if (!text.isEmpty()) {
+        days.put(DAY_KEYS[day], text);
+      }
+      if (compileDay(text, day, bits)) {
+        knownDays |= 1 << day;
+      }
+    }
+    return days.isEmpty()
+        ? UNKNOWN
+        : new WeeklySchedule(bits, knownDays, Collections.unmodifiableMap(days));
+  }
+
+  /**
+   * Restore a schedule from {@link #toWords()} and {@link #knownDayMask()}, e.g. when loading a
+   * dataset snapshot without re-parsing the hours text. The result carries no day text.
+   *
+   * @param words open-slot bitmap
+   * @param knownDayMask bit per day, Monday first, whose hours were understood
+   * @return schedule, {@link #UNKNOWN} when no day is known
+   * @throws IllegalArgumentException if the bitmap has the wrong length
+   */
+  public static WeeklySchedule fromWords(long[] words, int knownDayMask) {
+    if (words.length != words()) {
+      throw new IllegalArgumentException("Schedule bitmap must have " + words() + " words");
+    }
+    return knownDayMask == 0
+        ? UNKNOWN
+        : new WeeklySchedule(words.clone(), knownDayMask, Collections.emptyMap());
+  }
+
+  /**
+   * Canonical form of an {@code hours_json} value for storage. Day keys become three-letter
+   * names ({@code "Monday"} becomes {@code "mon"}), whitespace is collapsed and well-formed
+   * ranges are zero padded ({@code "8:00 - 16:00"} becomes {@code "08:00-16:00"}). Day text the
+   * schedule cannot compile, such as {@code "Park Hours"}, is kept as written.
+   *
+   * @param hoursJson JSON object keyed by day names, may be null or blank
+   * @return normalized JSON object text, {@code "{}"} when blank
+   * @throws IllegalArgumentException if the value is not a JSON object of day strings
+   */
+  public static String normalize(String hoursJson) {
+    ObjectNode normalized = MAPPER.createObjectNode();
+    if (hoursJson == null || hoursJson.isBlank()) {
+      return normalized.toString();
+    }
+    JsonNode root;
+    try {
+      root = MAPPER.readTree(hoursJson);
+      if (root != null && root.isTextual()) {
+        root = MAPPER.readTree(root.asText());
+      }
+    } catch (Exception ex) {
+      throw new IllegalArgumentException("Hours are not valid JSON", ex);
+    }
+    if (root == null || !root.isObject()) {
+      throw new IllegalArgumentException("Hours must be a JSON object keyed by day");
+    }
+    String[] days = new String[DAY_KEYS.length];
+    Iterator<Map.Entry<String, JsonNode>> fields = root.fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      int day = dayIndex(field.getKey());
+      JsonNode value = field.getValue();
+      if (day < 0) {
+        throw new IllegalArgumentException("Unknown day in hours: " + field.getKey());
+      }
+      if (value.isNull()) {
+        continue;
+      }
+      if (!value.isTextual()) {
+        throw new IllegalArgumentException("Hours for " + field.getKey() + " must be text");
+      }
+      String text = normalizeDay(value.asText());
+      if (!text.isEmpty()) {
+        days[day] = text;
+      }
+    }
+    for (int day = 0; day < DAY_KEYS.length; day++) {
+      if (days[day] != null) {
+        normalized.put(DAY_KEYS[day], days[day]);
+      }
+    }
+    return normalized.toString();
+  }
+
+  private static int dayIndex(String key) {
+    String lower = key.trim().toLowerCase(Locale.ROOT);
+    for (int day = 0; day < DAY_KEYS.length; day++) {
+      String name = DayOfWeek.of(day + 1).name().toLowerCase(Locale.ROOT);
+      if (lower.length() >= DAY_KEYS[day].length() && name.startsWith(lower)) {
+        return day;
+      }
+    }
+    return -1;
+  }
+
+  private static String normalizeDay(String text) {
+    String collapsed = WHITESPACE.matcher(text.trim()).replaceAll(" ");
+    String[] ranges = collapsed.split(",");
+    StringBuilder out = new StringBuilder();
+    for (String range : ranges) {
+      Matcher matcher = RANGE.matcher(range);
+      if (!matcher.matches()) {
+        return collapsed;
+      }
+      if (out.length() > 0) {
+        out.append(',');
+      }
+      appendTime(out, matcher.group(1), matcher.group(2)).append('-');
+      appendTime(out, matcher.group(3), matcher.group(4));
+    }
+    return out.toString();
+  }
+
+  private static StringBuilder appendTime(StringBuilder out, String hours, String minutes) {
+    if (hours.length() == 1) {
+      out.append('0');
+    }
+    return out.append(hours).append(':').append(minutes);
+  }
+
+  private static boolean compileDay(String text, int day, long[] bits) {
+    String trimmed = text.trim();
+    if (trimmed.isEmpty()) {
+      return false;
+    }
+    if (trimmed.toLowerCase(Locale.ROOT).contains("closed")) {
+      return true;
+    }
+    String[] ranges = trimmed.split(",");
+    int[][] parsed = new int[ranges.length][];
+    for (int i = 0; i < ranges.length; i++) {
+      Matcher matcher = RANGE.matcher(ranges[i]);
+      if (!matcher.matches()) {
+        return false;
+      }
+      int start = minutes(matcher.group(1), matcher.group(2));
+      int end = minutes(matcher.group(3), matcher.group(4));
+      if (start < 0 || end < 0 || start >= 24 * 60) {
+        return false;
+      }
+      parsed[i] = new int[] {start, end};
+    }
+    int dayStart = day * SLOTS_PER_DAY;
+    for (int[] range : parsed) {
+      int from = dayStart + ceilSlot(range[0]);
+      // A range ending at or before its start continues into the next day.
+      int endMinutes = range[1] <= range[0] ? range[1] + 24 * 60 : range[1];
+      int to = dayStart + endMinutes / SLOT_MINUTES;
+      for (int slot = from; slot < to; slot++) {
+        int wrapped = slot % SLOTS_PER_WEEK;
+        bits[wrapped >>> 6] |= 1L << wrapped;
+      }
+    }
+    return true;
+  }
+
+  private static int minutes(String hours, String minutes) {
+    int h = Integer.parseInt(hours);
+    int m = Integer.parseInt(minutes);
+    if (h > 24 || m > 59 || (h == 24 && m != 0)) {
+      return -1;
+    }
+    return h * 60 + m;
+  }
+
+  private static int ceilSlot(int minutes) {
+    return (minutes + SLOT_MINUTES - 1) / SLOT_MINUTES;
+  }
+
+  private static int words() {
+    return (SLOTS_PER_WEEK + 63) / 64;
+  }
+
+  /**
+   * Quarter-hour slot of the week (Monday 00:00 is slot 0) containing the given time.
+   *
+   * @param time local time of the restroom
+   * @return slot index in [0, {@link #SLOTS_PER_WEEK})
+   */
+  public static int slotOf(ZonedDateTime time) {
+    int day = time.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue();
+    int minuteOfDay = time.getHour() * 60 + time.getMinute();
+    return day * SLOTS_PER_DAY + minuteOfDay / SLOT_MINUTES;
+  }
+
+  /**
+   * Number of slots touched by the interval of {@code length} starting at {@code from}, counting
+   * from the slot of {@code from}. The end is measured on the wall clock, so an interval across
+   * a daylight saving change covers the hours the schedule actually lists.
+   *
+   * @param from local start time of the restroom
+   * @param length interval length, null or zero for the single slot of {@code from}
+   * @return slot count in [1, {@link #SLOTS_PER_WEEK}]
+   */
+  public static int slotCount(ZonedDateTime from, Duration length) {
+    if (length == null || length.isZero() || length.isNegative()) {
+      return 1;
+    }
+    if (length.compareTo(Duration.ofDays(7)) >= 0) {
+      return SLOTS_PER_WEEK;
+    }
+    long wallSeconds = Duration.between(from.toLocalDateTime(),
+        from.plus(length).toLocalDateTime()).getSeconds();
+    long intoSlot = (from.getMinute() % SLOT_MINUTES) * 60L + from.getSecond();
+    long count = (intoSlot + Math.max(wallSeconds, 1) + SLOT_SECONDS - 1) / SLOT_SECONDS;
+    return (int) Math.min(count, SLOTS_PER_WEEK);
+  }
+
+  /**
+   * Slot bitmap of {@code count} consecutive slots from {@code start}, wrapping from Sunday
+   * night into Monday, for {@link #isOpenThroughout(long[])}.
+   *
+   * @param start first slot index from {@link #slotOf(ZonedDateTime)}
+   * @param count number of slots, at most {@link #SLOTS_PER_WEEK}
+   * @return bitmap words
+   */
+  public static long[] window(int start, int count) {
+    long[] mask = new long[words()];
+    for (int i = 0; i < count; i++) {
+      int slot = (start + i) % SLOTS_PER_WEEK;
+      mask[slot >>> 6] |= 1L << slot;
+    }
+    return mask;
+  }
+
+  /**
+   * Whether the restroom is open during every slot of a window. This is a fixed-length
+   * and-not over the bitmap words with no per-slot branch, so it costs about the same as
+   * {@link #isOpenAt(int)}.
+   *
+   * @param window bitmap from {@link #window(int, int)}, possibly several or-ed together
+   * @return true only if every slot of the window is known to be open
+   */
+  public boolean isOpenThroughout(long[] window) {
+    long missing = 0L;
+    for (int w = 0; w < bits.length; w++) {
+      missing |= window[w] & ~bits[w];
+    }
+    return missing == 0L;
+  }
+
+  /**
+   * Whether the restroom is open during a slot of the week.
+   *
+   * @param slot slot index from {@link #slotOf(ZonedDateTime)}
+   * @return true only if the hours for that day are known and cover the slot
+   */
+  public boolean isOpenAt(int slot) {
+    return (bits[slot >>> 6] & (1L << slot)) != 0;
+  }
+
+  /**
+   * Whether the restroom is open at the given local time.
+   *
+   * @param time local time of the restroom
+   * @return true if open
+   */
+  public boolean isOpenAt(ZonedDateTime time) {
+    return isOpenAt(slotOf(time));
+  }
+
+  /**
+   * Whether the hours for a day could be parsed.
+   *
+   * @param day day of week
+   * @return true if the day is known to be open for given ranges or closed
+   */
+  public boolean isKnown(DayOfWeek day) {
+    return (knownDays & (1 << (day.getValue() - 1))) != 0;
+  }
+
+  /**
+   * Open-slot bitmap, one bit per quarter hour starting Monday 00:00.
+   *
+   * @return copy of the bitmap words
+   */
+  public long[] toWords() {
+    return bits.clone();
+  }
+
+  /**
+   * Days whose hours were understood, bit 0 for Monday.
+   *
+   * @return known-day mask
+   */
+  public int knownDayMask() {
+    return knownDays;
+  }
+
+  /**
+   * Normalized hours text per day, keyed by three-letter day name in week order. Days missing
+   * from the source are absent; days that could not be compiled keep their text.
+   *
+   * @return unmodifiable day to hours text map, used as the JSON form
+   */
+  @JsonValue
+  public Map<String, String> getDays() {
+    return days;
+  }
+
+  /**
+   * Earliest time at or after {@code from} when the restroom is open.
+   *
+   * @param from local time of the restroom
+   * @return {@code from} itself when already open, otherwise the start of the next open
+   *     quarter hour; empty if it is never open
+   */
+  public Optional<ZonedDateTime> nextOpen(ZonedDateTime from) {
+    return nextWhere(from, true);
+  }
+
+  /**
+   * Earliest time at or after {@code from} when the restroom is closed.
+   *
+   * @param from local time of the restroom
+   * @return {@code from} itself when already closed, otherwise the end of the current open
+   *     period; empty if it is open around the clock
+   */
+  public Optional<ZonedDateTime> nextClose(ZonedDateTime from) {
+    return nextWhere(from, false);
+  }
+
+  private Optional<ZonedDateTime> nextWhere(ZonedDateTime from, boolean open) {
+    if (isOpenAt(from) == open) {
+      return Optional.of(from);
+    }
+    ZonedDateTime slotStart = from.truncatedTo(ChronoUnit.MINUTES)
+        .minusMinutes(from.getMinute() % SLOT_MINUTES);
+    for (int step = 1; step <= SLOTS_PER_WEEK; step++) {
+      ZonedDateTime candidate = slotStart.plusMinutes((long) step * SLOT_MINUTES);
+      if (isOpenAt(candidate) == open) {
+        return Optional.of(candidate);
+      }
+    }
+    return Optional.empty();
+  }
+}
@@ -33,13 +33,25 @@ public class CompanyAccountDbService {
    */
   public CompanyAccount createPending(String subject, String companyName) {
     jdbcTemplate.update("DELETE FROM third_party_account WHERE subject = ?", subject);
-    jdbcTemplate.update("""
+    String sql = """
         INSERT INTO third_party_account (subject, company_name, status)
         VALUES (?, ?, 'PENDING')
-        """,
+        """;
+    return JdbcReturning.write(jdbcTemplate, sql, new String[] {"id", "requested_at"},
+        (rs, rowNum) -> {
+          CompanyAccount account = new CompanyAccount();
+          account.setId(rs.getLong(1));
+          account.setSubject(subject);
+          account.setCompanyName(companyName);
+          account.setStatus("PENDING");
+          Timestamp requested = rs.getTimestamp(2);
+          if (requested != null) {
+            account.setRequestedAt(requested.toInstant());
+          }
+          return account;
+        },
         subject,
         companyName);
-    return findBySubject(subject).orElseThrow();
   }
 
   /**
@@ -0,0 +1,126 @@
+package dev.coms4156.project.backend.service.db;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 reader: one record is parsed at a time, so files of any size are read in
+ * constant memory. Quoted fields may contain commas, doubled quotes ({@code ""}) and line
+ * breaks; records may end in {@code \n} or {@code \r\n}.
+ */
+public final class CsvReader implements Closeable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Reader reader;
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private final StringBuilder field = new StringBuilder();
+  private int position;
+  private int limit;
+  private long line = 1;
+  private long recordLine;
+
+  /**
+   * Wrap a character stream. The reader does its own buffering.
+   *
+   * @param reader source, closed by {@link #close()}
+   */
+  public CsvReader(Reader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * Parse the next record.
+   *
+   * @return field values in order, or null at end of input
+   * @throws IOException if reading fails
+   * @throws IllegalArgumentException if a quoted field is never closed
+   */
+  public List<String> next() throws IOException {
+    int c = read();
+    if (c < 0) {
+      return null;
+    }
+    recordLine = line;
+    List<String> record = new ArrayList<>();
+    while (true) {
+      field.setLength(0);
+      if (c == '"') {
+        c = readQuoted();
+      } else {
+        while (c >= 0 && c != ',' && c != '\n' && c != '\r') {
+          field.append((char) c);
+          c = read();
+        }
+      }
+      record.add(field.toString());
+      if (c == ',') {
+        c = read();
+        continue;
+      }
+      if (c == '\r') {
+        c = read();
+        if (c != '\n' && c >= 0) {
+          position--;
+        }
+      }
+      if (c == '\n') {
+        line++;
+      }
+      return record;
+    }
+  }
+
+  /**
+   * Line number, starting at 1, on which the record last returned by {@link #next()} began.
+   *
+   * @return line number of the current record
+   */
+  public long getRecordLine() {
+    return recordLine;
+  }
+
+  private int readQuoted() throws IOException {
+    while (true) {
+      int c = read();
+      if (c < 0) {
+        throw new IllegalArgumentException(
+            "Unterminated quoted field starting on line " + recordLine);
+      }
+      if (c == '"') {
+        c = read();
+        if (c != '"') {
+          // Closing quote; anything before the next separator is kept verbatim.
+          while (c >= 0 && c != ',' && c != '\n' && c != '\r') {
+            field.append((char) c);
+            c = read();
+          }
+          return c;
+        }
+      } else if (c == '\n') {
+        line++;
+      }
+      field.append((char) c);
+    }
+  }
+
+  private int read() throws IOException {
+    if (position == limit) {
+      limit = reader.read(buffer, 0, buffer.length);
+      position = 0;
+      if (limit <= 0) {
+        limit = 0;
+        return -1;
+      }
+    }
+    return buffer[position++];
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+}
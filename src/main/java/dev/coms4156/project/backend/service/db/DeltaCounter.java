@@ -0,0 +1,131 @@
+package dev.coms4156.project.backend.service.db;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Striped in-memory increments per row id, waiting to be written as one delta per row.
+ *
+ * <p>Like {@link java.util.concurrent.atomic.LongAdder}, increments are spread over stripes
+ * picked by the calling thread, so many threads counting the same id do not contend on one
+ * cache line; unlike it, a stripe's value is taken with an atomic swap, so draining never loses
+ * an increment racing with it. Drained counters are retired by swapping in a tombstone, and a
+ * thread that finds one simply creates a fresh counter, so idle ids take no memory.
+ */
+public final class DeltaCounter {
+  private static final long RETIRED = Long.MIN_VALUE;
+
+  private final Map<Long, AtomicLong>[] stripes;
+
+  /**
+   * Create a counter with one stripe per available processor, rounded up to a power of two.
+   */
+  public DeltaCounter() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Create a counter.
+   *
+   * @param parallelism expected number of concurrently counting threads
+   */
+  @SuppressWarnings("unchecked")
+  DeltaCounter(int parallelism) {
+    int count = Integer.highestOneBit(Math.max(1, parallelism - 1) << 1);
+    stripes = (Map<Long, AtomicLong>[]) new Map<?, ?>[count];
+    for (int i = 0; i < count; i++) {
+      stripes[i] = new ConcurrentHashMap<>();
+    }
+  }
+
+  /**
+   * Add to an id's pending delta.
+   *
+   * @param id row id
+   * @param delta amount to add
+   */
+  public void add(long id, long delta) {
+    Map<Long, AtomicLong> stripe = stripeFor(Thread.currentThread().getId());
+    while (true) {
+      AtomicLong counter = stripe.computeIfAbsent(id, key -> new AtomicLong());
+      long value = counter.get();
+      if (value == RETIRED) {
+        stripe.remove(id, counter);
+      } else if (counter.compareAndSet(value, value + delta)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Delta added for an id and not yet drained.
+   *
+   * @param id row id
+   * @return pending delta, 0 when none
+   */
+  public long pending(long id) {
+    long sum = 0;
+    for (Map<Long, AtomicLong> stripe : stripes) {
+      AtomicLong counter = stripe.get(id);
+      if (counter != null) {
+        long value = counter.get();
+        sum += value == RETIRED ? 0 : value;
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Whether any delta is pending.
+   *
+   * @return true if nothing waits to be drained
+   */
+  public boolean isEmpty() {
+    for (Map<Long, AtomicLong> stripe : stripes) {
+      for (AtomicLong counter : stripe.values()) {
+        long value = counter.get();
+        if (value != 0 && value != RETIRED) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Take the pending deltas of up to {@code maxIds} ids, leaving the rest for a later drain.
+   * Counters already at zero are retired.
+   *
+   * @param maxIds most ids to return
+   * @return id to delta, without zero deltas
+   */
+  public Map<Long, Long> drain(int maxIds) {
+    Map<Long, Long> deltas = new HashMap<>();
+    for (Map<Long, AtomicLong> stripe : stripes) {
+      for (Map.Entry<Long, AtomicLong> entry : stripe.entrySet()) {
+        Long id = entry.getKey();
+        AtomicLong counter = entry.getValue();
+        if (deltas.size() >= maxIds && !deltas.containsKey(id)) {
+          continue;
+        }
+        long value = counter.getAndUpdate(current -> current == RETIRED ? RETIRED : 0L);
+        if (value == RETIRED) {
+          continue;
+        }
+        if (value != 0) {
+          deltas.merge(id, value, Long::sum);
+        } else if (counter.compareAndSet(0L, RETIRED)) {
+          stripe.remove(id, counter);
+        }
+      }
+    }
+    return deltas;
+  }
+
+  private Map<Long, AtomicLong> stripeFor(long threadId) {
+    long mixed = threadId * 0x9E3779B97F4A7C15L;
+    return stripes[(int) (mixed >>> 32) & (stripes.length - 1)];
+  }
+}
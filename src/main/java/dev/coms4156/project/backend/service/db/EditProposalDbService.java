@@ -1,17 +1,16 @@
 package dev.coms4156.project.backend.service.db;
 
 import dev.coms4156.project.backend.model.EditProposal;
-import java.sql.PreparedStatement;
+import dev.coms4156.project.backend.model.Restroom;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.support.GeneratedKeyHolder;
-import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
 /**
@@ -20,10 +19,22 @@ import org.springframework.stereotype.Service;
 @Service
 public class EditProposalDbService {
   private final JdbcTemplate jdbcTemplate;
+  private final RestroomDbService restroomDbService;
+  private final TransactionTemplate transactionTemplate;
 
+  /**
+   * Constructor for DI.
+   *
+   * @param jdbcTemplate JDBC access
+   * @param restroomDbService writes approved edits and keeps the restroom indexes current
+   * @param transactionManager runs each approval with its restroom update
+   */
   @Autowired
-  public EditProposalDbService(JdbcTemplate jdbcTemplate) {
+  public EditProposalDbService(JdbcTemplate jdbcTemplate, RestroomDbService restroomDbService,
+                               PlatformTransactionManager transactionManager) {
     this.jdbcTemplate = jdbcTemplate;
+    this.restroomDbService = restroomDbService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
   }
 
   /**
@@ -38,31 +49,15 @@ public class EditProposalDbService {
         VALUES (?, ?, ?, ?, ?, ?, ?)
         """;
 
-    KeyHolder keyHolder = new GeneratedKeyHolder();
-    jdbcTemplate.update(connection -> {
-      PreparedStatement ps = connection.prepareStatement(sql, new String[] { "id" });
-      ps.setLong(1, proposal.getRestroomId());
-      ps.setString(2, proposal.getProposedName());
-      ps.setString(3, proposal.getProposedAddress());
-      ps.setString(4, proposal.getProposedHours());
-      ps.setString(5, proposal.getProposedAmenities());
-      ps.setString(6, proposal.getProposerUserId());
-      ps.setString(7, proposal.getStatus());
-      return ps;
-    }, keyHolder);
-
-    Number generatedId = keyHolder.getKey();
-    if (generatedId != null) {
-      proposal.setId(generatedId.longValue());
-      Timestamp createdAt = jdbcTemplate.queryForObject(
-          "SELECT created_at FROM edit_proposal WHERE id = ?",
-          Timestamp.class,
-          proposal.getId());
-      if (createdAt != null) {
-        proposal.setCreatedAt(createdAt.toInstant());
-      }
-    }
-
+    JdbcReturning.write(jdbcTemplate, sql, new String[] {"id", "created_at"},
+        (rs, rowNum) -> {
+          proposal.setId(rs.getLong(1));
+          proposal.setCreatedAt(rs.getTimestamp(2).toInstant());
+          return proposal;
+        },
+        proposal.getRestroomId(), proposal.getProposedName(), proposal.getProposedAddress(),
+        proposal.getProposedHours(), proposal.getProposedAmenities(),
+        proposal.getProposerUserId(), proposal.getStatus());
     return proposal;
   }
 
@@ -86,6 +81,55 @@ public class EditProposalDbService {
     jdbcTemplate.update(sql, status, id);
   }
 
+  /**
+   * Move a pending proposal to its final status. Only one of several concurrent decisions on
+   * the same proposal succeeds.
+   *
+   * @param id proposal identifier
+   * @param status APPROVED or REJECTED
+   * @return true if the proposal was pending and now has the status
+   */
+  public boolean decide(Long id, String status) {
+    String sql = "UPDATE edit_proposal SET status = ? WHERE id = ? AND status = 'PENDING'";
+    return jdbcTemplate.update(sql, status, id) > 0;
+  }
+
+  /**
+   * Result of approving a proposal.
+   *
+   * @param pending false when the proposal had already been decided
+   * @param restroom the edited restroom, or null when the proposal was not applied
+   */
+  public record Approval(boolean pending, Restroom restroom) {
+  }
+
+  /**
+   * Approve a pending proposal and apply it to its restroom. The status change and the
+   * restroom update are one transaction, so a proposal is only ever APPROVED with its edit
+   * stored; when the restroom is gone or the update fails the proposal stays pending. The
+   * indexes are refreshed once the transaction commits.
+   *
+   * @param proposal proposal to approve
+   * @return whether the proposal was pending, and the edited restroom when it was applied
+   * @throws IllegalArgumentException if the proposed hours are not a JSON object of day strings
+   */
+  public Approval approve(EditProposal proposal) {
+    Approval approval = transactionTemplate.execute(status -> {
+      if (!decide(proposal.getId(), "APPROVED")) {
+        return new Approval(false, null);
+      }
+      Restroom edited = restroomDbService.writeEdit(proposal).orElse(null);
+      if (edited == null) {
+        status.setRollbackOnly();
+      }
+      return new Approval(true, edited);
+    });
+    if (approval.restroom() != null) {
+      restroomDbService.applyEdit(approval.restroom());
+    }
+    return approval;
+  }
+
   /**
    * Get proposal by ID.
    */
@@ -0,0 +1,95 @@
+package dev.coms4156.project.backend.service.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * INSERT and UPDATE statements that hand back generated and database-defaulted columns in the
+ * same round trip, instead of a follow-up SELECT by id.
+ *
+ * <p>The columns are requested through {@link Connection#prepareStatement(String, String[])}:
+ * the PostgreSQL driver appends {@code RETURNING} with them to the statement, and H2 returns
+ * them as generated keys, so the same SQL runs on both. Columns are read back by position, in
+ * the order requested.
+ */
+final class JdbcReturning {
+
+  private JdbcReturning() {
+  }
+
+  /**
+   * Run a write with positional arguments and map the first affected row.
+   *
+   * @param jdbcTemplate JDBC access
+   * @param sql INSERT or UPDATE statement
+   * @param columns columns to return, in the order the mapper reads them
+   * @param mapper maps the returned columns
+   * @param args statement arguments
+   * @return mapped row, or null when no row was written
+   */
+  static <T> T write(JdbcTemplate jdbcTemplate, String sql, String[] columns,
+                     RowMapper<T> mapper, Object... args) {
+    return write(jdbcTemplate, sql, columns, new ArgumentPreparedStatementSetter(args), mapper);
+  }
+
+  /**
+   * Run a write whose arguments need the statement, e.g. SQL arrays, and map the first affected
+   * row.
+   *
+   * @param jdbcTemplate JDBC access
+   * @param sql INSERT or UPDATE statement
+   * @param columns columns to return, in the order the mapper reads them
+   * @param setter binds the statement arguments
+   * @param mapper maps the returned columns
+   * @return mapped row, or null when no row was written
+   */
+  static <T> T write(JdbcTemplate jdbcTemplate, String sql, String[] columns,
+                     PreparedStatementSetter setter, RowMapper<T> mapper) {
+    return jdbcTemplate.execute(
+        (Connection connection) -> connection.prepareStatement(sql, columns),
+        (PreparedStatement ps) -> {
+          setter.setValues(ps);
+          ps.executeUpdate();
+          try (ResultSet rs = ps.getGeneratedKeys()) {
+            return rs.next() ? mapper.mapRow(rs, 0) : null;
+          }
+        });
+  }
+
+  /**
+   * Run one statement for every argument row as a single JDBC batch and map the returned rows.
+   *
+   * @param jdbcTemplate JDBC access
+   * @param sql INSERT statement
+   * @param columns columns to return, in the order the mapper reads them
+   * @param rows statement arguments, one array per row
+   * @param mapper maps the returned columns
+   * @return mapped rows, in the order of {@code rows}
+   */
+  static <T> List<T> writeBatch(JdbcTemplate jdbcTemplate, String sql, String[] columns,
+                                List<Object[]> rows, RowMapper<T> mapper) {
+    return jdbcTemplate.execute(
+        (Connection connection) -> connection.prepareStatement(sql, columns),
+        (PreparedStatement ps) -> {
+          for (Object[] row : rows) {
+            new ArgumentPreparedStatementSetter(row).setValues(ps);
+            ps.addBatch();
+          }
+          ps.executeBatch();
+          List<T> mapped = new ArrayList<>(rows.size());
+          try (ResultSet rs = ps.getGeneratedKeys()) {
+            while (rs.next()) {
+              mapped.add(mapper.mapRow(rs, mapped.size()));
+            }
+          }
+          return mapped;
+        });
+  }
+}
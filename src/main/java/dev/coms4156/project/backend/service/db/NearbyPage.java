@@ -0,0 +1,31 @@
+package dev.coms4156.project.backend.service.db;
+
+import dev.coms4156.project.backend.model.Restroom;
+import java.util.List;
+
+/**
+ * One page of nearby restrooms and the cursor that resumes after it.
+ */
+public final class NearbyPage {
+  private final List<Restroom> restrooms;
+  private final String nextCursor;
+
+  /**
+   * Create a page.
+   *
+   * @param restrooms restrooms ordered by distance then id
+   * @param nextCursor opaque cursor for the following page, or null when this page is the last
+   */
+  public NearbyPage(List<Restroom> restrooms, String nextCursor) {
+    this.restrooms = restrooms;
+    this.nextCursor = nextCursor;
+  }
+
+  public List<Restroom> getRestrooms() {
+    return restrooms;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+}
@@ -0,0 +1,225 @@
+package dev.coms4156.project.backend.service.db;
+
+import dev.coms4156.project.backend.model.Amenity;
+import dev.coms4156.project.backend.model.OperationalStatus;
+import dev.coms4156.project.backend.service.index.NearbyCursor;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+
+/**
+ * Parsed and validated parameters of one nearby search.
+ */
+public final class NearbyQuery {
+  public static final int MAX_LIMIT = 100;
+  public static final double MAX_RADIUS_METERS = 50_000;
+  static final int DEFAULT_LIMIT = 10;
+  static final Duration MAX_OPEN_FOR = Duration.ofDays(7);
+
+  private final double latitude;
+  private final double longitude;
+  private final double radiusMeters;
+  private final boolean openNow;
+  private final long requiredAmenities;
+  private final OperationalStatus status;
+  private final int limit;
+  private final NearbyCursor after;
+  private final NearbySort sort;
+  private final ZonedDateTime openAt;
+  private final Duration openFor;
+
+  private NearbyQuery(double latitude, double longitude, double radiusMeters, boolean openNow,
+                      long requiredAmenities, OperationalStatus status, int limit,
+                      NearbyCursor after, NearbySort sort, ZonedDateTime openAt,
+                      Duration openFor) {
+    this.latitude = latitude;
+    this.longitude = longitude;
+    this.radiusMeters = radiusMeters;
+    this.openNow = openNow;
+    this.requiredAmenities = requiredAmenities;
+    this.status = status;
+    this.limit = limit;
+    this.after = after;
+    this.sort = sort;
+    this.openAt = openAt;
+    this.openFor = openFor;
+  }
+
+  /**
+   * Parse nearby request parameters.
+   *
+   * @param lat query latitude
+   * @param lng query longitude
+   * @param radiusMeters search radius in meters, above 0 and at most 50 km
+   * @param openNow when true, only restrooms open now match
+   * @param amenities amenity codes or names every match must have, may be null
+   * @param status required operational status, may be null
+   * @param limit page size from 1 to {@value #MAX_LIMIT}, defaults to 10
+   * @param cursor cursor returned with the previous page, may be null
+   * @return parsed query
+   * @throws IllegalArgumentException if the radius or limit is out of range, or an amenity,
+   *     status or cursor is not recognised
+   */
+  public static NearbyQuery of(double lat, double lng, double radiusMeters, Boolean openNow,
+                               Collection<String> amenities, String status, Integer limit,
+                               String cursor) {
+    return of(lat, lng, radiusMeters, openNow, amenities, status, limit, cursor, null);
+  }
+
+  /**
+   * Parse nearby request parameters including the result order.
+   *
+   * @param lat query latitude
+   * @param lng query longitude
+   * @param radiusMeters search radius in meters, above 0 and at most 50 km
+   * @param openNow when true, only restrooms open now match
+   * @param amenities amenity codes or names every match must have, may be null
+   * @param status required operational status, may be null
+   * @param limit page size from 1 to {@value #MAX_LIMIT}, defaults to 10
+   * @param cursor cursor returned with the previous page, may be null
+   * @param sort {@code distance} (default) or {@code best}
+   * @return parsed query
+   * @throws IllegalArgumentException if the radius or limit is out of range, a value is not
+   *     recognised, or a cursor is combined with {@code sort=best}
+   */
+  public static NearbyQuery of(double lat, double lng, double radiusMeters, Boolean openNow,
+                               Collection<String> amenities, String status, Integer limit,
+                               String cursor, String sort) {
+    return of(lat, lng, radiusMeters, openNow, amenities, status, limit, cursor, sort, null,
+        null);
+  }
+
+  /**
+   * Parse nearby request parameters including the result order and an opening-hours window.
+   *
+   * @param lat query latitude
+   * @param lng query longitude
+   * @param radiusMeters search radius in meters, above 0 and at most 50 km
+   * @param openNow when true, only restrooms open now match
+   * @param amenities amenity codes or names every match must have, may be null
+   * @param status required operational status, may be null
+   * @param limit page size from 1 to {@value #MAX_LIMIT}, defaults to 10
+   * @param cursor cursor returned with the previous page, may be null
+   * @param sort {@code distance} (default) or {@code best}
+   * @param openAt ISO-8601 time with offset or zone every match must be open at, may be null
+   * @param openFor ISO-8601 duration or minutes matches must stay open for from
+   *     {@code openAt} (or now), may be null
+   * @return parsed query
+   * @throws IllegalArgumentException if the radius or limit is out of range, a value is not
+   *     recognised, or a cursor is combined with {@code sort=best}
+   */
+  public static NearbyQuery of(double lat, double lng, double radiusMeters, Boolean openNow,
+                               Collection<String> amenities, String status, Integer limit,
+                               String cursor, String sort, String openAt, String openFor) {
+    if (!(radiusMeters > 0 && radiusMeters <= MAX_RADIUS_METERS)) {
+      throw new IllegalArgumentException(
+          "radius must be greater than 0 and at most " + (int) MAX_RADIUS_METERS + " meters");
+    }
+    if (limit != null && (limit < 1 || limit > MAX_LIMIT)) {
+      throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+    }
+    NearbySort order = NearbySort.parse(sort);
+    NearbyCursor after = NearbyCursor.decode(cursor);
+    if (order == NearbySort.BEST && after != null) {
+      throw new IllegalArgumentException("cursor is not supported with sort=best");
+    }
+    return new NearbyQuery(lat, lng, radiusMeters, Boolean.TRUE.equals(openNow),
+        Amenity.parseFilter(amenities), OperationalStatus.parse(status),
+        limit != null ? limit : DEFAULT_LIMIT, after, order, parseOpenAt(openAt),
+        parseOpenFor(openFor));
+  }
+
+  /**
+   * Parse an {@code openAt} parameter such as {@code 2025-11-08T22:00-05:00} or
+   * {@code 2025-11-08T22:00-05:00[America/New_York]}.
+   *
+   * @param value ISO-8601 date-time with an offset or zone, may be null or blank
+   * @return parsed time, null when absent
+   * @throws IllegalArgumentException if the value is not such a date-time
+   */
+  public static ZonedDateTime parseOpenAt(String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    try {
+      return ZonedDateTime.parse(value.trim());
+    } catch (DateTimeParseException ex) {
+      throw new IllegalArgumentException(
+          "openAt must be an ISO-8601 date-time with an offset, e.g. 2025-11-08T22:00-05:00",
+          ex);
+    }
+  }
+
+  /**
+   * Parse an {@code openFor} parameter, either an ISO-8601 duration ({@code PT45M}) or a
+   * number of minutes ({@code 45}).
+   *
+   * @param value duration text, may be null or blank
+   * @return parsed duration, null when absent
+   * @throws IllegalArgumentException if the value is malformed, negative or over 7 days
+   */
+  public static Duration parseOpenFor(String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    String text = value.trim();
+    Duration duration;
+    try {
+      duration = text.chars().allMatch(Character::isDigit)
+          ? Duration.ofMinutes(Long.parseLong(text))
+          : Duration.parse(text);
+    } catch (DateTimeParseException | ArithmeticException | NumberFormatException ex) {
+      throw new IllegalArgumentException(
+          "openFor must be an ISO-8601 duration such as PT45M or a number of minutes", ex);
+    }
+    if (duration.isNegative() || duration.compareTo(MAX_OPEN_FOR) > 0) {
+      throw new IllegalArgumentException("openFor must be between 0 and 7 days");
+    }
+    return duration;
+  }
+
+  public double getLatitude() {
+    return latitude;
+  }
+
+  public double getLongitude() {
+    return longitude;
+  }
+
+  public double getRadiusMeters() {
+    return radiusMeters;
+  }
+
+  public boolean isOpenNow() {
+    return openNow;
+  }
+
+  public long getRequiredAmenities() {
+    return requiredAmenities;
+  }
+
+  public OperationalStatus getStatus() {
+    return status;
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public NearbyCursor getAfter() {
+    return after;
+  }
+
+  public NearbySort getSort() {
+    return sort;
+  }
+
+  public ZonedDateTime getOpenAt() {
+    return openAt;
+  }
+
+  public Duration getOpenFor() {
+    return openFor;
+  }
+}
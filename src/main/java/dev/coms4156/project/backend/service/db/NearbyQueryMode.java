@@ -0,0 +1,28 @@
+package dev.coms4156.project.backend.service.db;
+
+import java.util.Locale;
+
+/**
+ * Strategy used by {@link RestroomDbService#getNearby} to find candidate restrooms.
+ */
+public enum NearbyQueryMode {
+  /** In-memory spatial index, falling back to {@link #BBOX} until the index is loaded. */
+  INDEX,
+  /** Indexable latitude/longitude box, ranked on precomputed unit-vector columns. */
+  BBOX,
+  /** Full-table haversine expression. */
+  HAVERSINE;
+
+  /**
+   * Parse a configuration value, case-insensitively.
+   *
+   * @param value configured mode name
+   * @return matching mode, or {@link #INDEX} when blank
+   */
+  public static NearbyQueryMode fromProperty(String value) {
+    if (value == null || value.isBlank()) {
+      return INDEX;
+    }
+    return valueOf(value.trim().toUpperCase(Locale.ROOT));
+  }
+}
@@ -0,0 +1,31 @@
+package dev.coms4156.project.backend.service.db;
+
+import java.util.Locale;
+
+/**
+ * Order of nearby results.
+ */
+public enum NearbySort {
+  /** Closest first, keyset-paginated. */
+  DISTANCE,
+  /** Highest {@link dev.coms4156.project.backend.service.index.RankingModel} score first. */
+  BEST;
+
+  /**
+   * Parse a request value.
+   *
+   * @param value sort name, may be null
+   * @return sort, {@link #DISTANCE} when blank
+   * @throws IllegalArgumentException if the value is not recognised
+   */
+  public static NearbySort parse(String value) {
+    if (value == null || value.isBlank()) {
+      return DISTANCE;
+    }
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("Unknown sort: " + value, ex);
+    }
+  }
+}
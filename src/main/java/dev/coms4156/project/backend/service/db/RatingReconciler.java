@@ -0,0 +1,117 @@
+package dev.coms4156.project.backend.service.db;
+
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Background check of the running rating totals and star histogram kept on restroom rows
+ * against the reviews themselves. Review writes only ever add to the totals, so anything that
+ * changes review rows behind their back (manual fixes, restores, a failed write between
+ * statements outside a transaction) would otherwise leave them wrong for good.
+ *
+ * <p>One grouped pass over the review table finds the restrooms whose totals differ; each of
+ * those is then recomputed over its own reviews in a transaction that locks the restroom row
+ * first. A review insert adds to the totals under the same row lock, so the lock waits for any
+ * review being written to commit, and the recompute that follows counts it; reviews written
+ * after that wait for the recompute and add to the corrected totals.
+ */
+@Component
+public class RatingReconciler {
+  private static final Logger logger = LoggerFactory.getLogger(RatingReconciler.class);
+
+  private static final String DRIFTED_SQL = """
+      SELECT r.id
+      FROM restroom r
+      LEFT JOIN (
+          SELECT restroom_id, COUNT(*) AS review_count, SUM(rating) AS rating_sum,
+                 SUM(cleanliness) AS cleanliness_sum,
+                 SUM(CASE WHEN rating = 1 THEN 1 ELSE 0 END) AS rating_1,
+                 SUM(CASE WHEN rating = 2 THEN 1 ELSE 0 END) AS rating_2,
+                 SUM(CASE WHEN rating = 3 THEN 1 ELSE 0 END) AS rating_3,
+                 SUM(CASE WHEN rating = 4 THEN 1 ELSE 0 END) AS rating_4,
+                 SUM(CASE WHEN rating = 5 THEN 1 ELSE 0 END) AS rating_5
+          FROM review
+          GROUP BY restroom_id
+      ) t ON t.restroom_id = r.id
+      WHERE COALESCE(r.rating_count, 0) <> COALESCE(t.review_count, 0)
+         OR COALESCE(r.rating_sum, 0) <> COALESCE(t.rating_sum, 0)
+         OR COALESCE(r.cleanliness_sum, 0) <> COALESCE(t.cleanliness_sum, 0)
+         OR COALESCE(r.rating_1, 0) <> COALESCE(t.rating_1, 0)
+         OR COALESCE(r.rating_2, 0) <> COALESCE(t.rating_2, 0)
+         OR COALESCE(r.rating_3, 0) <> COALESCE(t.rating_3, 0)
+         OR COALESCE(r.rating_4, 0) <> COALESCE(t.rating_4, 0)
+         OR COALESCE(r.rating_5, 0) <> COALESCE(t.rating_5, 0)
+      """;
+
+  // A restroom without reviews keeps the average it was imported with.
+  private static final String RECOMPUTE_SQL = """
+      UPDATE restroom
+      SET rating_count = (SELECT COUNT(*) FROM review WHERE restroom_id = ?),
+          rating_sum = (SELECT COALESCE(SUM(rating), 0) FROM review WHERE restroom_id = ?),
+          cleanliness_sum =
+              (SELECT COALESCE(SUM(cleanliness), 0) FROM review WHERE restroom_id = ?),
+          rating_1 = (SELECT COUNT(*) FROM review WHERE restroom_id = ? AND rating = 1),
+          rating_2 = (SELECT COUNT(*) FROM review WHERE restroom_id = ? AND rating = 2),
+          rating_3 = (SELECT COUNT(*) FROM review WHERE restroom_id = ? AND rating = 3),
+          rating_4 = (SELECT COUNT(*) FROM review WHERE restroom_id = ? AND rating = 4),
+          rating_5 = (SELECT COUNT(*) FROM review WHERE restroom_id = ? AND rating = 5),
+          avg_rating = COALESCE(
+              (SELECT AVG(CAST(rating AS DOUBLE PRECISION)) FROM review WHERE restroom_id = ?),
+              avg_rating)
+      WHERE id = ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final RestroomDbService restroomDbService;
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * Constructor for DI.
+   *
+   * @param jdbcTemplate JDBC access
+   * @param restroomDbService receives corrected totals for the in-memory indexes
+   * @param transactionManager runs each recompute under the restroom row lock
+   */
+  @Autowired
+  public RatingReconciler(JdbcTemplate jdbcTemplate, RestroomDbService restroomDbService,
+                          PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.restroomDbService = restroomDbService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * Recompute the totals of every restroom whose stored totals disagree with its reviews.
+   *
+   * @return number of restrooms corrected
+   */
+  @Scheduled(initialDelayString = "${app.restroom.rating-reconcile-ms:600000}",
+      fixedDelayString = "${app.restroom.rating-reconcile-ms:600000}")
+  public int reconcile() {
+    List<Long> drifted = jdbcTemplate.queryForList(DRIFTED_SQL, Long.class);
+    for (Long id : drifted) {
+      RestroomDbService.RatingTotals totals = transactionTemplate.execute(status -> {
+        if (jdbcTemplate.queryForList("SELECT id FROM restroom WHERE id = ? FOR UPDATE",
+            Long.class, id).isEmpty()) {
+          return null;
+        }
+        return JdbcReturning.write(jdbcTemplate, RECOMPUTE_SQL,
+            new String[] {"avg_rating", "rating_count"},
+            (rs, rowNum) -> new RestroomDbService.RatingTotals(rs.getDouble(1), rs.getLong(2)),
+            id, id, id, id, id, id, id, id, id, id);
+      });
+      restroomDbService.applyRating(id, totals);
+    }
+    if (!drifted.isEmpty()) {
+      logger.warn("Corrected rating totals of {} restrooms", drifted.size());
+    }
+    return drifted.size();
+  }
+}
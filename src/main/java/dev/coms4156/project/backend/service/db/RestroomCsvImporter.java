@@ -0,0 +1,621 @@
+package dev.coms4156.project.backend.service.db;
+
+import dev.coms4156.project.backend.model.Amenity;
+import dev.coms4156.project.backend.model.OperationalStatus;
+import dev.coms4156.project.backend.model.WeeklySchedule;
+import dev.coms4156.project.backend.service.index.GeoMath;
+import dev.coms4156.project.backend.service.index.IndexedRestroom;
+import dev.coms4156.project.backend.service.index.TextIndex;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Streaming bulk import of restroom CSV files such as {@code sql/restroom_converted.csv}.
+ *
+ * <p>The file is parsed one record at a time, each row is validated and normalized (hours via
+ * {@link WeeklySchedule#normalize(String)}, amenities deduplicated and classified into the
+ * amenity mask and status) and rows are written in JDBC batches of
+ * {@code app.restroom.import.batch-size}, one transaction per batch. Rows carrying an id update
+ * the source columns of an existing restroom and keep its ratings and visits; other rows are
+ * inserted. Invalid rows are skipped and reported rather than failing the import.
+ *
+ * <p>When {@code app.restroom.import.csv-location} is set the file is loaded at startup, before
+ * the in-memory indexes are built. Into an empty table that load goes through
+ * {@link RestroomSnapshotStore}: a snapshot matching the CSV restores the rows and index entries
+ * without parsing, otherwise the CSV is imported and a fresh snapshot written alongside.
+ */
+@Service
+public class RestroomCsvImporter implements ApplicationRunner {
+  private static final Logger logger = LoggerFactory.getLogger(RestroomCsvImporter.class);
+  private static final int MAX_REPORTED_ERRORS = 100;
+  private static final int MAX_TEXT_LENGTH = 255;
+  private static final double MAX_RATING = 5;
+  private static final List<String> REQUIRED_COLUMNS = List.of("name", "latitude", "longitude");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private static final String INSERT_SQL = """
+      INSERT INTO restroom (name, address, operator, latitude, longitude, hours_json, amenities,
+      amenity_mask, status, unit_x, unit_y, unit_z, avg_rating, visit_count, id)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+      """;
+  private static final String INSERT_GENERATED_SQL = """
+      INSERT INTO restroom (name, address, operator, latitude, longitude, hours_json, amenities,
+      amenity_mask, status, unit_x, unit_y, unit_z, avg_rating, visit_count)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+      """;
+  private static final String UPDATE_SQL = """
+      UPDATE restroom SET name = ?, address = ?, operator = ?, latitude = ?, longitude = ?,
+      hours_json = ?, amenities = ?, amenity_mask = ?, status = ?, unit_x = ?, unit_y = ?,
+      unit_z = ?
+      WHERE id = ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final RestroomDbService restroomDbService;
+  private final RestroomSnapshotStore snapshotStore;
+  private final ResourceLoader resourceLoader;
+  private final String csvLocation;
+  private final int batchSize;
+
+  /**
+   * Outcome of an import.
+   *
+   * @param inserted rows added as new restrooms
+   * @param updated rows that replaced the source columns of an existing restroom
+   * @param rejected rows skipped because they failed validation
+   * @param errors line number and reason for the first rejected rows
+   * @param elapsedMillis wall time of the import
+   */
+  public record ImportResult(long inserted, long updated, long rejected, List<String> errors,
+                             long elapsedMillis) {
+  }
+
+  /**
+   * A validated, normalized CSV row ready to be written.
+   */
+  record Row(Long id, String name, String address, String operator, double latitude,
+             double longitude, String hoursJson, List<String> amenities, long amenityMask,
+             String status, double avgRating, long visitCount) {
+  }
+
+  /**
+   * Constructor for DI.
+   *
+   * @param jdbcTemplate JDBC template
+   * @param transactionManager transaction manager used to commit each batch
+   * @param restroomDbService restroom service whose indexes are rebuilt after an import
+   * @param snapshotStore binary snapshot of the startup dataset
+   * @param resourceLoader resolves the startup CSV location
+   * @param csvLocation CSV loaded at startup (e.g. {@code classpath:sql/restroom_converted.csv}),
+   *     blank to skip
+   * @param batchSize rows per JDBC batch and transaction
+   */
+  @Autowired
+  public RestroomCsvImporter(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             RestroomDbService restroomDbService,
+                             RestroomSnapshotStore snapshotStore, ResourceLoader resourceLoader,
+                             @Value("${app.restroom.import.csv-location:}") String csvLocation,
+                             @Value("${app.restroom.import.batch-size:5000}") int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Import batch size must be positive");
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.restroomDbService = restroomDbService;
+    this.snapshotStore = snapshotStore;
+    this.resourceLoader = resourceLoader;
+    this.csvLocation = csvLocation;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Load the configured CSV at startup. Runners complete before the application is ready, so
+   * the index rebuild on {@code ApplicationReadyEvent} already sees the imported rows.
+   */
+  @Override
+  public void run(ApplicationArguments args) throws IOException {
+    if (csvLocation == null || csvLocation.isBlank()) {
+      return;
+    }
+    Resource resource = resourceLoader.getResource(csvLocation);
+    RestroomSnapshotStore.Writer snapshot = null;
+    if (snapshotStore.isEnabled() && isTableEmpty()) {
+      long dataVersion = RestroomSnapshotStore.fingerprint(resource);
+      Optional<RestroomSnapshotStore.Reader> existing = snapshotStore.open(dataVersion);
+      if (existing.isPresent() && restore(existing.get())) {
+        return;
+      }
+      snapshot = snapshotStore.create(dataVersion).orElse(null);
+    }
+    try (InputStream in = resource.getInputStream()) {
+      ImportResult result = load(in, snapshot);
+      if (logger.isInfoEnabled()) {
+        logger.info("Imported restrooms from {}: {} inserted, {} updated, {} rejected in {} ms",
+            csvLocation, result.inserted(), result.updated(), result.rejected(),
+            result.elapsedMillis());
+      }
+    } finally {
+      if (snapshot != null) {
+        snapshot.close();
+      }
+    }
+  }
+
+  /**
+   * Import a UTF-8 CSV stream and refresh the in-memory indexes.
+   *
+   * @param in CSV with a header row naming at least name, latitude and longitude
+   * @return counts of written and rejected rows
+   * @throws IOException if the stream cannot be read
+   * @throws IllegalArgumentException if the header is missing a required column or a quoted
+   *     field is never closed
+   */
+  public ImportResult importCsv(InputStream in) throws IOException {
+    ImportResult result = load(in, null);
+    restroomDbService.rebuildIndex();
+    return result;
+  }
+
+  /**
+   * Insert the rows of a matching snapshot and hand its entries to the index.
+   *
+   * @return false if the snapshot could not be applied; the table is left empty again
+   */
+  private synchronized boolean restore(RestroomSnapshotStore.Reader snapshot) {
+    long started = System.nanoTime();
+    List<IndexedRestroom> entries = new ArrayList<>(snapshot.size());
+    List<TextIndex.Document> documents = new ArrayList<>(snapshot.size());
+    List<Row> batch = new ArrayList<>(Math.min(batchSize, 10_000));
+    try {
+      snapshot.forEach(entry -> {
+        Row row = entry.row();
+        entries.add(new IndexedRestroom(row.id(), row.latitude(), row.longitude(),
+            entry.schedule(), row.amenityMask(), OperationalStatus.parse(row.status()),
+            row.avgRating(), 0, row.visitCount()));
+        documents.add(new TextIndex.Document(row.id(), row.name(), row.address()));
+        batch.add(row);
+        if (batch.size() >= batchSize) {
+          transactionTemplate.executeWithoutResult(status -> insert(batch));
+          batch.clear();
+        }
+      });
+      if (!batch.isEmpty()) {
+        transactionTemplate.executeWithoutResult(status -> insert(batch));
+      }
+    } catch (DataAccessException | IllegalStateException ex) {
+      logger.warn("Restroom snapshot could not be applied, importing the CSV instead", ex);
+      jdbcTemplate.update("DELETE FROM restroom");
+      return false;
+    }
+    restartIdentity();
+    restroomDbService.preloadIndex(entries, documents);
+    if (logger.isInfoEnabled()) {
+      logger.info("Restored {} restrooms from snapshot in {} ms", entries.size(),
+          (System.nanoTime() - started) / 1_000_000);
+    }
+    return true;
+  }
+
+  /**
+   * Stream, validate and write a CSV.
+   *
+   * @param snapshot receives every written row while the import stays a plain insert of keyed
+   *     rows into an empty table, committed at the end; null to skip
+   */
+  private synchronized ImportResult load(InputStream in, RestroomSnapshotStore.Writer snapshot)
+      throws IOException {
+    long started = System.nanoTime();
+    CsvReader reader = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    List<String> header = reader.next();
+    if (header == null) {
+      throw new IllegalArgumentException("CSV is empty");
+    }
+    RowParser parser = new RowParser(header);
+    boolean fresh = isTableEmpty();
+    long[] counts = new long[2];
+    long rejected = 0;
+    List<String> errors = new ArrayList<>();
+    List<Row> batch = new ArrayList<>(Math.min(batchSize, 10_000));
+    for (List<String> record = reader.next(); record != null; record = reader.next()) {
+      if (record.size() == 1 && record.get(0).isBlank()) {
+        continue;
+      }
+      try {
+        batch.add(parser.parse(record));
+      } catch (IllegalArgumentException ex) {
+        rejected++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+          errors.add("line " + reader.getRecordLine() + ": " + ex.getMessage());
+        }
+        continue;
+      }
+      if (batch.size() >= batchSize) {
+        List<Row> rows = lastPerId(batch);
+        fresh = flush(rows, fresh, counts);
+        snapshot = record(snapshot, fresh, rows);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      List<Row> rows = lastPerId(batch);
+      fresh = flush(rows, fresh, counts);
+      snapshot = record(snapshot, fresh, rows);
+    }
+    restartIdentity();
+    if (snapshot != null) {
+      try (RestroomSnapshotStore.Writer writer = snapshot) {
+        writer.commit();
+      } catch (IOException ex) {
+        logger.warn("Unable to write restroom snapshot", ex);
+      }
+    }
+    long elapsed = (System.nanoTime() - started) / 1_000_000;
+    return new ImportResult(counts[0], counts[1], rejected, errors, elapsed);
+  }
+
+  /**
+   * Write one batch in its own transaction. Into an empty table every row is a plain insert;
+   * should that hit an id repeated from an earlier batch the transaction is rolled back and the
+   * batch retried as an upsert.
+   *
+   * @return whether later batches may still skip the update pass
+   */
+  private boolean flush(List<Row> rows, boolean fresh, long[] counts) {
+    if (fresh) {
+      try {
+        transactionTemplate.executeWithoutResult(status -> insert(rows));
+        counts[0] += rows.size();
+        return true;
+      } catch (DuplicateKeyException ex) {
+        logger.debug("Repeated restroom id in import, switching to upserts", ex);
+      }
+    }
+    long[] written = transactionTemplate.execute(status -> upsert(rows));
+    counts[0] += written[0];
+    counts[1] += written[1];
+    return false;
+  }
+
+  /**
+   * Append written rows to the snapshot, abandoning it once the database can no longer be
+   * reproduced from the rows alone (upserts, generated ids) or the file cannot be written.
+   *
+   * @return the writer to keep using, or null once abandoned
+   */
+  private static RestroomSnapshotStore.Writer record(RestroomSnapshotStore.Writer snapshot,
+                                                     boolean fresh, List<Row> rows) {
+    if (snapshot == null) {
+      return null;
+    }
+    try {
+      if (fresh && rows.stream().allMatch(row -> row.id() != null)) {
+        for (Row row : rows) {
+          snapshot.append(row);
+        }
+        return snapshot;
+      }
+      snapshot.close();
+    } catch (IOException ex) {
+      logger.warn("Unable to write restroom snapshot", ex);
+      try {
+        snapshot.close();
+      } catch (IOException closeEx) {
+        logger.debug("Unable to discard restroom snapshot", closeEx);
+      }
+    }
+    return null;
+  }
+
+  private long[] upsert(List<Row> rows) {
+    List<Row> keyed = rows.stream().filter(row -> row.id() != null).toList();
+    List<Row> inserts = new ArrayList<>(rows.stream().filter(row -> row.id() == null).toList());
+    int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, setter(keyed, true));
+    long updates = 0;
+    for (int i = 0; i < updated.length; i++) {
+      if (updated[i] == 0) {
+        inserts.add(keyed.get(i));
+      } else {
+        updates++;
+      }
+    }
+    insert(inserts);
+    return new long[] {inserts.size(), updates};
+  }
+
+  private void insert(List<Row> rows) {
+    List<Row> keyed = rows.stream().filter(row -> row.id() != null).toList();
+    List<Row> generated = rows.stream().filter(row -> row.id() == null).toList();
+    if (!keyed.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_SQL, setter(keyed, false));
+    }
+    if (!generated.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_GENERATED_SQL, setter(generated, false));
+    }
+  }
+
+  private static BatchPreparedStatementSetter setter(List<Row> rows, boolean update) {
+    return new BatchPreparedStatementSetter() {
+      @Override
+      public void setValues(PreparedStatement ps, int i) throws SQLException {
+        Row row = rows.get(i);
+        double[] unit = GeoMath.unitVector(row.latitude(), row.longitude());
+        ps.setString(1, row.name());
+        ps.setString(2, row.address());
+        ps.setString(3, row.operator());
+        ps.setDouble(4, row.latitude());
+        ps.setDouble(5, row.longitude());
+        ps.setString(6, row.hoursJson());
+        ps.setArray(7, ps.getConnection().createArrayOf("text",
+            row.amenities().toArray(new String[0])));
+        ps.setLong(8, row.amenityMask());
+        ps.setString(9, row.status());
+        ps.setDouble(10, unit[0]);
+        ps.setDouble(11, unit[1]);
+        ps.setDouble(12, unit[2]);
+        if (update) {
+          ps.setLong(13, row.id());
+        } else {
+          ps.setDouble(13, row.avgRating());
+          ps.setLong(14, row.visitCount());
+          if (row.id() != null) {
+            ps.setLong(15, row.id());
+          }
+        }
+      }
+
+      @Override
+      public int getBatchSize() {
+        return rows.size();
+      }
+    };
+  }
+
+  private static List<Row> lastPerId(List<Row> batch) {
+    Map<Long, Row> byId = new LinkedHashMap<>();
+    List<Row> rows = new ArrayList<>(batch.size());
+    for (Row row : batch) {
+      if (row.id() == null) {
+        rows.add(row);
+      } else {
+        byId.put(row.id(), row);
+      }
+    }
+    rows.addAll(byId.values());
+    return rows;
+  }
+
+  private boolean isTableEmpty() {
+    Integer any = jdbcTemplate.query("SELECT 1 FROM restroom FETCH FIRST 1 ROWS ONLY",
+        rs -> rs.next() ? 1 : null);
+    return any == null;
+  }
+
+  /**
+   * Move the id sequence past explicitly imported ids so later inserts do not collide.
+   */
+  private void restartIdentity() {
+    Long next = jdbcTemplate.queryForObject(
+        "SELECT COALESCE(MAX(id), 0) + 1 FROM restroom", Long.class);
+    jdbcTemplate.execute("ALTER TABLE restroom ALTER COLUMN id RESTART WITH " + next);
+  }
+
+  /**
+   * Validates and normalizes records against a header. Distinct hours and amenity values are
+   * memoized for the duration of an import: city datasets repeat a handful of them across
+   * millions of rows, so each is parsed and classified once.
+   */
+  static final class RowParser {
+    private static final int MAX_MEMO_ENTRIES = 4096;
+
+    private final Map<String, Integer> columns = new HashMap<>();
+    private final int width;
+    private final Map<String, String> hoursMemo = new HashMap<>();
+    private final Map<String, Amenities> amenitiesMemo = new HashMap<>();
+
+    private record Amenities(List<String> values, long mask, String status) {
+    }
+
+    /**
+     * Map header names to field positions.
+     *
+     * @param header first CSV record, names matched case-insensitively
+     * @throws IllegalArgumentException if a required column is missing
+     */
+    RowParser(List<String> header) {
+      for (int i = 0; i < header.size(); i++) {
+        String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+        columns.putIfAbsent(name, i);
+      }
+      for (String required : REQUIRED_COLUMNS) {
+        if (!columns.containsKey(required)) {
+          throw new IllegalArgumentException("CSV is missing required column: " + required);
+        }
+      }
+      this.width = header.size();
+    }
+
+    /**
+     * Validate and normalize one record.
+     *
+     * @param record field values
+     * @return row ready to write
+     * @throws IllegalArgumentException describing the first problem found
+     */
+    Row parse(List<String> record) {
+      if (record.size() < width) {
+        throw new IllegalArgumentException(
+            "Expected " + width + " fields but found " + record.size());
+      }
+      String idText = field(record, "id");
+      Long id = null;
+      if (idText != null) {
+        id = wholeNumber("id", idText);
+        if (id < 1) {
+          throw new IllegalArgumentException("Invalid id: " + idText);
+        }
+      }
+      String name = text(record, "name");
+      if (name == null) {
+        throw new IllegalArgumentException("Name is required");
+      }
+      double latitude = number(record, "latitude", -90, 90);
+      double longitude = number(record, "longitude", -180, 180);
+      String hoursJson = memo(hoursMemo, field(record, "hours_json"), WeeklySchedule::normalize);
+      Amenities amenities = memo(amenitiesMemo, field(record, "amenities"), literal -> {
+        List<String> values = parseAmenities(literal);
+        return new Amenities(values, Amenity.maskOf(values),
+            OperationalStatus.fromAmenities(values).name());
+      });
+      double avgRating = field(record, "avg_rating") == null
+          ? 0 : number(record, "avg_rating", 0, MAX_RATING);
+      String visits = field(record, "visit_count");
+      long visitCount = visits == null ? 0 : wholeNumber("visit_count", visits);
+      if (visitCount < 0) {
+        throw new IllegalArgumentException("Invalid visit_count: " + visits);
+      }
+      return new Row(id, name, text(record, "address"), text(record, "operator"), latitude,
+          longitude, hoursJson, amenities.values(), amenities.mask(), amenities.status(),
+          avgRating, visitCount);
+    }
+
+    private static <V> V memo(Map<String, V> memo, String key, Function<String, V> compute) {
+      String lookup = key == null ? "" : key;
+      V value = memo.get(lookup);
+      if (value == null) {
+        value = compute.apply(key);
+        if (memo.size() >= MAX_MEMO_ENTRIES) {
+          memo.clear();
+        }
+        memo.put(lookup, value);
+      }
+      return value;
+    }
+
+    private String field(List<String> record, String name) {
+      Integer index = columns.get(name);
+      if (index == null) {
+        return null;
+      }
+      String value = record.get(index).trim();
+      return value.isEmpty() ? null : value;
+    }
+
+    private String text(List<String> record, String name) {
+      String value = field(record, name);
+      if (value != null && value.length() > MAX_TEXT_LENGTH) {
+        throw new IllegalArgumentException(
+            "Column " + name + " is longer than " + MAX_TEXT_LENGTH + " characters");
+      }
+      return value;
+    }
+
+    private double number(List<String> record, String name, double min, double max) {
+      String value = field(record, name);
+      if (value == null) {
+        throw new IllegalArgumentException("Column " + name + " is required");
+      }
+      double parsed;
+      try {
+        parsed = Double.parseDouble(value);
+      } catch (NumberFormatException ex) {
+        throw new IllegalArgumentException("Invalid " + name + ": " + value, ex);
+      }
+      if (!(parsed >= min && parsed <= max)) {
+        throw new IllegalArgumentException(
+            "Column " + name + " must be between " + min + " and " + max);
+      }
+      return parsed;
+    }
+
+    private static long wholeNumber(String name, String value) {
+      try {
+        return Long.parseLong(value);
+      } catch (NumberFormatException ex) {
+        throw new IllegalArgumentException("Invalid " + name + ": " + value, ex);
+      }
+    }
+  }
+
+  /**
+   * Parse a PostgreSQL array literal such as {@code {"Changing Stations",Key}} into trimmed,
+   * whitespace-collapsed, de-duplicated amenity strings.
+   *
+   * @param literal array literal, may be null or blank
+   * @return amenities in their original order
+   * @throws IllegalArgumentException if the literal is not enclosed in braces or a quote is
+   *     never closed
+   */
+  static List<String> parseAmenities(String literal) {
+    if (literal == null || literal.isBlank()) {
+      return List.of();
+    }
+    String trimmed = literal.trim();
+    if (trimmed.length() < 2 || trimmed.charAt(0) != '{'
+        || trimmed.charAt(trimmed.length() - 1) != '}') {
+      throw new IllegalArgumentException("Amenities must be an array literal like {a,b}");
+    }
+    Set<String> amenities = new LinkedHashSet<>();
+    StringBuilder element = new StringBuilder();
+    boolean quoted = false;
+    boolean wasQuoted = false;
+    int end = trimmed.length() - 1;
+    for (int i = 1; i <= end; i++) {
+      char c = i == end ? ',' : trimmed.charAt(i);
+      if (quoted) {
+        if (c == '\\' && i + 1 < end) {
+          element.append(trimmed.charAt(++i));
+        } else if (c == '"') {
+          quoted = false;
+        } else if (i == end) {
+          throw new IllegalArgumentException("Unterminated quote in amenities");
+        } else {
+          element.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+        wasQuoted = true;
+      } else if (c == ',') {
+        String value = WHITESPACE.matcher(element.toString().trim()).replaceAll(" ");
+        if (!value.isEmpty() && (wasQuoted || !"NULL".equalsIgnoreCase(value))) {
+          amenities.add(value);
+        }
+        element.setLength(0);
+        wasQuoted = false;
+      } else {
+        element.append(c);
+      }
+    }
+    return List.copyOf(amenities);
+  }
+}
@@ -1,18 +1,57 @@
 package dev.coms4156.project.backend.service.db;
 
+import dev.coms4156.project.backend.model.Amenity;
+import dev.coms4156.project.backend.model.EditProposal;
+import dev.coms4156.project.backend.model.OperationalStatus;
 import dev.coms4156.project.backend.model.Restroom;
+import dev.coms4156.project.backend.model.Review;
+import dev.coms4156.project.backend.model.WeeklySchedule;
+import dev.coms4156.project.backend.service.index.ClusterIndex;
+import dev.coms4156.project.backend.service.index.Corridor;
+import dev.coms4156.project.backend.service.index.GeoMath;
+import dev.coms4156.project.backend.service.index.GeoPolygon;
+import dev.coms4156.project.backend.service.index.IndexedRestroom;
+import dev.coms4156.project.backend.service.index.MapCluster;
+import dev.coms4156.project.backend.service.index.NearbyCache;
+import dev.coms4156.project.backend.service.index.NearbyCursor;
+import dev.coms4156.project.backend.service.index.NearbyFilter;
+import dev.coms4156.project.backend.service.index.NearbyHit;
+import dev.coms4156.project.backend.service.index.Polyline;
+import dev.coms4156.project.backend.service.index.RankingModel;
+import dev.coms4156.project.backend.service.index.RestroomIndexListener;
+import dev.coms4156.project.backend.service.index.SpatialIndex;
+import dev.coms4156.project.backend.service.index.SuggestIndex;
+import dev.coms4156.project.backend.service.index.TextIndex;
+import dev.coms4156.project.backend.service.index.TileCache;
 import java.sql.Array;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.LongToDoubleFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.support.GeneratedKeyHolder;
-import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.stereotype.Service;
 
 
@@ -22,11 +61,164 @@ import org.springframework.stereotype.Service;
  */
 @Service
 public class RestroomDbService {
+  private static final Logger logger = LoggerFactory.getLogger(RestroomDbService.class);
+  private static final int ID_CHUNK = 1000;
+  /** SET items adding to the 1- to 5-star review counts, one parameter per star. */
+  private static final String HISTOGRAM_INCREMENT = """
+          rating_1 = rating_1 + ?, rating_2 = rating_2 + ?, rating_3 = rating_3 + ?,
+          rating_4 = rating_4 + ?, rating_5 = rating_5 + ?
+      """;
+  /** Largest rounding difference between a database distance and the one computed here. */
+  private static final double ROUNDING_METERS = 0.01d;
+  /** Rows read past a limited first page to settle ties at its last place. */
+  private static final int TIE_ROWS = 16;
+  /** Cells whose candidate set would be larger than this are not cached. */
+  private static final int MAX_CACHED_CANDIDATES = 1000;
+  /** Largest score bonus proximity adds to a text match, and the distance it decays over. */
+  private static final double TEXT_GEO_WEIGHT = 0.3;
+  private static final double TEXT_GEO_DECAY_METERS = 2000;
+  private static final String INDEX_COLUMNS =
+      "id, latitude, longitude, hours_json, amenities, amenity_mask, status, avg_rating, "
+      + "rating_count, visit_count";
+
   private final JdbcTemplate jdbcTemplate;
+  private final SpatialIndex spatialIndex;
+  private final ClusterIndex clusterIndex;
+  private final TileCache tileCache;
+  private final NearbyCache nearbyCache;
+  private final RankingModel rankingModel;
+  private final TextIndex textIndex;
+  private final SuggestIndex suggestIndex;
+  private final List<RestroomIndexListener> indexListeners;
+  private final NearbyQueryMode nearbyMode;
+  private final ZoneId timeZone;
+  private volatile boolean preloaded;
 
+  /**
+   * Create the restroom service.
+   *
+   * @param jdbcTemplate JDBC access
+   * @param spatialIndex in-memory index over restroom coordinates
+   * @param clusterIndex precomputed map clusters
+   * @param tileCache encoded map tiles
+   * @param nearbyCache cached nearby candidates per grid cell
+   * @param rankingModel score for {@code sort=best}
+   * @param textIndex trigram index over names and addresses
+   * @param suggestIndex prefix autocomplete over names
+   * @param indexListeners derived in-memory structures kept current on every write
+   * @param nearbyMode strategy for nearby queries: index, bbox or haversine
+   * @param timeZone zone the stored opening hours are expressed in
+   */
   @Autowired
-  public RestroomDbService(JdbcTemplate jdbcTemplate) {
+  public RestroomDbService(JdbcTemplate jdbcTemplate, SpatialIndex spatialIndex,
+                           ClusterIndex clusterIndex, TileCache tileCache,
+                           NearbyCache nearbyCache, RankingModel rankingModel,
+                           TextIndex textIndex, SuggestIndex suggestIndex,
+                           List<RestroomIndexListener> indexListeners,
+                           @Value("${app.restroom.nearby-mode:index}") String nearbyMode,
+                           @Value("${app.restroom.time-zone:America/New_York}") String timeZone) {
     this.jdbcTemplate = jdbcTemplate;
+    this.spatialIndex = spatialIndex;
+    this.clusterIndex = clusterIndex;
+    this.tileCache = tileCache;
+    this.nearbyCache = nearbyCache;
+    this.rankingModel = rankingModel;
+    this.textIndex = textIndex;
+    this.suggestIndex = suggestIndex;
+    this.indexListeners = List.copyOf(indexListeners);
+    this.nearbyMode = NearbyQueryMode.fromProperty(nearbyMode);
+    this.timeZone = ZoneId.of(timeZone);
+  }
+
+  /**
+   * Build the in-memory indexes once the schema and data are in place, unless a snapshot
+   * already supplied them during startup.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    if (!preloaded) {
+      rebuildIndex();
+    }
+  }
+
+  /**
+   * Install index entries restored from a dataset snapshot, so startup can skip reading and
+   * compiling every row.
+   *
+   * @param entries index entries of every restroom
+   * @param documents name and address of the same restrooms, in the same order
+   */
+  public void preloadIndex(List<IndexedRestroom> entries, List<TextIndex.Document> documents) {
+    List<SuggestIndex.Entry> names = new ArrayList<>(documents.size());
+    for (int i = 0; i < documents.size(); i++) {
+      IndexedRestroom entry = entries.get(i);
+      names.add(new SuggestIndex.Entry(entry.getId(), documents.get(i).name(),
+          entry.getVisitCount(), entry.getAvgRating()));
+    }
+    install(entries, documents, names);
+    preloaded = true;
+  }
+
+  /**
+   * Load every restroom into the in-memory spatial index. Rows written without precomputed unit
+   * vectors, amenity mask or status (e.g. loaded outside the app) are backfilled first so every
+   * query mode can filter on them.
+   */
+  public void rebuildIndex() {
+    jdbcTemplate.update("""
+        UPDATE restroom
+           SET unit_x = COS(RADIANS(latitude)) * COS(RADIANS(longitude)),
+               unit_y = COS(RADIANS(latitude)) * SIN(RADIANS(longitude)),
+               unit_z = SIN(RADIANS(latitude))
+         WHERE unit_x IS NULL
+        """);
+    List<Object[]> normalized = jdbcTemplate.query(
+        "SELECT id, amenities FROM restroom WHERE amenity_mask IS NULL OR status IS NULL",
+        (rs, rowNum) -> {
+          List<String> amenities = readAmenities(rs);
+          return new Object[] {Amenity.maskOf(amenities),
+              OperationalStatus.fromAmenities(amenities).name(), rs.getLong("id")};
+        });
+    if (!normalized.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+          "UPDATE restroom SET amenity_mask = ?, status = ? WHERE id = ?", normalized);
+    }
+    List<IndexedRestroom> entries = jdbcTemplate.query(
+        "SELECT " + INDEX_COLUMNS + " FROM restroom", RestroomDbService::mapIndexEntry);
+    List<TextIndex.Document> documents = new ArrayList<>();
+    List<SuggestIndex.Entry> names = new ArrayList<>();
+    readTextColumns(documents, names);
+    install(entries, documents, names);
+  }
+
+  private void install(List<IndexedRestroom> entries, List<TextIndex.Document> documents,
+                       List<SuggestIndex.Entry> names) {
+    spatialIndex.rebuild(entries);
+    indexListeners.forEach(listener -> listener.onRebuild(entries));
+    textIndex.rebuild(documents);
+    suggestIndex.rebuild(names);
+    if (logger.isInfoEnabled()) {
+      logger.info("Spatial index loaded with {} restrooms", entries.size());
+    }
+  }
+
+  private void readTextColumns(List<TextIndex.Document> documents,
+                               List<SuggestIndex.Entry> names) {
+    jdbcTemplate.query("SELECT id, name, address, visit_count, avg_rating FROM restroom", rs -> {
+      documents.add(new TextIndex.Document(rs.getLong("id"), rs.getString("name"),
+          rs.getString("address")));
+      names.add(new SuggestIndex.Entry(rs.getLong("id"), rs.getString("name"),
+          rs.getLong("visit_count"), rs.getDouble("avg_rating")));
+    });
+  }
+
+  /**
+   * Zone the stored opening hours are expressed in.
+   *
+   * @return configured time zone
+   */
+  public ZoneId getTimeZone() {
+    return timeZone;
   }
 
   /**
@@ -41,33 +233,598 @@ public class RestroomDbService {
     }
   }
 
+  /**
+   * Get restrooms by ID, preserving the order of the given identifiers.
+   */
+  public List<Restroom> getByIds(List<Long> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, Restroom> byId = loadByIds(ids);
+    return ids.stream().map(byId::get).filter(r -> r != null).toList();
+  }
+
+  /**
+   * Which of the given restroom IDs exist, read in chunks of at most {@value #ID_CHUNK} bind
+   * parameters without loading the rows.
+   *
+   * @param ids restroom ids, duplicates allowed
+   * @return the ids that exist
+   */
+  public Set<Long> existingIds(Collection<Long> ids) {
+    List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+    Set<Long> existing = new HashSet<>(distinct.size() * 2);
+    for (int from = 0; from < distinct.size(); from += ID_CHUNK) {
+      List<Long> chunk = distinct.subList(from, Math.min(distinct.size(), from + ID_CHUNK));
+      String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+      existing.addAll(jdbcTemplate.queryForList(
+          "SELECT id FROM restroom WHERE id IN (" + placeholders + ")", Long.class,
+          chunk.toArray()));
+    }
+    return existing;
+  }
+
+  /**
+   * Load restrooms by ID in chunks of at most {@value #ID_CHUNK} bind parameters.
+   */
+  private Map<Long, Restroom> loadByIds(Collection<Long> ids) {
+    List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+    Map<Long, Restroom> byId = new HashMap<>(distinct.size() * 2);
+    for (int from = 0; from < distinct.size(); from += ID_CHUNK) {
+      List<Long> chunk = distinct.subList(from, Math.min(distinct.size(), from + ID_CHUNK));
+      String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+      String sql = "SELECT * FROM restroom WHERE id IN (" + placeholders + ")";
+      jdbcTemplate.query(sql, this::mapRestroom, chunk.toArray())
+          .forEach(restroom -> byId.put(restroom.getId(), restroom));
+    }
+    return byId;
+  }
+
   /**
    * Get nearby restrooms within radius.
+   *
+   * <p>In {@link NearbyQueryMode#INDEX} mode this is answered from the in-memory spatial index
+   * once it is loaded, and only the matching rows are read from the database. The opening-hours
+   * filters are a masked test against each restroom's compiled weekly schedule, and the amenity
+   * filter a mask test against its normalized amenity codes; both are applied to candidates
+   * before the limit.
+   *
+   * <p>Pages are keyset-paginated on (distance, id): a full page carries a cursor for the
+   * last row and passing it back returns the rows strictly after it.
+   *
+   * @throws IllegalArgumentException if an amenity, status or cursor is not recognised
+   */
+  public NearbyPage getNearby(double lat, double lng, double radiusMeters, Boolean openNow,
+                              Set<String> amenitiesFilter, String status, Integer limit,
+                              String cursor) {
+    return getNearby(NearbyQuery.of(lat, lng, radiusMeters, openNow, amenitiesFilter, status,
+        limit, cursor));
+  }
+
+  /**
+   * Run a parsed nearby query.
+   *
+   * <p>First pages are answered from the {@link NearbyCache} when the query's cell holds
+   * candidates, re-ranked for the exact point; otherwise the configured strategy runs.
+   * {@code sort=best} queries are scored in the spatial index and return a single page.
+   *
+   * @param query nearby parameters
+   * @return one page of results
+   */
+  public NearbyPage getNearby(NearbyQuery query) {
+    ZonedDateTime now = ZonedDateTime.now(timeZone);
+    NearbyFilter filter = filterFor(query, now);
+    if (query.getSort() == NearbySort.BEST) {
+      double[] bounds = circleBounds(query.getLatitude(), query.getLongitude(),
+          query.getRadiusMeters());
+      List<NearbyHit> hits = rankBest(indexFor(bounds), query, filter, now);
+      return new NearbyPage(getByIds(hitIds(hits)), null);
+    }
+    if (query.getAfter() == null) {
+      NearbyCache.Key key = nearbyCache.keyFor(query.getLatitude(), query.getLongitude(),
+          query.getRadiusMeters(), query.getLimit(), filter.getOpenKey(),
+          query.getRequiredAmenities(), query.getStatus());
+      if (key != null) {
+        List<Restroom> candidates = nearbyCache.get(key);
+        if (candidates == null) {
+          candidates = loadCandidates(key, filter);
+        }
+        if (candidates != null) {
+          return rankCandidates(query, candidates);
+        }
+      }
+    }
+    return search(query.getLatitude(), query.getLongitude(), query.getRadiusMeters(),
+        query.getLimit(), filter, query.getAfter());
+  }
+
+  /**
+   * Counters of the nearby result cache.
+   *
+   * @return stats snapshot
+   */
+  public NearbyCache.Stats getNearbyCacheStats() {
+    return nearbyCache.stats();
+  }
+
+  /**
+   * Nearby search with the configured strategy.
    */
-  public List<Restroom> getNearby(double lat, double lng, double radiusMeters, 
-                                  Boolean openNow, Set<String> amenitiesFilter, Integer limit) {
+  private NearbyPage search(double lat, double lng, double radiusMeters, int limit,
+                            NearbyFilter filter, NearbyCursor after) {
+    if (nearbyMode == NearbyQueryMode.INDEX && spatialIndex.isReady()) {
+      List<NearbyHit> hits = spatialIndex.nearest(lat, lng, radiusMeters, limit, filter, after);
+      return toPage(limit, hits, loadByIds(hitIds(hits)));
+    }
+    if (nearbyMode == NearbyQueryMode.HAVERSINE) {
+      return getNearbyHaversine(lat, lng, radiusMeters, limit, filter, after);
+    }
+    return getNearbyBoundingBox(lat, lng, radiusMeters, limit, filter, after);
+  }
+
+  /**
+   * Load and cache every restroom that can be in a first page for some point of the key's
+   * cell. A point of the cell is within {@code h} of the center, so its matches lie within
+   * {@code radius + h} of the center; and when the center has {@code limit} matches within
+   * {@code d}, every point has as many within {@code d + h}, so its page lies within
+   * {@code d + 2h}.
+   *
+   * @return candidates, or null when the cell is too dense to cache
+   */
+  private List<Restroom> loadCandidates(NearbyCache.Key key, NearbyFilter filter) {
+    long stamp = nearbyCache.writeStamp();
+    double[] center = nearbyCache.center(key);
+    double halfDiagonal = nearbyCache.halfDiagonal(key);
+    double reach = key.radiusMeters() + halfDiagonal;
+    List<Restroom> nearest =
+        search(center[0], center[1], reach, key.limit(), filter, null).getRestrooms();
+    List<Restroom> candidates = nearest;
+    if (nearest.size() == key.limit()) {
+      double kth = distanceTo(nearest.get(nearest.size() - 1), center[0], center[1]);
+      reach = Math.min(reach, kth + 2 * halfDiagonal) + 0.01d;
+      candidates = search(center[0], center[1], reach, MAX_CACHED_CANDIDATES + 1, filter, null)
+          .getRestrooms();
+      if (candidates.size() > MAX_CACHED_CANDIDATES) {
+        return null;
+      }
+    }
+    nearbyCache.put(key, reach, candidates, stamp);
+    return candidates;
+  }
+
+  /**
+   * First page for a query point from cached candidates, ordered by (distance, id).
+   */
+  private static NearbyPage rankCandidates(NearbyQuery query, List<Restroom> candidates) {
+    double lat = query.getLatitude();
+    double lng = query.getLongitude();
+    List<NearbyHit> hits = new ArrayList<>();
+    Map<Long, Restroom> rows = new HashMap<>();
+    for (Restroom restroom : candidates) {
+      double distance = distanceTo(restroom, lat, lng);
+      if (distance <= query.getRadiusMeters()) {
+        hits.add(new NearbyHit(new IndexedRestroom(restroom.getId(), restroom.getLatitude(),
+            restroom.getLongitude()), distance));
+        rows.put(restroom.getId(), restroom);
+      }
+    }
+    hits.sort(Comparator.comparingDouble(NearbyHit::getDistanceMeters)
+        .thenComparingLong(hit -> hit.getRestroom().getId()));
+    return toPage(query.getLimit(), hits.subList(0, Math.min(hits.size(), query.getLimit())),
+        rows);
+  }
+
+  /**
+   * Run many nearby queries together, returning pages in input order.
+   *
+   * <p>With the spatial index loaded the searches run in parallel on the common pool, since
+   * they are pure CPU work, and the rows for every hit of every query are then read in one
+   * chunked pass. The SQL modes run the queries one after another. Each query's page is
+   * bounded by {@link NearbyQuery#MAX_LIMIT}; callers bound the number of queries.
+   *
+   * @param queries nearby parameters
+   * @return one page per query, in the same order
+   */
+  public List<NearbyPage> getNearbyBatch(List<NearbyQuery> queries) {
+    if (nearbyMode != NearbyQueryMode.INDEX || !spatialIndex.isReady()) {
+      return queries.stream().map(this::getNearby).toList();
+    }
+    ZonedDateTime now = ZonedDateTime.now(timeZone);
+    List<List<NearbyHit>> hits = queries.parallelStream()
+        .map(query -> query.getSort() == NearbySort.BEST
+            ? rankBest(spatialIndex, query, filterFor(query, now), now)
+            : searchIndex(query, filterFor(query, now)))
+        .toList();
+    Map<Long, Restroom> rows = loadByIds(hits.stream()
+        .flatMap(queryHits -> hitIds(queryHits).stream())
+        .toList());
+    List<NearbyPage> pages = new ArrayList<>(queries.size());
+    for (int i = 0; i < queries.size(); i++) {
+      NearbyQuery query = queries.get(i);
+      pages.add(query.getSort() == NearbySort.BEST
+          ? toPage(0, hits.get(i), rows)
+          : toPage(query.getLimit(), hits.get(i), rows));
+    }
+    return pages;
+  }
+
+  private NearbyFilter filterFor(NearbyQuery query, ZonedDateTime now) {
+    return NearbyFilter.of(query.isOpenNow(), now, toLocal(query.getOpenAt()),
+        query.getOpenFor(), query.getRequiredAmenities(), query.getStatus());
+  }
+
+  /**
+   * A requested time on the restrooms' clock, which is what their schedules are written in.
+   */
+  private ZonedDateTime toLocal(ZonedDateTime time) {
+    return time != null ? time.withZoneSameInstant(timeZone) : null;
+  }
+
+  /**
+   * Best-first ranking; the open term of the score is taken at {@code openAt} when the query
+   * asks about another time, otherwise now.
+   */
+  private List<NearbyHit> rankBest(SpatialIndex index, NearbyQuery query, NearbyFilter filter,
+                                   ZonedDateTime now) {
+    ZonedDateTime at = query.getOpenAt() != null ? toLocal(query.getOpenAt()) : now;
+    return index.best(query.getLatitude(), query.getLongitude(), query.getRadiusMeters(),
+        query.getLimit(), filter, rankingModel, WeeklySchedule.slotOf(at));
+  }
+
+  private List<NearbyHit> searchIndex(NearbyQuery query, NearbyFilter filter) {
+    return spatialIndex.nearest(query.getLatitude(), query.getLongitude(),
+        query.getRadiusMeters(), query.getLimit(), filter, query.getAfter());
+  }
+
+  private static List<Long> hitIds(List<NearbyHit> hits) {
+    return hits.stream().map(hit -> hit.getRestroom().getId()).toList();
+  }
+
+  /**
+   * Assemble a page from index hits and the loaded rows, with a cursor when the page is full.
+   */
+  private static NearbyPage toPage(int limit, List<NearbyHit> hits, Map<Long, Restroom> rows) {
+    List<Restroom> restrooms = hits.stream()
+        .map(hit -> rows.get(hit.getRestroom().getId()))
+        .filter(r -> r != null)
+        .toList();
+    String next = null;
+    if (!hits.isEmpty() && hits.size() == limit) {
+      NearbyHit last = hits.get(hits.size() - 1);
+      next = new NearbyCursor(last.getDistanceMeters(), last.getRestroom().getId()).encode();
+    }
+    return new NearbyPage(restrooms, next);
+  }
+
+  /**
+   * Nearby query that evaluates the haversine expression for every row.
+   */
+  private NearbyPage getNearbyHaversine(double lat, double lng, double radiusMeters,
+                                        int pageSize, NearbyFilter filter, NearbyCursor after) {
     String sql = """
-      SELECT r.*,
-          (6371000 * 2 * asin(sqrt(
-              sin(radians((latitude - ?) / 2)) * sin(radians((latitude - ?) / 2)) +
-              cos(radians(?)) * cos(radians(latitude)) *
-              sin(radians((longitude - ?) / 2)) * sin(radians((longitude - ?) / 2))
-          ))) as distance
-      FROM restroom r
-      WHERE (6371000 * 2 * asin(sqrt(
-              sin(radians((latitude - ?) / 2)) * sin(radians((latitude - ?) / 2)) +
-              cos(radians(?)) * cos(radians(latitude)) *
-              sin(radians((longitude - ?) / 2)) * sin(radians((longitude - ?) / 2))
-          ))) <= ?
-      ORDER BY distance ASC
-      LIMIT ?
+      SELECT * FROM (
+        SELECT r.*,
+            (6371000 * 2 * asin(sqrt(
+                sin(radians((latitude - ?) / 2)) * sin(radians((latitude - ?) / 2)) +
+                cos(radians(?)) * cos(radians(latitude)) *
+                sin(radians((longitude - ?) / 2)) * sin(radians((longitude - ?) / 2))
+            ))) as distance
+        FROM restroom r
+      ) candidates
+      WHERE distance <= ?
+        AND distance >= ?
+      ORDER BY distance ASC, id ASC
         """;
 
-    return jdbcTemplate.query(sql, this::mapRestroom, 
-      lat, lat, lat, lng, lng,           // First distance calculation (SELECT)
-      lat, lat, lat, lng, lng,           // Second distance calculation (WHERE)
+    return queryNearby(sql, lat, lng, pageSize, filter, after,
+      lat, lat, lat, lng, lng,           // Distance calculation
       radiusMeters,                      // Radius filter
-      limit != null ? limit : 10);       // Limit
+      resumeFrom(after));                // Keyset lower bound
+  }
+
+  /**
+   * Nearby query that narrows rows with an indexable latitude/longitude box and ranks the
+   * candidates by squared chord length on the precomputed unit-vector columns. The chord is
+   * monotonic in great-circle distance, so the result matches the haversine query.
+   */
+  private NearbyPage getNearbyBoundingBox(double lat, double lng, double radiusMeters,
+                                          int pageSize, NearbyFilter filter,
+                                          NearbyCursor after) {
+    double[] bounds = circleBounds(lat, lng, radiusMeters);
+    double[] unit = GeoMath.unitVector(lat, lng);
+    String sql = """
+        SELECT * FROM (
+          SELECT r.*,
+              (unit_x - ?) * (unit_x - ?)
+              + (unit_y - ?) * (unit_y - ?)
+              + (unit_z - ?) * (unit_z - ?) AS chord
+          FROM restroom r
+          WHERE latitude BETWEEN ? AND ?
+            AND longitude BETWEEN ? AND ?
+        ) candidates
+        WHERE chord <= ?
+          AND chord >= ?
+        ORDER BY chord ASC, id ASC
+        """;
+
+    return queryNearby(sql, lat, lng, pageSize, filter, after,
+        unit[0], unit[0], unit[1], unit[1], unit[2], unit[2],
+        bounds[0], bounds[1],
+        bounds[2], bounds[3],
+        GeoMath.chordSquared(radiusMeters),
+        GeoMath.chordSquared(resumeFrom(after)));
+  }
+
+  /**
+   * Latitude/longitude box around a circle.
+   *
+   * @return {minLat, maxLat, minLng, maxLng}
+   */
+  private static double[] circleBounds(double lat, double lng, double radiusMeters) {
+    double latDelta = GeoMath.latitudeDelta(radiusMeters);
+    double minLat = Math.max(-90d, lat - latDelta);
+    double maxLat = Math.min(90d, lat + latDelta);
+    double lngDelta = GeoMath.longitudeDelta(radiusMeters,
+        Math.max(Math.abs(minLat), Math.abs(maxLat)));
+    double minLng = lng - lngDelta;
+    double maxLng = lng + lngDelta;
+    if (minLat <= -90d || maxLat >= 90d || minLng < -180d || maxLng > 180d) {
+      // The box touches a pole or wraps the antimeridian: only the latitude bound is safe.
+      minLng = -180d;
+      maxLng = 180d;
+    }
+    return new double[] {minLat, maxLat, minLng, maxLng};
+  }
+
+  /**
+   * Distance the SQL queries resume from. It sits slightly before the cursor so rounding
+   * differences between the database and Java cannot drop rows; the exact (distance, id)
+   * comparison happens while reading the rows.
+   */
+  private static double resumeFrom(NearbyCursor after) {
+    return after == null ? 0d : Math.max(0d, after.getDistanceMeters() - ROUNDING_METERS);
+  }
+
+  /**
+   * Restrooms whose name or address matches free text, tolerating typos.
+   *
+   * <p>Matches come from the {@link TextIndex}. With a location, closer restrooms get a bonus
+   * of up to {@value #TEXT_GEO_WEIGHT} that halves about every 1.4 km, enough to order equally
+   * good matches by distance without burying a clearly better match further away.
+   *
+   * @param query free text
+   * @param lat latitude to bias toward, may be null
+   * @param lng longitude to bias toward, may be null
+   * @param limit maximum number of results
+   * @return matching restrooms, best first; empty until startup has loaded the index
+   */
+  public List<Restroom> searchText(String query, Double lat, Double lng, int limit) {
+    if (!textIndex.isReady()) {
+      return List.of();
+    }
+    LongToDoubleFunction proximity = null;
+    if (lat != null && lng != null) {
+      proximity = id -> spatialIndex.get(id)
+          .map(entry -> TEXT_GEO_WEIGHT * Math.exp(-GeoMath.haversineMeters(lat, lng,
+              entry.getLatitude(), entry.getLongitude()) / TEXT_GEO_DECAY_METERS))
+          .orElse(0d);
+    }
+    return getByIds(textIndex.search(query, limit, proximity).stream()
+        .map(TextIndex.Match::id)
+        .toList());
+  }
+
+  /**
+   * Autocomplete restroom names for a typed prefix.
+   *
+   * @param prefix typed text
+   * @param limit maximum number of suggestions
+   * @return suggestions ranked by visit count then average rating; empty until startup has
+   *     loaded the index
+   */
+  public List<SuggestIndex.Suggestion> suggest(String prefix, int limit) {
+    if (!textIndex.isReady()) {
+      return List.of();
+    }
+    return suggestIndex.suggest(prefix, limit);
+  }
+
+  /**
+   * Restrooms within a buffer distance of a route, ordered along the route.
+   *
+   * @param route encoded polyline
+   * @param bufferMeters maximum distance from the route
+   * @param openNow when true, only restrooms open now match
+   * @param openAt time every match must be open at, may be null
+   * @param openFor how long from {@code openAt} (or now) matches must stay open, may be null
+   * @param amenitiesFilter amenity codes every match must have, may be null
+   * @param status required operational status, may be null
+   * @param limit maximum number of results
+   * @return matching restrooms in route order
+   * @throws IllegalArgumentException if the route or a filter value is invalid
+   */
+  public List<Restroom> searchAlongRoute(String route, double bufferMeters, Boolean openNow,
+                                         ZonedDateTime openAt, Duration openFor,
+                                         Set<String> amenitiesFilter, String status,
+                                         int limit) {
+    Corridor corridor = Corridor.of(Polyline.decode(route), bufferMeters);
+    NearbyFilter filter = NearbyFilter.of(openNow, ZonedDateTime.now(timeZone), toLocal(openAt),
+        openFor, Amenity.parseFilter(amenitiesFilter), OperationalStatus.parse(status));
+    List<NearbyHit> hits = indexFor(corridor.bounds()).alongCorridor(corridor, limit, filter);
+    return getByIds(hitIds(hits));
+  }
+
+  /**
+   * Restrooms inside a polygon, closest to its center first.
+   *
+   * @param polygon encoded polyline of the polygon ring
+   * @param openNow when true, only restrooms open now match
+   * @param openAt time every match must be open at, may be null
+   * @param openFor how long from {@code openAt} (or now) matches must stay open, may be null
+   * @param amenitiesFilter amenity codes every match must have, may be null
+   * @param status required operational status, may be null
+   * @param limit maximum number of results
+   * @return matching restrooms
+   * @throws IllegalArgumentException if the polygon or a filter value is invalid
+   */
+  public List<Restroom> searchWithinPolygon(String polygon, Boolean openNow,
+                                            ZonedDateTime openAt, Duration openFor,
+                                            Set<String> amenitiesFilter, String status,
+                                            int limit) {
+    GeoPolygon area = GeoPolygon.of(Polyline.decode(polygon));
+    NearbyFilter filter = NearbyFilter.of(openNow, ZonedDateTime.now(timeZone), toLocal(openAt),
+        openFor, Amenity.parseFilter(amenitiesFilter), OperationalStatus.parse(status));
+    List<NearbyHit> hits = indexFor(area.bounds()).withinPolygon(area, limit, filter);
+    return getByIds(hitIds(hits));
+  }
+
+  /**
+   * The shared spatial index, or until it is loaded a throwaway index over the rows inside
+   * the given box, read through the latitude/longitude index.
+   *
+   * @param bounds {minLat, maxLat, minLng, maxLng}
+   */
+  private SpatialIndex indexFor(double[] bounds) {
+    if (spatialIndex.isReady()) {
+      return spatialIndex;
+    }
+    SpatialIndex partial = new SpatialIndex();
+    partial.rebuild(loadIndexEntries(bounds));
+    return partial;
+  }
+
+  /**
+   * Index entries for the rows inside a latitude/longitude box.
+   *
+   * @param bounds {minLat, maxLat, minLng, maxLng}
+   */
+  private List<IndexedRestroom> loadIndexEntries(double[] bounds) {
+    return jdbcTemplate.query("SELECT " + INDEX_COLUMNS + """
+         FROM restroom
+        WHERE latitude BETWEEN ? AND ?
+          AND longitude BETWEEN ? AND ?
+        """, RestroomDbService::mapIndexEntry, bounds[0], bounds[1], bounds[2], bounds[3]);
+  }
+
+  /**
+   * Map clusters whose centroid lies inside a viewport.
+   *
+   * <p>Served from the precomputed {@link ClusterIndex}; until it is loaded the clusters are
+   * computed from the rows inside the viewport.
+   *
+   * @param minLng west edge
+   * @param minLat south edge
+   * @param maxLng east edge, smaller than {@code minLng} across the antimeridian
+   * @param maxLat north edge
+   * @param zoom map zoom level
+   * @param maxClusters largest result to return
+   * @return clusters
+   * @throws IllegalArgumentException if more than {@code maxClusters} clusters match
+   */
+  public List<MapCluster> getClusters(double minLng, double minLat, double maxLng,
+                                      double maxLat, int zoom, int maxClusters) {
+    ClusterIndex source = clusterIndex;
+    if (!source.isReady()) {
+      source = new ClusterIndex();
+      source.onRebuild(loadIndexEntries(minLng > maxLng
+          ? new double[] {minLat, maxLat, -180d, 180d}
+          : new double[] {minLat, maxLat, minLng, maxLng}));
+    }
+    return source.clusters(minLng, minLat, maxLng, maxLat, zoom, maxClusters);
+  }
+
+  /**
+   * Encoded map tile with the id, position, status and amenity mask of each restroom inside.
+   *
+   * <p>Served from the {@link TileCache}; until the spatial index is loaded the tile is built
+   * from the rows inside it and not cached.
+   *
+   * @param z zoom
+   * @param x tile column
+   * @param y tile row
+   * @return encoded tile and its entity tag
+   */
+  public TileCache.Tile getTile(int z, int x, int y) {
+    if (spatialIndex.isReady()) {
+      return tileCache.get(z, x, y);
+    }
+    return TileCache.build(z, x, y, loadIndexEntries(TileCache.bounds(z, x, y)));
+  }
+
+  /**
+   * Run a distance-ordered nearby query. Rows are streamed in the database's distance order,
+   * positioned after the cursor and filtered until the page is full, then ranked by
+   * (great-circle distance, id) as computed here, which is what cursors hold. The database's
+   * distance can differ from it by rounding, so two rows at the same distance may arrive in
+   * either order; reading continues past a full page while rows are still within
+   * {@value #ROUNDING_METERS} m of its last distance, and every strategy pages identically.
+   *
+   * <p>Without a filter or cursor the database limits the rows to the page plus
+   * {@value #TIE_ROWS}; if that is not enough to settle the last place the query runs again
+   * unlimited.
+   */
+  private NearbyPage queryNearby(String orderedSql, double lat, double lng, int pageSize,
+                                 NearbyFilter filter, NearbyCursor after, Object... args) {
+    List<Restroom> page = null;
+    if (filter.isEmpty() && after == null) {
+      int rowLimit = pageSize + TIE_ROWS;
+      Object[] limited = Arrays.copyOf(args, args.length + 1);
+      limited[args.length] = rowLimit;
+      ResultSetExtractor<List<Restroom>> limitedMatches =
+          rs -> firstMatches(rs, lat, lng, pageSize, filter, after, rowLimit);
+      page = jdbcTemplate.query(orderedSql + "LIMIT ?", limitedMatches, limited);
+    }
+    if (page == null) {
+      ResultSetExtractor<List<Restroom>> allMatches =
+          rs -> firstMatches(rs, lat, lng, pageSize, filter, after, -1);
+      page = jdbcTemplate.query(orderedSql, allMatches, args);
+    }
+    String next = null;
+    if (!page.isEmpty() && page.size() == pageSize) {
+      Restroom last = page.get(page.size() - 1);
+      next = new NearbyCursor(distanceTo(last, lat, lng), last.getId()).encode();
+    }
+    return new NearbyPage(page, next);
+  }
+
+  /**
+   * The first {@code pageSize} matching rows after the cursor in (distance, id) order.
+   *
+   * @param rowLimit rows the query was limited to, or -1 when unlimited
+   * @return the page, or null when the limited rows ran out before the page was settled
+   */
+  private List<Restroom> firstMatches(ResultSet rs, double lat, double lng, int pageSize,
+                                      NearbyFilter filter, NearbyCursor after, int rowLimit)
+      throws SQLException {
+    List<Restroom> matches = new ArrayList<>(pageSize);
+    double lastDistance = 0d;
+    double pageEnd = Double.POSITIVE_INFINITY;
+    int rowNum = 0;
+    while (rs.next()) {
+      Restroom restroom = mapRestroom(rs, rowNum++);
+      double distance = distanceTo(restroom, lat, lng);
+      if (distance > pageEnd + ROUNDING_METERS) {
+        break;
+      }
+      if ((after == null || after.precedes(distance, restroom.getId()))
+          && filter.test(IndexedRestroom.of(restroom))) {
+        matches.add(restroom);
+        lastDistance = Math.max(lastDistance, distance);
+        if (matches.size() == pageSize) {
+          pageEnd = lastDistance;
+        }
+      }
+      if (rowNum == rowLimit && matches.size() >= pageSize) {
+        return null;
+      }
+    }
+    matches.sort(Comparator.comparingDouble((Restroom r) -> distanceTo(r, lat, lng))
+        .thenComparingLong(Restroom::getId));
+    return matches.size() > pageSize ? new ArrayList<>(matches.subList(0, pageSize)) : matches;
+  }
+
+  private static double distanceTo(Restroom restroom, double lat, double lng) {
+    return GeoMath.haversineMeters(lat, lng, restroom.getLatitude(), restroom.getLongitude());
   }
 
   /**
@@ -76,13 +833,13 @@ public class RestroomDbService {
   public Restroom create(Restroom restroom) {
     String sql = """
         INSERT INTO restroom (name, address, latitude, longitude, hours_json, amenities, 
-        avg_rating, visit_count)
-        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        avg_rating, visit_count, unit_x, unit_y, unit_z, amenity_mask, status)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
         """;
+    double[] unit = GeoMath.unitVector(restroom.getLatitude(), restroom.getLongitude());
+    normalizeAmenities(restroom);
 
-    KeyHolder keyHolder = new GeneratedKeyHolder();
-    jdbcTemplate.update(connection -> {
-      PreparedStatement ps = connection.prepareStatement(sql, new String[] { "id" });
+    Long id = JdbcReturning.write(jdbcTemplate, sql, new String[] {"id"}, ps -> {
       ps.setString(1, restroom.getName());
       ps.setString(2, restroom.getAddress());
       ps.setDouble(3, restroom.getLatitude());
@@ -91,33 +848,278 @@ public class RestroomDbService {
       List<String> amenities = restroom.getAmenities() == null
           ? List.of()
           : restroom.getAmenities();
-      ps.setArray(6, connection.createArrayOf("text", amenities.toArray(new String[0])));
+      ps.setArray(6, ps.getConnection().createArrayOf("text", amenities.toArray(new String[0])));
       ps.setDouble(7, restroom.getAvgRating());
       ps.setLong(8, restroom.getVisitCount());
-      return ps;
-    }, keyHolder);
+      ps.setDouble(9, unit[0]);
+      ps.setDouble(10, unit[1]);
+      ps.setDouble(11, unit[2]);
+      ps.setLong(12, restroom.getAmenityMask());
+      ps.setString(13, restroom.getStatus());
+    }, (rs, rowNum) -> rs.getLong(1));
 
-    Number generatedId = keyHolder.getKey();
-    if (generatedId != null) {
-      restroom.setId(generatedId.longValue());
+    if (id != null) {
+      restroom.setId(id);
+      index(restroom);
     }
     return restroom;
   }
 
   /**
-   * Update visit count.
+   * Write an approved edit proposal to its restroom row. The row is locked first, so edits of
+   * the same restroom approved concurrently apply one after the other, and proposed hours are
+   * normalized like imported rows. Call it inside the transaction that approves the proposal,
+   * then {@link #applyEdit(Restroom)} once it commits.
+   *
+   * @param proposal approved proposal
+   * @return the edited restroom, or empty if it no longer exists
+   * @throws IllegalArgumentException if the proposed hours are not a JSON object of day strings
+   */
+  public Optional<Restroom> writeEdit(EditProposal proposal) {
+    List<Restroom> locked = jdbcTemplate.query("SELECT * FROM restroom WHERE id = ? FOR UPDATE",
+        this::mapRestroom, proposal.getRestroomId());
+    if (locked.isEmpty()) {
+      return Optional.empty();
+    }
+    Restroom restroom = locked.get(0);
+    if (proposal.getProposedName() != null && !proposal.getProposedName().isBlank()) {
+      restroom.setName(proposal.getProposedName());
+    }
+    if (proposal.getProposedAddress() != null) {
+      restroom.setAddress(proposal.getProposedAddress());
+    }
+    if (proposal.getProposedHours() != null) {
+      restroom.setHoursJson(WeeklySchedule.normalize(proposal.getProposedHours()));
+    }
+    if (proposal.getProposedAmenities() != null) {
+      restroom.setAmenities(Arrays.stream(proposal.getProposedAmenities().split("[;,]"))
+          .map(String::trim)
+          .filter(s -> !s.isEmpty())
+          .toList());
+    }
+    normalizeAmenities(restroom);
+    String sql = """
+        UPDATE restroom SET name = ?, address = ?, hours_json = ?, amenities = ?,
+        amenity_mask = ?, status = ?
+        WHERE id = ?
+        """;
+    jdbcTemplate.update(connection -> {
+      PreparedStatement ps = connection.prepareStatement(sql);
+      ps.setString(1, restroom.getName());
+      ps.setString(2, restroom.getAddress());
+      ps.setString(3, restroom.getHoursJson());
+      ps.setArray(4, connection.createArrayOf("text",
+          restroom.getAmenities().toArray(new String[0])));
+      ps.setLong(5, restroom.getAmenityMask());
+      ps.setString(6, restroom.getStatus());
+      ps.setLong(7, restroom.getId());
+      return ps;
+    });
+    return Optional.of(restroom);
+  }
+
+  /**
+   * Bring the in-memory indexes in line with an edit written by
+   * {@link #writeEdit(EditProposal)}, once its transaction commits.
+   *
+   * @param restroom the edited restroom
+   */
+  public void applyEdit(Restroom restroom) {
+    index(restroom);
+  }
+
+  /**
+   * Refresh the in-memory entry of a written restroom and notify the derived structures.
    */
-  public void incrementVisitCount(Long id) {
-    String sql = "UPDATE restroom SET visit_count = visit_count + 1 WHERE id = ?";
-    jdbcTemplate.update(sql, id);
+  private void index(Restroom restroom) {
+    IndexedRestroom current = IndexedRestroom.of(restroom);
+    IndexedRestroom previous = spatialIndex.get(current.getId()).orElse(null);
+    spatialIndex.upsert(current);
+    indexListeners.forEach(listener -> listener.onUpsert(previous, current));
+    textIndex.upsert(new TextIndex.Document(restroom.getId(), restroom.getName(),
+        restroom.getAddress()));
+    suggestIndex.upsert(new SuggestIndex.Entry(restroom.getId(), restroom.getName(),
+        restroom.getVisitCount(), restroom.getAvgRating()));
   }
 
   /**
-   * Update average rating.
+   * Derive the amenity mask and operational status from the free-text amenities.
    */
-  public void updateAverageRating(Long id, double newRating) {
-    String sql = "UPDATE restroom SET avg_rating = ? WHERE id = ?";
-    jdbcTemplate.update(sql, newRating, id);
+  private static void normalizeAmenities(Restroom restroom) {
+    restroom.setAmenityMask(Amenity.maskOf(restroom.getAmenities()));
+    restroom.setStatus(OperationalStatus.fromAmenities(restroom.getAmenities()).name());
+  }
+
+  /**
+   * Add visits straight to the restroom row and the index, in one round trip. Used until the
+   * write-behind counters of {@link VisitDbService} are running.
+   *
+   * @param id restroom id
+   * @param delta visits to add
+   * @return stored visit count after the increment, or empty if the restroom does not exist
+   */
+  public Optional<Long> incrementVisitCount(Long id, long delta) {
+    String sql = "UPDATE restroom SET visit_count = visit_count + ? WHERE id = ?";
+    Long count = JdbcReturning.write(jdbcTemplate, sql, new String[] {"visit_count"},
+        (rs, rowNum) -> rs.getLong(1), delta, id);
+    if (count != null) {
+      applyVisits(Map.of(id, delta));
+    }
+    return Optional.ofNullable(count);
+  }
+
+  /**
+   * Whether the in-memory index has been loaded.
+   *
+   * @return true once the index can answer queries
+   */
+  public boolean isIndexReady() {
+    return spatialIndex.isReady();
+  }
+
+  /**
+   * Visit count of a restroom as held by the in-memory index, which is the stored count once
+   * every written visit has been applied.
+   *
+   * @param id restroom id
+   * @return indexed count, or empty if the index is not loaded or does not hold the restroom
+   */
+  public Optional<Long> getIndexedVisitCount(long id) {
+    if (!spatialIndex.isReady()) {
+      return Optional.empty();
+    }
+    return spatialIndex.get(id).map(IndexedRestroom::getVisitCount);
+  }
+
+  /**
+   * Bring the in-memory indexes in line with visits written to the database.
+   *
+   * @param deltas restroom id to visits added
+   */
+  public void applyVisits(Map<Long, Long> deltas) {
+    deltas.forEach((id, delta) ->
+        spatialIndex.update(id, entry -> entry.withVisitCount(entry.getVisitCount() + delta))
+            .ifPresent(entry -> suggestIndex.updateStats(id, entry.getVisitCount(),
+                entry.getAvgRating())));
+  }
+
+  /**
+   * Average rating of a restroom and the number of reviews behind it.
+   *
+   * @param avgRating mean review rating
+   * @param ratingCount number of reviews
+   */
+  public record RatingTotals(double avgRating, long ratingCount) {
+  }
+
+  /**
+   * Add one review's scores to the running totals on the restroom row. The totals and the
+   * average derived from them change in a single UPDATE of the row, so concurrent reviews
+   * never lose an increment and no review rows are read. Call it inside the transaction that
+   * inserts the review, then {@link #applyRating(Long, RatingTotals)} once it commits.
+   *
+   * @param id restroom id
+   * @param rating review rating
+   * @param cleanliness review cleanliness score
+   * @return totals after this review, or null if the restroom does not exist
+   */
+  public RatingTotals addRating(Long id, int rating, int cleanliness) {
+    String sql = """
+        UPDATE restroom
+        SET avg_rating = CAST(rating_sum + ? AS DOUBLE PRECISION) / (rating_count + 1),
+            rating_sum = rating_sum + ?, cleanliness_sum = cleanliness_sum + ?,
+            rating_count = rating_count + 1,
+        """ + HISTOGRAM_INCREMENT + """
+        WHERE id = ?
+        """;
+    return JdbcReturning.write(jdbcTemplate, sql, new String[] {"avg_rating", "rating_count"},
+        (rs, rowNum) -> new RatingTotals(rs.getDouble(1), rs.getLong(2)),
+        rating, rating, cleanliness,
+        rating == 1 ? 1 : 0, rating == 2 ? 1 : 0, rating == 3 ? 1 : 0, rating == 4 ? 1 : 0,
+        rating == 5 ? 1 : 0, id);
+  }
+
+  /**
+   * Add the scores of many reviews to the running totals, with one delta UPDATE per restroom
+   * however many of its reviews are in the list, sent as one JDBC batch in id order so
+   * concurrent callers lock rows in the same order. Call it inside the transaction that inserts
+   * the reviews, then {@link #applyRating(Long, RatingTotals)} each result once it commits.
+   *
+   * @param reviews reviews being inserted
+   * @return totals after these reviews by restroom id; restrooms that do not exist are absent
+   */
+  public Map<Long, RatingTotals> addRatings(List<Review> reviews) {
+    // restroom id -> {review count, rating sum, cleanliness sum, 1-star count .. 5-star count}
+    Map<Long, long[]> deltas = new TreeMap<>();
+    for (Review review : reviews) {
+      long[] delta = deltas.computeIfAbsent(review.getRestroomId(), id -> new long[8]);
+      delta[0]++;
+      delta[1] += review.getRating();
+      delta[2] += review.getCleanliness();
+      delta[2 + review.getRating()]++;
+    }
+    if (deltas.isEmpty()) {
+      return Map.of();
+    }
+    List<Object[]> args = new ArrayList<>(deltas.size());
+    deltas.forEach((id, delta) -> args.add(new Object[] {delta[1], delta[0], delta[1], delta[2],
+        delta[0], delta[3], delta[4], delta[5], delta[6], delta[7], id}));
+    jdbcTemplate.batchUpdate("""
+        UPDATE restroom
+        SET avg_rating = CAST(rating_sum + ? AS DOUBLE PRECISION) / (rating_count + ?),
+            rating_sum = rating_sum + ?, cleanliness_sum = cleanliness_sum + ?,
+            rating_count = rating_count + ?,
+        """ + HISTOGRAM_INCREMENT + """
+        WHERE id = ?
+        """, args);
+    // The rows stay locked by the caller's transaction, so these are the totals just written.
+    Map<Long, RatingTotals> totals = new HashMap<>(deltas.size() * 2);
+    List<Long> ids = new ArrayList<>(deltas.keySet());
+    for (int from = 0; from < ids.size(); from += ID_CHUNK) {
+      List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + ID_CHUNK));
+      String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+      jdbcTemplate.query(
+          "SELECT id, avg_rating, rating_count FROM restroom WHERE id IN (" + placeholders + ")",
+          (ResultSet rs) -> {
+            totals.put(rs.getLong(1), new RatingTotals(rs.getDouble(2), rs.getLong(3)));
+          }, chunk.toArray());
+    }
+    return totals;
+  }
+
+  /**
+   * Review statistics of a restroom, read from the counters its review writes keep on the
+   * restroom row, so the cost is one primary-key read however many reviews it has.
+   *
+   * @param id restroom id
+   * @return statistics, or empty if the restroom does not exist
+   */
+  public Optional<ReviewStats> getReviewStats(Long id) {
+    String sql = """
+        SELECT rating_count, rating_sum, cleanliness_sum,
+               rating_1, rating_2, rating_3, rating_4, rating_5
+        FROM restroom WHERE id = ?
+        """;
+    return jdbcTemplate.query(sql, (rs, rowNum) -> ReviewStats.of(id, rs.getLong(1),
+        rs.getLong(2), rs.getLong(3), new long[] {rs.getLong(4), rs.getLong(5), rs.getLong(6),
+            rs.getLong(7), rs.getLong(8)}), id).stream().findFirst();
+  }
+
+  /**
+   * Bring the in-memory indexes in line with committed rating totals.
+   *
+   * @param id restroom id
+   * @param totals totals returned by the write that changed them
+   */
+  public void applyRating(Long id, RatingTotals totals) {
+    if (totals == null) {
+      return;
+    }
+    spatialIndex.update(id, entry -> entry.withRating(totals.avgRating(), totals.ratingCount()))
+        .ifPresent(entry -> {
+          indexListeners.forEach(listener -> listener.onDetailsChanged(entry));
+          suggestIndex.updateStats(id, entry.getVisitCount(), totals.avgRating());
+        });
   }
 
   /**
@@ -131,27 +1133,62 @@ public class RestroomDbService {
     restroom.setId(rs.getLong("id"));
     restroom.setName(rs.getString("name"));
     restroom.setAddress(rs.getString("address"));
+    restroom.setOperator(rs.getString("operator"));
     restroom.setLatitude(rs.getDouble("latitude"));
     restroom.setLongitude(rs.getDouble("longitude"));
     restroom.setHoursJson(rs.getString("hours_json"));
-    Array amenitiesArray = rs.getArray("amenities");
-    if (amenitiesArray != null) {
-      Object arrayObject = amenitiesArray.getArray();
-      if (arrayObject instanceof String[] strings) {
-        restroom.setAmenities(Arrays.asList(strings));
-      } else if (arrayObject instanceof Object[] objects) {
-        restroom.setAmenities(Arrays.stream(objects)
-            .filter(obj -> obj != null)
-            .map(Object::toString)
-            .toList());
-      } else {
-        restroom.setAmenities(List.of());
-      }
+    restroom.setAmenities(readAmenities(rs));
+    String status = rs.getString("status");
+    if (status == null) {
+      normalizeAmenities(restroom);
     } else {
-      restroom.setAmenities(List.of());
+      restroom.setAmenityMask(rs.getLong("amenity_mask"));
+      restroom.setStatus(status);
     }
     restroom.setAvgRating(rs.getDouble("avg_rating"));
+    restroom.setRatingCount(rs.getLong("rating_count"));
     restroom.setVisitCount(rs.getLong("visit_count"));
     return restroom;
   }
+
+  /**
+   * Map an {@link #INDEX_COLUMNS} row to an index entry, deriving the amenity mask and status
+   * for rows that have not been normalized yet.
+   */
+  private static IndexedRestroom mapIndexEntry(ResultSet rs, int rowNum) throws SQLException {
+    if (rowNum < 0) {
+      throw new SQLException("Row index must not be negative");
+    }
+    String status = rs.getString("status");
+    long amenityMask = rs.getLong("amenity_mask");
+    if (status == null) {
+      List<String> amenities = readAmenities(rs);
+      amenityMask = Amenity.maskOf(amenities);
+      status = OperationalStatus.fromAmenities(amenities).name();
+    }
+    return new IndexedRestroom(rs.getLong("id"), rs.getDouble("latitude"),
+        rs.getDouble("longitude"), WeeklySchedule.parse(rs.getString("hours_json")),
+        amenityMask, OperationalStatus.parse(status), rs.getDouble("avg_rating"),
+        rs.getLong("rating_count"), rs.getLong("visit_count"));
+  }
+
+  /**
+   * Read the amenities array column as a list of strings.
+   */
+  private static List<String> readAmenities(ResultSet rs) throws SQLException {
+    Array amenitiesArray = rs.getArray("amenities");
+    if (amenitiesArray == null) {
+      return List.of();
+    }
+    Object arrayObject = amenitiesArray.getArray();
+    if (arrayObject instanceof String[] strings) {
+      return Arrays.asList(strings);
+    } else if (arrayObject instanceof Object[] objects) {
+      return Arrays.stream(objects)
+          .filter(obj -> obj != null)
+          .map(Object::toString)
+          .toList();
+    }
+    return List.of();
+  }
 }
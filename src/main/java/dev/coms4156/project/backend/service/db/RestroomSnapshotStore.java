@@ -0,0 +1,354 @@
+package dev.coms4156.project.backend.service.db;
+
+import dev.coms4156.project.backend.model.WeeklySchedule;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+/**
+ * Versioned binary snapshot of the startup restroom dataset together with its derived fields
+ * (compiled weekly schedule bitmap, amenity mask, status), so a cold start can restore rows and
+ * index entries from a memory-mapped file instead of parsing the source CSV and re-reading every
+ * row through SQL.
+ *
+ * <p>A snapshot is only used when its format, schema version (checksum of the
+ * {@code spring.sql.init.schema-locations} scripts) and data version (checksum of the source
+ * CSV) all match; anything else, including a truncated file, is ignored and rebuilt. Files are
+ * written to a temporary name and moved into place, so readers never see a partial snapshot.
+ * Bump {@code FORMAT_VERSION} whenever the record layout or the way hours and amenities are
+ * compiled changes.
+ */
+@Component
+public class RestroomSnapshotStore {
+  private static final Logger logger = LoggerFactory.getLogger(RestroomSnapshotStore.class);
+  private static final int MAGIC = 0x52534e50;
+  private static final int FORMAT_VERSION = 1;
+  // magic, format, schema version, data version, row count, payload length
+  private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 4 + 8;
+  private static final int COUNT_OFFSET = 24;
+  private static final int SCHEDULE_WORDS = WeeklySchedule.UNKNOWN.toWords().length;
+
+  private final Path path;
+  private final ResourceLoader resourceLoader;
+  private final String schemaLocations;
+  private volatile Long schemaVersion;
+
+  /**
+   * A restored row with its compiled schedule.
+   *
+   * @param row normalized row as it was written to the database
+   * @param schedule compiled opening hours of {@code row.hoursJson()}
+   */
+  record Entry(RestroomCsvImporter.Row row, WeeklySchedule schedule) {
+  }
+
+  /**
+   * Constructor for DI.
+   *
+   * @param path snapshot file, blank to disable snapshots
+   * @param resourceLoader resolves the schema scripts
+   * @param schemaLocations comma-separated schema scripts whose checksum versions the snapshot
+   */
+  @Autowired
+  public RestroomSnapshotStore(@Value("${app.restroom.snapshot.path:}") String path,
+                               ResourceLoader resourceLoader,
+                               @Value("${spring.sql.init.schema-locations:}")
+                               String schemaLocations) {
+    this.path = path == null || path.isBlank() ? null : Path.of(path);
+    this.resourceLoader = resourceLoader;
+    this.schemaLocations = schemaLocations;
+  }
+
+  public boolean isEnabled() {
+    return path != null;
+  }
+
+  /**
+   * Data version of a source file: CRC-32 of its bytes combined with its length.
+   *
+   * @param resource source dataset
+   * @return version
+   * @throws IOException if the resource cannot be read
+   */
+  public static long fingerprint(Resource resource) throws IOException {
+    CRC32 crc = new CRC32();
+    long length = 0;
+    byte[] buffer = new byte[64 * 1024];
+    try (InputStream in = resource.getInputStream()) {
+      for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+        crc.update(buffer, 0, read);
+        length += read;
+      }
+    }
+    return (length << 32) ^ crc.getValue();
+  }
+
+  private long schemaVersion() {
+    Long version = schemaVersion;
+    if (version == null) {
+      long combined = 0;
+      if (schemaLocations != null) {
+        for (String location : schemaLocations.split(",")) {
+          if (location.isBlank()) {
+            continue;
+          }
+          try {
+            combined = combined * 31 + fingerprint(resourceLoader.getResource(location.trim()));
+          } catch (IOException ex) {
+            logger.debug("Schema script {} not readable for snapshot version", location, ex);
+          }
+        }
+      }
+      version = combined;
+      schemaVersion = version;
+    }
+    return version;
+  }
+
+  /**
+   * Memory-map the snapshot if it exists and matches the current versions.
+   *
+   * @param dataVersion expected data version
+   * @return reader over the snapshot, empty if disabled, missing or stale
+   */
+  Optional<Reader> open(long dataVersion) {
+    if (path == null || !Files.isRegularFile(path)) {
+      return Optional.empty();
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+        return Optional.empty();
+      }
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION
+          || buffer.getLong() != schemaVersion() || buffer.getLong() != dataVersion) {
+        return Optional.empty();
+      }
+      int count = buffer.getInt();
+      long payload = buffer.getLong();
+      if (count < 0 || HEADER_BYTES + payload != size) {
+        return Optional.empty();
+      }
+      return Optional.of(new Reader(buffer, count));
+    } catch (IOException ex) {
+      logger.warn("Unable to open restroom snapshot {}", path, ex);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Start writing a snapshot for a data version. Nothing replaces the current file until
+   * {@link Writer#commit()}.
+   *
+   * @param dataVersion version of the dataset being written
+   * @return writer, empty if snapshots are disabled or the file cannot be created
+   */
+  Optional<Writer> create(long dataVersion) {
+    if (path == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(new Writer(path, schemaVersion(), dataVersion));
+    } catch (IOException ex) {
+      logger.warn("Unable to create restroom snapshot {}", path, ex);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Sequential decoder over a mapped snapshot.
+   */
+  static final class Reader {
+    private final ByteBuffer buffer;
+    private final int count;
+
+    private Reader(ByteBuffer buffer, int count) {
+      this.buffer = buffer;
+      this.count = count;
+    }
+
+    int size() {
+      return count;
+    }
+
+    /**
+     * Decode every entry in write order.
+     *
+     * @param consumer receives each entry
+     * @throws IllegalStateException if the file is corrupt
+     */
+    void forEach(Consumer<Entry> consumer) {
+      ByteBuffer in = buffer.duplicate().position(HEADER_BYTES);
+      try {
+        for (int i = 0; i < count; i++) {
+          long id = in.getLong();
+          double latitude = in.getDouble();
+          double longitude = in.getDouble();
+          long amenityMask = in.getLong();
+          double avgRating = in.getDouble();
+          long visitCount = in.getLong();
+          int knownDays = in.getInt();
+          long[] words = new long[SCHEDULE_WORDS];
+          for (int w = 0; w < words.length; w++) {
+            words[w] = in.getLong();
+          }
+          String name = readString(in);
+          String address = readString(in);
+          String operator = readString(in);
+          String status = readString(in);
+          String hoursJson = readString(in);
+          int amenityCount = in.getInt();
+          List<String> amenities = new ArrayList<>(amenityCount);
+          for (int a = 0; a < amenityCount; a++) {
+            amenities.add(readString(in));
+          }
+          if (id < 1) {
+            throw new IllegalStateException("Restroom snapshot has an invalid id");
+          }
+          RestroomCsvImporter.Row row = new RestroomCsvImporter.Row(id, name,
+              address, operator, latitude, longitude, hoursJson, List.copyOf(amenities),
+              amenityMask, status, avgRating, visitCount);
+          consumer.accept(new Entry(row, WeeklySchedule.fromWords(words, knownDays)));
+        }
+      } catch (BufferUnderflowException | IllegalArgumentException ex) {
+        throw new IllegalStateException("Restroom snapshot is corrupt", ex);
+      }
+    }
+
+    private static String readString(ByteBuffer in) {
+      int length = in.getInt();
+      if (length < 0) {
+        return null;
+      }
+      byte[] bytes = new byte[length];
+      in.get(bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+  }
+
+  /**
+   * Streams entries to a temporary file that {@link #commit()} moves into place.
+   */
+  static final class Writer implements Closeable {
+    private final Path target;
+    private final Path temp;
+    private final DataOutputStream out;
+    private int count;
+    private boolean committed;
+
+    private Writer(Path target, long schemaVersion, long dataVersion) throws IOException {
+      this.target = target;
+      Path parent = target.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      this.temp = target.resolveSibling(target.getFileName() + ".tmp");
+      this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)));
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      out.writeLong(schemaVersion);
+      out.writeLong(dataVersion);
+      // Row count and payload length are patched in by commit().
+      out.writeInt(0);
+      out.writeLong(0);
+    }
+
+    /**
+     * Append a row as it was written to the database.
+     *
+     * @param row normalized row with its id
+     * @throws IOException if writing fails
+     */
+    void append(RestroomCsvImporter.Row row) throws IOException {
+      WeeklySchedule schedule = WeeklySchedule.parse(row.hoursJson());
+      out.writeLong(row.id());
+      out.writeDouble(row.latitude());
+      out.writeDouble(row.longitude());
+      out.writeLong(row.amenityMask());
+      out.writeDouble(row.avgRating());
+      out.writeLong(row.visitCount());
+      out.writeInt(schedule.knownDayMask());
+      for (long word : schedule.toWords()) {
+        out.writeLong(word);
+      }
+      writeString(row.name());
+      writeString(row.address());
+      writeString(row.operator());
+      writeString(row.status());
+      writeString(row.hoursJson());
+      out.writeInt(row.amenities().size());
+      for (String amenity : row.amenities()) {
+        writeString(amenity);
+      }
+      count++;
+    }
+
+    private void writeString(String value) throws IOException {
+      if (value == null) {
+        out.writeInt(-1);
+        return;
+      }
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+
+    /**
+     * Finish the header and atomically replace the previous snapshot.
+     *
+     * @throws IOException if the file cannot be completed or moved
+     */
+    void commit() throws IOException {
+      out.close();
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        ByteBuffer header = ByteBuffer.allocate(12);
+        header.putInt(count).putLong(channel.size() - HEADER_BYTES).flip();
+        channel.write(header, COUNT_OFFSET);
+        channel.force(true);
+      }
+      try {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException ex) {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+      committed = true;
+    }
+
+    /**
+     * Discard the temporary file unless the snapshot was committed.
+     */
+    @Override
+    public void close() throws IOException {
+      if (!committed) {
+        out.close();
+        Files.deleteIfExists(temp);
+      }
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package dev.coms4156.project.backend.service.db;
+
+import dev.coms4156.project.backend.model.Review;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Keyset position in a restroom's review listing: the sort key of the last review of a page.
+ * The next page holds reviews strictly after it, read as an index range scan from that key
+ * instead of skipping rows with OFFSET.
+ *
+ * <p>Clients see the position as an opaque URL-safe token that also records the sort it was
+ * issued for, so it cannot be replayed against the other order.
+ */
+public final class ReviewCursor {
+  private static final int TOKEN_BYTES = 1 + Integer.BYTES + Long.BYTES + Integer.BYTES
+      + Long.BYTES;
+
+  private final ReviewSort sort;
+  private final int helpfulVotes;
+  private final Instant createdAt;
+  private final long id;
+
+  /**
+   * Create a cursor positioned after the given sort key.
+   *
+   * @param sort order the cursor belongs to
+   * @param helpfulVotes helpful votes of the last returned review
+   * @param createdAt creation time of the last returned review
+   * @param id id of the last returned review
+   */
+  public ReviewCursor(ReviewSort sort, int helpfulVotes, Instant createdAt, long id) {
+    this.sort = sort;
+    this.helpfulVotes = helpfulVotes;
+    this.createdAt = createdAt;
+    this.id = id;
+  }
+
+  /**
+   * Cursor positioned after a review.
+   *
+   * @param sort order of the listing
+   * @param review last review of a page
+   * @return cursor
+   */
+  public static ReviewCursor after(ReviewSort sort, Review review) {
+    return new ReviewCursor(sort, review.getHelpfulVotes(), review.getCreatedAt(),
+        review.getId());
+  }
+
+  /**
+   * Decode a token produced by {@link #encode()}.
+   *
+   * @param token opaque cursor, may be null
+   * @param sort order of the listing being resumed
+   * @return cursor, or null when the token is blank
+   * @throws IllegalArgumentException if the token is malformed or was issued for another sort
+   */
+  public static ReviewCursor decode(String token, ReviewSort sort) {
+    if (token == null || token.isBlank()) {
+      return null;
+    }
+    byte[] bytes;
+    try {
+      bytes = Base64.getUrlDecoder().decode(token.trim());
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("Invalid cursor", ex);
+    }
+    if (bytes.length != TOKEN_BYTES) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    if (buffer.get() != sort.ordinal()) {
+      throw new IllegalArgumentException("Cursor was issued for a different sort");
+    }
+    int votes = buffer.getInt();
+    long seconds = buffer.getLong();
+    int nanos = buffer.getInt();
+    try {
+      return new ReviewCursor(sort, votes, Instant.ofEpochSecond(seconds, nanos),
+          buffer.getLong());
+    } catch (DateTimeException | ArithmeticException ex) {
+      throw new IllegalArgumentException("Invalid cursor", ex);
+    }
+  }
+
+  /**
+   * Opaque token for this position.
+   *
+   * @return URL-safe token
+   */
+  public String encode() {
+    ByteBuffer buffer = ByteBuffer.allocate(TOKEN_BYTES);
+    buffer.put((byte) sort.ordinal()).putInt(helpfulVotes)
+        .putLong(createdAt.getEpochSecond()).putInt(createdAt.getNano()).putLong(id);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+  }
+
+  public ReviewSort getSort() {
+    return sort;
+  }
+
+  public int getHelpfulVotes() {
+    return helpfulVotes;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public long getId() {
+    return id;
+  }
+}
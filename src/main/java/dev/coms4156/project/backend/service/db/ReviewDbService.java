@@ -1,99 +1,368 @@
 package dev.coms4156.project.backend.service.db;
 
 import dev.coms4156.project.backend.model.Review;
-import java.sql.PreparedStatement;
+import jakarta.annotation.PreDestroy;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.support.GeneratedKeyHolder;
-import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
 /**
  * Database service for Review entity.
+ *
+ * <p>Helpful votes are written behind: each vote only bumps an in-memory {@link DeltaCounter},
+ * and a scheduled flush writes one {@code helpful_votes + delta} UPDATE per voted review in a
+ * JDBC batch. Reads add the votes still pending or being written, so callers see every vote
+ * immediately.
+ *
+ * <p>Reads and a flush share a lock that the flush takes exclusively twice, briefly: to move
+ * the pending votes aside, and to commit them and update the review previews. A read therefore
+ * sees each vote either in the rows it reads or in memory, never in both or neither.
  */
 @Service
 public class ReviewDbService {
+  private static final Logger logger = LoggerFactory.getLogger(ReviewDbService.class);
+
   private final JdbcTemplate jdbcTemplate;
   private final RestroomDbService restroomDbService;
+  private final PlatformTransactionManager transactionManager;
+  private final TransactionTemplate transactionTemplate;
+  private final ReviewPreviewCache previewCache;
+  private final DeltaCounter pendingVotes = new DeltaCounter();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  // Votes drained by the running flush and not committed yet; guarded by lock.
+  private final Map<Long, Long> inFlight = new HashMap<>();
+  private final int voteFlushBatch;
+  private final int bulkChunkSize;
 
+  /**
+   * Constructor for DI.
+   *
+   * @param jdbcTemplate JDBC access
+   * @param restroomDbService keeps the restroom rating totals and indexes current
+   * @param transactionManager runs each review insert with its rating update
+   * @param previewCache most helpful reviews per restroom, kept current on every write
+   * @param voteFlushBatch most reviews whose helpful votes one flush writes
+   * @param bulkChunkSize reviews per transaction of a bulk create
+   */
   @Autowired
-  public ReviewDbService(JdbcTemplate jdbcTemplate, RestroomDbService restroomDbService) {
+  public ReviewDbService(JdbcTemplate jdbcTemplate, RestroomDbService restroomDbService,
+                         PlatformTransactionManager transactionManager,
+                         ReviewPreviewCache previewCache,
+                         @Value("${app.restroom.helpful-votes.flush-batch:500}")
+                         int voteFlushBatch,
+                         @Value("${app.restroom.review-bulk.chunk-size:500}")
+                         int bulkChunkSize) {
     this.jdbcTemplate = jdbcTemplate;
     this.restroomDbService = restroomDbService;
+    this.transactionManager = transactionManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.previewCache = previewCache;
+    this.voteFlushBatch = voteFlushBatch;
+    this.bulkChunkSize = bulkChunkSize;
   }
 
   /**
-   * Add a new review.
+   * Add a new review. The review row and the restroom's rating totals are written in one
+   * transaction, so the totals never count a review that was not stored or miss one that was.
    */
   public Review create(Review review) {
+    RestroomDbService.RatingTotals totals = transactionTemplate.execute(status -> {
+      insert(review);
+      return restroomDbService.addRating(review.getRestroomId(), review.getRating(),
+          review.getCleanliness());
+    });
+    restroomDbService.applyRating(review.getRestroomId(), totals);
+    previewCache.offer(review);
+    return review;
+  }
+
+  /**
+   * Result of one review of a bulk create.
+   *
+   * @param review the review, with its id and creation time when stored
+   * @param error why it was not stored, or null when it was
+   */
+  public record BulkOutcome(Review review, String error) {
+  }
+
+  /**
+   * Add many validated reviews. Each chunk of {@code app.restroom.review-bulk.chunk-size}
+   * reviews is one transaction: a single batched insert, then one rating update per restroom
+   * in the chunk, so a restroom's aggregate is recomputed once per chunk instead of once per
+   * review. A chunk that fails is rolled back on its own and the others are still stored.
+   *
+   * @param reviews reviews whose restrooms exist and whose scores are in range
+   * @return one outcome per review, in the same order
+   */
+  public List<BulkOutcome> createBulk(List<Review> reviews) {
+    List<BulkOutcome> outcomes = new ArrayList<>(reviews.size());
+    for (int from = 0; from < reviews.size(); from += bulkChunkSize) {
+      List<Review> chunk = reviews.subList(from, Math.min(reviews.size(), from + bulkChunkSize));
+      Map<Long, RestroomDbService.RatingTotals> totals;
+      try {
+        totals = transactionTemplate.execute(status -> {
+          insertAll(chunk);
+          return restroomDbService.addRatings(chunk);
+        });
+      } catch (RuntimeException ex) {
+        logger.warn("Unable to store {} bulk reviews", chunk.size(), ex);
+        for (Review review : chunk) {
+          review.setId(null);
+          review.setCreatedAt(null);
+          outcomes.add(new BulkOutcome(review, "review could not be stored"));
+        }
+        continue;
+      }
+      totals.forEach(restroomDbService::applyRating);
+      for (Review review : chunk) {
+        previewCache.offer(review);
+        outcomes.add(new BulkOutcome(review, null));
+      }
+    }
+    return outcomes;
+  }
+
+  private void insertAll(List<Review> reviews) {
     String sql = """
         INSERT INTO review (restroom_id, user_id, rating, cleanliness, comment, helpful_votes)
         VALUES (?, ?, ?, ?, ?, ?)
         """;
-
-    KeyHolder keyHolder = new GeneratedKeyHolder();
-    jdbcTemplate.update(connection -> {
-      PreparedStatement ps = connection.prepareStatement(sql, new String[] { "id" });
-      ps.setLong(1, review.getRestroomId());
-      ps.setString(2, review.getUserId());
-      ps.setInt(3, review.getRating());
-      ps.setInt(4, review.getCleanliness());
-      ps.setString(5, review.getComment());
-      ps.setInt(6, review.getHelpfulVotes());
-      return ps;
-    }, keyHolder);
-
-    Number generatedId = keyHolder.getKey();
-    if (generatedId != null) {
-      review.setId(generatedId.longValue());
-      Timestamp createdAt = jdbcTemplate.queryForObject(
-          "SELECT created_at FROM review WHERE id = ?",
-          Timestamp.class,
-          review.getId());
-      if (createdAt != null) {
-        review.setCreatedAt(createdAt.toInstant());
-      }
+    List<Object[]> rows = new ArrayList<>(reviews.size());
+    for (Review review : reviews) {
+      rows.add(new Object[] {review.getRestroomId(), review.getUserId(), review.getRating(),
+          review.getCleanliness(), review.getComment(), review.getHelpfulVotes()});
+    }
+    List<Review> stored = JdbcReturning.writeBatch(jdbcTemplate, sql,
+        new String[] {"id", "created_at"}, rows, (rs, rowNum) -> {
+          Review review = reviews.get(rowNum);
+          review.setId(rs.getLong(1));
+          review.setCreatedAt(rs.getTimestamp(2).toInstant());
+          return review;
+        });
+    if (stored.size() != reviews.size()) {
+      throw new IllegalStateException(
+          "Expected " + reviews.size() + " generated keys, got " + stored.size());
     }
+  }
 
-    // Update restroom average rating
-    updateRestroomRating(review.getRestroomId());
+  private void insert(Review review) {
+    String sql = """
+        INSERT INTO review (restroom_id, user_id, rating, cleanliness, comment, helpful_votes)
+        VALUES (?, ?, ?, ?, ?, ?)
+        """;
 
-    return review;
+    JdbcReturning.write(jdbcTemplate, sql, new String[] {"id", "created_at"},
+        (rs, rowNum) -> {
+          review.setId(rs.getLong(1));
+          review.setCreatedAt(rs.getTimestamp(2).toInstant());
+          return review;
+        },
+        review.getRestroomId(), review.getUserId(), review.getRating(),
+        review.getCleanliness(), review.getComment(), review.getHelpfulVotes());
+  }
+
+  /**
+   * One page of a restroom's reviews. Pages are keyset-paginated on the full sort key, so each
+   * page is a range scan of the matching (restroom_id, ...) index however deep it is.
+   *
+   * @param restroomId restroom id
+   * @param sort listing order
+   * @param limit page size
+   * @param after cursor returned with the previous page, or null for the first page
+   * @return reviews, with a cursor when more follow
+   */
+  public ReviewPage getPage(Long restroomId, ReviewSort sort, int limit, ReviewCursor after) {
+    lock.readLock().lock();
+    try {
+      ReviewPage page = readPage(restroomId, sort, limit, after);
+      page.getReviews().forEach(this::addPendingVotes);
+      return page;
+    } finally {
+      lock.readLock().unlock();
+    }
   }
 
   /**
-   * Get reviews for a restroom.
+   * A page as stored, without pending votes; its cursor holds the stored sort key.
    */
-  public List<Review> getByRestroomId(Long restroomId, String sort) {
-    String orderBy = "helpful".equalsIgnoreCase(sort)
-        ? "helpful_votes DESC, created_at DESC"
-        : "created_at DESC";
+  private ReviewPage readPage(Long restroomId, ReviewSort sort, int limit, ReviewCursor after) {
+    StringBuilder sql = new StringBuilder("SELECT * FROM review WHERE restroom_id = ?");
+    List<Object> args = new ArrayList<>();
+    args.add(restroomId);
+    if (sort == ReviewSort.HELPFUL) {
+      if (after != null) {
+        sql.append(" AND (helpful_votes, created_at, id) < (?, ?, ?)");
+        args.add(after.getHelpfulVotes());
+        args.add(Timestamp.from(after.getCreatedAt()));
+        args.add(after.getId());
+      }
+      sql.append(" ORDER BY helpful_votes DESC, created_at DESC, id DESC");
+    } else {
+      if (after != null) {
+        sql.append(" AND (created_at, id) < (?, ?)");
+        args.add(Timestamp.from(after.getCreatedAt()));
+        args.add(after.getId());
+      }
+      sql.append(" ORDER BY created_at DESC, id DESC");
+    }
+    // One extra row tells whether another page follows.
+    sql.append(" LIMIT ?");
+    args.add(limit + 1);
+    List<Review> reviews = jdbcTemplate.query(sql.toString(), this::mapReview, args.toArray());
+    if (reviews.size() <= limit) {
+      return new ReviewPage(reviews, null);
+    }
+    List<Review> page = reviews.subList(0, limit);
+    return new ReviewPage(page, ReviewCursor.after(sort, page.get(limit - 1)).encode());
+  }
 
-    String sql = "SELECT * FROM review WHERE restroom_id = ? ORDER BY " + orderBy;
-    return jdbcTemplate.query(sql, this::mapReview, restroomId);
+  /**
+   * The restroom's most helpful reviews for its details page: served from the
+   * {@link ReviewPreviewCache}, or on a miss read as one short helpful page and cached.
+   *
+   * @param restroomId restroom id
+   * @return up to {@link ReviewPreviewCache#size()} reviews in helpful order
+   */
+  public List<Review> getTopHelpful(Long restroomId) {
+    lock.readLock().lock();
+    try {
+      List<Review> top = previewCache.get(restroomId);
+      if (top == null) {
+        long stamp = previewCache.writeStamp();
+        top = readPage(restroomId, ReviewSort.HELPFUL, previewCache.size(), null).getReviews();
+        previewCache.put(restroomId, top, stamp);
+      }
+      top.forEach(this::addPendingVotes);
+      return top;
+    } finally {
+      lock.readLock().unlock();
+    }
   }
 
   /**
-   * Update helpful votes.
+   * Count a helpful vote. The vote is held in memory until the next
+   * {@link #flushHelpfulVotes()}.
    */
   public void incrementHelpfulVotes(Long id) {
-    String sql = "UPDATE review SET helpful_votes = helpful_votes + 1 WHERE id = ?";
-    jdbcTemplate.update(sql, id);
+    pendingVotes.add(id, 1);
+  }
+
+  /**
+   * Helpful votes a flush wrote for one review, as returned by its UPDATE.
+   */
+  private record WrittenVotes(long id, long restroomId, int helpfulVotes) {
   }
 
   /**
-   * Calculate and update restroom average rating.
+   * Write pending helpful votes for up to {@code app.restroom.helpful-votes.flush-batch}
+   * reviews as one batch of delta UPDATEs, in id order so concurrent flushes lock rows in the
+   * same order. The UPDATEs return each review's restroom and new count, which update the
+   * review previews without reading the rows back. Votes that fail to write are put back for
+   * the next flush.
+   *
+   * @return number of reviews written
    */
-  private void updateRestroomRating(Long restroomId) {
-    String sql = "SELECT AVG(rating) FROM review WHERE restroom_id = ?";
-    Double avgRating = jdbcTemplate.queryForObject(sql, Double.class, restroomId);
-    if (avgRating != null) {
-      restroomDbService.updateAverageRating(restroomId, avgRating);
+  @Scheduled(fixedDelayString = "${app.restroom.helpful-votes.flush-ms:1000}")
+  public synchronized int flushHelpfulVotes() {
+    Map<Long, Long> deltas;
+    lock.writeLock().lock();
+    try {
+      deltas = pendingVotes.drain(voteFlushBatch);
+      inFlight.putAll(deltas);
+    } finally {
+      lock.writeLock().unlock();
+    }
+    if (deltas.isEmpty()) {
+      return 0;
+    }
+    List<Long> ids = new ArrayList<>(deltas.keySet());
+    Collections.sort(ids);
+    List<Object[]> args = new ArrayList<>(ids.size());
+    for (Long id : ids) {
+      args.add(new Object[] {deltas.get(id), id});
+    }
+    TransactionStatus status = transactionManager.getTransaction(
+        TransactionDefinition.withDefaults());
+    List<WrittenVotes> written;
+    try {
+      written = JdbcReturning.writeBatch(jdbcTemplate,
+          "UPDATE review SET helpful_votes = helpful_votes + ? WHERE id = ?",
+          new String[] {"id", "restroom_id", "helpful_votes"}, args,
+          (rs, rowNum) -> new WrittenVotes(rs.getLong(1), rs.getLong(2), rs.getInt(3)));
+    } catch (RuntimeException ex) {
+      transactionManager.rollback(status);
+      restore(deltas, ex);
+      return 0;
+    }
+    // Commit while reads are held off, so none sees these votes both stored and in flight.
+    lock.writeLock().lock();
+    try {
+      transactionManager.commit(status);
+      written.forEach(votes ->
+          previewCache.applyVotes(votes.restroomId(), votes.id(), votes.helpfulVotes()));
+      inFlight.clear();
+    } catch (RuntimeException ex) {
+      restore(deltas, ex);
+      return 0;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    return ids.size();
+  }
+
+  private void restore(Map<Long, Long> deltas, RuntimeException cause) {
+    lock.writeLock().lock();
+    try {
+      deltas.forEach(pendingVotes::add);
+      inFlight.clear();
+    } finally {
+      lock.writeLock().unlock();
+    }
+    logger.warn("Unable to write helpful votes for {} reviews, will retry", deltas.size(),
+        cause);
+  }
+
+  /**
+   * Write every pending helpful vote before shutdown.
+   */
+  @PreDestroy
+  public void drainHelpfulVotes() {
+    while (!pendingVotes.isEmpty()) {
+      if (flushHelpfulVotes() == 0 && !pendingVotes.isEmpty()) {
+        logger.error("Dropping unwritten helpful votes at shutdown");
+        return;
+      }
+    }
+  }
+
+  private long unwritten(long id) {
+    return pendingVotes.pending(id) + inFlight.getOrDefault(id, 0L);
+  }
+
+  private void addPendingVotes(Review review) {
+    long pending = unwritten(review.getId());
+    if (pending != 0) {
+      review.setHelpfulVotes((int) Math.min(Integer.MAX_VALUE,
+          review.getHelpfulVotes() + pending));
     }
   }
 
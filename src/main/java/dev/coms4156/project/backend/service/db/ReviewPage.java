@@ -0,0 +1,31 @@
+package dev.coms4156.project.backend.service.db;
+
+import dev.coms4156.project.backend.model.Review;
+import java.util.List;
+
+/**
+ * One page of a restroom's reviews and the cursor that resumes after it.
+ */
+public final class ReviewPage {
+  private final List<Review> reviews;
+  private final String nextCursor;
+
+  /**
+   * Create a page.
+   *
+   * @param reviews reviews in listing order
+   * @param nextCursor opaque cursor for the following page, or null when this page is the last
+   */
+  public ReviewPage(List<Review> reviews, String nextCursor) {
+    this.reviews = reviews;
+    this.nextCursor = nextCursor;
+  }
+
+  public List<Review> getReviews() {
+    return reviews;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+}
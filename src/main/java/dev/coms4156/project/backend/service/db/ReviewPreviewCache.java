@@ -0,0 +1,183 @@
+package dev.coms4156.project.backend.service.db;
+
+import dev.coms4156.project.backend.model.Review;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The most helpful reviews of recently viewed restrooms, in {@link ReviewSort#HELPFUL} order,
+ * so the details page reads a fixed-size list however many reviews a restroom has.
+ *
+ * <p>Each entry holds the true top {@code size} of its restroom and is kept exact by
+ * {@link #offer(Review)} and {@link #applyVotes(long, long, int)} rather than invalidated:
+ * helpful votes only grow and new reviews only arrive, so the only review that can enter a top
+ * list is the one that was just created or voted on. An entry is dropped only when a voted
+ * review it does not hold may now belong in it. Entries are evicted least recently used first.
+ */
+@Component
+public class ReviewPreviewCache {
+
+  /** Helpful votes, then newest, then highest id first. */
+  static final Comparator<Review> HELPFUL_ORDER = Comparator
+      .comparingInt(Review::getHelpfulVotes)
+      .thenComparing(Review::getCreatedAt)
+      .thenComparing(Review::getId)
+      .reversed();
+
+  private final int size;
+  private final Map<Long, List<Review>> entries;
+  private final AtomicLong writes = new AtomicLong();
+
+  /**
+   * Create the cache.
+   *
+   * @param size reviews kept per restroom
+   * @param maxEntries restrooms kept
+   */
+  @Autowired
+  public ReviewPreviewCache(@Value("${app.restroom.review-preview.size:3}") int size,
+                            @Value("${app.restroom.review-preview.max-entries:10000}")
+                            int maxEntries) {
+    this.size = size;
+    this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, List<Review>> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  /**
+   * Reviews kept per restroom.
+   *
+   * @return preview size
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Cached preview of a restroom.
+   *
+   * @param restroomId restroom id
+   * @return copies of the top reviews, or null on a miss
+   */
+  public List<Review> get(long restroomId) {
+    List<Review> top;
+    synchronized (entries) {
+      top = entries.get(restroomId);
+    }
+    return top == null ? null : top.stream().map(ReviewPreviewCache::copy).toList();
+  }
+
+  /**
+   * Write counter to read before loading a preview and pass to {@link #put}.
+   *
+   * @return current write stamp
+   */
+  public long writeStamp() {
+    return writes.get();
+  }
+
+  /**
+   * Store a preview loaded from the database unless a review was written since {@code stamp}
+   * was taken.
+   *
+   * @param restroomId restroom id
+   * @param top the restroom's first {@link #size()} reviews in helpful order
+   * @param stamp value of {@link #writeStamp()} before loading
+   */
+  public void put(long restroomId, List<Review> top, long stamp) {
+    List<Review> copies = top.stream().limit(size).map(ReviewPreviewCache::copy).toList();
+    synchronized (entries) {
+      if (writes.get() == stamp) {
+        entries.put(restroomId, copies);
+      }
+    }
+  }
+
+  /**
+   * Apply a review that was created or whose helpful votes changed. Restrooms without a cached
+   * preview are left alone.
+   *
+   * @param review committed state of the review
+   */
+  public void offer(Review review) {
+    writes.incrementAndGet();
+    Review offered = copy(review);
+    synchronized (entries) {
+      List<Review> top = entries.get(review.getRestroomId());
+      if (top == null) {
+        return;
+      }
+      List<Review> updated = new ArrayList<>(top.size() + 1);
+      for (Review kept : top) {
+        if (!kept.getId().equals(offered.getId())) {
+          updated.add(kept);
+        } else if (kept.getHelpfulVotes() > offered.getHelpfulVotes()) {
+          // Concurrent votes can be offered out of order; counts never go down.
+          offered.setHelpfulVotes(kept.getHelpfulVotes());
+        }
+      }
+      updated.add(offered);
+      updated.sort(HELPFUL_ORDER);
+      entries.put(review.getRestroomId(),
+          List.copyOf(updated.subList(0, Math.min(size, updated.size()))));
+    }
+  }
+
+  /**
+   * Apply helpful votes written for a review. A cached preview holding the review takes its new
+   * count; one the review may now enter, which it cannot place without the rest of the row, is
+   * dropped and reloaded on the next read.
+   *
+   * @param restroomId restroom of the review
+   * @param reviewId review id
+   * @param helpfulVotes committed helpful votes of the review
+   */
+  public void applyVotes(long restroomId, long reviewId, int helpfulVotes) {
+    writes.incrementAndGet();
+    synchronized (entries) {
+      List<Review> top = entries.get(restroomId);
+      if (top == null) {
+        return;
+      }
+      List<Review> updated = new ArrayList<>(top.size());
+      boolean kept = false;
+      for (Review review : top) {
+        Review copy = copy(review);
+        if (copy.getId() == reviewId) {
+          copy.setHelpfulVotes(Math.max(copy.getHelpfulVotes(), helpfulVotes));
+          kept = true;
+        }
+        updated.add(copy);
+      }
+      if (kept) {
+        updated.sort(HELPFUL_ORDER);
+        entries.put(restroomId, List.copyOf(updated));
+      } else if (top.size() < size || helpfulVotes >= top.get(top.size() - 1).getHelpfulVotes()) {
+        entries.remove(restroomId);
+      }
+    }
+  }
+
+  private static Review copy(Review source) {
+    Review review = new Review();
+    review.setId(source.getId());
+    review.setRestroomId(source.getRestroomId());
+    review.setUserId(source.getUserId());
+    review.setRating(source.getRating());
+    review.setCleanliness(source.getCleanliness());
+    review.setComment(source.getComment());
+    review.setHelpfulVotes(source.getHelpfulVotes());
+    review.setCreatedAt(source.getCreatedAt());
+    return review;
+  }
+}
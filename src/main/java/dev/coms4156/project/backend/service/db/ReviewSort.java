@@ -0,0 +1,32 @@
+package dev.coms4156.project.backend.service.db;
+
+import java.util.Locale;
+
+/**
+ * Order of a restroom's review listing. Both orders end in the review id, so every review has
+ * a unique position and pages can resume from a cursor.
+ */
+public enum ReviewSort {
+  /** Newest first: (created_at, id) descending. */
+  RECENT,
+  /** Most helpful votes first, newest among ties: (helpful_votes, created_at, id) descending. */
+  HELPFUL;
+
+  /**
+   * Parse a request value.
+   *
+   * @param value sort name, may be null
+   * @return sort, {@link #RECENT} when blank
+   * @throws IllegalArgumentException if the value is not recognised
+   */
+  public static ReviewSort parse(String value) {
+    if (value == null || value.isBlank()) {
+      return RECENT;
+    }
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("Unknown sort: " + value, ex);
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package dev.coms4156.project.backend.service.db;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Review statistics of one restroom: how many reviews it has, their mean scores and how many
+ * gave each star rating.
+ */
+public final class ReviewStats {
+  private final Long restroomId;
+  private final long reviewCount;
+  private final Double averageRating;
+  private final Double averageCleanliness;
+  private final Map<Integer, Long> histogram;
+
+  private ReviewStats(Long restroomId, long reviewCount, Double averageRating,
+                      Double averageCleanliness, Map<Integer, Long> histogram) {
+    this.restroomId = restroomId;
+    this.reviewCount = reviewCount;
+    this.averageRating = averageRating;
+    this.averageCleanliness = averageCleanliness;
+    this.histogram = histogram;
+  }
+
+  /**
+   * Derive the statistics from the running totals kept on the restroom row.
+   *
+   * @param restroomId restroom id
+   * @param reviewCount number of reviews
+   * @param ratingSum sum of their ratings
+   * @param cleanlinessSum sum of their cleanliness scores
+   * @param starCounts number of reviews rating 1 to 5 stars, in that order
+   * @return statistics; the averages are null when there are no reviews
+   */
+  public static ReviewStats of(Long restroomId, long reviewCount, long ratingSum,
+                               long cleanlinessSum, long[] starCounts) {
+    Map<Integer, Long> histogram = new LinkedHashMap<>();
+    for (int star = 1; star <= starCounts.length; star++) {
+      histogram.put(star, starCounts[star - 1]);
+    }
+    return new ReviewStats(restroomId, reviewCount,
+        reviewCount == 0 ? null : (double) ratingSum / reviewCount,
+        reviewCount == 0 ? null : (double) cleanlinessSum / reviewCount,
+        Collections.unmodifiableMap(histogram));
+  }
+
+  public Long getRestroomId() {
+    return restroomId;
+  }
+
+  public long getReviewCount() {
+    return reviewCount;
+  }
+
+  public Double getAverageRating() {
+    return averageRating;
+  }
+
+  public Double getAverageCleanliness() {
+    return averageCleanliness;
+  }
+
+  /**
+   * Number of reviews per star rating.
+   *
+   * @return star (1 to 5) to review count, in star order
+   */
+  public Map<Integer, Long> getHistogram() {
+    return histogram;
+  }
+}
@@ -0,0 +1,239 @@
+package dev.coms4156.project.backend.service.db;
+
+import dev.coms4156.project.backend.model.Restroom;
+import jakarta.annotation.PreDestroy;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Restroom visit counting, written behind.
+ *
+ * <p>A visit only bumps a striped in-memory {@link DeltaCounter} and appends a record to the
+ * {@link VisitJournal}; a scheduled flush writes one {@code visit_count + delta} UPDATE per
+ * visited restroom in JDBC batches, in the same transaction as the journal checkpoint. A
+ * restroom's count is its indexed count plus the visits pending or being written, so answering
+ * a visit takes no database round trip.
+ *
+ * <p>Visits and count reads share a lock that a flush takes exclusively twice, briefly: to seal
+ * the journal segment and move the pending deltas aside, and after commit to move them into the
+ * index. Counts therefore never miss or double count a visit in flight.
+ */
+@Service
+public class VisitDbService {
+  private static final Logger logger = LoggerFactory.getLogger(VisitDbService.class);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final RestroomDbService restroomDbService;
+  private final TransactionTemplate transactionTemplate;
+  private final VisitJournal journal;
+  private final int flushBatch;
+  private final DeltaCounter pendingVisits = new DeltaCounter();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  // Visits drained by the running flush and not in the index yet; guarded by lock.
+  private final Map<Long, Long> inFlight = new HashMap<>();
+  private volatile boolean started;
+
+  /**
+   * Constructor for DI.
+   *
+   * @param jdbcTemplate JDBC access
+   * @param restroomDbService holds the indexed visit counts
+   * @param transactionManager writes each flush with its journal checkpoint
+   * @param journal on-disk log of visits not yet written
+   * @param flushBatch most restrooms per JDBC batch of a flush
+   */
+  @Autowired
+  public VisitDbService(JdbcTemplate jdbcTemplate, RestroomDbService restroomDbService,
+                        PlatformTransactionManager transactionManager, VisitJournal journal,
+                        @Value("${app.restroom.visits.flush-batch:1000}") int flushBatch) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.restroomDbService = restroomDbService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.journal = journal;
+    this.flushBatch = flushBatch;
+  }
+
+  /**
+   * Open the journal and count again the visits it holds beyond the stored checkpoint. Until
+   * this has run, visits are written straight to the database.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    Long checkpoint = jdbcTemplate.queryForObject(
+        "SELECT segment FROM visit_journal_checkpoint WHERE id = 1", Long.class);
+    Map<Long, Long> replayed = journal.open(checkpoint == null ? 0 : checkpoint);
+    replayed.forEach(pendingVisits::add);
+    if (!replayed.isEmpty()) {
+      logger.info("Replayed unwritten visits of {} restrooms from the journal", replayed.size());
+    }
+    started = true;
+  }
+
+  /**
+   * Count a visit.
+   *
+   * @param id restroom id
+   * @return visit count including this visit, or empty if the restroom does not exist
+   */
+  public Optional<Long> recordVisit(Long id) {
+    if (!started || !restroomDbService.isIndexReady()) {
+      return restroomDbService.incrementVisitCount(id, 1);
+    }
+    lock.readLock().lock();
+    try {
+      Optional<Long> indexed = restroomDbService.getIndexedVisitCount(id);
+      if (indexed.isEmpty()) {
+        return Optional.empty();
+      }
+      journal.append(id, 1);
+      pendingVisits.add(id, 1);
+      return Optional.of(indexed.get() + unwritten(id));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Current visit count of a restroom, including visits not yet written.
+   *
+   * @param id restroom id
+   * @return count, or empty if the index does not hold the restroom
+   */
+  public Optional<Long> getVisitCount(Long id) {
+    lock.readLock().lock();
+    try {
+      return restroomDbService.getIndexedVisitCount(id).map(count -> count + unwritten(id));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Restrooms with their current visit counts, for rows read from the database or a cache
+   * before the latest visits. Restrooms whose count is current are returned as they are, the
+   * others as copies, so shared cached instances are never changed.
+   *
+   * @param restrooms restrooms as read
+   * @return restrooms in the same order with current visit counts
+   */
+  public List<Restroom> withVisitCounts(List<Restroom> restrooms) {
+    List<Restroom> current = new ArrayList<>(restrooms.size());
+    lock.readLock().lock();
+    try {
+      for (Restroom restroom : restrooms) {
+        long count = restroomDbService.getIndexedVisitCount(restroom.getId())
+            .map(indexed -> indexed + unwritten(restroom.getId()))
+            .orElse(restroom.getVisitCount());
+        current.add(count == restroom.getVisitCount()
+            ? restroom : restroom.withVisitCount(count));
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    return current;
+  }
+
+  /**
+   * Write every pending visit as batches of delta UPDATEs in restroom id order, together with
+   * the journal segment they were logged in. Visits that fail to write are put back for the
+   * next flush, and their segment stays on disk until a later checkpoint covers it.
+   *
+   * @return number of restrooms written
+   */
+  @Scheduled(fixedDelayString = "${app.restroom.visits.flush-ms:1000}")
+  public synchronized int flushVisits() {
+    if (!started || pendingVisits.isEmpty()) {
+      return 0;
+    }
+    long segment;
+    Map<Long, Long> deltas;
+    lock.writeLock().lock();
+    try {
+      segment = journal.rotate();
+      deltas = pendingVisits.drain(Integer.MAX_VALUE);
+      inFlight.putAll(deltas);
+    } finally {
+      lock.writeLock().unlock();
+    }
+    List<Long> ids = new ArrayList<>(deltas.keySet());
+    Collections.sort(ids);
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        for (int from = 0; from < ids.size(); from += flushBatch) {
+          List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + flushBatch));
+          List<Object[]> args = new ArrayList<>(chunk.size());
+          for (Long id : chunk) {
+            args.add(new Object[] {deltas.get(id), id});
+          }
+          jdbcTemplate.batchUpdate(
+              "UPDATE restroom SET visit_count = visit_count + ? WHERE id = ?", args);
+        }
+        if (segment > 0) {
+          jdbcTemplate.update(
+              "UPDATE visit_journal_checkpoint SET segment = ? WHERE id = 1", segment);
+        }
+      });
+    } catch (RuntimeException ex) {
+      lock.writeLock().lock();
+      try {
+        deltas.forEach(pendingVisits::add);
+        inFlight.clear();
+      } finally {
+        lock.writeLock().unlock();
+      }
+      logger.warn("Unable to write visits for {} restrooms, will retry", ids.size(), ex);
+      return 0;
+    }
+    lock.writeLock().lock();
+    try {
+      restroomDbService.applyVisits(deltas);
+      inFlight.clear();
+    } finally {
+      lock.writeLock().unlock();
+    }
+    try {
+      journal.deleteThrough(segment);
+    } catch (UncheckedIOException ex) {
+      logger.warn("Unable to delete written visit journal segments", ex);
+    }
+    return ids.size();
+  }
+
+  /**
+   * Write pending visits before shutdown; whatever cannot be written stays in the journal.
+   */
+  @PreDestroy
+  public void drainVisits() {
+    flushVisits();
+    if (!pendingVisits.isEmpty()) {
+      if (journal.isEnabled()) {
+        logger.warn("Unwritten visits left in the journal for the next start");
+      } else {
+        logger.error("Dropping unwritten visits at shutdown");
+      }
+    }
+    journal.close();
+  }
+
+  private long unwritten(long id) {
+    return pendingVisits.pending(id) + inFlight.getOrDefault(id, 0L);
+  }
+}
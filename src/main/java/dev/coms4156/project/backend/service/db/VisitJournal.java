@@ -0,0 +1,210 @@
+package dev.coms4156.project.backend.service.db;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Append-only log of visit increments that have been counted in memory but may not be written
+ * to the database yet, so a crash loses none of them.
+ *
+ * <p>The log is a sequence of numbered segment files of fixed 16-byte (restroom id, delta)
+ * records. Each flush {@link #rotate() seals} the current segment and drains the counters
+ * under the same lock, so a sealed segment holds exactly the increments of that flush; the
+ * flush then stores the sealed segment number with its deltas in one transaction, and segments
+ * up to the stored number are never replayed. Increments replayed at startup are counted again
+ * in memory, so the next flush writes them and its checkpoint covers the segments they came
+ * from. Records reach the operating system on every append and the disk on every rotation; a
+ * torn record at the end of a segment is ignored.
+ */
+@Component
+public class VisitJournal {
+  private static final Logger logger = LoggerFactory.getLogger(VisitJournal.class);
+  private static final Pattern SEGMENT_NAME = Pattern.compile("visits-(\\d+)\\.log");
+  private static final int RECORD_BYTES = 16;
+
+  private final Path directory;
+  private volatile FileChannel channel;
+  private long segment;
+
+  /**
+   * Constructor for DI.
+   *
+   * @param directory directory of the segment files, blank to disable the journal
+   */
+  @Autowired
+  public VisitJournal(@Value("${app.restroom.visits.journal-dir:}") String directory) {
+    this.directory = directory == null || directory.isBlank() ? null : Path.of(directory);
+  }
+
+  public boolean isEnabled() {
+    return directory != null;
+  }
+
+  /**
+   * Read every segment after the checkpoint and start a new segment after the highest one on
+   * disk. Must be called once, before the first {@link #append(long, long)}. The segments read
+   * stay on disk until a later checkpoint covers them.
+   *
+   * @param checkpoint last segment whose increments are already in the database
+   * @return restroom id to increments not yet in the database
+   * @throws UncheckedIOException if the journal cannot be read or created
+   */
+  public synchronized Map<Long, Long> open(long checkpoint) {
+    if (directory == null) {
+      return Map.of();
+    }
+    try {
+      Files.createDirectories(directory);
+      Map<Long, Long> deltas = new HashMap<>();
+      long highest = checkpoint;
+      for (long number : segmentNumbers()) {
+        highest = Math.max(highest, number);
+        if (number > checkpoint) {
+          readSegment(segmentPath(number), deltas);
+        }
+      }
+      segment = highest + 1;
+      channel = openSegment(segment);
+      return deltas;
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Unable to open visit journal in " + directory, ex);
+    }
+  }
+
+  /**
+   * Log an increment. Safe to call from many threads, but not concurrently with
+   * {@link #rotate()}.
+   *
+   * @param id restroom id
+   * @param delta visits counted
+   * @throws UncheckedIOException if the record cannot be written
+   */
+  public void append(long id, long delta) {
+    FileChannel current = channel;
+    if (current == null) {
+      return;
+    }
+    ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES).putLong(id).putLong(delta).flip();
+    try {
+      while (record.hasRemaining()) {
+        current.write(record);
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Unable to append to visit journal", ex);
+    }
+  }
+
+  /**
+   * Seal the current segment, forcing it to disk, and continue in a new one. The next segment
+   * is opened before the current one is given up, so if it cannot be created the journal keeps
+   * appending to the current segment and a later rotation retries.
+   *
+   * @return number of the sealed segment, 0 when the journal is disabled or not open
+   * @throws UncheckedIOException if the segment cannot be synced or the next one created
+   */
+  public synchronized long rotate() {
+    FileChannel current = channel;
+    if (current == null) {
+      return 0;
+    }
+    FileChannel next;
+    try {
+      current.force(false);
+      next = openSegment(segment + 1);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Unable to rotate visit journal", ex);
+    }
+    long sealed = segment;
+    segment++;
+    channel = next;
+    try {
+      current.close();
+    } catch (IOException ex) {
+      // The sealed segment is already forced to disk; only its handle is lost.
+      logger.warn("Unable to close sealed visit journal segment {}", sealed, ex);
+    }
+    return sealed;
+  }
+
+  /**
+   * Delete the sealed segments up to a checkpoint once their increments are in the database.
+   *
+   * @param checkpoint last segment to delete
+   */
+  public synchronized void deleteThrough(long checkpoint) {
+    if (directory == null) {
+      return;
+    }
+    try {
+      for (long number : segmentNumbers()) {
+        if (number <= checkpoint && number != segment) {
+          Files.deleteIfExists(segmentPath(number));
+        }
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Unable to delete visit journal segments", ex);
+    }
+  }
+
+  /**
+   * Sync and close the current segment.
+   */
+  public synchronized void close() {
+    FileChannel current = channel;
+    channel = null;
+    if (current != null) {
+      try {
+        current.force(false);
+        current.close();
+      } catch (IOException ex) {
+        throw new UncheckedIOException("Unable to close visit journal", ex);
+      }
+    }
+  }
+
+  private List<Long> segmentNumbers() throws IOException {
+    List<Long> numbers = new ArrayList<>();
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "visits-*.log")) {
+      for (Path file : files) {
+        Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+        if (matcher.matches()) {
+          numbers.add(Long.parseLong(matcher.group(1)));
+        }
+      }
+    }
+    return numbers;
+  }
+
+  private static void readSegment(Path file, Map<Long, Long> deltas) throws IOException {
+    ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+    while (bytes.remaining() >= RECORD_BYTES) {
+      deltas.merge(bytes.getLong(), bytes.getLong(), Long::sum);
+    }
+  }
+
+  private Path segmentPath(long number) {
+    return directory.resolve("visits-" + number + ".log");
+  }
+
+  private FileChannel openSegment(long number) throws IOException {
+    return FileChannel.open(segmentPath(number), StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+  }
+}
@@ -0,0 +1,204 @@
+package dev.coms4156.project.backend.service.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hierarchical map clusters for every zoom level from 0 to {@link #MAX_ZOOM}.
+ *
+ * <p>At zoom {@code z} the Web Mercator world is split into square cells of
+ * {@link #CLUSTER_PIXELS} screen pixels, and each occupied cell holds the count and coordinate
+ * sums of the restrooms inside it. Cell edges halve from one zoom to the next, so every
+ * cluster nests inside exactly one cluster of the zoom above. Unlike greedy distance
+ * clustering this can be maintained exactly: a write adjusts one cell per zoom level.
+ */
+@Component
+public class ClusterIndex implements RestroomIndexListener {
+
+  /** Deepest precomputed zoom; deeper requests are answered from this level. */
+  public static final int MAX_ZOOM = 18;
+
+  /** Cluster cell edge in 256-pixel tile pixels. */
+  static final int CLUSTER_PIXELS = 64;
+
+  private static final int CELL_BITS = Integer.numberOfTrailingZeros(256 / CLUSTER_PIXELS);
+
+  private volatile List<Map<Long, Aggregate>> levels = emptyLevels();
+  private volatile boolean ready;
+
+  /**
+   * Running totals for one cell. Instances are immutable so readers never see a half-applied
+   * write.
+   */
+  private record Aggregate(int count, double sumLat, double sumLng, long sumIds) {
+    Aggregate plus(IndexedRestroom entry, int sign) {
+      return new Aggregate(count + sign, sumLat + sign * entry.getLatitude(),
+          sumLng + sign * entry.getLongitude(), sumIds + sign * entry.getId());
+    }
+  }
+
+  @Override
+  public synchronized void onRebuild(Collection<IndexedRestroom> entries) {
+    List<Map<Long, Aggregate>> built = emptyLevels();
+    for (IndexedRestroom entry : entries) {
+      apply(built, entry, 1);
+    }
+    levels = built;
+    ready = true;
+  }
+
+  @Override
+  public synchronized void onUpsert(IndexedRestroom previous, IndexedRestroom current) {
+    if (previous != null) {
+      apply(levels, previous, -1);
+    }
+    apply(levels, current, 1);
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * Clusters whose centroid lies inside a bounding box.
+   *
+   * @param minLng west edge
+   * @param minLat south edge
+   * @param maxLng east edge, smaller than {@code minLng} when the box crosses the antimeridian
+   * @param maxLat north edge
+   * @param zoom map zoom level
+   * @param maxClusters largest result to build
+   * @return clusters
+   * @throws IllegalArgumentException if more than {@code maxClusters} clusters match
+   */
+  public List<MapCluster> clusters(double minLng, double minLat, double maxLng, double maxLat,
+                                   int zoom, int maxClusters) {
+    int z = Math.max(0, Math.min(MAX_ZOOM, zoom));
+    List<Map<Long, Aggregate>> snapshot = levels;
+    Map<Long, Aggregate> level = snapshot.get(z);
+    List<MapCluster> result = new ArrayList<>();
+    if (minLng > maxLng) {
+      collect(snapshot, z, level, minLng, minLat, 180d, maxLat, maxClusters, result);
+      collect(snapshot, z, level, -180d, minLat, maxLng, maxLat, maxClusters, result);
+    } else {
+      collect(snapshot, z, level, minLng, minLat, maxLng, maxLat, maxClusters, result);
+    }
+    return result;
+  }
+
+  private void collect(List<Map<Long, Aggregate>> snapshot, int z, Map<Long, Aggregate> level,
+                       double minLng, double minLat, double maxLng, double maxLat,
+                       int maxClusters, List<MapCluster> result) {
+    int bits = z + CELL_BITS;
+    long minX = cell(GeoMath.mercatorX(minLng), bits);
+    long maxX = cell(GeoMath.mercatorX(maxLng), bits);
+    long minY = cell(GeoMath.mercatorY(maxLat), bits);
+    long maxY = cell(GeoMath.mercatorY(minLat), bits);
+    if ((maxX - minX + 1) * (maxY - minY + 1) > level.size()) {
+      for (Map.Entry<Long, Aggregate> cell : level.entrySet()) {
+        long x = cell.getKey() >>> 32;
+        long y = cell.getKey() & 0xffffffffL;
+        if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+          add(snapshot, z, cell.getKey(), cell.getValue(), minLng, minLat, maxLng, maxLat,
+              maxClusters, result);
+        }
+      }
+      return;
+    }
+    for (long x = minX; x <= maxX; x++) {
+      for (long y = minY; y <= maxY; y++) {
+        Aggregate aggregate = level.get(key(x, y));
+        if (aggregate != null) {
+          add(snapshot, z, key(x, y), aggregate, minLng, minLat, maxLng, maxLat, maxClusters,
+              result);
+        }
+      }
+    }
+  }
+
+  private void add(List<Map<Long, Aggregate>> snapshot, int z, long key, Aggregate aggregate,
+                   double minLng, double minLat, double maxLng, double maxLat, int maxClusters,
+                   List<MapCluster> result) {
+    double lat = aggregate.sumLat() / aggregate.count();
+    double lng = aggregate.sumLng() / aggregate.count();
+    if (lat < minLat || lat > maxLat || lng < minLng || lng > maxLng) {
+      return;
+    }
+    if (result.size() >= maxClusters) {
+      throw new IllegalArgumentException("Too many clusters in bbox; zoom out or narrow it");
+    }
+    if (aggregate.count() == 1) {
+      result.add(new MapCluster(lat, lng, 1, aggregate.sumIds(), null));
+    } else {
+      result.add(new MapCluster(lat, lng, aggregate.count(), null,
+          expansionZoom(snapshot, z, key)));
+    }
+  }
+
+  /**
+   * First zoom at which the cell's restrooms fall into more than one cluster, following the
+   * single occupied child cell downwards until it splits.
+   */
+  private static Integer expansionZoom(List<Map<Long, Aggregate>> snapshot, int z, long key) {
+    long x = key >>> 32;
+    long y = key & 0xffffffffL;
+    for (int child = z + 1; child <= MAX_ZOOM; child++) {
+      Map<Long, Aggregate> level = snapshot.get(child);
+      int occupied = 0;
+      long next = -1;
+      for (long dx = 0; dx < 2; dx++) {
+        for (long dy = 0; dy < 2; dy++) {
+          long childKey = key(2 * x + dx, 2 * y + dy);
+          if (level.containsKey(childKey)) {
+            occupied++;
+            next = childKey;
+          }
+        }
+      }
+      if (occupied != 1) {
+        return child;
+      }
+      x = next >>> 32;
+      y = next & 0xffffffffL;
+    }
+    // Restrooms sharing one deepest-level cell never split.
+    return MAX_ZOOM + 1;
+  }
+
+  private static void apply(List<Map<Long, Aggregate>> target, IndexedRestroom entry,
+                            int sign) {
+    double x = GeoMath.mercatorX(entry.getLongitude());
+    double y = GeoMath.mercatorY(entry.getLatitude());
+    for (int z = 0; z <= MAX_ZOOM; z++) {
+      int bits = z + CELL_BITS;
+      long key = key(cell(x, bits), cell(y, bits));
+      target.get(z).compute(key, (k, aggregate) -> {
+        Aggregate updated = aggregate == null
+            ? new Aggregate(0, 0, 0, 0).plus(entry, sign)
+            : aggregate.plus(entry, sign);
+        return updated.count() <= 0 ? null : updated;
+      });
+    }
+  }
+
+  private static List<Map<Long, Aggregate>> emptyLevels() {
+    List<Map<Long, Aggregate>> empty = new ArrayList<>(MAX_ZOOM + 1);
+    for (int z = 0; z <= MAX_ZOOM; z++) {
+      empty.add(new ConcurrentHashMap<>());
+    }
+    return empty;
+  }
+
+  private static long key(long x, long y) {
+    return x << 32 | y;
+  }
+
+  private static long cell(double unit, int bits) {
+    long cells = 1L << bits;
+    return Math.min(cells - 1, Math.max(0, (long) Math.floor(unit * cells)));
+  }
+}
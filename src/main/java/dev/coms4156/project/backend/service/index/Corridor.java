@@ -0,0 +1,148 @@
+package dev.coms4156.project.backend.service.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buffered corridor around a route.
+ *
+ * <p>The route is densified so no segment is longer than {@link #MAX_SEGMENT_METERS}. That
+ * keeps each segment's bounding box to a few index cells and lets distances to a segment be
+ * computed in a local flat projection without noticeable error.
+ */
+public final class Corridor {
+
+  /** Longest segment kept after densifying the route. */
+  static final double MAX_SEGMENT_METERS = 500d;
+
+  private final double[] lats;
+  private final double[] lngs;
+  private final double[] along;
+  private final double bufferMeters;
+
+  private Corridor(double[] lats, double[] lngs, double[] along, double bufferMeters) {
+    this.lats = lats;
+    this.lngs = lngs;
+    this.along = along;
+    this.bufferMeters = bufferMeters;
+  }
+
+  /**
+   * Build a corridor.
+   *
+   * @param path route vertices as {lat, lng} pairs in degrees
+   * @param bufferMeters maximum distance from the route in meters
+   * @return corridor
+   * @throws IllegalArgumentException if the path is empty or the buffer is negative
+   */
+  public static Corridor of(List<double[]> path, double bufferMeters) {
+    if (path == null || path.isEmpty()) {
+      throw new IllegalArgumentException("Route must contain at least one point");
+    }
+    if (!(bufferMeters >= 0)) {
+      throw new IllegalArgumentException("Buffer must not be negative");
+    }
+    List<double[]> points = new ArrayList<>();
+    List<Double> cumulative = new ArrayList<>();
+    double[] first = path.get(0);
+    points.add(first);
+    cumulative.add(0d);
+    for (int i = 1; i < path.size(); i++) {
+      double[] from = path.get(i - 1);
+      double[] to = path.get(i);
+      double length = GeoMath.haversineMeters(from[0], from[1], to[0], to[1]);
+      int pieces = Math.max(1, (int) Math.ceil(length / MAX_SEGMENT_METERS));
+      double start = cumulative.get(cumulative.size() - 1);
+      for (int piece = 1; piece <= pieces; piece++) {
+        double t = (double) piece / pieces;
+        points.add(new double[] {from[0] + (to[0] - from[0]) * t,
+            from[1] + (to[1] - from[1]) * t});
+        cumulative.add(start + length * t);
+      }
+    }
+    double[] lats = new double[points.size()];
+    double[] lngs = new double[points.size()];
+    double[] along = new double[points.size()];
+    for (int i = 0; i < points.size(); i++) {
+      lats[i] = points.get(i)[0];
+      lngs[i] = points.get(i)[1];
+      along[i] = cumulative.get(i);
+    }
+    return new Corridor(lats, lngs, along, bufferMeters);
+  }
+
+  public double getBufferMeters() {
+    return bufferMeters;
+  }
+
+  /**
+   * Number of segments after densifying; a single-point route has one degenerate segment.
+   *
+   * @return segment count
+   */
+  public int segmentCount() {
+    return Math.max(1, lats.length - 1);
+  }
+
+  /**
+   * Bounding box of the whole route grown by the buffer.
+   *
+   * @return {minLat, maxLat, minLng, maxLng}
+   */
+  public double[] bounds() {
+    double[] total = bounds(0);
+    for (int segment = 1; segment < segmentCount(); segment++) {
+      double[] box = bounds(segment);
+      total[0] = Math.min(total[0], box[0]);
+      total[1] = Math.max(total[1], box[1]);
+      total[2] = Math.min(total[2], box[2]);
+      total[3] = Math.max(total[3], box[3]);
+    }
+    return total;
+  }
+
+  /**
+   * Bounding box of a segment grown by the buffer.
+   *
+   * @param segment segment index
+   * @return {minLat, maxLat, minLng, maxLng}
+   */
+  public double[] bounds(int segment) {
+    int end = Math.min(segment + 1, lats.length - 1);
+    double minLat = Math.max(-90d,
+        Math.min(lats[segment], lats[end]) - GeoMath.latitudeDelta(bufferMeters));
+    double maxLat = Math.min(90d,
+        Math.max(lats[segment], lats[end]) + GeoMath.latitudeDelta(bufferMeters));
+    double lngDelta = GeoMath.longitudeDelta(bufferMeters,
+        Math.max(Math.abs(minLat), Math.abs(maxLat)));
+    return new double[] {minLat, maxLat,
+        Math.min(lngs[segment], lngs[end]) - lngDelta,
+        Math.max(lngs[segment], lngs[end]) + lngDelta};
+  }
+
+  /**
+   * Project a point onto a segment.
+   *
+   * @param segment segment index
+   * @param lat point latitude
+   * @param lng point longitude
+   * @return {distance from the segment, position along the route}, both in meters
+   */
+  public double[] project(int segment, double lat, double lng) {
+    int end = Math.min(segment + 1, lats.length - 1);
+    double cos = Math.cos(Math.toRadians((lats[segment] + lats[end]) / 2));
+    double bx = (lngs[end] - lngs[segment]) * cos;
+    double by = lats[end] - lats[segment];
+    double px = (lng - lngs[segment]) * cos;
+    double py = lat - lats[segment];
+    double lengthSquared = bx * bx + by * by;
+    double t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, (px * bx + py * by)
+        / lengthSquared));
+    double closestLat = lats[segment] + (lats[end] - lats[segment]) * t;
+    double closestLng = lngs[segment] + (lngs[end] - lngs[segment]) * t;
+    return new double[] {
+        GeoMath.haversineMeters(lat, lng, closestLat, closestLng),
+        along[segment] + (along[end] - along[segment]) * t
+    };
+  }
+}
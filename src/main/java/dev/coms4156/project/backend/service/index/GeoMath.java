@@ -0,0 +1,125 @@
+package dev.coms4156.project.backend.service.index;
+
+/**
+ * Spherical geometry helpers shared by the in-memory indexes and the SQL query builders.
+ */
+public final class GeoMath {
+
+  /** Mean earth radius in meters, matching the constant used by the SQL nearby query. */
+  public static final double EARTH_RADIUS_METERS = 6371000d;
+
+  /** Length of one degree of latitude in meters. */
+  public static final double METERS_PER_DEGREE = EARTH_RADIUS_METERS * Math.PI / 180d;
+
+  /** Latitude limit of the square Web Mercator world. */
+  public static final double MAX_MERCATOR_LAT = 85.05112878;
+
+  private GeoMath() {
+  }
+
+  /**
+   * Great-circle distance between two points using the haversine formula.
+   *
+   * @param lat1 first latitude in degrees
+   * @param lng1 first longitude in degrees
+   * @param lat2 second latitude in degrees
+   * @param lng2 second longitude in degrees
+   * @return distance in meters
+   */
+  public static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+    double sinLat = Math.sin(Math.toRadians((lat2 - lat1) / 2));
+    double sinLng = Math.sin(Math.toRadians((lng2 - lng1) / 2));
+    double a = sinLat * sinLat
+        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLng * sinLng;
+    return EARTH_RADIUS_METERS * 2 * Math.asin(Math.sqrt(Math.min(1d, a)));
+  }
+
+  /**
+   * Cartesian unit vector for a point on the sphere.
+   *
+   * @param lat latitude in degrees
+   * @param lng longitude in degrees
+   * @return {x, y, z}
+   */
+  public static double[] unitVector(double lat, double lng) {
+    double cosLat = Math.cos(Math.toRadians(lat));
+    return new double[] {
+        cosLat * Math.cos(Math.toRadians(lng)),
+        cosLat * Math.sin(Math.toRadians(lng)),
+        Math.sin(Math.toRadians(lat))
+    };
+  }
+
+  /**
+   * Squared chord length between two unit vectors that are the given great-circle distance
+   * apart. The chord grows monotonically with the arc, so comparing squared chords ranks and
+   * filters points exactly like comparing haversine distances.
+   *
+   * @param meters great-circle distance in meters
+   * @return squared chord length on the unit sphere
+   */
+  public static double chordSquared(double meters) {
+    double halfAngle = Math.min(Math.PI / 2, meters / (2 * EARTH_RADIUS_METERS));
+    double chord = 2 * Math.sin(halfAngle);
+    return chord * chord;
+  }
+
+  /**
+   * Latitude span in degrees covered by a distance along a meridian.
+   *
+   * @param meters distance in meters
+   * @return span in degrees
+   */
+  public static double latitudeDelta(double meters) {
+    return meters / METERS_PER_DEGREE;
+  }
+
+  /**
+   * Longitude span in degrees covered by a distance at the given latitude, or 360 when the
+   * span would wrap the whole parallel (close to the poles).
+   *
+   * @param meters distance in meters
+   * @param latitude latitude in degrees
+   * @return span in degrees
+   */
+  public static double longitudeDelta(double meters, double latitude) {
+    double cos = Math.cos(Math.toRadians(Math.min(90d, Math.abs(latitude))));
+    if (cos < 1e-9) {
+      return 360d;
+    }
+    return Math.min(360d, meters / (METERS_PER_DEGREE * cos));
+  }
+
+  /**
+   * Web Mercator x of a longitude, as a fraction of the world width.
+   *
+   * @param lng longitude in degrees
+   * @return x in [0, 1], west at 0
+   */
+  public static double mercatorX(double lng) {
+    return (lng + 180d) / 360d;
+  }
+
+  /**
+   * Web Mercator y of a latitude, as a fraction of the world height. Latitudes beyond
+   * {@link #MAX_MERCATOR_LAT} are clamped.
+   *
+   * @param lat latitude in degrees
+   * @return y in [0, 1], north at 0
+   */
+  public static double mercatorY(double lat) {
+    double clamped = Math.max(-MAX_MERCATOR_LAT, Math.min(MAX_MERCATOR_LAT, lat));
+    double sin = Math.sin(Math.toRadians(clamped));
+    return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+  }
+
+  /**
+   * Latitude of a Web Mercator y.
+   *
+   * @param y y as a fraction of the world height, north at 0
+   * @return latitude in degrees
+   */
+  public static double mercatorLatitude(double y) {
+    return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y))));
+  }
+}
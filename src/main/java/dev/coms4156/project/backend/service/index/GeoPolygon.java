@@ -0,0 +1,99 @@
+package dev.coms4156.project.backend.service.index;
+
+import java.util.List;
+
+/**
+ * Simple polygon in latitude/longitude space, tested with the even-odd rule.
+ */
+public final class GeoPolygon {
+  private final double[] lats;
+  private final double[] lngs;
+  private final double[] bounds;
+  private final double centerLat;
+  private final double centerLng;
+
+  private GeoPolygon(double[] lats, double[] lngs) {
+    this.lats = lats;
+    this.lngs = lngs;
+    double minLat = 90d;
+    double maxLat = -90d;
+    double minLng = 180d;
+    double maxLng = -180d;
+    double sumLat = 0;
+    double sumLng = 0;
+    for (int i = 0; i < lats.length; i++) {
+      minLat = Math.min(minLat, lats[i]);
+      maxLat = Math.max(maxLat, lats[i]);
+      minLng = Math.min(minLng, lngs[i]);
+      maxLng = Math.max(maxLng, lngs[i]);
+      sumLat += lats[i];
+      sumLng += lngs[i];
+    }
+    this.bounds = new double[] {minLat, maxLat, minLng, maxLng};
+    this.centerLat = sumLat / lats.length;
+    this.centerLng = sumLng / lngs.length;
+  }
+
+  /**
+   * Build a polygon from its ring; a closing vertex equal to the first one is optional.
+   *
+   * @param ring vertices as {lat, lng} pairs in degrees
+   * @return polygon
+   * @throws IllegalArgumentException if the ring has fewer than three distinct vertices
+   */
+  public static GeoPolygon of(List<double[]> ring) {
+    int size = ring == null ? 0 : ring.size();
+    if (size > 1 && ring.get(0)[0] == ring.get(size - 1)[0]
+        && ring.get(0)[1] == ring.get(size - 1)[1]) {
+      size--;
+    }
+    if (size < 3) {
+      throw new IllegalArgumentException("Polygon must have at least three vertices");
+    }
+    double[] lats = new double[size];
+    double[] lngs = new double[size];
+    for (int i = 0; i < size; i++) {
+      lats[i] = ring.get(i)[0];
+      lngs[i] = ring.get(i)[1];
+    }
+    return new GeoPolygon(lats, lngs);
+  }
+
+  /**
+   * Bounding box of the polygon.
+   *
+   * @return {minLat, maxLat, minLng, maxLng}
+   */
+  public double[] bounds() {
+    return bounds.clone();
+  }
+
+  public double getCenterLat() {
+    return centerLat;
+  }
+
+  public double getCenterLng() {
+    return centerLng;
+  }
+
+  /**
+   * Whether a point lies inside the polygon.
+   *
+   * @param lat point latitude
+   * @param lng point longitude
+   * @return true if inside
+   */
+  public boolean contains(double lat, double lng) {
+    if (lat < bounds[0] || lat > bounds[1] || lng < bounds[2] || lng > bounds[3]) {
+      return false;
+    }
+    boolean inside = false;
+    for (int i = 0, j = lats.length - 1; i < lats.length; j = i++) {
+      if ((lats[i] > lat) != (lats[j] > lat)
+          && lng < (lngs[j] - lngs[i]) * (lat - lats[i]) / (lats[j] - lats[i]) + lngs[i]) {
+        inside = !inside;
+      }
+    }
+    return inside;
+  }
+}
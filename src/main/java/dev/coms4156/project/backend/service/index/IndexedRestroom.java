@@ -0,0 +1,145 @@
+package dev.coms4156.project.backend.service.index;
+
+import dev.coms4156.project.backend.model.OperationalStatus;
+import dev.coms4156.project.backend.model.Restroom;
+import dev.coms4156.project.backend.model.WeeklySchedule;
+
+/**
+ * Immutable per-restroom entry held by the in-memory indexes.
+ */
+public final class IndexedRestroom {
+  private final long id;
+  private final double latitude;
+  private final double longitude;
+  private final WeeklySchedule schedule;
+  private final long amenityMask;
+  private final OperationalStatus status;
+  private final double avgRating;
+  private final long ratingCount;
+  private final long visitCount;
+
+  /**
+   * Create an index entry.
+   *
+   * @param id restroom identifier
+   * @param latitude latitude in degrees
+   * @param longitude longitude in degrees
+   * @param schedule compiled opening hours
+   * @param amenityMask normalized amenity bits
+   * @param status operational status
+   * @param avgRating average review rating
+   * @param ratingCount number of reviews behind the average
+   * @param visitCount recorded visits
+   */
+  public IndexedRestroom(long id, double latitude, double longitude, WeeklySchedule schedule,
+                         long amenityMask, OperationalStatus status, double avgRating,
+                         long ratingCount, long visitCount) {
+    this.id = id;
+    this.latitude = latitude;
+    this.longitude = longitude;
+    this.schedule = schedule == null ? WeeklySchedule.UNKNOWN : schedule;
+    this.amenityMask = amenityMask;
+    this.status = status == null ? OperationalStatus.OPERATIONAL : status;
+    this.avgRating = avgRating;
+    this.ratingCount = ratingCount;
+    this.visitCount = visitCount;
+  }
+
+  /**
+   * Create an index entry without rating or visit statistics.
+   *
+   * @param id restroom identifier
+   * @param latitude latitude in degrees
+   * @param longitude longitude in degrees
+   * @param schedule compiled opening hours
+   * @param amenityMask normalized amenity bits
+   * @param status operational status
+   */
+  public IndexedRestroom(long id, double latitude, double longitude, WeeklySchedule schedule,
+                         long amenityMask, OperationalStatus status) {
+    this(id, latitude, longitude, schedule, amenityMask, status, 0d, 0L, 0L);
+  }
+
+  /**
+   * Create an index entry with only a position.
+   *
+   * @param id restroom identifier
+   * @param latitude latitude in degrees
+   * @param longitude longitude in degrees
+   */
+  public IndexedRestroom(long id, double latitude, double longitude) {
+    this(id, latitude, longitude, WeeklySchedule.UNKNOWN, 0L, OperationalStatus.OPERATIONAL);
+  }
+
+  /**
+   * Build an index entry from a persisted restroom, compiling its hours.
+   *
+   * @param restroom restroom with an assigned identifier
+   * @return index entry
+   */
+  public static IndexedRestroom of(Restroom restroom) {
+    return new IndexedRestroom(restroom.getId(), restroom.getLatitude(),
+        restroom.getLongitude(), restroom.getSchedule(),
+        restroom.getAmenityMask(), OperationalStatus.parse(restroom.getStatus()),
+        restroom.getAvgRating(), restroom.getRatingCount(), restroom.getVisitCount());
+  }
+
+  /**
+   * Copy of this entry with new rating statistics.
+   *
+   * @param newAvgRating average review rating
+   * @param newRatingCount number of reviews behind the average
+   * @return updated entry
+   */
+  public IndexedRestroom withRating(double newAvgRating, long newRatingCount) {
+    return new IndexedRestroom(id, latitude, longitude, schedule, amenityMask, status,
+        newAvgRating, newRatingCount, visitCount);
+  }
+
+  /**
+   * Copy of this entry with a new visit count.
+   *
+   * @param newVisitCount recorded visits
+   * @return updated entry
+   */
+  public IndexedRestroom withVisitCount(long newVisitCount) {
+    return new IndexedRestroom(id, latitude, longitude, schedule, amenityMask, status,
+        avgRating, ratingCount, newVisitCount);
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  public double getLatitude() {
+    return latitude;
+  }
+
+  public double getLongitude() {
+    return longitude;
+  }
+
+  public WeeklySchedule getSchedule() {
+    return schedule;
+  }
+
+  public long getAmenityMask() {
+    return amenityMask;
+  }
+
+  public OperationalStatus getStatus() {
+    return status;
+  }
+
+  public double getAvgRating() {
+    return avgRating;
+  }
+
+  public long getRatingCount() {
+    return ratingCount;
+  }
+
+  public long getVisitCount() {
+    return visitCount;
+  }
+}
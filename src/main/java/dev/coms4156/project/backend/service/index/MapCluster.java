@@ -0,0 +1,53 @@
+package dev.coms4156.project.backend.service.index;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * A group of restrooms drawn as one marker at a zoom level.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public final class MapCluster {
+  private final double latitude;
+  private final double longitude;
+  private final int count;
+  private final Long restroomId;
+  private final Integer expansionZoom;
+
+  /**
+   * Create a cluster.
+   *
+   * @param latitude centroid latitude
+   * @param longitude centroid longitude
+   * @param count number of restrooms
+   * @param restroomId the restroom when {@code count} is 1, otherwise null
+   * @param expansionZoom first zoom at which the cluster splits, or null for a single restroom
+   */
+  public MapCluster(double latitude, double longitude, int count, Long restroomId,
+                    Integer expansionZoom) {
+    this.latitude = latitude;
+    this.longitude = longitude;
+    this.count = count;
+    this.restroomId = restroomId;
+    this.expansionZoom = expansionZoom;
+  }
+
+  public double getLatitude() {
+    return latitude;
+  }
+
+  public double getLongitude() {
+    return longitude;
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  public Long getRestroomId() {
+    return restroomId;
+  }
+
+  public Integer getExpansionZoom() {
+    return expansionZoom;
+  }
+}
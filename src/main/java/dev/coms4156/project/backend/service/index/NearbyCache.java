@@ -0,0 +1,243 @@
+package dev.coms4156.project.backend.service.index;
+
+import dev.coms4156.project.backend.model.OperationalStatus;
+import dev.coms4156.project.backend.model.Restroom;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Result cache for nearby queries, keyed on the query point snapped to a grid cell, the radius
+ * rounded up to a bucket, the page size and the filters.
+ *
+ * <p>An entry does not hold one answer but every restroom that can be in the answer for any
+ * point of its cell: everything within {@code radius + h} of the cell center, or only within
+ * {@code d_k + 2h} when the k-th nearest restroom to the center is at {@code d_k}, where
+ * {@code h} is the cell's half diagonal. Callers re-rank the candidates for the exact query
+ * point, so cached answers are identical to uncached ones.
+ *
+ * <p>Entries are evicted least recently used first and expire after a fixed time to live. A
+ * write drops exactly the entries whose candidate circle contains the restroom's old or new
+ * position; a rating change drops those containing its position.
+ */
+@Component
+public class NearbyCache implements RestroomIndexListener {
+
+  /** Radius buckets in meters; larger radii are not cached. */
+  static final double[] RADIUS_BUCKETS = {100, 250, 500, 1000, 1500, 2000, 3000, 5000};
+
+  private final double gridDegrees;
+  private final long ttlNanos;
+  private final Map<Key, Entry> entries;
+  private final AtomicLong writes = new AtomicLong();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+
+  /**
+   * Cache key.
+   *
+   * @param cellLat snapped latitude cell
+   * @param cellLng snapped longitude cell
+   * @param radiusMeters radius bucket
+   * @param limit page size
+   * @param openKey opening-hours constraint from {@link NearbyFilter#getOpenKey()}
+   * @param amenities required amenity mask
+   * @param status required status, or null
+   */
+  public record Key(long cellLat, long cellLng, double radiusMeters, int limit, long openKey,
+                    long amenities, OperationalStatus status) {
+  }
+
+  /**
+   * Hit and miss counters.
+   *
+   * @param hits lookups answered from the cache
+   * @param misses lookups that had to query
+   * @param evictions entries dropped for size or age
+   * @param invalidations entries dropped because a restroom inside changed
+   * @param size entries currently held
+   */
+  public record Stats(long hits, long misses, long evictions, long invalidations, int size) {
+  }
+
+  private record Entry(double centerLat, double centerLng, double reachMeters,
+                       List<Restroom> candidates, long expiresAt) {
+  }
+
+  /**
+   * Create the cache.
+   *
+   * @param gridDegrees cell edge in degrees; 0 disables the cache
+   * @param maxEntries entries kept
+   * @param ttlSeconds time to live of an entry
+   */
+  @Autowired
+  public NearbyCache(@Value("${app.restroom.nearby-cache.grid-degrees:0.002}") double gridDegrees,
+                     @Value("${app.restroom.nearby-cache.max-entries:2000}") int maxEntries,
+                     @Value("${app.restroom.nearby-cache.ttl-seconds:120}") long ttlSeconds) {
+    this.gridDegrees = gridDegrees;
+    this.ttlNanos = ttlSeconds * 1_000_000_000L;
+    this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+        if (size() > maxEntries) {
+          evictions.increment();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Key for a first-page nearby query.
+   *
+   * @param lat query latitude
+   * @param lng query longitude
+   * @param radiusMeters query radius
+   * @param limit page size
+   * @param openKey opening-hours constraint from {@link NearbyFilter#getOpenKey()}
+   * @param amenities required amenity mask
+   * @param status required status, or null
+   * @return key, or null when the query is not cacheable
+   */
+  public Key keyFor(double lat, double lng, double radiusMeters, int limit, long openKey,
+                    long amenities, OperationalStatus status) {
+    if (gridDegrees <= 0 || limit <= 0 || Math.abs(lat) > 80) {
+      return null;
+    }
+    for (double bucket : RADIUS_BUCKETS) {
+      if (radiusMeters <= bucket) {
+        return new Key((long) Math.floor(lat / gridDegrees), (long) Math.floor(lng / gridDegrees),
+            bucket, limit, openKey, amenities, status);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Center of a key's cell.
+   *
+   * @return {lat, lng}
+   */
+  public double[] center(Key key) {
+    return new double[] {(key.cellLat() + 0.5) * gridDegrees, (key.cellLng() + 0.5) * gridDegrees};
+  }
+
+  /**
+   * Largest distance from a key's cell center to a point of the cell.
+   *
+   * @return half diagonal in meters
+   */
+  public double halfDiagonal(Key key) {
+    double lat = Math.abs(center(key)[0]);
+    return GeoMath.haversineMeters(lat, 0, Math.max(0, lat - gridDegrees / 2), gridDegrees / 2);
+  }
+
+  /**
+   * Cached candidates for a key.
+   *
+   * @return candidates, or null on a miss
+   */
+  public List<Restroom> get(Key key) {
+    synchronized (entries) {
+      Entry entry = entries.get(key);
+      if (entry != null && entry.expiresAt() - System.nanoTime() > 0) {
+        hits.increment();
+        return entry.candidates();
+      }
+      if (entry != null) {
+        entries.remove(key);
+        evictions.increment();
+      }
+    }
+    misses.increment();
+    return null;
+  }
+
+  /**
+   * Write counter to read before loading candidates and pass to {@link #put}.
+   *
+   * @return current write stamp
+   */
+  public long writeStamp() {
+    return writes.get();
+  }
+
+  /**
+   * Store candidates unless a restroom was written since {@code stamp} was taken.
+   *
+   * @param key cache key
+   * @param reachMeters distance from the cell center covered by the candidates
+   * @param candidates every matching restroom within {@code reachMeters}
+   * @param stamp value of {@link #writeStamp()} before loading
+   */
+  public void put(Key key, double reachMeters, List<Restroom> candidates, long stamp) {
+    double[] center = center(key);
+    synchronized (entries) {
+      if (writes.get() == stamp) {
+        entries.put(key, new Entry(center[0], center[1], reachMeters, List.copyOf(candidates),
+            System.nanoTime() + ttlNanos));
+      }
+    }
+  }
+
+  /**
+   * Current counters.
+   *
+   * @return stats snapshot
+   */
+  public Stats stats() {
+    synchronized (entries) {
+      return new Stats(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(),
+          entries.size());
+    }
+  }
+
+  @Override
+  public void onRebuild(Collection<IndexedRestroom> all) {
+    writes.incrementAndGet();
+    synchronized (entries) {
+      invalidations.add(entries.size());
+      entries.clear();
+    }
+  }
+
+  @Override
+  public void onUpsert(IndexedRestroom previous, IndexedRestroom current) {
+    invalidate(previous, current);
+  }
+
+  @Override
+  public void onDetailsChanged(IndexedRestroom entry) {
+    invalidate(entry, entry);
+  }
+
+  private void invalidate(IndexedRestroom previous, IndexedRestroom current) {
+    writes.incrementAndGet();
+    synchronized (entries) {
+      Iterator<Entry> it = entries.values().iterator();
+      while (it.hasNext()) {
+        Entry entry = it.next();
+        if ((previous != null && covers(entry, previous)) || covers(entry, current)) {
+          it.remove();
+          invalidations.increment();
+        }
+      }
+    }
+  }
+
+  private static boolean covers(Entry entry, IndexedRestroom restroom) {
+    return GeoMath.haversineMeters(entry.centerLat(), entry.centerLng(), restroom.getLatitude(),
+        restroom.getLongitude()) <= entry.reachMeters() + 1d;
+  }
+}
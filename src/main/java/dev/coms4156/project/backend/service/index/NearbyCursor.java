@@ -0,0 +1,87 @@
+package dev.coms4156.project.backend.service.index;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Keyset position in a distance-ordered nearby result: the distance and id of the last row of
+ * a page. The next page holds rows strictly after it in (distance, id) order, so resuming costs
+ * the same as the first page instead of re-reading the skipped rows as OFFSET would.
+ *
+ * <p>Clients see the position as an opaque URL-safe token.
+ */
+public final class NearbyCursor {
+  private static final int TOKEN_BYTES = Double.BYTES + Long.BYTES;
+
+  private final double distanceMeters;
+  private final long id;
+
+  /**
+   * Create a cursor positioned after the given row.
+   *
+   * @param distanceMeters distance of the last returned row
+   * @param id id of the last returned row
+   */
+  public NearbyCursor(double distanceMeters, long id) {
+    this.distanceMeters = distanceMeters;
+    this.id = id;
+  }
+
+  /**
+   * Decode a token produced by {@link #encode()}.
+   *
+   * @param token opaque cursor, may be null
+   * @return cursor, or null when the token is blank
+   * @throws IllegalArgumentException if the token is malformed
+   */
+  public static NearbyCursor decode(String token) {
+    if (token == null || token.isBlank()) {
+      return null;
+    }
+    byte[] bytes;
+    try {
+      bytes = Base64.getUrlDecoder().decode(token.trim());
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("Invalid cursor", ex);
+    }
+    if (bytes.length != TOKEN_BYTES) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    double distance = buffer.getDouble();
+    if (!Double.isFinite(distance) || distance < 0) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+    return new NearbyCursor(distance, buffer.getLong());
+  }
+
+  /**
+   * Opaque token for this position.
+   *
+   * @return URL-safe token
+   */
+  public String encode() {
+    ByteBuffer buffer = ByteBuffer.allocate(TOKEN_BYTES);
+    buffer.putDouble(distanceMeters).putLong(id);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+  }
+
+  /**
+   * Whether a row sorts strictly after this position.
+   *
+   * @param distance row distance in meters
+   * @param rowId row id
+   * @return true if the row belongs to a later page
+   */
+  public boolean precedes(double distance, long rowId) {
+    return distance > distanceMeters || (distance == distanceMeters && rowId > id);
+  }
+
+  public double getDistanceMeters() {
+    return distanceMeters;
+  }
+
+  public long getId() {
+    return id;
+  }
+}
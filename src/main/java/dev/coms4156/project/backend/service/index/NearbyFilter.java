@@ -0,0 +1,120 @@
+package dev.coms4156.project.backend.service.index;
+
+import dev.coms4156.project.backend.model.OperationalStatus;
+import dev.coms4156.project.backend.model.WeeklySchedule;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.function.Predicate;
+
+/**
+ * Attribute filter applied to nearby candidates before the result limit, so filtered queries
+ * still fill a page.
+ */
+public final class NearbyFilter implements Predicate<IndexedRestroom> {
+
+  /** Filter that accepts every restroom. */
+  public static final NearbyFilter NONE = new NearbyFilter(null, -1L, 0L, null);
+
+  // Bits of a window's start slot and of its slot count in openKey; both are below 1024.
+  private static final int SLOT_BITS = 10;
+
+  private final long[] openWindow;
+  private final long openKey;
+  private final long requiredAmenities;
+  private final OperationalStatus status;
+
+  private NearbyFilter(long[] openWindow, long openKey, long requiredAmenities,
+                       OperationalStatus status) {
+    this.openWindow = openWindow;
+    this.openKey = openKey;
+    this.requiredAmenities = requiredAmenities;
+    this.status = status;
+  }
+
+  /**
+   * Build a filter for the nearby endpoint parameters.
+   *
+   * @param openNow when true, only restrooms open at {@code now} match
+   * @param now current time in the restrooms' time zone
+   * @param requiredAmenities amenity bits every match must have
+   * @param status required operational status, or null for any
+   * @return filter, {@link #NONE} when no constraint applies
+   */
+  public static NearbyFilter of(Boolean openNow, ZonedDateTime now, long requiredAmenities,
+                                OperationalStatus status) {
+    return of(openNow, now, null, null, requiredAmenities, status);
+  }
+
+  /**
+   * Build a filter that can also require restrooms to be open at another time, or to stay
+   * open for a while. The required slots are compiled once into a week bitmap, so each
+   * candidate costs one and-not pass over its schedule whatever the window length.
+   *
+   * @param openNow when true, only restrooms open at {@code now} match
+   * @param now current time in the restrooms' time zone
+   * @param openAt time every match must be open at, in the restrooms' time zone; null for now
+   *     when {@code openFor} is set
+   * @param openFor how long from {@code openAt} (or now) matches must stay open, may be null
+   * @param requiredAmenities amenity bits every match must have
+   * @param status required operational status, or null for any
+   * @return filter, {@link #NONE} when no constraint applies
+   */
+  public static NearbyFilter of(Boolean openNow, ZonedDateTime now, ZonedDateTime openAt,
+                                Duration openFor, long requiredAmenities,
+                                OperationalStatus status) {
+    long[] window = null;
+    long key = -1L;
+    if (Boolean.TRUE.equals(openNow)) {
+      int slot = WeeklySchedule.slotOf(now);
+      window = WeeklySchedule.window(slot, 1);
+      key = windowKey(slot, 1);
+    }
+    if (openAt != null || openFor != null) {
+      ZonedDateTime from = openAt != null ? openAt : now;
+      int slot = WeeklySchedule.slotOf(from);
+      int count = WeeklySchedule.slotCount(from, openFor);
+      long[] required = WeeklySchedule.window(slot, count);
+      if (window != null) {
+        for (int w = 0; w < window.length; w++) {
+          required[w] |= window[w];
+        }
+      }
+      window = required;
+      key = key < 0 ? windowKey(slot, count) : key << (2 * SLOT_BITS) | windowKey(slot, count);
+    }
+    if (window == null && requiredAmenities == 0L && status == null) {
+      return NONE;
+    }
+    return new NearbyFilter(window, key, requiredAmenities, status);
+  }
+
+  private static long windowKey(int slot, int count) {
+    return (long) slot << SLOT_BITS | count;
+  }
+
+  /**
+   * Whether this filter accepts everything.
+   *
+   * @return true when no constraint applies
+   */
+  public boolean isEmpty() {
+    return openWindow == null && requiredAmenities == 0L && status == null;
+  }
+
+  /**
+   * Exact encoding of the opening-hours constraint, equal for two filters exactly when they
+   * require the same open slots the same way; used in cache keys.
+   *
+   * @return key, -1 when opening hours are not filtered
+   */
+  public long getOpenKey() {
+    return openKey;
+  }
+
+  @Override
+  public boolean test(IndexedRestroom restroom) {
+    return (restroom.getAmenityMask() & requiredAmenities) == requiredAmenities
+        && (status == null || restroom.getStatus() == status)
+        && (openWindow == null || restroom.getSchedule().isOpenThroughout(openWindow));
+  }
+}
@@ -0,0 +1,52 @@
+package dev.coms4156.project.backend.service.index;
+
+import java.util.Comparator;
+
+/**
+ * A restroom returned by a spatial query together with its distance from the query point and,
+ * for ranked searches, its score.
+ */
+public final class NearbyHit {
+
+  /** Ascending distance, ties broken by restroom id so paging is stable. */
+  public static final Comparator<NearbyHit> BY_DISTANCE =
+      Comparator.comparingDouble(NearbyHit::getDistanceMeters)
+          .thenComparingLong(hit -> hit.getRestroom().getId());
+
+  /** Descending score, then ascending distance and id. */
+  public static final Comparator<NearbyHit> BY_SCORE =
+      Comparator.comparingDouble(NearbyHit::getScore).reversed().thenComparing(BY_DISTANCE);
+
+  private final IndexedRestroom restroom;
+  private final double distanceMeters;
+  private final double score;
+
+  public NearbyHit(IndexedRestroom restroom, double distanceMeters) {
+    this(restroom, distanceMeters, 0d);
+  }
+
+  /**
+   * Create a ranked hit.
+   *
+   * @param restroom index entry
+   * @param distanceMeters distance from the query point
+   * @param score ranking score, higher is better
+   */
+  public NearbyHit(IndexedRestroom restroom, double distanceMeters, double score) {
+    this.restroom = restroom;
+    this.distanceMeters = distanceMeters;
+    this.score = score;
+  }
+
+  public IndexedRestroom getRestroom() {
+    return restroom;
+  }
+
+  public double getDistanceMeters() {
+    return distanceMeters;
+  }
+
+  public double getScore() {
+    return score;
+  }
+}
@@ -0,0 +1,99 @@
+package dev.coms4156.project.backend.service.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decoder for the encoded polyline format (five decimal places) used by common map SDKs.
+ */
+public final class Polyline {
+
+  private Polyline() {
+  }
+
+  /**
+   * Decode an encoded polyline.
+   *
+   * @param encoded encoded polyline
+   * @return vertices as {lat, lng} pairs in degrees
+   * @throws IllegalArgumentException if the text is not a valid polyline
+   */
+  public static List<double[]> decode(String encoded) {
+    if (encoded == null || encoded.isBlank()) {
+      throw new IllegalArgumentException("Polyline must not be empty");
+    }
+    List<double[]> points = new ArrayList<>();
+    int index = 0;
+    long lat = 0;
+    long lng = 0;
+    while (index < encoded.length()) {
+      long[] dLat = readValue(encoded, index);
+      long[] dLng = readValue(encoded, (int) dLat[1]);
+      index = (int) dLng[1];
+      lat += dLat[0];
+      lng += dLng[0];
+      double latDegrees = lat / 1e5;
+      double lngDegrees = lng / 1e5;
+      if (Math.abs(latDegrees) > 90 || Math.abs(lngDegrees) > 180) {
+        throw new IllegalArgumentException("Polyline coordinate out of range");
+      }
+      points.add(new double[] {latDegrees, lngDegrees});
+    }
+    return points;
+  }
+
+  /**
+   * Encode vertices as a polyline.
+   *
+   * @param points {lat, lng} pairs in degrees
+   * @return encoded polyline
+   */
+  public static String encode(List<double[]> points) {
+    StringBuilder out = new StringBuilder();
+    long lastLat = 0;
+    long lastLng = 0;
+    for (double[] point : points) {
+      long lat = Math.round(point[0] * 1e5);
+      long lng = Math.round(point[1] * 1e5);
+      writeValue(out, lat - lastLat);
+      writeValue(out, lng - lastLng);
+      lastLat = lat;
+      lastLng = lng;
+    }
+    return out.toString();
+  }
+
+  /**
+   * Read one zig-zag varint.
+   *
+   * @return {value, index after the value}
+   */
+  private static long[] readValue(String encoded, int start) {
+    long result = 0;
+    int shift = 0;
+    int index = start;
+    int chunk;
+    do {
+      if (index >= encoded.length() || shift > 30) {
+        throw new IllegalArgumentException("Malformed polyline");
+      }
+      chunk = encoded.charAt(index++) - 63;
+      if (chunk < 0 || chunk > 63) {
+        throw new IllegalArgumentException("Malformed polyline");
+      }
+      result |= (long) (chunk & 0x1f) << shift;
+      shift += 5;
+    } while (chunk >= 0x20);
+    long value = (result & 1) != 0 ? ~(result >> 1) : result >> 1;
+    return new long[] {value, index};
+  }
+
+  private static void writeValue(StringBuilder out, long value) {
+    long v = value < 0 ? ~(value << 1) : value << 1;
+    while (v >= 0x20) {
+      out.append((char) ((0x20 | (v & 0x1f)) + 63));
+      v >>= 5;
+    }
+    out.append((char) (v + 63));
+  }
+}
@@ -0,0 +1,124 @@
+package dev.coms4156.project.backend.service.index;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Score used by {@code sort=best}: a weighted sum of distance decay, Bayesian-smoothed rating,
+ * popularity and open-now, each scaled to [0, 1].
+ *
+ * <p>The rating is pulled toward a prior mean by a fixed number of virtual reviews, so a single
+ * five-star review does not outrank a long record of four-star ones. Only the distance term
+ * depends on the query point, which bounds the score of anything at least a given distance
+ * away and lets the spatial index stop searching early.
+ */
+@Component
+public class RankingModel {
+  private static final double MAX_RATING = 5d;
+
+  private final double distanceWeight;
+  private final double ratingWeight;
+  private final double popularityWeight;
+  private final double openWeight;
+  private final double decayMeters;
+  private final double priorRating;
+  private final double priorWeight;
+  private final double popularVisits;
+
+  /**
+   * Create a ranking model.
+   *
+   * @param distanceWeight weight of {@code exp(-distance / decayMeters)}
+   * @param ratingWeight weight of the smoothed rating over five
+   * @param popularityWeight weight of {@code visits / (visits + popularVisits)}
+   * @param openWeight bonus for being open now
+   * @param decayMeters distance at which the distance term falls to 1/e
+   * @param priorRating rating assumed before any review
+   * @param priorWeight number of virtual reviews at the prior rating
+   * @param popularVisits visit count that earns half the popularity weight
+   * @throws IllegalArgumentException if a weight is negative or a scale is not positive
+   */
+  @Autowired
+  public RankingModel(
+      @Value("${app.restroom.ranking.distance-weight:0.5}") double distanceWeight,
+      @Value("${app.restroom.ranking.rating-weight:0.25}") double ratingWeight,
+      @Value("${app.restroom.ranking.popularity-weight:0.1}") double popularityWeight,
+      @Value("${app.restroom.ranking.open-weight:0.15}") double openWeight,
+      @Value("${app.restroom.ranking.decay-meters:500}") double decayMeters,
+      @Value("${app.restroom.ranking.prior-rating:3.5}") double priorRating,
+      @Value("${app.restroom.ranking.prior-weight:5}") double priorWeight,
+      @Value("${app.restroom.ranking.popular-visits:100}") double popularVisits) {
+    if (distanceWeight < 0 || ratingWeight < 0 || popularityWeight < 0 || openWeight < 0
+        || priorWeight < 0) {
+      throw new IllegalArgumentException("Ranking weights must not be negative");
+    }
+    if (decayMeters <= 0 || popularVisits <= 0) {
+      throw new IllegalArgumentException("Ranking scales must be positive");
+    }
+    this.distanceWeight = distanceWeight;
+    this.ratingWeight = ratingWeight;
+    this.popularityWeight = popularityWeight;
+    this.openWeight = openWeight;
+    this.decayMeters = decayMeters;
+    this.priorRating = priorRating;
+    this.priorWeight = priorWeight;
+    this.popularVisits = popularVisits;
+  }
+
+  /**
+   * Score a restroom.
+   *
+   * @param restroom index entry
+   * @param distanceMeters distance from the query point
+   * @param openSlot current week slot, or -1 to ignore opening hours
+   * @return score, higher is better
+   */
+  public double score(IndexedRestroom restroom, double distanceMeters, int openSlot) {
+    double visits = Math.max(0L, restroom.getVisitCount());
+    double score = distanceWeight * Math.exp(-distanceMeters / decayMeters)
+        + ratingWeight * smoothedRating(restroom) / MAX_RATING
+        + popularityWeight * visits / (visits + popularVisits);
+    if (openSlot >= 0 && restroom.getSchedule().isOpenAt(openSlot)) {
+      score += openWeight;
+    }
+    return score;
+  }
+
+  /**
+   * Average rating pulled toward the prior by {@code priorWeight} virtual reviews.
+   *
+   * @param restroom index entry
+   * @return smoothed rating
+   */
+  public double smoothedRating(IndexedRestroom restroom) {
+    long count = Math.max(0L, restroom.getRatingCount());
+    if (count + priorWeight == 0) {
+      return priorRating;
+    }
+    return (priorWeight * priorRating + restroom.getAvgRating() * count) / (priorWeight + count);
+  }
+
+  /**
+   * Distance beyond which no restroom can score above {@code score}.
+   *
+   * @param score score to beat
+   * @param maxAvgRating highest average rating of any restroom considered
+   * @param maxVisitCount highest visit count of any restroom considered
+   * @return distance in meters, infinite when the distance term alone cannot decide
+   */
+  public double reach(double score, double maxAvgRating, long maxVisitCount) {
+    double visits = Math.max(0L, maxVisitCount);
+    double rest = score
+        - ratingWeight * Math.max(priorRating, maxAvgRating) / MAX_RATING
+        - popularityWeight * visits / (visits + popularVisits)
+        - openWeight;
+    if (rest <= 0) {
+      return Double.POSITIVE_INFINITY;
+    }
+    if (rest >= distanceWeight) {
+      return 0d;
+    }
+    return -decayMeters * Math.log(rest / distanceWeight);
+  }
+}
@@ -0,0 +1,34 @@
+package dev.coms4156.project.backend.service.index;
+
+import java.util.Collection;
+
+/**
+ * In-memory structure derived from the restroom table that is kept current by
+ * {@code RestroomDbService}. Implementations registered as beans are loaded once the data is
+ * in place and then told about every restroom write.
+ */
+public interface RestroomIndexListener {
+
+  /**
+   * Replace all content.
+   *
+   * @param entries every restroom
+   */
+  void onRebuild(Collection<IndexedRestroom> entries);
+
+  /**
+   * A restroom was created or changed.
+   *
+   * @param previous entry before the write, or null for a new restroom
+   * @param current entry after the write
+   */
+  void onUpsert(IndexedRestroom previous, IndexedRestroom current);
+
+  /**
+   * A column of a restroom that the index entry does not hold, such as its rating, changed.
+   *
+   * @param entry current entry of the restroom
+   */
+  default void onDetailsChanged(IndexedRestroom entry) {
+  }
+}
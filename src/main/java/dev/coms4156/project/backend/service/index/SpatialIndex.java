@@ -0,0 +1,656 @@
+package dev.coms4156.project.backend.service.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory grid index over restroom coordinates.
+ *
+ * <p>Points are bucketed into fixed-size latitude/longitude cells. Nearest-neighbour queries
+ * walk rings of cells outward from the query cell and stop as soon as no unvisited cell can
+ * contain a point closer than the current k-th result, so a query touches a handful of cells
+ * regardless of how many restrooms are indexed. Cells are copy-on-write arrays, which keeps
+ * reads lock-free while writers are serialized.
+ */
+@Component
+public class SpatialIndex {
+
+  /** Cell edge in degrees, roughly 1.1 km north-south. */
+  static final double CELL_DEGREES = 0.01;
+  private static final int ROWS = (int) Math.round(180 / CELL_DEGREES);
+  private static final int COLS = (int) Math.round(360 / CELL_DEGREES);
+  private static final IndexedRestroom[] EMPTY = new IndexedRestroom[0];
+
+  private volatile Map<Long, IndexedRestroom[]> cells = new ConcurrentHashMap<>();
+  private volatile Map<Long, IndexedRestroom> byId = new ConcurrentHashMap<>();
+  private volatile boolean ready;
+  // {highest avg rating, highest visit count} overall and per cell, bounding ranking scores.
+  // They only grow between rebuilds, which keeps them valid upper bounds.
+  private volatile double[] maxima = {0d, 0d};
+  private volatile Map<Long, double[]> cellMaxima = new ConcurrentHashMap<>();
+
+  /**
+   * Replace the whole index content.
+   *
+   * @param entries every restroom to index
+   */
+  public synchronized void rebuild(Collection<IndexedRestroom> entries) {
+    Map<Long, List<IndexedRestroom>> grouped = new HashMap<>();
+    Map<Long, IndexedRestroom> ids = new ConcurrentHashMap<>();
+    for (IndexedRestroom entry : entries) {
+      ids.put(entry.getId(), entry);
+    }
+    for (IndexedRestroom entry : ids.values()) {
+      grouped.computeIfAbsent(cellKey(entry.getLatitude(), entry.getLongitude()),
+          key -> new ArrayList<>()).add(entry);
+    }
+    Map<Long, IndexedRestroom[]> built = new ConcurrentHashMap<>();
+    Map<Long, double[]> builtMaxima = new ConcurrentHashMap<>();
+    double[] overall = {0d, 0d};
+    grouped.forEach((key, list) -> {
+      built.put(key, list.toArray(EMPTY));
+      double[] cellMax = {0d, 0d};
+      list.forEach(entry -> widen(cellMax, entry));
+      builtMaxima.put(key, cellMax);
+      list.forEach(entry -> widen(overall, entry));
+    });
+    byId = ids;
+    maxima = overall;
+    cellMaxima = builtMaxima;
+    cells = built;
+    ready = true;
+  }
+
+  /**
+   * Insert or replace a single restroom, moving it between cells if its position changed.
+   *
+   * @param entry restroom entry
+   */
+  public synchronized void upsert(IndexedRestroom entry) {
+    IndexedRestroom previous = byId.put(entry.getId(), entry);
+    if (previous != null) {
+      removeFromCell(previous);
+    }
+    long key = cellKey(entry.getLatitude(), entry.getLongitude());
+    double[] overall = maxima.clone();
+    widen(overall, entry);
+    maxima = overall;
+    double[] cellMax = cellMaxima.getOrDefault(key, new double[] {0d, 0d}).clone();
+    widen(cellMax, entry);
+    cellMaxima.put(key, cellMax);
+    IndexedRestroom[] current = cells.getOrDefault(key, EMPTY);
+    IndexedRestroom[] next = new IndexedRestroom[current.length + 1];
+    System.arraycopy(current, 0, next, 0, current.length);
+    next[current.length] = entry;
+    cells.put(key, next);
+  }
+
+  private static void widen(double[] bounds, IndexedRestroom entry) {
+    bounds[0] = Math.max(bounds[0], entry.getAvgRating());
+    bounds[1] = Math.max(bounds[1], entry.getVisitCount());
+  }
+
+  /**
+   * Replace a restroom's entry with a function of its current entry, atomically with respect
+   * to other writers.
+   *
+   * @param id restroom identifier
+   * @param change derives the new entry from the current one
+   * @return new entry, empty if the restroom is not indexed
+   */
+  public synchronized Optional<IndexedRestroom> update(long id,
+                                                       UnaryOperator<IndexedRestroom> change) {
+    IndexedRestroom current = byId.get(id);
+    if (current == null) {
+      return Optional.empty();
+    }
+    IndexedRestroom next = change.apply(current);
+    upsert(next);
+    return Optional.of(next);
+  }
+
+  /**
+   * Remove a restroom from the index.
+   *
+   * @param id restroom identifier
+   */
+  public synchronized void remove(long id) {
+    IndexedRestroom previous = byId.remove(id);
+    if (previous != null) {
+      removeFromCell(previous);
+    }
+  }
+
+  /**
+   * Look up the indexed entry for a restroom.
+   *
+   * @param id restroom identifier
+   * @return entry if indexed
+   */
+  public Optional<IndexedRestroom> get(long id) {
+    return Optional.ofNullable(byId.get(id));
+  }
+
+  /**
+   * Whether the index has been loaded and can answer queries.
+   *
+   * @return true once {@link #rebuild(Collection)} has completed
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  public int size() {
+    return byId.size();
+  }
+
+  /**
+   * Find the closest restrooms within a radius.
+   *
+   * @param lat query latitude
+   * @param lng query longitude
+   * @param radiusMeters maximum distance in meters
+   * @param limit maximum number of hits
+   * @param filter optional predicate every hit must satisfy
+   * @return hits ordered by distance then id
+   */
+  public List<NearbyHit> nearest(double lat, double lng, double radiusMeters, int limit,
+                                 Predicate<IndexedRestroom> filter) {
+    return nearest(lat, lng, radiusMeters, limit, filter, null);
+  }
+
+  /**
+   * Find the closest restrooms within a radius that sort after a keyset position. Cells lying
+   * entirely closer than the position are skipped without looking at their points.
+   *
+   * @param lat query latitude
+   * @param lng query longitude
+   * @param radiusMeters maximum distance in meters
+   * @param limit maximum number of hits
+   * @param filter optional predicate every hit must satisfy
+   * @param after position of the previous page's last hit, or null for the first page
+   * @return hits ordered by distance then id
+   */
+  public List<NearbyHit> nearest(double lat, double lng, double radiusMeters, int limit,
+                                 Predicate<IndexedRestroom> filter, NearbyCursor after) {
+    if (limit <= 0 || radiusMeters < 0) {
+      return List.of();
+    }
+    Map<Long, IndexedRestroom[]> snapshot = cells;
+    PriorityQueue<NearbyHit> heap = new PriorityQueue<>(limit + 1,
+        NearbyHit.BY_DISTANCE.reversed());
+    int row0 = row(lat);
+    int col0 = col(lng);
+    double maxLat = Math.min(90d, Math.abs(lat) + GeoMath.latitudeDelta(radiusMeters));
+    int maxRows = (int) Math.ceil(GeoMath.latitudeDelta(radiusMeters) / CELL_DEGREES) + 1;
+    int maxCols = Math.min((COLS - 1) / 2,
+        (int) Math.ceil(GeoMath.longitudeDelta(radiusMeters, maxLat) / CELL_DEGREES) + 1);
+    int maxRing = Math.max(maxRows, maxCols);
+    long budget = Math.max(1024L, snapshot.size() * 4L);
+    long visited = 0;
+    int firstRing = 0;
+    while (after != null && firstRing <= maxRing
+        && blockUpperBound(lat, lng, row0, col0, firstRing) + 1d < after.getDistanceMeters()) {
+      // Every point up to this ring is closer than the cursor: later pages start further out.
+      firstRing++;
+    }
+    int completedRing = firstRing - 1;
+    for (int ring = firstRing; ring <= maxRing; ring++) {
+      if (heap.size() == limit && ring > 0
+          && ringLowerBound(lat, lng, row0, col0, ring) > heap.peek().getDistanceMeters()) {
+        return drain(heap);
+      }
+      long ringCells = ring == 0 ? 1 : 8L * ring;
+      if (visited + ringCells > budget) {
+        break;
+      }
+      visited += ringCells;
+      for (int dr = -ring; dr <= ring; dr++) {
+        if (Math.abs(dr) > maxRows) {
+          continue;
+        }
+        int step = Math.abs(dr) == ring ? 1 : 2 * ring;
+        for (int dc = -ring; dc <= ring; dc += step) {
+          if (Math.abs(dc) <= maxCols && !before(after, lat, lng, row0 + dr, col0 + dc)) {
+            scan(snapshot.get(key(row0 + dr, col0 + dc)), lat, lng, radiusMeters, limit,
+                filter, after, heap);
+          }
+        }
+      }
+      completedRing = ring;
+    }
+    if (completedRing < maxRing) {
+      // Too many empty cells between here and the radius edge: scan the occupied cells instead.
+      for (Map.Entry<Long, IndexedRestroom[]> cell : snapshot.entrySet()) {
+        long key = cell.getKey();
+        int dr = (int) (key / COLS) - row0;
+        int dc = Math.floorMod((int) (key % COLS) - col0 + COLS / 2, COLS) - COLS / 2;
+        if (Math.max(Math.abs(dr), Math.abs(dc)) > completedRing
+            && !before(after, lat, lng, row0 + dr, col0 + dc)) {
+          scan(cell.getValue(), lat, lng, radiusMeters, limit, filter, after, heap);
+        }
+      }
+    }
+    return drain(heap);
+  }
+
+  /**
+   * Find the best-scoring restrooms within a radius. A heap keeps the top {@code limit} hits,
+   * and rings of cells are walked outward only while the best score possible beyond the
+   * visited block could still beat the k-th hit, so a dense area costs about as much as a
+   * distance query instead of scoring every restroom in the radius. Each cell keeps the
+   * highest rating and visit count inside it, which skips cells that cannot beat the k-th
+   * hit without looking at their points.
+   *
+   * @param lat query latitude
+   * @param lng query longitude
+   * @param radiusMeters maximum distance in meters
+   * @param limit maximum number of hits
+   * @param filter optional predicate every hit must satisfy
+   * @param model scoring function
+   * @param openSlot current week slot for the open-now term, or -1
+   * @return hits ordered by descending score, then distance and id
+   */
+  public List<NearbyHit> best(double lat, double lng, double radiusMeters, int limit,
+                              Predicate<IndexedRestroom> filter, RankingModel model,
+                              int openSlot) {
+    if (limit <= 0 || radiusMeters < 0) {
+      return List.of();
+    }
+    Map<Long, IndexedRestroom[]> snapshot = cells;
+    Map<Long, double[]> bounds = cellMaxima;
+    double[] overall = maxima;
+    PriorityQueue<NearbyHit> heap = new PriorityQueue<>(limit + 1, NearbyHit.BY_SCORE.reversed());
+    int row0 = row(lat);
+    int col0 = col(lng);
+    double maxLat = Math.min(90d, Math.abs(lat) + GeoMath.latitudeDelta(radiusMeters));
+    int maxRows = (int) Math.ceil(GeoMath.latitudeDelta(radiusMeters) / CELL_DEGREES) + 1;
+    int maxCols = Math.min((COLS - 1) / 2,
+        (int) Math.ceil(GeoMath.longitudeDelta(radiusMeters, maxLat) / CELL_DEGREES) + 1);
+    int maxRing = Math.max(maxRows, maxCols);
+    long budget = Math.max(1024L, snapshot.size() * 4L);
+    long visited = 0;
+    int completedRing = -1;
+    for (int ring = 0; ring <= maxRing; ring++) {
+      if (heap.size() == limit && ring > 0
+          && ringLowerBound(lat, lng, row0, col0, ring) > reach(model, heap.peek(), overall)) {
+        return drainByScore(heap);
+      }
+      long ringCells = ring == 0 ? 1 : 8L * ring;
+      if (visited + ringCells > budget) {
+        break;
+      }
+      visited += ringCells;
+      for (int dr = -ring; dr <= ring; dr++) {
+        if (Math.abs(dr) > maxRows) {
+          continue;
+        }
+        int step = Math.abs(dr) == ring ? 1 : 2 * ring;
+        for (int dc = -ring; dc <= ring; dc += step) {
+          long key = key(row0 + dr, col0 + dc);
+          if (Math.abs(dc) <= maxCols && snapshot.containsKey(key)) {
+            scanScored(snapshot.get(key), bounds.get(key), key, lat, lng, radiusMeters, limit,
+                filter, model, openSlot, heap);
+          }
+        }
+      }
+      completedRing = ring;
+    }
+    if (completedRing < maxRing) {
+      for (Map.Entry<Long, IndexedRestroom[]> cell : snapshot.entrySet()) {
+        long key = cell.getKey();
+        int dr = (int) (key / COLS) - row0;
+        int dc = Math.floorMod((int) (key % COLS) - col0 + COLS / 2, COLS) - COLS / 2;
+        if (Math.max(Math.abs(dr), Math.abs(dc)) > completedRing) {
+          scanScored(cell.getValue(), bounds.get(key), key, lat, lng, radiusMeters, limit,
+              filter, model, openSlot, heap);
+        }
+      }
+    }
+    return drainByScore(heap);
+  }
+
+  /**
+   * Find restrooms within a corridor around a route. Only the cells touched by each segment's
+   * buffered bounding box are visited, and a point is measured only against the segments that
+   * touched its cell, so the cost follows the route length and the number of matches.
+   *
+   * @param corridor buffered route
+   * @param limit maximum number of hits
+   * @param filter optional predicate every hit must satisfy
+   * @return hits whose distance is the position along the route of the closest approach,
+   *     ordered along the route then by id
+   */
+  public List<NearbyHit> alongCorridor(Corridor corridor, int limit,
+                                       Predicate<IndexedRestroom> filter) {
+    if (limit <= 0) {
+      return List.of();
+    }
+    Map<Long, IndexedRestroom[]> snapshot = cells;
+    Map<Long, List<Integer>> segmentsByCell = new HashMap<>();
+    for (int segment = 0; segment < corridor.segmentCount(); segment++) {
+      int current = segment;
+      for (long key : cellsIn(snapshot, corridor.bounds(segment))) {
+        segmentsByCell.computeIfAbsent(key, k -> new ArrayList<>(2)).add(current);
+      }
+    }
+    List<NearbyHit> hits = new ArrayList<>();
+    for (Map.Entry<Long, List<Integer>> cell : segmentsByCell.entrySet()) {
+      for (IndexedRestroom entry : snapshot.getOrDefault(cell.getKey(), EMPTY)) {
+        double closest = Double.POSITIVE_INFINITY;
+        double along = 0;
+        for (int segment : cell.getValue()) {
+          double[] projected = corridor.project(segment, entry.getLatitude(),
+              entry.getLongitude());
+          if (projected[0] < closest) {
+            closest = projected[0];
+            along = projected[1];
+          }
+        }
+        if (closest <= corridor.getBufferMeters() && (filter == null || filter.test(entry))) {
+          hits.add(new NearbyHit(entry, along));
+        }
+      }
+    }
+    hits.sort(NearbyHit.BY_DISTANCE);
+    return Collections.unmodifiableList(hits.subList(0, Math.min(limit, hits.size())));
+  }
+
+  /**
+   * Find restrooms inside a polygon.
+   *
+   * @param polygon search area
+   * @param limit maximum number of hits
+   * @param filter optional predicate every hit must satisfy
+   * @return hits ordered by distance from the polygon's center, then by id
+   */
+  public List<NearbyHit> withinPolygon(GeoPolygon polygon, int limit,
+                                       Predicate<IndexedRestroom> filter) {
+    if (limit <= 0) {
+      return List.of();
+    }
+    Map<Long, IndexedRestroom[]> snapshot = cells;
+    PriorityQueue<NearbyHit> heap = new PriorityQueue<>(limit + 1,
+        NearbyHit.BY_DISTANCE.reversed());
+    for (long key : cellsIn(snapshot, polygon.bounds())) {
+      for (IndexedRestroom entry : snapshot.getOrDefault(key, EMPTY)) {
+        if (!polygon.contains(entry.getLatitude(), entry.getLongitude())
+            || (filter != null && !filter.test(entry))) {
+          continue;
+        }
+        heap.offer(new NearbyHit(entry, GeoMath.haversineMeters(polygon.getCenterLat(),
+            polygon.getCenterLng(), entry.getLatitude(), entry.getLongitude())));
+        if (heap.size() > limit) {
+          heap.poll();
+        }
+      }
+    }
+    return drain(heap);
+  }
+
+  /**
+   * Restrooms inside a latitude/longitude box.
+   *
+   * @param bounds {minLat, maxLat, minLng, maxLng}
+   * @return entries inside the box, in no particular order
+   */
+  public List<IndexedRestroom> within(double[] bounds) {
+    Map<Long, IndexedRestroom[]> snapshot = cells;
+    List<IndexedRestroom> found = new ArrayList<>();
+    for (long key : cellsIn(snapshot, bounds)) {
+      for (IndexedRestroom entry : snapshot.getOrDefault(key, EMPTY)) {
+        if (entry.getLatitude() >= bounds[0] && entry.getLatitude() <= bounds[1]
+            && entry.getLongitude() >= bounds[2] && entry.getLongitude() <= bounds[3]) {
+          found.add(entry);
+        }
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Keys of the occupied cells overlapping a latitude/longitude box. Walks the box cell by
+   * cell, or the occupied cells instead when the box covers more cells than are occupied.
+   *
+   * @param bounds {minLat, maxLat, minLng, maxLng}
+   */
+  private static List<Long> cellsIn(Map<Long, IndexedRestroom[]> snapshot, double[] bounds) {
+    int minRow = row(bounds[0]);
+    int maxRow = row(bounds[1]);
+    boolean allCols = bounds[3] - bounds[2] >= 360d;
+    int minCol = (int) Math.floor((bounds[2] + 180d) / CELL_DEGREES);
+    int maxCol = allCols ? minCol + COLS - 1 : (int) Math.floor((bounds[3] + 180d) / CELL_DEGREES);
+    long boxCells = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+    List<Long> keys = new ArrayList<>();
+    if (boxCells > snapshot.size()) {
+      for (long key : snapshot.keySet()) {
+        int keyRow = (int) (key / COLS);
+        int keyCol = (int) (key % COLS);
+        if (keyRow >= minRow && keyRow <= maxRow
+            && Math.floorMod(keyCol - minCol, COLS) <= maxCol - minCol) {
+          keys.add(key);
+        }
+      }
+      return keys;
+    }
+    for (int r = minRow; r <= maxRow; r++) {
+      for (int c = minCol; c <= maxCol; c++) {
+        long key = key(r, c);
+        if (snapshot.containsKey(key)) {
+          keys.add(key);
+        }
+      }
+    }
+    return keys;
+  }
+
+  private void scan(IndexedRestroom[] entries, double lat, double lng, double radiusMeters,
+                    int limit, Predicate<IndexedRestroom> filter, NearbyCursor after,
+                    PriorityQueue<NearbyHit> heap) {
+    if (entries == null) {
+      return;
+    }
+    for (IndexedRestroom entry : entries) {
+      double bound = heap.size() == limit ? heap.peek().getDistanceMeters() : radiusMeters;
+      // The latitude gap alone is a lower bound on the distance and skips the trig.
+      if (Math.abs(entry.getLatitude() - lat) * GeoMath.METERS_PER_DEGREE > bound) {
+        continue;
+      }
+      double distance = GeoMath.haversineMeters(lat, lng, entry.getLatitude(),
+          entry.getLongitude());
+      if (distance > radiusMeters
+          || (after != null && !after.precedes(distance, entry.getId()))) {
+        continue;
+      }
+      if (heap.size() == limit) {
+        NearbyHit worst = heap.peek();
+        if (distance > worst.getDistanceMeters()
+            || (distance == worst.getDistanceMeters()
+                && entry.getId() > worst.getRestroom().getId())) {
+          continue;
+        }
+      }
+      if (filter != null && !filter.test(entry)) {
+        continue;
+      }
+      heap.offer(new NearbyHit(entry, distance));
+      if (heap.size() > limit) {
+        heap.poll();
+      }
+    }
+  }
+
+  private void scanScored(IndexedRestroom[] entries, double[] cellMax, long key, double lat,
+                          double lng, double radiusMeters, int limit,
+                          Predicate<IndexedRestroom> filter, RankingModel model, int openSlot,
+                          PriorityQueue<NearbyHit> heap) {
+    if (entries == null) {
+      return;
+    }
+    double[] maxOfCell = cellMax == null ? maxima : cellMax;
+    // Once the heap is full, nothing in this cell farther than the reach of the k-th score
+    // can enter it.
+    double bound = heap.size() == limit
+        ? Math.min(radiusMeters, reach(model, heap.peek(), maxOfCell)) : radiusMeters;
+    if (bound < radiusMeters && cellLowerBound(lat, lng, key) > bound) {
+      return;
+    }
+    for (IndexedRestroom entry : entries) {
+      if (Math.abs(entry.getLatitude() - lat) * GeoMath.METERS_PER_DEGREE > bound) {
+        continue;
+      }
+      double distance = GeoMath.haversineMeters(lat, lng, entry.getLatitude(),
+          entry.getLongitude());
+      if (distance > bound || (filter != null && !filter.test(entry))) {
+        continue;
+      }
+      NearbyHit hit = new NearbyHit(entry, distance, model.score(entry, distance, openSlot));
+      if (heap.size() < limit || NearbyHit.BY_SCORE.compare(hit, heap.peek()) < 0) {
+        heap.offer(hit);
+        if (heap.size() > limit) {
+          heap.poll();
+        }
+        if (heap.size() == limit) {
+          bound = Math.min(radiusMeters, reach(model, heap.peek(), maxOfCell));
+        }
+      }
+    }
+  }
+
+  /**
+   * Whether every point of a cell is strictly closer than the keyset position, so the cell
+   * cannot contribute to the page. Bounds the cell by its center plus half its diagonal.
+   */
+  private boolean before(NearbyCursor after, double lat, double lng, int row, int col) {
+    if (after == null) {
+      return false;
+    }
+    double centerLat = (row + 0.5) * CELL_DEGREES - 90d;
+    double centerLng = (col + 0.5) * CELL_DEGREES - 180d;
+    double farthest = GeoMath.haversineMeters(lat, lng, centerLat, centerLng)
+        + halfDiagonal(centerLat);
+    // One meter of slack absorbs rounding in the bound.
+    return farthest + 1d < after.getDistanceMeters();
+  }
+
+  /**
+   * Upper bound on the distance from the query point to any point within {@code ring} rings.
+   * The block is a latitude/longitude rectangle around the query point, so its farthest point
+   * is one of its corners.
+   */
+  private double blockUpperBound(double lat, double lng, int row0, int col0, int ring) {
+    double minLat = Math.max(-90d, (row0 - ring) * CELL_DEGREES - 90d);
+    double maxLat = Math.min(90d, (row0 + ring + 1) * CELL_DEGREES - 90d);
+    double minLng = (col0 - ring) * CELL_DEGREES - 180d;
+    double maxLng = (col0 + ring + 1) * CELL_DEGREES - 180d;
+    return Math.max(
+        Math.max(GeoMath.haversineMeters(lat, lng, minLat, minLng),
+            GeoMath.haversineMeters(lat, lng, minLat, maxLng)),
+        Math.max(GeoMath.haversineMeters(lat, lng, maxLat, minLng),
+            GeoMath.haversineMeters(lat, lng, maxLat, maxLng)));
+  }
+
+  /**
+   * Lower bound on the distance from the query point to any cell in {@code ring} or beyond,
+   * i.e. to anything outside the block of rings already visited.
+   */
+  private double ringLowerBound(double lat, double lng, int row0, int col0, int ring) {
+    int inner = ring - 1;
+    double blockMinLat = (row0 - inner) * CELL_DEGREES - 90d;
+    double blockMaxLat = (row0 + inner + 1) * CELL_DEGREES - 90d;
+    double blockMinLng = (col0 - inner) * CELL_DEGREES - 180d;
+    double blockMaxLng = (col0 + inner + 1) * CELL_DEGREES - 180d;
+    double latGap = Math.min(lat - blockMinLat, blockMaxLat - lat);
+    double latBound = latGap * GeoMath.METERS_PER_DEGREE;
+    double lngGap = Math.min(lng - blockMinLng, blockMaxLng - lng);
+    if (lngGap >= 90d) {
+      return latBound;
+    }
+    // Distance from the query point to the meridian lngGap degrees away.
+    double lngBound = GeoMath.EARTH_RADIUS_METERS * Math.asin(
+        Math.cos(Math.toRadians(lat)) * Math.sin(Math.toRadians(lngGap)));
+    return Math.min(latBound, lngBound);
+  }
+
+  private List<NearbyHit> drain(PriorityQueue<NearbyHit> heap) {
+    List<NearbyHit> hits = new ArrayList<>(heap);
+    hits.sort(NearbyHit.BY_DISTANCE);
+    return Collections.unmodifiableList(hits);
+  }
+
+  private static double reach(RankingModel model, NearbyHit worst, double[] bounds) {
+    return model.reach(worst.getScore(), bounds[0], (long) bounds[1]);
+  }
+
+  /**
+   * Lower bound on the distance from the query point to any point of a cell: the distance to
+   * its center less half its diagonal.
+   */
+  private static double cellLowerBound(double lat, double lng, long key) {
+    double centerLat = (key / COLS + 0.5) * CELL_DEGREES - 90d;
+    double centerLng = (key % COLS + 0.5) * CELL_DEGREES - 180d;
+    return GeoMath.haversineMeters(lat, lng, centerLat, centerLng) - halfDiagonal(centerLat)
+        - 1d;
+  }
+
+  private static double halfDiagonal(double centerLat) {
+    double equatorSide = Math.abs(centerLat) - CELL_DEGREES / 2;
+    return GeoMath.haversineMeters(Math.abs(centerLat), 0d, Math.max(0d, equatorSide),
+        CELL_DEGREES / 2);
+  }
+
+  private List<NearbyHit> drainByScore(PriorityQueue<NearbyHit> heap) {
+    List<NearbyHit> hits = new ArrayList<>(heap);
+    hits.sort(NearbyHit.BY_SCORE);
+    return Collections.unmodifiableList(hits);
+  }
+
+  private void removeFromCell(IndexedRestroom entry) {
+    long key = cellKey(entry.getLatitude(), entry.getLongitude());
+    IndexedRestroom[] current = cells.get(key);
+    if (current == null) {
+      return;
+    }
+    List<IndexedRestroom> kept = new ArrayList<>(current.length);
+    for (IndexedRestroom candidate : current) {
+      if (candidate.getId() != entry.getId()) {
+        kept.add(candidate);
+      }
+    }
+    if (kept.isEmpty()) {
+      cells.remove(key);
+      cellMaxima.remove(key);
+    } else {
+      cells.put(key, kept.toArray(EMPTY));
+    }
+  }
+
+  private static long cellKey(double lat, double lng) {
+    return key(row(lat), col(lng));
+  }
+
+  private static long key(int row, int col) {
+    if (row < 0 || row >= ROWS) {
+      return -1L;
+    }
+    return (long) row * COLS + Math.floorMod(col, COLS);
+  }
+
+  private static int row(double lat) {
+    return Math.min(ROWS - 1, Math.max(0, (int) Math.floor((lat + 90d) / CELL_DEGREES)));
+  }
+
+  private static int col(double lng) {
+    return Math.floorMod((int) Math.floor((lng + 180d) / CELL_DEGREES), COLS);
+  }
+}
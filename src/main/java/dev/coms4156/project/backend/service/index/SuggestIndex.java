@@ -0,0 +1,293 @@
+package dev.coms4156.project.backend.service.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prefix autocomplete over restroom names.
+ *
+ * <p>Names are normalized like {@link TextIndex} and inserted into a trie from every word
+ * start, so "par" suggests "Bryant Park" as well as "Parkside Playground". Names are inserted
+ * best first, by visit count then average rating, which lets each node keep its top
+ * {@value #TOP_N} suggestions as it is built. A lookup walks the prefix and returns that node's
+ * list, costing O(prefix length) whatever the number of names.
+ *
+ * <p>The trie is flattened into arrays and replaced as a whole by a periodic refresh, never on
+ * the request thread. Until then new and renamed restrooms sit in a small pending overlay that
+ * lookups scan and merge with the trie's answer, so they are suggested at once; visit and
+ * rating changes only reorder suggestions and wait for the refresh.
+ */
+@Component
+public class SuggestIndex {
+
+  /** Suggestions kept per trie node, the most a lookup can return. */
+  public static final int TOP_N = 10;
+
+  private static final Comparator<Entry> BEST_FIRST =
+      Comparator.comparingLong(Entry::visitCount).reversed()
+          .thenComparing(Comparator.comparingDouble(Entry::avgRating).reversed())
+          .thenComparingLong(Entry::id);
+
+  private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+  // New and renamed restrooms not compiled into the trie yet.
+  private final Map<Long, Entry> pending = new ConcurrentHashMap<>();
+  private final AtomicBoolean dirty = new AtomicBoolean();
+  private volatile Trie trie = Trie.compile(List.of());
+
+  /**
+   * Name and ranking statistics of one restroom.
+   *
+   * @param id restroom identifier
+   * @param name restroom name
+   * @param visitCount recorded visits
+   * @param avgRating average review rating
+   */
+  public record Entry(long id, String name, long visitCount, double avgRating) {
+  }
+
+  /**
+   * One suggested name, represented by its best-ranked restroom.
+   *
+   * @param name restroom name
+   * @param restroomId best-ranked restroom with this name
+   * @param visitCount its visit count
+   * @param avgRating its average rating
+   */
+  public record Suggestion(String name, long restroomId, long visitCount, double avgRating) {
+  }
+
+  /**
+   * Replace every entry and recompile.
+   *
+   * @param all every restroom
+   */
+  public synchronized void rebuild(Collection<Entry> all) {
+    entries.clear();
+    all.forEach(entry -> entries.put(entry.id(), entry));
+    pending.clear();
+    compile();
+  }
+
+  /**
+   * Add or replace a restroom. A new or renamed restroom is suggested at once from the pending
+   * overlay and compiled into the trie at the next {@link #refresh()}.
+   *
+   * @param entry restroom entry
+   */
+  public void upsert(Entry entry) {
+    Entry previous = entries.put(entry.id(), entry);
+    if (previous == null || !previous.name().equals(entry.name())) {
+      pending.put(entry.id(), entry);
+    }
+    dirty.set(true);
+  }
+
+  /**
+   * Record new ranking statistics; they take effect at the next {@link #refresh()}.
+   *
+   * @param id restroom identifier
+   * @param visitCount recorded visits
+   * @param avgRating average review rating
+   */
+  public void updateStats(long id, long visitCount, double avgRating) {
+    Entry updated = entries.computeIfPresent(id,
+        (key, entry) -> new Entry(id, entry.name(), visitCount, avgRating));
+    if (updated != null) {
+      dirty.set(true);
+    }
+  }
+
+  /**
+   * Recompile if names or statistics changed since the last compile, emptying the overlay.
+   */
+  @Scheduled(fixedDelayString = "${app.restroom.suggest.refresh-ms:30000}")
+  public void refresh() {
+    if (dirty.get()) {
+      synchronized (this) {
+        Map<Long, Entry> folded = new HashMap<>(pending);
+        compile();
+        // Entries upserted again during the compile stay pending for the next refresh.
+        folded.forEach(pending::remove);
+      }
+    }
+  }
+
+  /**
+   * Best names starting with a prefix, or with a word starting with it.
+   *
+   * @param prefix typed text
+   * @param limit maximum number of suggestions, at most {@value #TOP_N}
+   * @return suggestions, best first
+   */
+  public List<Suggestion> suggest(String prefix, int limit) {
+    String key = TextIndex.normalize(prefix);
+    int wanted = Math.min(limit, TOP_N);
+    if (pending.isEmpty()) {
+      return trie.lookup(key, wanted);
+    }
+    if (key.isEmpty() || wanted <= 0) {
+      return List.of();
+    }
+    Map<String, Entry> bestByName = new HashMap<>();
+    for (Entry entry : pending.values()) {
+      String name = TextIndex.normalize(entry.name());
+      if (name.startsWith(key) || name.contains(" " + key)) {
+        bestByName.merge(name, entry, SuggestIndex::better);
+      }
+    }
+    // Trie suggestions of pending restrooms may carry a name they no longer have.
+    for (Suggestion suggestion : trie.lookup(key, TOP_N)) {
+      if (!pending.containsKey(suggestion.restroomId())) {
+        bestByName.merge(TextIndex.normalize(suggestion.name()), new Entry(
+            suggestion.restroomId(), suggestion.name(), suggestion.visitCount(),
+            suggestion.avgRating()), SuggestIndex::better);
+      }
+    }
+    return bestByName.values().stream()
+        .sorted(BEST_FIRST)
+        .limit(wanted)
+        .map(entry -> new Suggestion(entry.name(), entry.id(), entry.visitCount(),
+            entry.avgRating()))
+        .toList();
+  }
+
+  private static Entry better(Entry current, Entry candidate) {
+    return BEST_FIRST.compare(candidate, current) < 0 ? candidate : current;
+  }
+
+  private void compile() {
+    dirty.set(false);
+    trie = Trie.compile(entries.values());
+  }
+
+  /**
+   * Immutable trie flattened into arrays: node {@code n}'s children are
+   * {@code childChars/childNodes[firstChild[n] .. firstChild[n + 1])}, sorted by character.
+   */
+  private static final class Trie {
+    private final char[] childChars;
+    private final int[] childNodes;
+    private final int[] firstChild;
+    private final int[][] top;
+    private final Suggestion[] suggestions;
+
+    private Trie(char[] childChars, int[] childNodes, int[] firstChild, int[][] top,
+                 Suggestion[] suggestions) {
+      this.childChars = childChars;
+      this.childNodes = childNodes;
+      this.firstChild = firstChild;
+      this.top = top;
+      this.suggestions = suggestions;
+    }
+
+    private static final class BuildNode {
+      private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+      private final int[] top = new int[TOP_N];
+      private int size;
+
+      private void offer(int suggestion) {
+        // Suggestions arrive best first, so the first TOP_N distinct ones are the best.
+        if (size < TOP_N && (size == 0 || top[size - 1] != suggestion)) {
+          top[size++] = suggestion;
+        }
+      }
+    }
+
+    static Trie compile(Collection<Entry> entries) {
+      Map<String, Entry> bestByName = new HashMap<>();
+      for (Entry entry : entries) {
+        String key = TextIndex.normalize(entry.name());
+        if (!key.isEmpty()) {
+          bestByName.merge(key, entry, SuggestIndex::better);
+        }
+      }
+      List<Map.Entry<String, Entry>> ranked = new ArrayList<>(bestByName.entrySet());
+      ranked.sort(Map.Entry.comparingByValue(BEST_FIRST));
+
+      BuildNode root = new BuildNode();
+      Suggestion[] suggestions = new Suggestion[ranked.size()];
+      for (int i = 0; i < ranked.size(); i++) {
+        Entry entry = ranked.get(i).getValue();
+        suggestions[i] = new Suggestion(entry.name(), entry.id(), entry.visitCount(),
+            entry.avgRating());
+        String key = ranked.get(i).getKey();
+        for (int start = 0; start < key.length(); start++) {
+          if (start == 0 || key.charAt(start - 1) == ' ') {
+            insert(root, key, start, i);
+          }
+        }
+      }
+      return flatten(root, suggestions);
+    }
+
+    private static void insert(BuildNode root, String key, int start, int suggestion) {
+      BuildNode node = root;
+      for (int i = start; i < key.length(); i++) {
+        node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+        node.offer(suggestion);
+      }
+    }
+
+    private static Trie flatten(BuildNode root, Suggestion[] suggestions) {
+      List<BuildNode> order = new ArrayList<>();
+      Map<BuildNode, Integer> ids = new HashMap<>();
+      Deque<BuildNode> queue = new ArrayDeque<>();
+      queue.add(root);
+      while (!queue.isEmpty()) {
+        BuildNode node = queue.poll();
+        ids.put(node, order.size());
+        order.add(node);
+        queue.addAll(node.children.values());
+      }
+      int edges = order.size() - 1;
+      char[] childChars = new char[edges];
+      int[] childNodes = new int[edges];
+      int[] firstChild = new int[order.size() + 1];
+      int[][] top = new int[order.size()][];
+      int next = 0;
+      for (int n = 0; n < order.size(); n++) {
+        BuildNode node = order.get(n);
+        firstChild[n] = next;
+        for (Map.Entry<Character, BuildNode> child : node.children.entrySet()) {
+          childChars[next] = child.getKey();
+          childNodes[next] = ids.get(child.getValue());
+          next++;
+        }
+        top[n] = Arrays.copyOf(node.top, node.size);
+      }
+      firstChild[order.size()] = next;
+      return new Trie(childChars, childNodes, firstChild, top, suggestions);
+    }
+
+    List<Suggestion> lookup(String prefix, int limit) {
+      int node = 0;
+      for (int i = 0; i < prefix.length() && node >= 0; i++) {
+        int from = firstChild[node];
+        int to = firstChild[node + 1];
+        int at = Arrays.binarySearch(childChars, from, to, prefix.charAt(i));
+        node = at >= 0 ? childNodes[at] : -1;
+      }
+      if (node < 0 || prefix.isEmpty() || limit <= 0) {
+        return List.of();
+      }
+      int[] best = top[node];
+      List<Suggestion> found = new ArrayList<>(Math.min(limit, best.length));
+      for (int i = 0; i < best.length && i < limit; i++) {
+        found.add(suggestions[best[i]]);
+      }
+      return found;
+    }
+  }
+}
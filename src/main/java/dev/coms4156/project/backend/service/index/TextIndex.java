@@ -0,0 +1,199 @@
+package dev.coms4156.project.backend.service.index;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongToDoubleFunction;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory trigram index over restroom names and addresses.
+ *
+ * <p>Text is lower-cased, stripped of accents and punctuation, and every word is padded and
+ * cut into three-letter grams, as PostgreSQL's pg_trgm does. A query matches a restroom by the
+ * share of the query's trigrams found in its text, so a typo costs only the few trigrams that
+ * touch it. Candidates come from the posting lists of the query's trigrams, never from a scan
+ * of every restroom.
+ */
+@Component
+public class TextIndex {
+
+  /** Share of the query's trigrams a restroom must contain to match. */
+  static final double MIN_SIMILARITY = 0.5;
+  /** Weight of the share of the restroom's own trigrams matched, favoring tighter matches. */
+  private static final double PRECISION_WEIGHT = 0.1;
+  private static final Pattern MARKS = Pattern.compile("\\p{M}");
+  private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+  private final Map<Long, Set<String>> documents = new ConcurrentHashMap<>();
+  private volatile boolean ready;
+
+  /**
+   * A restroom matching a query.
+   *
+   * @param id restroom identifier
+   * @param score similarity plus any boost, higher is better
+   */
+  public record Match(long id, double score) {
+  }
+
+  /**
+   * Text of one restroom.
+   *
+   * @param id restroom identifier
+   * @param name restroom name
+   * @param address street address, may be null
+   */
+  public record Document(long id, String name, String address) {
+  }
+
+  /**
+   * Replace the whole index content.
+   *
+   * @param all every restroom's text
+   */
+  public synchronized void rebuild(Collection<Document> all) {
+    postings.clear();
+    documents.clear();
+    all.forEach(this::add);
+    ready = true;
+  }
+
+  /**
+   * Index a created or edited restroom, replacing its previous text.
+   *
+   * @param document restroom text
+   */
+  public synchronized void upsert(Document document) {
+    remove(document.id());
+    add(document);
+  }
+
+  /**
+   * Drop a restroom from the index.
+   *
+   * @param id restroom identifier
+   */
+  public synchronized void remove(long id) {
+    Set<String> grams = documents.remove(id);
+    if (grams == null) {
+      return;
+    }
+    for (String gram : grams) {
+      Set<Long> ids = postings.get(gram);
+      if (ids != null) {
+        ids.remove(id);
+        if (ids.isEmpty()) {
+          postings.remove(gram);
+        }
+      }
+    }
+  }
+
+  private void add(Document document) {
+    Set<String> grams = trigrams(document.name() + " "
+        + (document.address() == null ? "" : document.address()));
+    documents.put(document.id(), grams);
+    for (String gram : grams) {
+      postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(document.id());
+    }
+  }
+
+  /**
+   * Whether the index has been loaded.
+   *
+   * @return true once {@link #rebuild(Collection)} has completed
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * Best matches for a query.
+   *
+   * @param query free text
+   * @param limit maximum number of matches
+   * @param boost extra score per restroom id, e.g. for proximity; may be null
+   * @return matches ordered by descending score, then id
+   */
+  public List<Match> search(String query, int limit, LongToDoubleFunction boost) {
+    Set<String> queryGrams = trigrams(query);
+    if (queryGrams.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+    Map<Long, int[]> shared = new HashMap<>();
+    for (String gram : queryGrams) {
+      for (Long id : postings.getOrDefault(gram, Set.of())) {
+        shared.computeIfAbsent(id, key -> new int[1])[0]++;
+      }
+    }
+    Comparator<Match> byScore = Comparator.comparingDouble(Match::score).reversed()
+        .thenComparingLong(Match::id);
+    PriorityQueue<Match> heap = new PriorityQueue<>(limit + 1, byScore.reversed());
+    for (Map.Entry<Long, int[]> candidate : shared.entrySet()) {
+      double similarity = (double) candidate.getValue()[0] / queryGrams.size();
+      Set<String> grams = documents.get(candidate.getKey());
+      if (similarity < MIN_SIMILARITY || grams == null) {
+        continue;
+      }
+      double score = similarity
+          + PRECISION_WEIGHT * candidate.getValue()[0] / Math.max(1, grams.size());
+      if (boost != null) {
+        score += boost.applyAsDouble(candidate.getKey());
+      }
+      heap.offer(new Match(candidate.getKey(), score));
+      if (heap.size() > limit) {
+        heap.poll();
+      }
+    }
+    return heap.stream().sorted(byScore).toList();
+  }
+
+  /**
+   * Lower-case the text, strip accents and replace everything but letters and digits with
+   * single spaces.
+   *
+   * @param text raw text, may be null
+   * @return normalized text
+   */
+  static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+        .replaceAll("")
+        .toLowerCase(Locale.ROOT);
+    return SEPARATORS.matcher(folded).replaceAll(" ").trim();
+  }
+
+  /**
+   * Trigrams of every word, each word padded with two spaces before and one after.
+   *
+   * @param text raw text, may be null
+   * @return distinct trigrams
+   */
+  static Set<String> trigrams(String text) {
+    Set<String> grams = new LinkedHashSet<>();
+    String normalized = normalize(text);
+    if (normalized.isEmpty()) {
+      return grams;
+    }
+    for (String word : normalized.split(" ")) {
+      String padded = "  " + word + " ";
+      for (int i = 0; i + 3 <= padded.length(); i++) {
+        grams.add(padded.substring(i, i + 3));
+      }
+    }
+    return grams;
+  }
+}
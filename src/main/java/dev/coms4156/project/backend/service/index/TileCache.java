@@ -0,0 +1,151 @@
+package dev.coms4156.project.backend.service.index;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Encoded map tiles, generated from the spatial index on first request and kept until a
+ * restroom inside them is created, edited or moved.
+ *
+ * <p>A write drops the tiles covering the restroom's old and new position at every zoom. A
+ * tile generated while a write was in progress is served but not cached, so a stale tile can
+ * never outlive the write that made it stale.
+ */
+@Component
+public class TileCache implements RestroomIndexListener {
+
+  /** Lowest zoom served as points; zoomed-out maps should use clusters. */
+  public static final int MIN_ZOOM = 8;
+
+  /** Highest zoom served. */
+  public static final int MAX_ZOOM = 22;
+
+  private final SpatialIndex spatialIndex;
+  private final Map<Long, Tile> tiles;
+  private final AtomicLong writes = new AtomicLong();
+
+  /**
+   * An encoded tile and its strong entity tag.
+   *
+   * @param bytes encoded tile, see {@link TileEncoder}
+   * @param etag quoted entity tag derived from the content
+   */
+  public record Tile(byte[] bytes, String etag) {
+  }
+
+  /**
+   * Create the cache.
+   *
+   * @param spatialIndex source of tile content
+   * @param maxTiles number of tiles kept, least recently used evicted first
+   */
+  @Autowired
+  public TileCache(SpatialIndex spatialIndex,
+                   @Value("${app.restroom.tile-cache-size:4096}") int maxTiles) {
+    this.spatialIndex = spatialIndex;
+    this.tiles = new LinkedHashMap<>(64, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, Tile> eldest) {
+        return size() > maxTiles;
+      }
+    };
+  }
+
+  /**
+   * Get a tile, generating and caching it if needed.
+   *
+   * @param z zoom between {@link #MIN_ZOOM} and {@link #MAX_ZOOM}
+   * @param x tile column
+   * @param y tile row
+   * @return encoded tile
+   */
+  public Tile get(int z, int x, int y) {
+    long key = key(z, x, y);
+    synchronized (tiles) {
+      Tile cached = tiles.get(key);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    long before = writes.get();
+    Tile tile = build(z, x, y, spatialIndex.within(bounds(z, x, y)));
+    synchronized (tiles) {
+      if (writes.get() == before) {
+        tiles.put(key, tile);
+      }
+    }
+    return tile;
+  }
+
+  /**
+   * Encode a tile from candidate entries, keeping those whose position falls in the tile.
+   *
+   * @param z zoom
+   * @param x tile column
+   * @param y tile row
+   * @param candidates entries in or around the tile
+   * @return encoded tile
+   */
+  public static Tile build(int z, int x, int y, List<IndexedRestroom> candidates) {
+    List<IndexedRestroom> inside = candidates.stream()
+        .filter(entry -> key(z, entry) == key(z, x, y))
+        .toList();
+    byte[] bytes = TileEncoder.encode(z, x, y, inside);
+    return new Tile(bytes, "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"");
+  }
+
+  /**
+   * Latitude/longitude box of a tile, padded slightly so edge points are not missed.
+   *
+   * @return {minLat, maxLat, minLng, maxLng}
+   */
+  public static double[] bounds(int z, int x, int y) {
+    double tiles = 1L << z;
+    double pad = 1e-9;
+    return new double[] {
+        GeoMath.mercatorLatitude((y + 1) / tiles) - pad,
+        GeoMath.mercatorLatitude(y / tiles) + pad,
+        x / tiles * 360d - 180d - pad,
+        (x + 1) / tiles * 360d - 180d + pad
+    };
+  }
+
+  @Override
+  public void onRebuild(Collection<IndexedRestroom> entries) {
+    writes.incrementAndGet();
+    synchronized (tiles) {
+      tiles.clear();
+    }
+  }
+
+  @Override
+  public void onUpsert(IndexedRestroom previous, IndexedRestroom current) {
+    writes.incrementAndGet();
+    synchronized (tiles) {
+      for (int z = MIN_ZOOM; z <= MAX_ZOOM; z++) {
+        if (previous != null) {
+          tiles.remove(key(z, previous));
+        }
+        tiles.remove(key(z, current));
+      }
+    }
+  }
+
+  private static long key(int z, IndexedRestroom entry) {
+    long n = 1L << z;
+    long x = Math.min(n - 1, (long) Math.floor(GeoMath.mercatorX(entry.getLongitude()) * n));
+    long y = Math.min(n - 1, (long) Math.floor(GeoMath.mercatorY(entry.getLatitude()) * n));
+    return key(z, x, y);
+  }
+
+  private static long key(int z, long x, long y) {
+    return (long) z << 58 | x << 29 | y;
+  }
+}
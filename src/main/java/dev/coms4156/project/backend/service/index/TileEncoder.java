@@ -0,0 +1,157 @@
+package dev.coms4156.project.backend.service.index;
+
+import dev.coms4156.project.backend.model.OperationalStatus;
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Compact binary encoding of the restrooms in one map tile.
+ *
+ * <p>Layout, where varints are unsigned LEB128 and signed values are zig-zag encoded first:
+ * <pre>
+ * varint  format version ({@value #VERSION})
+ * varint  z, x, y
+ * varint  point count
+ * per point, ordered by id:
+ *   varint         id minus the previous id (the first point stores its id)
+ *   signed varint  tile-local x minus the previous x, extent {@value #EXTENT}
+ *   signed varint  tile-local y minus the previous y, north at 0
+ *   byte           {@link OperationalStatus} ordinal
+ *   varint         {@link dev.coms4156.project.backend.model.Amenity} mask
+ * </pre>
+ * A point typically takes six to eight bytes.
+ */
+public final class TileEncoder {
+
+  /** Current format version. */
+  public static final int VERSION = 1;
+
+  /** Tile-local coordinate range, as in Mapbox Vector Tiles. */
+  public static final int EXTENT = 4096;
+
+  private TileEncoder() {
+  }
+
+  /**
+   * A decoded point, with coordinates in tile-local units.
+   *
+   * @param id restroom id
+   * @param x tile-local x
+   * @param y tile-local y
+   * @param status operational status
+   * @param amenityMask amenity bits
+   */
+  public record Point(long id, int x, int y, OperationalStatus status, long amenityMask) {
+  }
+
+  /**
+   * Encode the restrooms of a tile.
+   *
+   * @param z zoom
+   * @param x tile column
+   * @param y tile row
+   * @param entries restrooms inside the tile
+   * @return encoded tile
+   */
+  public static byte[] encode(int z, int x, int y, List<IndexedRestroom> entries) {
+    List<IndexedRestroom> sorted = new ArrayList<>(entries);
+    sorted.sort(Comparator.comparingLong(IndexedRestroom::getId));
+    ByteArrayOutputStream out = new ByteArrayOutputStream(16 + sorted.size() * 8);
+    writeVarint(out, VERSION);
+    writeVarint(out, z);
+    writeVarint(out, x);
+    writeVarint(out, y);
+    writeVarint(out, sorted.size());
+    double scale = (double) (1L << z) * EXTENT;
+    long lastId = 0;
+    long lastX = 0;
+    long lastY = 0;
+    for (IndexedRestroom entry : sorted) {
+      long localX = clamp((long) Math.floor(GeoMath.mercatorX(entry.getLongitude()) * scale)
+          - (long) x * EXTENT);
+      long localY = clamp((long) Math.floor(GeoMath.mercatorY(entry.getLatitude()) * scale)
+          - (long) y * EXTENT);
+      writeVarint(out, entry.getId() - lastId);
+      writeVarint(out, zigZag(localX - lastX));
+      writeVarint(out, zigZag(localY - lastY));
+      out.write(entry.getStatus().ordinal());
+      writeVarint(out, entry.getAmenityMask());
+      lastId = entry.getId();
+      lastX = localX;
+      lastY = localY;
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Decode a tile produced by {@link #encode}.
+   *
+   * @param tile encoded tile
+   * @return points in id order
+   * @throws IllegalArgumentException if the tile is malformed or of another version
+   */
+  public static List<Point> decode(byte[] tile) {
+    ByteBuffer in = ByteBuffer.wrap(tile);
+    try {
+      if (readVarint(in) != VERSION) {
+        throw new IllegalArgumentException("Unsupported tile version");
+      }
+      readVarint(in);
+      readVarint(in);
+      readVarint(in);
+      int count = (int) readVarint(in);
+      List<Point> points = new ArrayList<>(count);
+      long id = 0;
+      long x = 0;
+      long y = 0;
+      OperationalStatus[] statuses = OperationalStatus.values();
+      for (int i = 0; i < count; i++) {
+        id += readVarint(in);
+        x += unZigZag(readVarint(in));
+        y += unZigZag(readVarint(in));
+        OperationalStatus status = statuses[in.get()];
+        points.add(new Point(id, (int) x, (int) y, status, readVarint(in)));
+      }
+      return points;
+    } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException ex) {
+      throw new IllegalArgumentException("Malformed tile", ex);
+    }
+  }
+
+  private static long clamp(long local) {
+    return Math.max(0, Math.min(EXTENT - 1, local));
+  }
+
+  private static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static void writeVarint(ByteArrayOutputStream out, long value) {
+    long v = value;
+    while ((v & ~0x7fL) != 0) {
+      out.write((int) ((v & 0x7f) | 0x80));
+      v >>>= 7;
+    }
+    out.write((int) v);
+  }
+
+  private static long readVarint(ByteBuffer in) {
+    long result = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = in.get();
+      result |= (long) (b & 0x7f) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new IllegalArgumentException("Varint too long");
+  }
+}
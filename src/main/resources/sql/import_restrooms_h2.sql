@@ -1,2142 +0,0 @@
--- Auto-generated insert script for H2
-DELETE FROM third_party_account;
-DELETE FROM restroom;
-DELETE FROM api_call_log;
-ALTER TABLE third_party_account ALTER COLUMN id RESTART WITH 1;
-ALTER TABLE restroom ALTER COLUMN id RESTART WITH 1;
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1, 'Battery Park Zone 1', 'Park | POINT (-74.0159 40.70441)', 40.70441, -74.0159, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (2, 'Carl Schurz Main Lawn', 'Park | POINT (-73.945 40.77358)', 40.77358, -73.945, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (3, 'Tappen Park', 'Park | POINT (-74.0778 40.62661)', 40.62661, -74.0778, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (4, 'Refinery Building', 'Park | POINT (-73.967306 40.714424)', 40.714424, -73.967306, '{"mon": "06:00-23:00", "tue": "06:00-23:00", "wed": "06:00-23:00", "thu": "06:00-23:00", "fri": "06:00-23:00", "sat": "06:00-23:00", "sun": "06:00-23:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (5, 'Gravesend Library, BPL', 'Library | POINT (-73.97181 40.590553)', 40.590553, -73.97181, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Status: Closed for Construction', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (6, 'Aguilar Library, NYPL', 'Library | POINT (-73.94346 40.794223)', 40.794223, -73.94346, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Closed for Construction'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (7, 'Maspeth Park', 'Park | POINT (-73.9254 40.7309)', 40.7309, -73.9254, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (8, 'Crotona Malls Zone 1', 'Park | POINT (-73.8855 40.84284)', 40.84284, -73.8855, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (9, 'Fort Hamilton Library, BPL', 'Library | POINT (-74.031371 40.616381)', 40.616381, -74.031371, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (10, 'Rienzi Playground', 'Park | POINT (-73.8588 40.88764)', 40.88764, -73.8588, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (11, 'Lopez Playground', 'Park | POINT (-74.085 40.61127)', 40.61127, -74.085, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (12, 'Andrew Heiskell Braille and Talking Book Library, NYPL', 'Library | POINT (-73.993358 40.740474)', 40.740474, -73.993358, '{"mon": "10:00-17:00", "tue": "12:00-19:00", "wed": "10:00-17:00", "thu": "12:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Table in Children''s room'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (13, 'Old Town Playground', 'Park | POINT (-74.0815 40.59549)', 40.59549, -74.0815, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (14, '575 Fifth Avenue POPS', 'Privately Owned Public Space | POINT (-73.978243 40.756276)', 40.756276, -73.978243, '{"mon": "Closed", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "", "sun": "07:00-00:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (15, 'Fort Greene Park Zone 3', 'Park | POINT (-73.9747 40.69223)', 40.69223, -73.9747, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (16, 'Starlight Park Zone 1', 'Park | POINT (-73.882888 40.833733)', 40.833733, -73.882888, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (17, 'Clove Lakes Rink', 'Park | POINT (-74.1079 40.615832)', 40.615832, -74.1079, '{"mon": "", "tue": "", "wed": "", "thu": "", "fri": "16:00-22:00", "sat": "12:00-22:00", "sun": "12:00-18:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (18, 'Mosholu Playground', 'Park | POINT (-73.8829 40.87266)', 40.87266, -73.8829, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (19, 'General Hart Playground', 'Park | POINT (-73.8972 40.74879)', 40.74879, -73.8972, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (20, 'Gertrude Ederle Recreation Center', 'Park | POINT (-73.9887 40.77147)', 40.77147, -73.9887, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (21, 'Great Kills Library, NYPL', 'Library | POINT (-74.151113 40.552432)', 40.552432, -74.151113, '{"mon": "11:00-18:00", "tue": "11:00-18:00", "wed": "11:00-18:00", "thu": "11:00-18:00", "fri": "10:00-17:00", "sat": "10:00-16:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (22, 'Sunset Park Library, BPL', 'Library | POINT (-74.013631 40.64592)', 40.64592, -74.013631, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Partially Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (23, 'De Witt Clinton Park', 'Park | POINT (-73.9946 40.76821)', 40.76821, -73.9946, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (24, 'Arrochar Playground', 'Park | POINT (-74.0712 40.59784)', 40.59784, -74.0712, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (25, '55 East 52nd Street POPS', 'Privately Owned Public Space | POINT (-73.973672 40.759132)', 40.759132, -73.973672, '{"mon": "Closed", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "", "sun": "08:00-22:00"}', ARRAY['Partially Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (26, 'Potomac Playground', 'Park | POINT (-73.9442 40.68205)', 40.68205, -73.9442, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (27, 'Cypress Hills Library, BPL', 'Library | POINT (-73.874036 40.672716)', 40.672716, -73.874036, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (28, 'Big Bush Playground', 'Park | POINT (-73.9027 40.74025)', 40.74025, -73.9027, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (29, 'Maspeth Library, QPL', 'Library | POINT (-73.893106 40.727004)', 40.727004, -73.893106, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (30, 'Nautilus Playground', 'Park | POINT (-73.9959 40.57172)', 40.57172, -73.9959, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (31, 'Tilden Playground', 'Park | POINT (-73.9314 40.6479)', 40.6479, -73.9314, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (32, 'Poppenhusen Library, QPL', 'Library | POINT (-73.846019 40.786221)', 40.786221, -73.846019, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Yes, a key is needed to enter', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (33, 'Aqueduct Walk Zone 2', 'Park | POINT (-73.908 40.85841)', 40.85841, -73.908, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (34, 'Lemon Creek Park Marina', 'Park | POINT (-74.20115 40.515281)', 40.515281, -74.20115, '{"mon": "09:00-17:00", "tue": "09:00-17:00", "wed": "09:00-17:00", "thu": "09:00-17:00", "fri": "09:00-17:00", "sat": "09:00-17:00", "sun": "09:00-17:00"}', ARRAY['Both Single-Stall All Gender and Multi-Stall W/M'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (35, 'Electric Playground', 'Park | POINT (-73.8054 40.73577)', 40.73577, -73.8054, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (36, 'Quisqueya Playground', 'Park | POINT (-73.9312 40.84723)', 40.84723, -73.9312, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (37, 'Allerton Playground', 'Park | POINT (-73.8505 40.86567)', 40.86567, -73.8505, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (38, 'Gorman Playground', 'Park | POINT (-73.8842 40.76194)', 40.76194, -73.8842, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (39, 'River Run Playground', 'Park | POINT (-73.9821 40.78733)', 40.78733, -73.9821, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (40, 'Poor Richard''s Playground', 'Park | POINT (-73.9431 40.79299)', 40.79299, -73.9431, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (41, 'Playground For All Children', 'Park | POINT (-73.8253 40.84847)', 40.84847, -73.8253, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (42, 'Far Rockaway Library, QPL', 'Library | POINT (-73.752481 40.604322)', 40.604322, -73.752481, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (43, 'Sunset Park Playground', 'Park | POINT (-74.005 40.64768)', 40.64768, -74.005, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (44, 'Hoover - Manton Playgrounds', 'Park | POINT (-73.8201 40.71052)', 40.71052, -73.8201, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (45, 'Joseph Austin Playground', 'Park | POINT (-73.8012 40.71569)', 40.71569, -73.8012, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (46, 'Prospect Park Indoor Tennis', 'Park | POINT (-73.970257 40.651267)', 40.651267, -73.970257, '{"mon": "07:00-23:00", "tue": "07:00-23:00", "wed": "07:00-23:00", "thu": "07:00-23:00", "fri": "07:00-23:00", "sat": "07:00-23:00", "sun": "07:00-23:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (47, 'Broadway Library, QPL', 'Library | POINT (-73.918625 40.758538)', 40.758538, -73.918625, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Restrooms for adult are in the basement.
-Restrooms for children are located on the 2nd floor in the Children''s room and require keys.', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (48, 'Saw Mill Playground', 'Park | POINT (-73.9193 40.80892)', 40.80892, -73.9193, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (49, 'Kissena Park Zone 2 (Tennis Courts)', 'Park | POINT (-73.8086 40.74727)', 40.74727, -73.8086, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (50, 'Nellie Bly Amusement Park', 'Park | POINT (-73.994912 40.590614)', 40.590614, -73.994912, '{"mon": "Closed", "tue": "", "wed": "", "thu": "", "fri": "12:00-Dusk", "sat": "Closed", "sun": "11:00-Dusk"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (51, 'Pena Herrera Playground', 'Park | POINT (-74.0121 40.64939)', 40.64939, -74.0121, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (52, 'Ten Eyck Playground', 'Park | POINT (-73.9389 40.70903)', 40.70903, -73.9389, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (53, 'Countee Cullen Library, NYPL', 'Library | POINT (-73.941162 40.814844)', 40.814844, -73.941162, '{"mon": "11:00-19:00", "tue": "11:00-19:00", "wed": "11:00-19:00", "thu": "11:00-19:00", "fri": "11:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Please note that the ADA lift is out of order at Countee Cullen Library. We apologize for any inconvenience.', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (54, 'Van Cortlandt Classic Playground', 'Park | POINT (-73.8906 40.8852)', 40.8852, -73.8906, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (55, 'Douglaston Golf Course', 'Park | POINT (-73.732671 40.752189)', 40.752189, -73.732671, '{"mon": "Closed", "tue": "06:00-20:00", "wed": "06:00-20:00", "thu": "06:00-20:00", "fri": "06:00-20:00", "sat": "06:00-20:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (56, 'Rosewood Playground', 'Park | POINT (-73.8711 40.87298)', 40.87298, -73.8711, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (57, 'Mosholu Library, NYPL', 'Library | POINT (-73.878386 40.874388)', 40.874388, -73.878386, '{"mon": "11:00-19:00", "tue": "11:00-19:00", "wed": "11:00-19:00", "thu": "11:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (58, 'Poppenhusen Playground', 'Park | POINT (-73.8445 40.78142)', 40.78142, -73.8445, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (59, 'Barretto Point Park', 'Park | POINT (-73.8886 40.80591)', 40.80591, -73.8886, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (60, 'Brevoort Playground', 'Park | POINT (-73.9227 40.68068)', 40.68068, -73.9227, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (61, 'Twenty-Four Sycamores Park', 'Park | POINT (-73.9589 40.75942)', 40.75942, -73.9589, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (62, 'Riverdale Library, NYPL', 'Library | POINT (-73.902774 40.903731)', 40.903731, -73.902774, '{"mon": "10:00-18:00", "tue": "22:00-18:00", "wed": "10:00-18:00", "thu": "22:00-18:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (63, 'Baisley Park South Playground', 'Park | POINT (-73.7887 40.66913)', 40.66913, -73.7887, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (64, 'John Hancock Playground', 'Park | POINT (-73.955236 40.682231)', 40.682231, -73.955236, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (65, 'Beach 30th Street Playground', 'Park | POINT (-73.7627 40.59244)', 40.59244, -73.7627, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (66, 'Kennedy King Playground', 'Park | POINT (-73.9218 40.6587)', 40.6587, -73.9218, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (67, 'Sheltering Arms Playground', 'Park | POINT (-73.956 40.81534)', 40.81534, -73.956, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (68, 'Coney Island Beach Zone 2a', 'Park | POINT (-73.9598 40.57493)', 40.57493, -73.9598, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (69, 'North Rochdale Playground', 'Park | POINT (-73.7751 40.68007)', 40.68007, -73.7751, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (70, 'Al Quiñones Playground', 'Park | POINT (-73.9014 40.81545)', 40.81545, -73.9014, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (71, 'Westchester Square Library, NYPL', 'Library | POINT (-73.846732 40.840876)', 40.840876, -73.846732, '{"mon": "11:00-19:00", "tue": "22:00-18:00", "wed": "11:00-19:00", "thu": "22:00-18:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (72, 'Claremont Zone 1', 'Park | POINT (-73.9068 40.84151)', 40.84151, -73.9068, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (73, 'Mathews-Palmer Playground', 'Park | POINT (-73.9929 40.76122)', 40.76122, -73.9929, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (74, 'East River Park Zone 6', 'Park | POINT (-73.9728 40.72386)', 40.72386, -73.9728, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (75, 'Hunts Point Playground', 'Park | POINT (-73.8859 40.81428)', 40.81428, -73.8859, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (76, 'Evergreen Park', 'Park | POINT (-73.8964 40.69705)', 40.69705, -73.8964, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (77, 'Russell Sage Playground', 'Park | POINT (-73.8516 40.72396)', 40.72396, -73.8516, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (78, 'Van Voorhees Playground', 'Park | POINT (-73.9996 40.68966)', 40.68966, -73.9996, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (79, 'Springfield Park', 'Park | POINT (-73.7623 40.66083)', 40.66083, -73.7623, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (80, 'Corona Plaza APT', 'Public Plaza | POINT (-73.862638 40.74965)', 40.74965, -73.862638, '{"mon": "08:00-20:00", "tue": "08:00-20:00", "wed": "08:00-20:00", "thu": "08:00-20:00", "fri": "08:00-20:00", "sat": "08:00-20:00", "sun": "08:00-20:00"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (81, 'Newtown Playground', 'Park | POINT (-73.8698 40.73625)', 40.73625, -73.8698, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (82, 'Starvos Niarchos Foundation Library, NYPL', 'Library | POINT (-73.9817 40.7519)', 40.7519, -73.9817, '{"mon": "08:00-21:00", "tue": "08:00-21:00", "wed": "08:00-21:00", "thu": "08:00-21:00", "fri": "08:00-21:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (83, 'Tompkins Square Park', 'Park | POINT (-73.9814 40.72683)', 40.72683, -73.9814, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (84, 'Mosholu Golf Course', 'Park | POINT (-73.884205 40.887057)', 40.887057, -73.884205, '{"mon": "Closed", "tue": "07:00-20:00", "wed": "07:00-20:00", "thu": "07:00-20:00", "fri": "07:00-20:00", "sat": "07:00-20:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (85, 'Highlawn Library, BPL', 'Library | POINT (-73.986248 40.605701)', 40.605701, -73.986248, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (86, 'North Hills Library, QPL', 'Library | POINT (-73.731839 40.759262)', 40.759262, -73.731839, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (87, 'Wallenberg Playground', 'Park | POINT (-73.9272 40.85282)', 40.85282, -73.9272, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (88, 'Delphin H. Greene Playground', 'Park | POINT (-73.7287 40.68465)', 40.68465, -73.7287, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (89, 'McKinley Park Playground', 'Park | POINT (-74.0167 40.62657)', 40.62657, -74.0167, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (90, 'Kelly Park Playground', 'Park | POINT (-73.9576 40.60368)', 40.60368, -73.9576, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (91, 'Paerdegat Library, BPL', 'Library | POINT (-73.919986 40.632645)', 40.632645, -73.919986, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (92, 'St. Vartan Park', 'Park | POINT (-73.9733 40.74496)', 40.74496, -73.9733, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (93, 'Inwood Library, NYPL', 'Library | POINT (-73.924338 40.866961)', 40.866961, -73.924338, '{"mon": "10:00-19:00", "tue": "10:00-19:00", "wed": "10:00-19:00", "thu": "10:00-19:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (94, 'Crispus Attucks Playground', 'Park | POINT (-73.9592 40.68162)', 40.68162, -73.9592, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (95, 'Frederick Douglass Playground', 'Park | POINT (-73.9677 40.79701)', 40.79701, -73.9677, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (96, 'Eastern Parkway Library, BPL', 'Library | POINT (-73.933652 40.668495)', 40.668495, -73.933652, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (97, 'Colonel David Marcus Playground', 'Park | POINT (-73.9696 40.61004)', 40.61004, -73.9696, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (98, 'Hunts Point Library, NYPL', 'Library | POINT (-73.894134 40.818678)', 40.818678, -73.894134, '{"mon": "10:00-18:00", "tue": "10:00-18:00", "wed": "10:00-18:00", "thu": "10:00-18:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (99, 'Woodlawn Playground', 'Park | POINT (-73.8723 40.89993)', 40.89993, -73.8723, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (100, 'Clearview Cafe', 'Park | POINT (-73.792331 40.786638)', 40.786638, -73.792331, '{"mon": "17:00-21:00", "tue": "17:00-21:00", "wed": "17:00-21:00", "thu": "17:00-21:00", "fri": "17:00-21:00", "sat": "17:00-21:00", "sun": "17:00-21:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (101, 'Central Park Chess & Checkers House', 'Park | POINT (-73.974619 40.769114)', 40.769114, -73.974619, '{"mon": "07:30-Dusk", "tue": "07:30-Dusk", "wed": "07:30-Dusk", "thu": "07:30-Dusk", "fri": "07:30-Dusk", "sat": "07:30-Dusk", "sun": "07:30-Dusk"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (102, 'Stapleton Library, NYPL', 'Library | POINT (-74.077865 40.626265)', 40.626265, -74.077865, '{"mon": "11:00-19:00", "tue": "11:00-19:00", "wed": "11:00-19:00", "thu": "11:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (103, 'Renaissance Playground', 'Park | POINT (-73.9417 40.82168)', 40.82168, -73.9417, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (104, 'Macombs Dam Park Zone 1 Upper', 'Park | POINT (-73.9298 40.82838)', 40.82838, -73.9298, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (105, 'Lefferts Library, QPL', 'Library | POINT (-73.824831 40.686916)', 40.686916, -73.824831, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (106, 'Rugby Library, BPL', 'Library | POINT (-73.930358 40.648628)', 40.648628, -73.930358, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (107, 'Father Macris Park', 'Park | POINT (-74.163049 40.61681)', 40.61681, -74.163049, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (108, '100% Playground', 'Park | POINT (-73.8995 40.64679)', 40.64679, -73.8995, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (109, 'Bushwick Inlet Park', 'Park | POINT (-73.960598 40.721922)', 40.721922, -73.960598, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (110, 'Reservoir (Northwest)', 'Park | POINT (-73.9619 40.78944)', 40.78944, -73.9619, '{"mon": "", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "", "sun": ""}', ARRAY['Partially Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (111, 'Real Good Playground', 'Park | POINT (-73.8572 40.73552)', 40.73552, -73.8572, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (112, 'Grover Cleveland Playground', 'Park | POINT (-73.9109 40.7109)', 40.7109, -73.9109, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (113, 'St Mary''s Playground West', 'Park | POINT (-73.9134 40.81286)', 40.81286, -73.9134, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (114, 'Macombs Dam Park Zone 2 Lower', 'Park | POINT (-73.9284 40.8275)', 40.8275, -73.9284, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (115, 'Bayview Playground', 'Park | POINT (-73.8872 40.63495)', 40.63495, -73.8872, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (116, 'Baruch Playground', 'Park | POINT (-73.9769 40.71722)', 40.71722, -73.9769, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (117, 'Evelina Antonetty Playground', 'Park | POINT (-73.9284 40.81728)', 40.81728, -73.9284, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (118, 'Midland Beach Zone 4', 'Park | POINT (-74.083955 40.573606)', 40.573606, -74.083955, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (119, 'Hudson River Park Pier 83', 'Park | POINT (-74.001471 40.762739)', 40.762739, -74.001471, '{"mon": "09:30-21:30", "tue": "09:30-21:30", "wed": "09:30-21:30", "thu": "09:30-21:30", "fri": "09:30-21:30", "sat": "09:30-21:30", "sun": "09:30-21:30"}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (120, 'Bathgate Playground', 'Park | POINT (-73.8978 40.84051)', 40.84051, -73.8978, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (121, 'Hoffman Park', 'Park | POINT (-73.8715 40.73298)', 40.73298, -73.8715, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (122, 'Red Hook Park Zone 3', 'Park | POINT (-74.0078 40.67277)', 40.67277, -74.0078, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (123, 'Hudson River Park Pier 51', 'Park | POINT (-74.010384 40.737997)', 40.737997, -74.010384, '{"mon": "07:30-20:00", "tue": "07:30-20:00", "wed": "07:30-20:00", "thu": "07:30-20:00", "fri": "07:30-20:00", "sat": "07:30-20:00", "sun": "07:30-20:00"}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (124, 'Clove Lakes Cafe', 'Park | POINT (-74.108137 40.617665)', 40.617665, -74.108137, '{"mon": "11:30-21:00", "tue": "11:30-21:00", "wed": "11:30-21:00", "thu": "11:30-21:00", "fri": "11:30-21:00", "sat": "11:30-21:00", "sun": "11:30-21:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (125, 'Bronx Shore', 'Park | POINT (-73.9239 40.80055)', 40.80055, -73.9239, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (126, '173 St Playground', 'Park | POINT (-73.7835 40.70186)', 40.70186, -73.7835, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (127, 'Arcilla Playground', 'Park | POINT (-73.9146 40.82717)', 40.82717, -73.9146, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (128, 'East Springfield Playground', 'Park | POINT (-73.7399 40.69869)', 40.69869, -73.7399, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (129, 'Sunken Meadow', 'Park | POINT (-73.9189 40.79555)', 40.79555, -73.9189, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (130, 'St. George Library Center, NYPL', 'Library | POINT (-74.07668 40.641808)', 40.641808, -74.07668, '{"mon": "10:00-19:00", "tue": "10:00-19:00", "wed": "10:00-19:00", "thu": "10:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (131, 'Flatbush Library, BPL', 'Library | POINT (-73.958244 40.651933)', 40.651933, -73.958244, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (132, 'Wolfe''s Pond Park Zone 2', 'Park | POINT (-74.1894 40.51614)', 40.51614, -74.1894, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (133, 'Chatham Square Library, NYPL', 'Library | POINT (-73.996491 40.713341)', 40.713341, -73.996491, '{"mon": "09:00-19:00", "tue": "09:00-19:00", "wed": "09:00-19:00", "thu": "09:00-19:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (134, 'Betsy Head Park', 'Park | POINT (-73.9144 40.66194)', 40.66194, -73.9144, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (135, 'Playground 123', 'Park | POINT (-73.9559 40.80998)', 40.80998, -73.9559, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (136, 'Jamaica Bay Library, BPL', 'Library | POINT (-73.889245 40.634468)', 40.634468, -73.889245, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (137, '101st St. Soccer Field', 'Park | POINT (-73.9733 40.80055)', 40.80055, -73.9733, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (138, 'Mt Prospect Park Playground', 'Park | POINT (-73.9659 40.67216)', 40.67216, -73.9659, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (139, 'Owl Hollow Fields', 'Park | POINT (-74.196208 40.56068)', 40.56068, -74.196208, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (140, 'Fresh Meadows Library, QPL', 'Library | POINT (-73.782283 40.741591)', 40.741591, -73.782283, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (141, 'Mill Pond Park', 'Park | POINT (-73.9315 40.82445)', 40.82445, -73.9315, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (142, 'Annadale Playground', 'Park | POINT (-73.8517 40.7311)', 40.7311, -73.8517, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (143, 'Lower Highland Playground', 'Park | POINT (-73.8858 40.68404)', 40.68404, -73.8858, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (144, 'Harmony Playground', 'Park | POINT (-73.9767 40.66341)', 40.66341, -73.9767, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (145, 'Columbus Library, NYPL', 'Library | POINT (-73.991222 40.764943)', 40.764943, -73.991222, '{"mon": "10:00-19:00", "tue": "10:00-19:00", "wed": "11:00-19:00", "thu": "11:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (146, 'Ulmer Park Library, BPL', 'Library | POINT (-73.988629 40.592693)', 40.592693, -73.988629, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (147, 'Colden Playground', 'Park | POINT (-73.827 40.77015)', 40.77015, -73.827, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (148, 'Greencroft Playground', 'Park | POINT (-74.1361 40.55206)', 40.55206, -74.1361, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (149, 'Francis Martin Library, NYPL', 'Library | POINT (-73.909318 40.85743)', 40.85743, -73.909318, '{"mon": "11:00-19:00", "tue": "11:00-19:00", "wed": "11:00-19:00", "thu": "11:00-19:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (150, 'Bushwick Playground', 'Park | POINT (-73.9395 40.70171)', 40.70171, -73.9395, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (151, 'Richman (Echo) Park', 'Park | POINT (-73.9021 40.84958)', 40.84958, -73.9021, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (152, 'McKinley Playground', 'Park | POINT (-73.9856 40.72427)', 40.72427, -73.9856, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (153, 'Edenwald Library, NYPL', 'Library | POINT (-73.840839 40.888903)', 40.888903, -73.840839, '{"mon": "10:00-19:00", "tue": "10:00-19:00", "wed": "10:00-19:00", "thu": "10:00-19:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (154, 'Stables Area', 'Park | POINT (-73.8927 40.90093)', 40.90093, -73.8927, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (155, 'St. Albans Library, QPL', 'Library | POINT (-73.760074 40.692508)', 40.692508, -73.760074, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (156, 'Matthews Muliner Playground', 'Park | POINT (-73.8615 40.84694)', 40.84694, -73.8615, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (157, 'Arverne East Nature Preserve', 'Park | POINT (-73.7752 40.59237)', 40.59237, -73.7752, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (158, 'Queensboro Hill Library, QPL', 'Library | POINT (-73.825171 40.742939)', 40.742939, -73.825171, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Closed for Construction'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (159, 'Fermi Playground', 'Park | POINT (-73.9285 40.70031)', 40.70031, -73.9285, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (160, 'Paerdegat Basin Marina 1', 'Park | POINT (-73.903769 40.624409)', 40.624409, -73.903769, '{"mon": "09:00-17:00", "tue": "09:00-17:00", "wed": "09:00-17:00", "thu": "09:00-17:00", "fri": "09:00-17:00", "sat": "09:00-17:00", "sun": "09:00-17:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (161, 'Castle Hill Library, NYPL', 'Library | POINT (-73.850172 40.826638)', 40.826638, -73.850172, '{"mon": "10:00-18:00", "tue": "10:00-18:00", "wed": "10:00-18:00", "thu": "10:00-18:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (162, 'Sol Bloom Playground', 'Park | POINT (-73.9687 40.78985)', 40.78985, -73.9687, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (163, 'Chelsea Park', 'Park | POINT (-74.0008 40.74986)', 40.74986, -74.0008, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (164, 'McCarren Park Zone 3', 'Park | POINT (-73.9518 40.72203)', 40.72203, -73.9518, '{"mon": "07:30-23:00", "tue": "07:30-23:00", "wed": "07:30-23:00", "thu": "07:30-23:00", "fri": "07:30-23:00", "sat": "07:30-23:00", "sun": "07:30-23:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (165, 'Jaime Campiz Playground', 'Park | POINT (-73.9545 40.71344)', 40.71344, -73.9545, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (166, 'Carver Playground', 'Park | POINT (-73.9205 40.68045)', 40.68045, -73.9205, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (167, 'Little Bay Park Zone 2', 'Park | POINT (-73.782 40.79045)', 40.79045, -73.782, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (168, 'Mott Playground', 'Park | POINT (-73.9148 40.83127)', 40.83127, -73.9148, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (169, 'Columbus Park', 'Park | POINT (-74.0001 40.71486)', 40.71486, -74.0001, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (170, 'Caserta Playground', 'Park | POINT (-73.8538 40.83749)', 40.83749, -73.8538, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (171, 'Bartlett Playground', 'Park | POINT (-73.946 40.70071)', 40.70071, -73.946, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (172, 'Hunter Island Picnic Area', 'Park | POINT (-73.7904 40.86985)', 40.86985, -73.7904, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (173, 'John Allen Payne Playground', 'Park | POINT (-74.0236 40.63978)', 40.63978, -74.0236, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (174, 'Rockaway Beach 08a', 'Park | POINT (-73.8352 40.57793)', 40.57793, -73.8352, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (175, 'Auburndale Library, QPL', 'Library | POINT (-73.796343 40.773755)', 40.773755, -73.796343, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (176, 'Ballfields', 'Park | POINT (-73.848 40.74192)', 40.74192, -73.848, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (177, 'Coffey Park Playground', 'Park | POINT (-74.0087 40.67721)', 40.67721, -74.0087, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (178, 'Prospect Park Lakeside Center', 'Park | POINT (-73.96418 40.657069)', 40.657069, -73.96418, '{"mon": "09:00-19:00", "tue": "09:00-19:00", "wed": "09:00-19:00", "thu": "09:00-19:00", "fri": "09:00-19:00", "sat": "09:00-19:00", "sun": "09:00-19:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (179, 'Orchard Beach Snack Bars & Mobile Units', 'Park | POINT (-73.794799 40.865136)', 40.865136, -73.794799, '{"mon": "11:00-18:00", "tue": "11:00-18:00", "wed": "11:00-18:00", "thu": "11:00-18:00", "fri": "11:00-18:00", "sat": "11:00-18:00", "sun": "11:00-18:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (180, 'Cadman Plaza Park', 'Park | POINT (-73.9906 40.69845)', 40.69845, -73.9906, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (181, 'Harold Schneiderman Playground', 'Park | POINT (-73.8504 40.66475)', 40.66475, -73.8504, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (182, 'Baisley Pond Park Zone 4', 'Park | POINT (-73.7878 40.67464)', 40.67464, -73.7878, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (183, 'Library for Arts & Culture', 'Library | POINT (-73.978502 40.686541)', 40.686541, -73.978502, '{"mon": "10:00-17:00", "tue": "10:00-17:00", "wed": "10:00-17:00", "thu": "10:00-17:00", "fri": "10:00-17:00", "sat": "10:00-15:00", "sun": "Closed"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (184, 'North Meadow Recreation Center', 'Park | POINT (-73.9596 40.79115)', 40.79115, -73.9596, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations: No'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (185, 'Houston St Playground', 'Park | POINT (-73.9912 40.72244)', 40.72244, -73.9912, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (186, 'South Beach Zone 1', 'Park | POINT (-74.0636 40.59241)', 40.59241, -74.0636, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (187, 'Hamilton Metz Field', 'Park | POINT (-73.9407 40.66262)', 40.66262, -73.9407, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (188, 'Railroad Park', 'Park | POINT (-73.9156 40.82493)', 40.82493, -73.9156, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (189, 'Winthrop Playground', 'Park | POINT (-73.9548 40.65653)', 40.65653, -73.9548, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (190, 'Frank D. O''Connor Playground', 'Park | POINT (-73.8869 40.74439)', 40.74439, -73.8869, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (191, '67th Street Library, NYPL', 'Library | POINT (-73.959551 40.764923)', 40.764923, -73.959551, '{"mon": "11:00-19:00", "tue": "11:00-19:00", "wed": "11:00-19:00", "thu": "11:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (192, 'Story Playground', 'Park | POINT (-73.8631 40.82298)', 40.82298, -73.8631, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (193, 'McDonald Playground', 'Park | POINT (-73.9722 40.60116)', 40.60116, -73.9722, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (194, 'Rockaway Beach 04c', 'Park | POINT (-73.7957 40.58752)', 40.58752, -73.7957, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (195, 'Clinton Hill Library, BPL', 'Library | POINT (-73.966032 40.687387)', 40.687387, -73.966032, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (196, 'Jamaica LIRR Restroom', 'Transit | POINT (-73.808531 40.699608)', 40.699608, -73.808531, '{"mon": "07:00-12:00,13:00-19:00", "tue": "07:00-12:00,13:00-19:00", "wed": "07:00-12:00,13:00-19:00", "thu": "07:00-12:00,13:00-19:00", "fri": "07:00-12:00,13:00-19:00", "sat": "07:00-12:00,13:00-19:00", "sun": "07:00-12:00,13:00-19:00"}', ARRAY['MTA station with bathrooms located outside of fare gates and open to the wider public'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (197, 'Luther Gulick Park', 'Park | POINT (-73.9816 40.71594)', 40.71594, -73.9816, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (198, 'Marie Curie Playground', 'Park | POINT (-73.7715 40.75709)', 40.75709, -73.7715, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (199, 'New Amsterdam Library, NYPL', 'Library | POINT (-74.007871 40.713585)', 40.713585, -74.007871, '{"mon": "10:00-19:00", "tue": "10:00-19:00", "wed": "10:00-19:00", "thu": "10:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (200, 'Nelson Playground', 'Park | POINT (-73.9266 40.83503)', 40.83503, -73.9266, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (201, 'Hippo Playground', 'Park | POINT (-73.978 40.79338)', 40.79338, -73.978, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (202, 'Ridgewood Library, QPL', 'Library | POINT (-73.90259 40.705235)', 40.705235, -73.90259, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (203, 'Hoyt Playground', 'Park | POINT (-73.917342 40.772016)', 40.772016, -73.917342, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (204, 'St. Agnes Library, NYPL', 'Library | POINT (-73.977454 40.784843)', 40.784843, -73.977454, '{"mon": "10:00-18:00", "tue": "22:00-19:00", "wed": "10:00-19:00", "thu": "22:00-19:00", "fri": "10:00-18:00", "sat": "10:00-18:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (205, 'Marcy Library, BPL', 'Library | POINT (-73.951285 40.691631)', 40.691631, -73.951285, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (206, 'Wayanda Park', 'Park | POINT (-73.739 40.71086)', 40.71086, -73.739, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (207, 'Roy Wilkins Rec Center Zone 2A', 'Park | POINT (-73.7725 40.68766)', 40.68766, -73.7725, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (208, 'Queens Central Library, QPL', 'Library | POINT (-73.794679 40.707881)', 40.707881, -73.794679, '{"mon": "10:00-20:00", "tue": "10:00-20:00", "wed": "10:00-20:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Both Single-Stall All Gender and Multi-Stall W/M', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (209, 'Cunningham Park Indoor Tennis', 'Park | POINT (-73.772786 40.729396)', 40.729396, -73.772786, '{"mon": "7:00am-11:00pm (indoor season) 8:00am-7:30pm (outdoor season)", "tue": "7:00am-11:00pm (indoor season) 8:00am-7:30pm (outdoor season)", "wed": "7:00am-11:00pm (indoor season) 8:00am-7:30pm (outdoor season)", "thu": "7:00am-11:00pm (indoor season) 8:00am-7:30pm (outdoor season)", "fri": "7:00am-11:00pm (indoor season) 8:00am-7:30pm (outdoor season)", "sat": "7:00am-11:00pm (indoor season) 8:00am-7:30pm (outdoor season)", "sun": "7:00am-11:00pm (indoor season) 8:00am-7:30pm (outdoor season)"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (210, 'Martin Luther King Jr. Playground', 'Park | POINT (-73.8902 40.66742)', 40.66742, -73.8902, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (211, 'Alice Kornegay Triangle', 'Park | POINT (-73.9356 40.80655)', 40.80655, -73.9356, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (212, 'Lawrence Playground', 'Park | POINT (-73.8337 40.74845)', 40.74845, -73.8337, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (213, 'Park Slope Playground', 'Park | POINT (-73.9785 40.67703)', 40.67703, -73.9785, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (214, 'Bufano Park', 'Park | POINT (-73.831 40.83802)', 40.83802, -73.831, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (215, 'Terrace Playground', 'Park | POINT (-74.0983 40.61356)', 40.61356, -74.0983, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (216, 'Astoria Library, QPL', 'Library | POINT (-73.928743 40.772384)', 40.772384, -73.928743, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (217, 'Judge Moses Weinstein Playground', 'Park | POINT (-73.8204 40.71869)', 40.71869, -73.8204, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (218, 'Turtle Cove Driving Range', 'Park | POINT (-73.807479 40.864417)', 40.864417, -73.807479, '{"mon": "Closed", "tue": "07:00-22:00", "wed": "07:00-22:00", "thu": "07:00-22:00", "fri": "07:00-22:00", "sat": "07:00-22:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (219, 'Paerdegat Park', 'Park | POINT (-73.9381 40.63807)', 40.63807, -73.9381, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (220, 'Jackie Robinson Playground', 'Park | POINT (-73.9589 40.66587)', 40.66587, -73.9589, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (221, 'Langston Hughes Library, QPL', 'Library | POINT (-73.868201 40.757586)', 40.757586, -73.868201, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Both Single-Stall All Gender and Multi-Stall W/M', 'Yes, a key is needed to enter', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (222, 'Kingsbridge Library, NYPL', 'Library | POINT (-73.907707 40.880708)', 40.880708, -73.907707, '{"mon": "10:00-19:00", "tue": "22:00-19:00", "wed": "10:00-19:00", "thu": "22:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (223, 'Sobelsohn Park', 'Park | POINT (-73.8355 40.70986)', 40.70986, -73.8355, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (224, 'Carroll Park', 'Park | POINT (-73.9948 40.68087)', 40.68087, -73.9948, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (225, 'Paerdegat Basin Marina 5', 'Park | POINT (-73.905176 40.627513)', 40.627513, -73.905176, '{"mon": "09:00-17:00", "tue": "09:00-17:00", "wed": "09:00-17:00", "thu": "09:00-17:00", "fri": "09:00-17:00", "sat": "09:00-17:00", "sun": "09:00-17:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (226, 'Moore Playground', 'Park | POINT (-73.9392 40.8097)', 40.8097, -73.9392, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations: No'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (227, 'Webster Playground', 'Park | POINT (-73.8929 40.85952)', 40.85952, -73.8929, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (228, 'Commodore Barry Park', 'Park | POINT (-73.9793 40.69758)', 40.69758, -73.9793, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (229, 'Luna Playground', 'Park | POINT (-73.9788 40.57607)', 40.57607, -73.9788, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (230, '125th Street Library, NYPL', 'Library | POINT (-73.934849 40.803026)', 40.803026, -73.934849, '{"mon": "11:00-19:00", "tue": "10:00-19:00", "wed": "10:00-19:00", "thu": "11:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (231, 'Sol Lain Playground', 'Park | POINT (-73.984 40.71441)', 40.71441, -73.984, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (232, 'Hunters Point Library, QPL', 'Library | POINT (-73.95796 40.745269)', 40.745269, -73.95796, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (233, 'Fox Park', 'Park | POINT (-73.8985 40.81514)', 40.81514, -73.8985, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (234, 'Pat Parlato Playground', 'Park | POINT (-73.9462 40.57702)', 40.57702, -73.9462, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (235, 'The High Line Zone 2', 'Park | POINT (-74.0021 40.75258)', 40.75258, -74.0021, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (236, 'Ben Abrams Playground', 'Park | POINT (-73.8697 40.85438)', 40.85438, -73.8697, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (237, 'Albemarle Playground', 'Park | POINT (-73.9805 40.64604)', 40.64604, -73.9805, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (238, 'Todt Hill-Westerleigh Library, NYPL', 'Library | POINT (-74.148523 40.60961)', 40.60961, -74.148523, '{"mon": "10:00-19:00", "tue": "10:00-19:00", "wed": "10:00-19:00", "thu": "10:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Table outside restroom'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (239, 'Phil "Scooter" Rizzuto Park', 'Park | POINT (-73.8215 40.69467)', 40.69467, -73.8215, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (240, 'Saul Weprin Playground', 'Park | POINT (-73.7762 40.74788)', 40.74788, -73.7762, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (241, 'Bendheim Playground', 'Park | POINT (-73.9546 40.7904)', 40.7904, -73.9546, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Single -Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (242, 'Vinmont Veteran Park', 'Park | POINT (-73.9049 40.90215)', 40.90215, -73.9049, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (243, 'Coney Island Beach Zone 5b', 'Park | POINT (-73.9831 40.5726)', 40.5726, -73.9831, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (244, 'Bennett Park', 'Park | POINT (-73.9379 40.85322)', 40.85322, -73.9379, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (245, 'Curtis Playground', 'Park | POINT (-73.9176 40.64081)', 40.64081, -73.9176, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (246, 'Dean Playground', 'Park | POINT (-73.9728 40.68056)', 40.68056, -73.9728, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (247, 'Astoria Heights Playground', 'Park | POINT (-73.9113 40.76102)', 40.76102, -73.9113, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (248, 'Allerton Fields In Bronx Park', 'Park | POINT (-73.8766 40.86953)', 40.86953, -73.8766, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (249, 'Gerritsen Beach Library, BPL', 'Library | POINT (-73.923939 40.591379)', 40.591379, -73.923939, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Status: Closed for Construction', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (250, 'Underwood Park', 'Park | POINT (-73.9667 40.68857)', 40.68857, -73.9667, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (251, 'Soundview Park Zone 4', 'Park | POINT (-73.8783 40.81908)', 40.81908, -73.8783, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (252, 'Little Flower Playground', 'Park | POINT (-73.9886 40.71258)', 40.71258, -73.9886, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (253, 'Bill Rainey Park', 'Park | POINT (-73.8983 40.81876)', 40.81876, -73.8983, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (254, 'Beach 17 Playground', 'Park | POINT (-73.7506 40.59419)', 40.59419, -73.7506, '{"mon": "12:00-22:00", "tue": "12:00-22:00", "wed": "12:00-22:00", "thu": "12:00-22:00", "fri": "12:00-22:00", "sat": "12:00-22:00", "sun": "12:00-22:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (255, 'Whitestone Library, QPL', 'Library | POINT (-73.810703 40.788549)', 40.788549, -73.810703, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (256, '157 St Playground', 'Park | POINT (-73.7861 40.68455)', 40.68455, -73.7861, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (257, 'Monsignor Kett Playground', 'Park | POINT (-73.920891 40.862642)', 40.862642, -73.920891, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (258, 'P.S. 279 Playground', 'Park | POINT (-73.8933 40.64459)', 40.64459, -73.8933, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations: No'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (259, 'Orchard Bch. Pavilion', 'Park | POINT (-73.7947 40.86627)', 40.86627, -73.7947, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (260, 'Osborn Playground', 'Park | POINT (-73.9062 40.65609)', 40.65609, -73.9062, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (261, 'Bellerose Playground', 'Park | POINT (-73.7177 40.73286)', 40.73286, -73.7177, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (262, 'Cedar Lane Stables, Tudor Pk.', 'Park | POINT (-73.852033 40.670414)', 40.670414, -73.852033, '{"mon": "", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "", "sun": ""}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (263, 'East Flushing Library, QPL', 'Library | POINT (-73.784304 40.757554)', 40.757554, -73.784304, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (264, 'Agnes Haywood Playground', 'Park | POINT (-73.8617 40.88049)', 40.88049, -73.8617, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (265, 'La Guardia Playground', 'Park | POINT (-73.9598 40.71057)', 40.71057, -73.9598, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (266, 'Mccarren Park Indoor Tennis', 'Park | POINT (-73.954618 40.721812)', 40.721812, -73.954618, '{"mon": "06:00-00:00", "tue": "06:00-00:00", "wed": "06:00-00:00", "thu": "06:00-00:00", "fri": "06:00-00:00", "sat": "06:00-00:00", "sun": "06:00-00:00"}', ARRAY['Partially Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (267, 'Jefferson Market Library, NYPL', 'Library | POINT (-73.999171 40.734643)', 40.734643, -73.999171, '{"mon": "10:00-20:00", "tue": "10:00-20:00", "wed": "10:00-20:00", "thu": "10:00-20:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (268, 'Ten Mile River Playground', 'Park | POINT (-73.9527 40.82982)', 40.82982, -73.9527, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (269, 'Raymond Bush Playground', 'Park | POINT (-73.9394 40.6866)', 40.6866, -73.9394, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (270, 'Carl Schurz Promenade', 'Park | POINT (-73.9439 40.77571)', 40.77571, -73.9439, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (271, 'Travers Park', 'Park | POINT (-73.8895 40.75437)', 40.75437, -73.8895, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (272, 'Clark Playground', 'Park | POINT (-73.9212 40.81397)', 40.81397, -73.9212, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (273, 'Moynihan Connector', 'Park | POINT (-73.99929 40.752417)', 40.752417, -73.99929, '{"mon": "", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "", "sun": ""}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (274, 'Fdr Brdwalk/South Beach Rest.', 'Park | POINT (-74.066463 40.589199)', 40.589199, -74.066463, '{"mon": "06:00-23:00", "tue": "06:00-23:00", "wed": "06:00-23:00", "thu": "06:00-23:00", "fri": "06:00-23:00", "sat": "06:00-23:00", "sun": "06:00-23:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (275, 'Madison Square Park APT', 'Public Plaza | POINT (-73.987845 40.741309)', 40.741309, -73.987845, '{"mon": "08:00-20:00", "tue": "08:00-20:00", "wed": "08:00-20:00", "thu": "08:00-20:00", "fri": "08:00-20:00", "sat": "08:00-20:00", "sun": "08:00-20:00"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'This unit costs $.25 to use.'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (276, 'Mill Pond Playground', 'Park | POINT (-73.9317 40.82046)', 40.82046, -73.9317, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (277, 'Downing Street Playground', 'Park | POINT (-74.0029 40.73002)', 40.73002, -74.0029, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (278, 'DeKalb Library, BPL', 'Library | POINT (-73.9284 40.694825)', 40.694825, -73.9284, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Partially Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (279, 'Forest Hills Library, QPL', 'Library | POINT (-73.843016 40.722155)', 40.722155, -73.843016, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (280, 'Williamsburgh Library, BPL', 'Library | POINT (-73.957556 40.706939)', 40.706939, -73.957556, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (281, 'Van Cortlandt Golf Course', 'Park | POINT (-73.887601 40.896614)', 40.896614, -73.887601, '{"mon": "Closed", "tue": "06:00-20:00", "wed": "06:00-20:00", "thu": "06:00-20:00", "fri": "06:00-20:00", "sat": "06:00-20:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (282, 'Harlem Library, NYPL', 'Library | POINT (-73.943317 40.806169)', 40.806169, -73.943317, '{"mon": "11:00-19:00", "tue": "11:00-19:00", "wed": "11:00-19:00", "thu": "11:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (283, 'Penn Station LIRR Restroom', 'Transit | POINT (-73.993581 40.750588)', 40.750588, -73.993581, '{"mon": "07:00-12:00,13:00-19:00", "tue": "07:00-12:00,13:00-19:00", "wed": "07:00-12:00,13:00-19:00", "thu": "07:00-12:00,13:00-19:00", "fri": "07:00-12:00,13:00-19:00", "sat": "07:00-12:00,13:00-19:00", "sun": "07:00-12:00,13:00-19:00"}', ARRAY['MTA station with bathrooms located outside of fare gates and open to the wider public'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (284, 'Locust Point Marina', 'Park | POINT (-73.806112 40.816569)', 40.816569, -73.806112, '{"mon": "09:00-17:00", "tue": "09:00-17:00", "wed": "09:00-17:00", "thu": "09:00-17:00", "fri": "09:00-17:00", "sat": "09:00-17:00", "sun": "09:00-17:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (285, 'Arthur Kill Amusement Park', 'Park | POINT (-74.169255 40.561486)', 40.561486, -74.169255, '{"mon": "Tues-Sun 12pm-10pm", "tue": "Tues-Sun 12pm-10pm", "wed": "Tues-Sun 12pm-10pm", "thu": "Tues-Sun 12pm-10pm", "fri": "Tues-Sun 12pm-10pm", "sat": "Tues-Sun 12pm-10pm", "sun": "Tues-Sun 12pm-10pm"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (286, 'Rego Park Library, QPL', 'Library | POINT (-73.864504 40.727325)', 40.727325, -73.864504, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (287, 'Berriman Playground', 'Park | POINT (-73.8695 40.657)', 40.657, -73.8695, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (288, 'Harry Maze Playground', 'Park | POINT (-73.9232 40.64333)', 40.64333, -73.9232, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (289, 'Glen Oaks Library, QPL', 'Library | POINT (-73.714847 40.745181)', 40.745181, -73.714847, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (290, 'Vesuvio Playground', 'Park | POINT (-74.0025 40.72563)', 40.72563, -74.0025, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (291, 'Pelham South Park Headquarters', 'Park | POINT (-73.8247 40.85172)', 40.85172, -73.8247, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (292, 'Franz Sigel Park Zone 1', 'Park | POINT (-73.926 40.82137)', 40.82137, -73.926, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (293, 'Horace Harding Playground', 'Park | POINT (-73.8603 40.73318)', 40.73318, -73.8603, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (294, 'Lookout Hill', 'Park | POINT (-73.9704 40.65691)', 40.65691, -73.9704, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (295, 'Riverside Library, NYPL', 'Library | POINT (-73.984514 40.77424)', 40.77424, -73.984514, '{"mon": "10:00-19:00", "tue": "10:00-19:00", "wed": "10:00-19:00", "thu": "10:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (296, 'Telephone Playground', 'Park | POINT (-73.7566 40.7386)', 40.7386, -73.7566, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (297, 'Abraham Lincoln Playground', 'Park | POINT (-73.9371 40.81228)', 40.81228, -73.9371, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (298, 'Friends Field', 'Park | POINT (-73.972 40.61867)', 40.61867, -73.972, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (299, 'Flynn Playground', 'Park | POINT (-73.9119 40.82093)', 40.82093, -73.9119, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (300, 'Washington Market Park', 'Park | POINT (-74.0115 40.71749)', 40.71749, -74.0115, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (301, 'Bedford Playground', 'Park | POINT (-73.9641 40.7081)', 40.7081, -73.9641, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (302, 'Happy Warrior Playground', 'Park | POINT (-73.9685 40.79575)', 40.79575, -73.9685, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (303, 'Challenge Playground', 'Park | POINT (-73.7281 40.75691)', 40.75691, -73.7281, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (304, 'Christopher J. Igneri Playground', 'Park | POINT (-74.1195 40.60873)', 40.60873, -74.1195, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (305, 'Imagination Playground', 'Park | POINT (-74.004 40.70623)', 40.70623, -74.004, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Single -Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (306, 'Captain Mario Fajardo Park', 'Park | POINT (-73.8173 40.74503)', 40.74503, -73.8173, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (307, 'Dag Hammarskjold Food Kiosk', 'Park | POINT (-73.968158 40.752076)', 40.752076, -73.968158, '{"mon": "07:00-21:00", "tue": "07:00-21:00", "wed": "07:00-21:00", "thu": "07:00-21:00", "fri": "07:00-21:00", "sat": "07:00-21:00", "sun": "07:00-21:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (308, 'Fort Independence Playground', 'Park | POINT (-73.8959 40.88162)', 40.88162, -73.8959, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (309, 'Fort Greene Playground', 'Park | POINT (-73.9772 40.69234)', 40.69234, -73.9772, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (310, 'Saratoga Park', 'Park | POINT (-73.919 40.68506)', 40.68506, -73.919, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (311, 'Schomburg Center for Research in Black Culture, NYPL', 'Library | POINT (-73.940945 40.814657)', 40.814657, -73.940945, '{"mon": "10:00-18:00", "tue": "10:00-18:00", "wed": "10:00-18:00", "thu": "10:00-18:00", "fri": "10:00-18:00", "sat": "10:00-18:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (312, 'Greeley Square Park', 'Park | POINT (-73.98846 40.748533)', 40.748533, -73.98846, '{"mon": "08:00-21:00", "tue": "08:00-21:00", "wed": "08:00-21:00", "thu": "08:00-21:00", "fri": "08:00-21:00", "sat": "08:00-21:00", "sun": "08:00-21:00"}', ARRAY['Fully Accessible', 'Multi-Stall All Gender Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (313, 'Poe Park', 'Park | POINT (-73.8947 40.86504)', 40.86504, -73.8947, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (314, 'Castle Hill Playground', 'Park | POINT (-73.853 40.83903)', 40.83903, -73.853, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (315, 'Cortelyou Library, BPL', 'Library | POINT (-73.965966 40.640812)', 40.640812, -73.965966, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (316, 'Rufus King Park', 'Park | POINT (-73.8034 40.70334)', 40.70334, -73.8034, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (317, 'P.O. Reinaldo Salgado Playground', 'Park | POINT (-73.9255 40.68791)', 40.68791, -73.9255, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (318, 'Brooklyn Bridge Park Pier 6 - Quay Tower', 'Park | POINT (-74.000721 40.692827)', 40.692827, -74.000721, '{"mon": "06:00-01:00", "tue": "06:00-01:00", "wed": "06:00-01:00", "thu": "06:00-01:00", "fri": "06:00-01:00", "sat": "06:00-01:00", "sun": "06:00-01:00"}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (319, 'West New Brighton Library, NYPL', 'Library | POINT (-74.114823 40.634517)', 40.634517, -74.114823, '{"mon": "11:00-18:00", "tue": "11:00-18:00", "wed": "11:00-18:00", "thu": "11:00-18:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (320, 'Detective William T. Gunn Playground', 'Park | POINT (-73.7317 40.73229)', 40.73229, -73.7317, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (321, 'Vito Locascio Field', 'Park | POINT (-73.8446 40.67011)', 40.67011, -73.8446, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (322, '153 East 53rd Street POPS', 'Privately Owned Public Space | POINT (-73.970038 40.758406)', 40.758406, -73.970038, '{"mon": "Closed", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "", "sun": "07:00-23:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (323, 'Star Spangled Playground', 'Park | POINT (-73.9578 40.69169)', 40.69169, -73.9578, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (324, 'James Forten Playground', 'Park | POINT (-73.9655 40.67664)', 40.67664, -73.9655, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (325, 'Arlington Edinboro Playground', 'Park | POINT (-73.9467 40.82086)', 40.82086, -73.9467, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (326, 'Ferry Point Park Zone 2', 'Park | POINT (-73.8386 40.81201)', 40.81201, -73.8386, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (327, 'South Beach Zone 3', 'Park | POINT (-74.0759 40.5798)', 40.5798, -74.0759, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (328, 'Spuyten Duyvil Library, NYPL', 'Library | POINT (-73.914652 40.886294)', 40.886294, -73.914652, '{"mon": "10:00-18:00", "tue": "22:00-18:00", "wed": "10:00-18:00", "thu": "22:00-18:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Partially Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (329, 'High Bridge Library, NYPL', 'Library | POINT (-73.923552 40.837968)', 40.837968, -73.923552, '{"mon": "10:00-19:00", "tue": "22:00-19:00", "wed": "10:00-19:00", "thu": "22:00-19:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (330, 'Alley Pond Park Zone 2', 'Park | POINT (-73.74 40.74196)', 40.74196, -73.74, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (331, 'Tiffany Playground', 'Park | POINT (-73.8943 40.82476)', 40.82476, -73.8943, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (332, 'Cunningham Park Zone 1', 'Park | POINT (-73.7737 40.7265)', 40.7265, -73.7737, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (333, 'Allen Street Malls', 'Park | POINT (-73.9902 40.71955)', 40.71955, -73.9902, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (334, 'Montbellier Park', 'Park | POINT (-73.7564 40.67402)', 40.67402, -73.7564, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (335, 'Dr. Charles R. Drew Park', 'Park | POINT (-73.8024 40.68022)', 40.68022, -73.8024, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (336, 'Steinway Library, QPL', 'Library | POINT (-73.909458 40.776835)', 40.776835, -73.909458, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (337, 'New Lots Library, BPL', 'Library | POINT (-73.886072 40.665168)', 40.665168, -73.886072, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "13:00-17:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (338, 'Highland Park Zone 1', 'Park | POINT (-73.8901 40.6875)', 40.6875, -73.8901, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (339, 'Meadow Lake North', 'Park | POINT (-73.8412 40.74067)', 40.74067, -73.8412, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (340, '875 Third Avenue POPS', 'Privately Owned Public Space | POINT (-73.969197 40.757226)', 40.757226, -73.969197, '{"mon": "to", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "07:00-23:00", "sun": "11:00-19:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (341, 'Abe Stark Skating Rink', 'Park | POINT (-73.985895 40.573053)', 40.573053, -73.985895, '{"mon": "12:30-16:00", "tue": "12:30-16:00", "wed": "12:30-16:00", "thu": "12:30-16:00", "fri": "12:30-16:00", "sat": "12:30-16:00", "sun": "12:30-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (342, 'The Ramble', 'Park | POINT (-73.9677 40.77841)', 40.77841, -73.9677, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (343, 'Maurice A FitzGerald Playground', 'Park | POINT (-73.8395 40.69026)', 40.69026, -73.8395, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (344, 'Victory Field', 'Park | POINT (-73.8545 40.70131)', 40.70131, -73.8545, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (345, 'South Beach Library, NYPL', 'Library | POINT (-74.062982 40.595811)', 40.595811, -74.062982, '{"mon": "11:00-19:00", "tue": "11:00-19:00", "wed": "11:00-19:00", "thu": "11:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (346, 'The Great Hill', 'Park | POINT (-73.9591 40.79733)', 40.79733, -73.9591, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations: No'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (347, 'Hollis Library, QPL', 'Library | POINT (-73.762322 40.720175)', 40.720175, -73.762322, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Status: Closed for Construction'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (348, 'Bedford Library, BPL', 'Library | POINT (-73.956166 40.68182)', 40.68182, -73.956166, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (349, 'Bildersee Playground', 'Park | POINT (-73.9122 40.63595)', 40.63595, -73.9122, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (350, 'Dimattina Playground', 'Park | POINT (-74.0019 40.68047)', 40.68047, -74.0019, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (351, 'Maple Playground', 'Park | POINT (-73.8261 40.75596)', 40.75596, -73.8261, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (352, 'La Tourette Golf Course', 'Park | POINT (-74.149616 40.577587)', 40.577587, -74.149616, '{"mon": "Closed", "tue": "06:00-20:00", "wed": "06:00-20:00", "thu": "06:00-20:00", "fri": "06:00-20:00", "sat": "06:00-20:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (353, 'Ampere Playground', 'Park | POINT (-73.8568 40.68144)', 40.68144, -73.8568, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (354, 'South Rochdale Playground', 'Park | POINT (-73.7689 40.67405)', 40.67405, -73.7689, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (355, 'Jerome Park Library, NYPL', 'Library | POINT (-73.901194 40.869078)', 40.869078, -73.901194, '{"mon": "10:00-19:00", "tue": "22:00-19:00", "wed": "10:00-19:00", "thu": "22:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (356, 'Columbus Park', 'Park | POINT (-73.9998 40.71591)', 40.71591, -73.9998, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations: No'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (357, 'St Nicholas', 'Park | POINT (-73.9509 40.81371)', 40.81371, -73.9509, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (358, 'Elmhurst Library, QPL', 'Library | POINT (-73.876823 40.738563)', 40.738563, -73.876823, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Both Single-Stall All Gender and Multi-Stall W/M', 'Yes, a key is needed to enter', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (359, 'Fulton St (A-C) MTA Restroom', 'Transit | POINT (-74.009096 40.710532)', 40.710532, -74.009096, '{"mon": "07:00-12:00,13:00-19:00", "tue": "07:00-12:00,13:00-19:00", "wed": "07:00-12:00,13:00-19:00", "thu": "07:00-12:00,13:00-19:00", "fri": "07:00-12:00,13:00-19:00", "sat": "07:00-12:00,13:00-19:00", "sun": "07:00-12:00,13:00-19:00"}', ARRAY['MTA station with bathrooms located outside of fare gates and open to the wider public'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (360, 'Lincoln Rd Playground', 'Park | POINT (-73.9636 40.66048)', 40.66048, -73.9636, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (361, 'Playground For All Children', 'Park | POINT (-73.8495 40.74089)', 40.74089, -73.8495, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (362, 'Thomas Jefferson Park', 'Park | POINT (-73.934707 40.793795)', 40.793795, -73.934707, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (363, 'Hudson River Park Pier 84', 'Park | POINT (-74.000654 40.763121)', 40.763121, -74.000654, '{"mon": "09:30-22:00", "tue": "09:30-22:00", "wed": "09:30-22:00", "thu": "09:30-22:00", "fri": "09:30-22:00", "sat": "09:30-22:00", "sun": "09:30-22:00"}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (364, 'Peninsula Library, QPL', 'Library | POINT (-73.816066 40.585872)', 40.585872, -73.816066, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (365, 'Tecumseh Playground', 'Park | POINT (-73.9787 40.78191)', 40.78191, -73.9787, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (366, 'Parque De Los Ninos', 'Park | POINT (-73.8737 40.82714)', 40.82714, -73.8737, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (367, 'Sixteen Sycamores Playground', 'Park | POINT (-73.981 40.68672)', 40.68672, -73.981, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (368, 'Mapleton Library, BPL', 'Library | POINT (-73.989442 40.6231)', 40.6231, -73.989442, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Closed for Construction'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (369, 'McCaffrey Playground', 'Park | POINT (-73.9914 40.75916)', 40.75916, -73.9914, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (370, 'Belmont Playground', 'Park | POINT (-73.8875 40.85064)', 40.85064, -73.8875, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (371, 'Wildlife Sanct. & 119 St Tennis Courts', 'Park | POINT (-73.9657 40.81133)', 40.81133, -73.9657, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (372, 'Shore Road Park Zone 5', 'Park | POINT (-74.0395 40.6162)', 40.6162, -74.0395, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (373, 'Louis Armstrong Playground', 'Park | POINT (-73.8552 40.75494)', 40.75494, -73.8552, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (374, 'Greenpoint Playground', 'Park | POINT (-73.9593 40.73565)', 40.73565, -73.9593, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (375, 'Throg''s Neck Library, NYPL', 'Library | POINT (-73.819096 40.822881)', 40.822881, -73.819096, '{"mon": "10:00-18:00", "tue": "22:00-18:00", "wed": "10:00-18:00", "thu": "22:00-18:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (376, 'Cedar Grove Beach Zone 2', 'Park | POINT (-74.1016 40.55962)', 40.55962, -74.1016, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (377, 'Fmcp Heliport', 'Park | POINT (-73.850751 40.74454)', 40.74454, -73.850751, '{"mon": "09:00-17:00", "tue": "09:00-17:00", "wed": "09:00-17:00", "thu": "09:00-17:00", "fri": "09:00-17:00", "sat": "09:00-17:00", "sun": "09:00-17:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (378, 'East River Playground', 'Park | POINT (-73.9379 40.78919)', 40.78919, -73.9379, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (379, 'Daniel M. O''Connell Playground', 'Park | POINT (-73.7582 40.70019)', 40.70019, -73.7582, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (380, 'Center for Brooklyn History, BPL', 'Library | POINT (-73.992406 40.694811)', 40.694811, -73.992406, '{"mon": "10:00-18:00", "tue": "10:00-18:00", "wed": "10:00-18:00", "thu": "10:00-18:00", "fri": "10:00-18:00", "sat": "10:00-16:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (381, 'Tremont Library, NYPL', 'Library | POINT (-73.898351 40.846054)', 40.846054, -73.898351, '{"mon": "10:00-18:00", "tue": "22:00-18:00", "wed": "10:00-18:00", "thu": "22:00-18:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (382, 'Willis Playground', 'Park | POINT (-73.9227 40.81136)', 40.81136, -73.9227, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (383, 'Cunningham Park Zone 1', 'Park | POINT (-73.7754 40.72669)', 40.72669, -73.7754, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (384, 'Lawrence Virgilio Playground', 'Park | POINT (-73.9106 40.74749)', 40.74749, -73.9106, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (385, 'Railroad Playground', 'Park | POINT (-73.914 40.64924)', 40.64924, -73.914, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (386, 'Brooklyn Heights Library, BPL', 'Library | POINT (-73.991349 40.695691)', 40.695691, -73.991349, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "13:00-17:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (387, '725 Fifth Avenue POPS', 'Privately Owned Public Space | POINT (-73.973895 40.762319)', 40.762319, -73.973895, '{"mon": "Closed", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "", "sun": "08:00-22:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (388, 'Albert H. Mauro Playground', 'Park | POINT (-73.8271 40.72294)', 40.72294, -73.8271, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (389, 'Bensonhurst Park', 'Park | POINT (-74 40.59787)', 40.59787, -74.0, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (390, 'Squibb Park', 'Park | POINT (-73.9954 40.70106)', 40.70106, -73.9954, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (391, 'Fort Tryon Park Zone 1', 'Park | POINT (-73.9328 40.86077)', 40.86077, -73.9328, '{"mon": "08:30-21:00", "tue": "08:30-21:00", "wed": "08:30-21:00", "thu": "08:30-21:00", "fri": "08:30-21:00", "sat": "08:30-21:00", "sun": "08:30-21:00"}', ARRAY['Fully Accessible', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (392, 'Canarsie Library, BPL', 'Library | POINT (-73.899526 40.642217)', 40.642217, -73.899526, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Partially Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (393, 'Captain William Harry Thompson Playground', 'Park | POINT (-73.8779 40.83433)', 40.83433, -73.8779, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (394, 'Torsney Playground', 'Park | POINT (-73.922 40.74727)', 40.74727, -73.922, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (395, 'Hutchinson River Parkway Gas', 'Park | POINT (-73.838373 40.836702)', 40.836702, -73.838373, '{"mon": "00:00-24:00", "tue": "00:00-24:00", "wed": "00:00-24:00", "thu": "00:00-24:00", "fri": "00:00-24:00", "sat": "00:00-24:00", "sun": "00:00-24:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (396, 'Rolph Henry Playground', 'Park | POINT (-73.9475 40.65569)', 40.65569, -73.9475, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (397, 'The Painter''s Playground', 'Park | POINT (-73.8597 40.72042)', 40.72042, -73.8597, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (398, 'Morningside Playground', 'Park | POINT (-73.9578 40.80679)', 40.80679, -73.9578, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (399, 'New Utrecht Library, BPL', 'Library | POINT (-74.003378 40.608018)', 40.608018, -74.003378, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (400, 'World''s Fair Playground', 'Park | POINT (-73.8458 40.73717)', 40.73717, -73.8458, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (401, '174 St Playground', 'Park | POINT (-73.7781 40.69338)', 40.69338, -73.7781, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (402, 'Fairview Park Zone 1', 'Park | POINT (-74.2326 40.53165)', 40.53165, -74.2326, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (403, 'Westbourne Playground', 'Park | POINT (-73.7646 40.60831)', 40.60831, -73.7646, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (404, 'Dongan Playground', 'Park | POINT (-74.0898 40.58281)', 40.58281, -74.0898, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (405, 'South Of Fountain Of The Planets', 'Park | POINT (-73.8386 40.74672)', 40.74672, -73.8386, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (406, 'Laurelton Library, QPL', 'Library | POINT (-73.745675 40.676961)', 40.676961, -73.745675, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (407, 'Lanett Playground', 'Park | POINT (-73.7442 40.5993)', 40.5993, -73.7442, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (408, 'Matthew P. Sapolin Playground', 'Park | POINT (-73.9841 40.7777)', 40.7777, -73.9841, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (409, 'Valentino Park and Pier', 'Public Plaza | POINT (-74.01716 40.678014)', 40.678014, -74.01716, '{"mon": "08:00-20:00", "tue": "08:00-20:00", "wed": "08:00-20:00", "thu": "08:00-20:00", "fri": "08:00-20:00", "sat": "08:00-20:00", "sun": "08:00-20:00"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (410, 'Howard Beach Library, QPL', 'Library | POINT (-73.841804 40.663819)', 40.663819, -73.841804, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (411, 'Pomonok Playground', 'Park | POINT (-73.8141 40.73616)', 40.73616, -73.8141, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (412, 'Mellett Playground', 'Park | POINT (-73.9574 40.59708)', 40.59708, -73.9574, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (413, 'Castle Clinton National Monument', 'Park | POINT (-74.016429 40.703407)', 40.703407, -74.016429, '{"mon": "09:00-16:30", "tue": "09:00-16:30", "wed": "09:00-16:30", "thu": "09:00-16:30", "fri": "09:00-16:30", "sat": "09:00-16:30", "sun": "09:00-16:30"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (414, 'Wakefield Playground', 'Park | POINT (-73.8548 40.90186)', 40.90186, -73.8548, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (415, 'Sunken Meadow', 'Park | POINT (-73.919 40.79303)', 40.79303, -73.919, '{"mon": "06:00-23:00", "tue": "06:00-23:00", "wed": "06:00-23:00", "thu": "06:00-23:00", "fri": "06:00-23:00", "sat": "06:00-23:00", "sun": "06:00-23:00"}', ARRAY['Fully Accessible', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (416, 'Battery Park City Library, NYPL', 'Library | POINT (-74.01575 40.715699)', 40.715699, -74.01575, '{"mon": "10:00-18:00", "tue": "11:00-19:00", "wed": "10:00-18:00", "thu": "11:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (417, 'Alfred E. Smith Playground', 'Park | POINT (-73.9974 40.71104)', 40.71104, -73.9974, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (418, 'Mosholu Parkway Zone 4', 'Park | POINT (-73.8813 40.86895)', 40.86895, -73.8813, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (419, 'Fort Washington Library, NYPL', 'Library | POINT (-73.933867 40.847878)', 40.847878, -73.933867, '{"mon": "10:00-18:00", "tue": "10:00-18:00", "wed": "10:00-18:00", "thu": "10:00-18:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (420, 'Randall Playground', 'Park | POINT (-73.8497 40.81927)', 40.81927, -73.8497, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (421, 'Briarwood Library, QPL', 'Library | POINT (-73.819454 40.710043)', 40.710043, -73.819454, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (422, 'Tompkins Square Park', 'Park | POINT (-73.9814 40.72683)', 40.72683, -73.9814, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (423, 'Rockaway Beach 05b', 'Park | POINT (-73.8108 40.58465)', 40.58465, -73.8108, '{"mon": "11:00-20:00", "tue": "11:00-20:00", "wed": "11:00-20:00", "thu": "11:00-20:00", "fri": "11:00-20:00", "sat": "11:00-20:00", "sun": "11:00-20:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (424, 'Forest Park Golf Course', 'Park | POINT (-73.86408 40.699719)', 40.699719, -73.86408, '{"mon": "Closed", "tue": "06:00-20:00", "wed": "06:00-20:00", "thu": "06:00-20:00", "fri": "06:00-20:00", "sat": "06:00-20:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (425, 'Garibaldi Playground', 'Park | POINT (-74 40.60893)', 40.60893, -74.0, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (426, 'Pier 42', 'Park | POINT (-73.9834 40.71038)', 40.71038, -73.9834, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (427, 'High Line Food And Other Facilities', 'Park | POINT (-74.008125 40.739569)', 40.739569, -74.008125, '{"mon": "10:30-22:30", "tue": "10:30-22:30", "wed": "10:30-22:30", "thu": "10:30-22:30", "fri": "10:30-22:30", "sat": "10:30-22:30", "sun": "10:30-22:30"}', ARRAY['Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (428, 'Carousel', 'Park | POINT (-73.8552 40.70074)', 40.70074, -73.8552, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (429, 'Rochdale Village Library, QPL', 'Library | POINT (-73.770592 40.672884)', 40.672884, -73.770592, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (430, 'Seth Low Playground/ Bealin Square', 'Park | POINT (-73.9865 40.60826)', 40.60826, -73.9865, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (431, 'Greenpoint Library, BPL', 'Library | POINT (-73.950696 40.726036)', 40.726036, -73.950696, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "13:00-17:00"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (432, 'Pier 57 - Ground Floor, Rooftop', 'Park | POINT (-74.010294 40.74354)', 40.74354, -74.010294, '{"mon": "07:00-22:00", "tue": "07:00-22:00", "wed": "07:00-22:00", "thu": "07:00-22:00", "fri": "07:00-22:00", "sat": "07:00-22:00", "sun": "07:00-22:00"}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (433, 'Playground Of The Stars', 'Park | POINT (-73.8997 40.8356)', 40.8356, -73.8997, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (434, 'Bowne Playground', 'Park | POINT (-73.8063 40.77042)', 40.77042, -73.8063, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (435, 'West Farms Library, NYPL', 'Library | POINT (-73.883013 40.844653)', 40.844653, -73.883013, '{"mon": "10:00-19:00", "tue": "10:00-19:00", "wed": "10:00-19:00", "thu": "10:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (436, 'Frontera Park', 'Park | POINT (-73.8954 40.72488)', 40.72488, -73.8954, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (437, 'Bloomingdale Playground', 'Park | POINT (-74.2085 40.53501)', 40.53501, -74.2085, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (438, 'Paerdegat Athletic Facility', 'Park | POINT (-73.901957 40.626449)', 40.626449, -73.901957, '{"mon": "Temp Closed", "tue": "Temp Closed", "wed": "Temp Closed", "thu": "Temp Closed", "fri": "Temp Closed", "sat": "Temp Closed", "sun": "Temp Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (439, 'J. Hood Wright Park', 'Park | POINT (-73.9408 40.84645)', 40.84645, -73.9408, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (440, 'Detective Keith L Williams Park', 'Park | POINT (-73.7851 40.70398)', 40.70398, -73.7851, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (441, 'Elmhurst Park', 'Park | POINT (-73.8851 40.73052)', 40.73052, -73.8851, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (442, 'Carnegie Playground', 'Park | POINT (-73.9373 40.71599)', 40.71599, -73.9373, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (443, 'P.O. Serrano Playground', 'Park | POINT (-73.8505 40.82348)', 40.82348, -73.8505, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (444, 'Maria Hernandez Park', 'Park | POINT (-73.924 40.703)', 40.703, -73.924, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (445, 'John Jay Park', 'Park | POINT (-73.9491 40.7691)', 40.7691, -73.9491, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (446, 'Golconda Playground', 'Park | POINT (-73.9828 40.69797)', 40.69797, -73.9828, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (447, 'Manhattan Beach Zone 2', 'Park | POINT (-73.9441 40.57697)', 40.57697, -73.9441, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (448, 'Hutchinson River Prkwy Snack', 'Park | POINT (-73.83897 40.836286)', 40.836286, -73.83897, '{"mon": "00:00-24:00", "tue": "00:00-24:00", "wed": "00:00-24:00", "thu": "00:00-24:00", "fri": "00:00-24:00", "sat": "00:00-24:00", "sun": "00:00-24:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (449, 'Brady Playground', 'Park | POINT (-73.8686 40.85143)', 40.85143, -73.8686, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (450, 'McGoldrick Library, QPL', 'Library | POINT (-73.809835 40.763759)', 40.763759, -73.809835, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Multi-Stall All Gender Restrooms', 'Yes, a key is needed to enter', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (451, 'Stockton Playground', 'Park | POINT (-73.9486 40.69712)', 40.69712, -73.9486, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (452, 'The Big Park', 'Park | POINT (-74.1651 40.63096)', 40.63096, -74.1651, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (453, 'East Parade Grounds', 'Park | POINT (-73.9682 40.6508)', 40.6508, -73.9682, '{"mon": "Open by permit", "tue": "Open by permit", "wed": "Open by permit", "thu": "Open by permit", "fri": "Open by permit", "sat": "Open by permit", "sun": "Open by permit"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (454, 'Harry Belafonte 115th Street Library, NYPL', 'Library | POINT (-73.953532 40.802988)', 40.802988, -73.953532, '{"mon": "11:00-19:00", "tue": "11:00-19:00", "wed": "11:00-19:00", "thu": "11:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (455, 'Coney Island Beach Zone 5a', 'Park | POINT (-73.9808 40.57284)', 40.57284, -73.9808, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (456, 'Virginia Principe Playground', 'Park | POINT (-73.9043 40.72723)', 40.72723, -73.9043, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (457, 'Clove Lakes Park Zone 1', 'Park | POINT (-74.1046 40.61655)', 40.61655, -74.1046, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (458, 'Homecrest Library, BPL', 'Library | POINT (-73.960601 40.595245)', 40.595245, -73.960601, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (459, 'Playground Eighty LXXX', 'Park | POINT (-73.7096 40.74486)', 40.74486, -73.7096, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (460, 'Sankofa Park', 'Park | POINT (-73.886 40.66546)', 40.66546, -73.886, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (461, 'Alley Pond Indoor Tennis', 'Park | POINT (-73.735835 40.739347)', 40.739347, -73.735835, '{"mon": "07:00-23:00", "tue": "07:00-23:00", "wed": "07:00-23:00", "thu": "07:00-23:00", "fri": "07:00-23:00", "sat": "07:00-23:00", "sun": "07:00-23:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (462, 'Joyce Kilmer Park', 'Park | POINT (-73.921635 40.829594)', 40.829594, -73.921635, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (463, 'St. Nicholas Playground South', 'Park | POINT (-73.9472 40.81107)', 40.81107, -73.9472, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (464, '180 Maiden Lane POPS', 'Privately Owned Public Space | POINT (-74.005516 40.705277)', 40.705277, -74.005516, '{"mon": "to", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "08:30-22:00", "sun": "10:00-19:00"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (465, 'Redfern Playground', 'Park | POINT (-73.7491 40.61105)', 40.61105, -73.7491, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (466, 'Scylla Playground', 'Park | POINT (-73.9262 40.78372)', 40.78372, -73.9262, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (467, '825 Eighth Avenue POPS', 'Privately Owned Public Space | POINT (-73.986944 40.762238)', 40.762238, -73.986944, '{"mon": "Closed", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "", "sun": "06:00-21:00"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (468, 'Ella Fitzgerald Playground', 'Park | POINT (-73.7875 40.74473)', 40.74473, -73.7875, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (469, 'Corona Library, QPL', 'Library | POINT (-73.861978 40.750902)', 40.750902, -73.861978, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (470, 'Paerdegat Basin Marina 4', 'Park | POINT (-73.904208 40.627064)', 40.627064, -73.904208, '{"mon": "09:00-17:00", "tue": "09:00-17:00", "wed": "09:00-17:00", "thu": "09:00-17:00", "fri": "09:00-17:00", "sat": "09:00-17:00", "sun": "09:00-17:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (471, 'Pelham Bay Stable', 'Park | POINT (-73.813975 40.865923)', 40.865923, -73.813975, '{"mon": "09:00-18:00", "tue": "09:00-18:00", "wed": "09:00-18:00", "thu": "09:00-18:00", "fri": "09:00-18:00", "sat": "09:00-18:00", "sun": "09:00-18:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (472, 'Passerelle', 'Park | POINT (-73.8433 40.75166)', 40.75166, -73.8433, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (473, 'Bay Terrace Playground', 'Park | POINT (-73.7773 40.78244)', 40.78244, -73.7773, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (474, 'Ethan Allen Playground', 'Park | POINT (-73.8868 40.65578)', 40.65578, -73.8868, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (475, 'Hudson River Park Pier 45', 'Park | POINT (-74.010783 40.732905)', 40.732905, -74.010783, '{"mon": "07:00-00:00", "tue": "07:00-00:00", "wed": "07:00-00:00", "thu": "07:00-00:00", "fri": "07:00-00:00", "sat": "07:00-00:00", "sun": "07:00-00:00"}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (476, 'Arlington Library, BPL', 'Library | POINT (-73.887239 40.680698)', 40.680698, -73.887239, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (477, 'Macon Library, BPL', 'Library | POINT (-73.934807 40.683013)', 40.683013, -73.934807, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "13:00-17:00"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'closed until early july', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (478, 'Pacific Library, BPL', 'Library | POINT (-73.978585 40.683475)', 40.683475, -73.978585, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Partially Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (479, 'Robert E. Venable Park', 'Park | POINT (-73.8651 40.67441)', 40.67441, -73.8651, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (480, 'Samuel Seabury Playground', 'Park | POINT (-73.951 40.78546)', 40.78546, -73.951, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (481, 'Glendale Library, QPL', 'Library | POINT (-73.875746 40.702594)', 40.702594, -73.875746, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (482, 'Cunningham Gas Station', 'Park | POINT (-73.771671 40.725062)', 40.725062, -73.771671, '{"mon": "00:00-24:00", "tue": "00:00-24:00", "wed": "00:00-24:00", "thu": "00:00-24:00", "fri": "00:00-24:00", "sat": "00:00-24:00", "sun": "00:00-24:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (483, 'De Matti Park', 'Park | POINT (-74.0739 40.61475)', 40.61475, -74.0739, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (484, 'North Riverside Blvd and Slopes', 'Park | POINT (-73.9884 40.77972)', 40.77972, -73.9884, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Partially Accessible', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (485, 'Beach 9 Playground', 'Park | POINT (-73.7446 40.59563)', 40.59563, -73.7446, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (486, 'East River Waterfront Esplanade Zone 1', 'Park | POINT (-74.0034 40.70474)', 40.70474, -74.0034, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (487, 'George Bruce Library, NYPL', 'Library | POINT (-73.957055 40.813777)', 40.813777, -73.957055, '{"mon": "12:00-19:00", "tue": "12:00-19:00", "wed": "12:00-19:00", "thu": "12:00-19:00", "fri": "11:00-18:00", "sat": "11:00-18:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (488, 'Asser Levy Park', 'Park | POINT (-73.9729 40.57542)', 40.57542, -73.9729, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (489, 'Bloomingdale Playground', 'Park | POINT (-73.9662 40.79937)', 40.79937, -73.9662, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (490, 'Rose Hill Park', 'Park | POINT (-73.8908 40.86173)', 40.86173, -73.8908, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (491, 'Seba Playground', 'Park | POINT (-73.921 40.58963)', 40.58963, -73.921, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (492, 'Jackie Robinson Park Playground', 'Park | POINT (-73.9273 40.68023)', 40.68023, -73.9273, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (493, 'Van Cortlandt Mansion, Tennis Courts, Memorial Grove', 'Park | POINT (-73.893936 40.891109)', 40.891109, -73.893936, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (494, 'Grand Concourse Library, NYPL', 'Library | POINT (-73.910089 40.84401)', 40.84401, -73.910089, '{"mon": "10:00-20:00", "tue": "10:00-19:00", "wed": "10:00-20:00", "thu": "10:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (495, 'Lullwater & Boathouse', 'Park | POINT (-73.9653 40.66083)', 40.66083, -73.9653, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (496, 'Pelham Bay/ Split Rock Golf', 'Park | POINT (-73.806141 40.880138)', 40.880138, -73.806141, '{"mon": "Closed", "tue": "06:00-20:00", "wed": "06:00-20:00", "thu": "06:00-20:00", "fri": "06:00-20:00", "sat": "06:00-20:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (497, 'DiGilio Playground', 'Park | POINT (-73.9773 40.63276)', 40.63276, -73.9773, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (498, 'Watson Gleason Playground', 'Park | POINT (-73.8691 40.82903)', 40.82903, -73.8691, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (499, 'Northern Playground', 'Park | POINT (-73.8745 40.75629)', 40.75629, -73.8745, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (500, 'Monsignor Mcgolrick Playground', 'Park | POINT (-73.9435 40.72483)', 40.72483, -73.9435, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (501, 'Marconi Park', 'Park | POINT (-73.7956 40.69329)', 40.69329, -73.7956, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (502, 'Spring Creek Park Zone 1', 'Park | POINT (-73.8738 40.64917)', 40.64917, -73.8738, '{"mon": "Open by permit", "tue": "Open by permit", "wed": "Open by permit", "thu": "Open by permit", "fri": "Open by permit", "sat": "Open by permit", "sun": "Open by permit"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (503, 'Crotona Tennis House & Courts', 'Park | POINT (-73.8953 40.84004)', 40.84004, -73.8953, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (504, 'Midland Playground', 'Park | POINT (-74.0984 40.57478)', 40.57478, -74.0984, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (505, 'Marine Park Zone 1', 'Park | POINT (-73.9374 40.60787)', 40.60787, -73.9374, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (506, 'Sara D. Roosevelt Park', 'Park | POINT (-73.993 40.71881)', 40.71881, -73.993, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (507, 'Alley Pond Park Driving Range', 'Park | POINT (-73.749189 40.765302)', 40.765302, -73.749189, '{"mon": "06:30-23:30", "tue": "06:30-23:30", "wed": "06:30-23:30", "thu": "06:30-23:30", "fri": "06:30-23:30", "sat": "06:30-23:30", "sun": "06:30-23:30"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (508, '136 St Playground', 'Park | POINT (-73.8328 40.78496)', 40.78496, -73.8328, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (509, 'Auburndale Playground', 'Park | POINT (-73.7945 40.76587)', 40.76587, -73.7945, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (510, 'Library for the Performing Arts, Dorothy and Lewis B. Cullman Center Library, NYPL', 'Library | POINT (-73.984548 40.773515)', 40.773515, -73.984548, '{"mon": "10:30-20:00", "tue": "22:30-18:00", "wed": "22:30-18:00", "thu": "10:30-20:00", "fri": "10:30-18:00", "sat": "10:30-18:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (511, 'Peters Field', 'Park | POINT (-73.7747 40.70644)', 40.70644, -73.7747, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (512, 'Brower Park Library, BPL', 'Library | POINT (-73.948568 40.675379)', 40.675379, -73.948568, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (513, 'Bellerose Library, QPL', 'Library | POINT (-73.717106 40.735169)', 40.735169, -73.717106, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (514, 'Bill Brown Playground', 'Park | POINT (-73.9456 40.59177)', 40.59177, -73.9456, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (515, 'Sherman Creek', 'Park | POINT (-73.922 40.8578)', 40.8578, -73.922, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (516, 'Ryder Library, BPL', 'Library | POINT (-73.975968 40.615888)', 40.615888, -73.975968, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Closed for Construction'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (517, 'Hammel Playground', 'Park | POINT (-73.8094 40.58819)', 40.58819, -73.8094, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (518, 'City Line Park', 'Park | POINT (-73.8762 40.67953)', 40.67953, -73.8762, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (519, 'Howard Bennett Playground', 'Park | POINT (-73.939 40.8137)', 40.8137, -73.939, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (520, 'Steeplechase Park Carousel', 'Park | POINT (-73.983244 40.573119)', 40.573119, -73.983244, '{"mon": "11:00-22:00", "tue": "11:00-22:00", "wed": "11:00-22:00", "thu": "11:00-22:00", "fri": "11:00-22:00", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (521, 'Drew Playground', 'Park | POINT (-73.9033 40.83298)', 40.83298, -73.9033, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (522, 'Van Cortlandt Pool', 'Park | POINT (-73.8974 40.89066)', 40.89066, -73.8974, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (523, 'New Dorp Library, NYPL', 'Library | POINT (-74.11196 40.57194)', 40.57194, -74.11196, '{"mon": "10:00-19:00", "tue": "10:00-19:00", "wed": "10:00-19:00", "thu": "10:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Status: Closed for Construction', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (524, 'Paerdegat Basin Marina 3', 'Park | POINT (-73.904659 40.62724)', 40.62724, -73.904659, '{"mon": "09:00-17:00", "tue": "09:00-17:00", "wed": "09:00-17:00", "thu": "09:00-17:00", "fri": "09:00-17:00", "sat": "09:00-17:00", "sun": "09:00-17:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (525, 'Century Playground', 'Park | POINT (-73.9702 40.57702)', 40.57702, -73.9702, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (526, 'Silver Lake Golf Course', 'Park | POINT (-74.099068 40.623055)', 40.623055, -74.099068, '{"mon": "Closed", "tue": "06:00-20:00", "wed": "06:00-20:00", "thu": "06:00-20:00", "fri": "06:00-20:00", "sat": "06:00-20:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (527, 'Eastchester Library, NYPL', 'Library | POINT (-73.845066 40.870148)', 40.870148, -73.845066, '{"mon": "10:00-19:00", "tue": "10:00-19:00", "wed": "10:00-19:00", "thu": "10:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (528, 'Hamilton Grange Library, NYPL', 'Library | POINT (-73.948034 40.825681)', 40.825681, -73.948034, '{"mon": "10:00-19:00", "tue": "10:00-19:00", "wed": "10:00-19:00", "thu": "10:00-19:00", "fri": "11:00-18:00", "sat": "11:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (529, 'Playground Sixty Two LXII', 'Park | POINT (-73.8527 40.73608)', 40.73608, -73.8527, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (530, 'Brooklyn Bridge Park Pier 5 - Boathouse/Uplands', 'Park | POINT (-73.999127 40.695841)', 40.695841, -73.999127, '{"mon": "", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "", "sun": ""}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (531, 'Ditmars Playground', 'Park | POINT (-73.9073 40.77156)', 40.77156, -73.9073, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (532, 'Stroud Playground', 'Park | POINT (-73.9622 40.67499)', 40.67499, -73.9622, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (533, 'North Forest Park Library, QPL', 'Library | POINT (-73.853674 40.711165)', 40.711165, -73.853674, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (534, 'Soundview Park', 'Park | POINT (-73.8704 40.81802)', 40.81802, -73.8704, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (535, 'Quarry Ballfields', 'Park | POINT (-73.89 40.8502)', 40.8502, -73.89, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (536, 'Edmonds Playground', 'Park | POINT (-73.9717 40.68925)', 40.68925, -73.9717, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (537, 'Coney Island Beach Zone 4b', 'Park | POINT (-73.9759 40.57341)', 40.57341, -73.9759, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (538, 'Castlewood Playground', 'Park | POINT (-73.7208 40.74994)', 40.74994, -73.7208, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (539, 'Marc And Jason''s Playground', 'Park | POINT (-73.9499 40.66349)', 40.66349, -73.9499, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (540, 'Ancient Playground', 'Park | POINT (-73.9616 40.781)', 40.781, -73.9616, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (541, 'Corporal John A. Seravalli Playground', 'Park | POINT (-74.0047 40.73894)', 40.73894, -74.0047, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (542, 'Jennifer''s Playground', 'Park | POINT (-74.1635 40.62034)', 40.62034, -74.1635, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (543, 'Virginia Playground', 'Park | POINT (-73.8622 40.83433)', 40.83433, -73.8622, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (544, 'Stanley Isaacs Playground', 'Park | POINT (-73.9446 40.78293)', 40.78293, -73.9446, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (545, 'Martin Van Buren Playground', 'Park | POINT (-73.8962 40.83513)', 40.83513, -73.8962, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (546, 'Bayswater Playground', 'Park | POINT (-73.7675 40.59877)', 40.59877, -73.7675, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (547, 'Brooklyn Central Library, BPL', 'Library | POINT (-73.968226 40.672352)', 40.672352, -73.968226, '{"mon": "09:00-20:00", "tue": "09:00-20:00", "wed": "09:00-20:00", "thu": "09:00-20:00", "fri": "09:00-18:00", "sat": "09:00-18:00", "sun": "13:00-17:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (548, 'East River Park Zone 3', 'Park | POINT (-73.9752 40.7159)', 40.7159, -73.9752, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (549, 'Cedar Playground', 'Park | POINT (-73.9175 40.85528)', 40.85528, -73.9175, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (550, 'Conservatory Garden', 'Park | POINT (-73.9527 40.79419)', 40.79419, -73.9527, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (551, 'Playground Ninety', 'Park | POINT (-73.8783 40.75728)', 40.75728, -73.8783, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (552, 'Central Park West', 'Park | POINT (-73.9808 40.76919)', 40.76919, -73.9808, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (553, 'Silver Lake Park Playground', 'Park | POINT (-74.099 40.62828)', 40.62828, -74.099, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (554, 'South Shore Restaurant', 'Park | POINT (-74.204853 40.551624)', 40.551624, -74.204853, '{"mon": "09:00-17:00", "tue": "09:00-17:00", "wed": "09:00-17:00", "thu": "09:00-17:00", "fri": "09:00-17:00", "sat": "09:00-17:00", "sun": "09:00-17:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (555, 'Leif Ericson Park Playground', 'Park | POINT (-74.0129 40.63142)', 40.63142, -74.0129, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (556, 'Brooklyn Bridge Park Pier 1', 'Park | POINT (-73.99522 40.70267)', 40.70267, -73.99522, '{"mon": "06:00-01:00", "tue": "06:00-01:00", "wed": "06:00-01:00", "thu": "06:00-01:00", "fri": "06:00-01:00", "sat": "06:00-01:00", "sun": "06:00-01:00"}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (557, 'Vernon Playground', 'Park | POINT (-73.9474 40.75703)', 40.75703, -73.9474, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (558, 'North Park Phase 1', 'Park | POINT (-74.185269 40.5877)', 40.5877, -74.185269, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (559, 'Ciccarone Park', 'Park | POINT (-73.8866 40.8559)', 40.8559, -73.8866, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (560, 'Margaret I. Carman Green - Weeping Beech', 'Park | POINT (-73.8247 40.7635)', 40.7635, -73.8247, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (561, 'Lily Brown Playground', 'Park | POINT (-73.946 40.83891)', 40.83891, -73.946, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (562, 'Glenwood Playground', 'Park | POINT (-73.9201 40.63666)', 40.63666, -73.9201, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (563, 'Midwood Library, BPL', 'Library | POINT (-73.960316 40.625902)', 40.625902, -73.960316, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "13:00-17:00"}', ARRAY['Partially Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (564, 'Ottendorfer Library, NYPL', 'Library | POINT (-73.987744 40.728915)', 40.728915, -73.987744, '{"mon": "11:00-19:00", "tue": "11:00-19:00", "wed": "11:00-19:00", "thu": "11:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (565, 'William Sheridan Playground', 'Park | POINT (-73.964 40.71527)', 40.71527, -73.964, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (566, 'Lieutenant John H. Martinson Playground', 'Park | POINT (-74.1624 40.53719)', 40.53719, -74.1624, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (567, 'Windsor Park Library, QPL', 'Library | POINT (-73.755621 40.734513)', 40.734513, -73.755621, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (568, 'East Parade Grounds', 'Park | POINT (-73.9657 40.6519)', 40.6519, -73.9657, '{"mon": "07:30-17:00", "tue": "07:30-17:00", "wed": "07:30-17:00", "thu": "07:30-17:00", "fri": "07:30-17:00", "sat": "07:30-17:00", "sun": "07:30-17:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (569, 'Tall Oak Playground', 'Park | POINT (-73.7583 40.74634)', 40.74634, -73.7583, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (570, 'The Pearly Gates', 'Park | POINT (-73.8457 40.83878)', 40.83878, -73.8457, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (571, 'Middle Long Meadow', 'Park | POINT (-73.9716 40.66557)', 40.66557, -73.9716, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (572, 'The High Line Zone 1', 'Park | POINT (-74.0069 40.74364)', 40.74364, -74.0069, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (573, 'Queensboro Oval Indoor Tennis', 'Park | POINT (-73.960029 40.759246)', 40.759246, -73.960029, '{"mon": "07:00-23:00", "tue": "07:00-23:00", "wed": "07:00-23:00", "thu": "07:00-23:00", "fri": "07:00-23:00", "sat": "07:00-23:00", "sun": "07:00-23:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (574, 'Broad Channel Library, QPL', 'Library | POINT (-73.820054 40.60074)', 40.60074, -73.820054, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (575, 'Hunter''s Point South Park Zone 1', 'Park | POINT (-73.9608 40.74198)', 40.74198, -73.9608, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (576, 'Greenwood Playground', 'Park | POINT (-73.9766 40.65047)', 40.65047, -73.9766, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (577, 'East River Park Zone 2', 'Park | POINT (-73.9761 40.71281)', 40.71281, -73.9761, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (578, 'Windsor Terrace Library, BPL', 'Library | POINT (-73.97676 40.648758)', 40.648758, -73.97676, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Partially Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (579, 'Augustus St. Gaudens Playground', 'Park | POINT (-73.9821 40.73564)', 40.73564, -73.9821, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (580, 'Sgt. William Dougherty Playground', 'Park | POINT (-73.937 40.72353)', 40.72353, -73.937, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (581, 'Macomb''s Bridge Library, NYPL', 'Library | POINT (-73.935349 40.825536)', 40.825536, -73.935349, '{"mon": "10:00-18:00", "tue": "22:00-18:00", "wed": "11:00-19:00", "thu": "11:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (582, 'Burns Playground', 'Park | POINT (-73.8366 40.86295)', 40.86295, -73.8366, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (583, '210 St Playground', 'Park | POINT (-73.7651 40.73924)', 40.73924, -73.7651, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (584, 'Linden Park', 'Park | POINT (-73.8875 40.65826)', 40.65826, -73.8875, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (585, 'Pink Playground', 'Park | POINT (-73.8625 40.6665)', 40.6665, -73.8625, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (586, 'Flushing Meadows Grand Bay', 'Park | POINT (-73.857545 40.761118)', 40.761118, -73.857545, '{"mon": "09:00-17:00", "tue": "09:00-17:00", "wed": "09:00-17:00", "thu": "09:00-17:00", "fri": "09:00-17:00", "sat": "09:00-17:00", "sun": "09:00-17:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (587, 'Red Hook Library, BPL', 'Library | POINT (-74.010344 40.675249)', 40.675249, -74.010344, '{"mon": "10 am to 5 pm on weedays", "tue": "10 am to 5 pm on weedays", "wed": "10 am to 5 pm on weedays", "thu": "10 am to 5 pm on weedays", "fri": "10 am to 5 pm on weedays", "sat": "10 am to 5 pm on weedays", "sun": "10 am to 5 pm on weedays"}', ARRAY['Limited Accessibility', 'Single-Stall All Gender Restroom(s)', 'Red Hook Library is in a temporary interim space 362 Van Brunt Street
-Brooklyn, NY 11231'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (588, 'MacArthur Playground', 'Park | POINT (-73.965 40.75241)', 40.75241, -73.965, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (589, 'Loreto Playground', 'Park | POINT (-73.852 40.84886)', 40.84886, -73.852, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (590, 'Fidler-Wyckoff House Park', 'Park | POINT (-73.9209 40.64469)', 40.64469, -73.9209, '{"mon": "", "tue": "Closed", "wed": "", "thu": "", "fri": "", "sat": "Closed", "sun": ""}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (591, 'Marine Park Golf Course', 'Park | POINT (-73.912962 40.599348)', 40.599348, -73.912962, '{"mon": "Closed", "tue": "06:00-19:00", "wed": "06:00-19:00", "thu": "06:00-19:00", "fri": "06:00-19:00", "sat": "06:00-19:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (592, 'Hester St Playground', 'Park | POINT (-73.9941 40.71673)', 40.71673, -73.9941, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (593, 'Adams Street Library, BPL', 'Library | POINT (-73.987999 40.704143)', 40.704143, -73.987999, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (594, 'St. Andrew''s Playground', 'Park | POINT (-73.942 40.67881)', 40.67881, -73.942, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (595, 'Grand Central Parkway Gas', 'Park | POINT (-73.865189 40.767711)', 40.767711, -73.865189, '{"mon": "00:00-24:00", "tue": "00:00-24:00", "wed": "00:00-24:00", "thu": "00:00-24:00", "fri": "00:00-24:00", "sat": "00:00-24:00", "sun": "00:00-24:00"}', ARRAY['Both Single-Stall All Gender and Multi-Stall W/M'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (596, 'Crocheron Park Zone 1', 'Park | POINT (-73.7694 40.77205)', 40.77205, -73.7694, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (597, 'Mazzei Playground', 'Park | POINT (-73.8582 40.86251)', 40.86251, -73.8582, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (598, 'Haggerty Park', 'Park | POINT (-73.7581 40.71314)', 40.71314, -73.7581, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (599, '227th Street Playground', 'Park | POINT (-73.8641 40.89083)', 40.89083, -73.8641, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (600, 'Albert J. Parham Playground', 'Park | POINT (-73.9705 40.69023)', 40.69023, -73.9705, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (601, 'Clearview Golf Course', 'Park | POINT (-73.788413 40.781915)', 40.781915, -73.788413, '{"mon": "Closed", "tue": "06:00-20:00", "wed": "06:00-20:00", "thu": "06:00-20:00", "fri": "06:00-20:00", "sat": "06:00-20:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (602, 'Bethesda Terrace', 'Park | POINT (-73.9711 40.77352)', 40.77352, -73.9711, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations: No'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (603, 'Murray Playground', 'Park | POINT (-73.9489 40.74726)', 40.74726, -73.9489, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (604, '60 Wall Street POPS', 'Privately Owned Public Space | POINT (-74.008506 40.706249)', 40.706249, -74.008506, '{"mon": "Closed", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "", "sun": "07:00-22:00"}', ARRAY['Status: Closed for Construction'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (605, 'Clason''s Point Library, NYPL', 'Library | POINT (-73.875022 40.830001)', 40.830001, -73.875022, '{"mon": "10:00-19:00", "tue": "10:00-19:00", "wed": "10:00-19:00", "thu": "10:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (606, 'Henry Hudson Park', 'Park | POINT (-73.9206 40.88106)', 40.88106, -73.9206, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (607, 'Van Cortlandt Stadium', 'Park | POINT (-73.8981 40.88829)', 40.88829, -73.8981, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (608, 'Arthur Kill Restaurant', 'Park | POINT (-74.168707 40.561117)', 40.561117, -74.168707, '{"mon": "12:00-22:00", "tue": "12:00-22:00", "wed": "12:00-22:00", "thu": "12:00-22:00", "fri": "12:00-22:00", "sat": "12:00-22:00", "sun": "12:00-22:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (609, 'Alley Athletic Playground', 'Park | POINT (-73.7342 40.74)', 40.74, -73.7342, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (610, 'Stars & Stripes Playground', 'Park | POINT (-73.8392 40.88556)', 40.88556, -73.8392, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (611, 'Levy Playground', 'Park | POINT (-74.1291 40.63381)', 40.63381, -74.1291, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (612, 'Bush Terminal Park', 'Park | POINT (-74.0192 40.65335)', 40.65335, -74.0192, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (613, 'Playground 286', 'Park | POINT (-73.9385 40.59061)', 40.59061, -73.9385, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (614, 'Coney Island Beach Zone 7a', 'Park | POINT (-73.9923 40.57167)', 40.57167, -73.9923, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (615, 'Spirit Playground', 'Park | POINT (-73.9413 40.76139)', 40.76139, -73.9413, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (616, 'Long Island City Library, QPL', 'Library | POINT (-73.939311 40.757812)', 40.757812, -73.939311, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (617, 'Spring Creek Library, BPL', 'Library | POINT (-73.885868 40.653218)', 40.653218, -73.885868, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (618, 'Equity Playground', 'Park | POINT (-73.8536 40.69139)', 40.69139, -73.8536, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (619, 'Mulberry Street Library, NYPL', 'Library | POINT (-73.995686 40.724148)', 40.724148, -73.995686, '{"mon": "11:00-19:00", "tue": "11:00-19:00", "wed": "11:00-19:00", "thu": "10:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (620, 'Fred Samuel Playground', 'Park | POINT (-73.939 40.81735)', 40.81735, -73.939, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (621, 'Meadow Lake NE', 'Park | POINT (-73.8385 40.73586)', 40.73586, -73.8385, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (622, 'Willowbrook Park Recreational Area', 'Park | POINT (-74.1586 40.60417)', 40.60417, -74.1586, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (623, 'Central Park Ice Rinks', 'Park | POINT (-73.97449 40.767815)', 40.767815, -73.97449, '{"mon": "M-T 10:00am-2:20pm W-S 10:00am-10:00pm", "tue": "M-T 10:00am-2:20pm W-S 10:00am-10:00pm", "wed": "M-T 10:00am-2:20pm W-S 10:00am-10:00pm", "thu": "M-T 10:00am-2:20pm W-S 10:00am-10:00pm", "fri": "M-T 10:00am-2:20pm W-S 10:00am-10:00pm", "sat": "M-T 10:00am-2:20pm W-S 10:00am-10:00pm", "sun": "M-T 10:00am-2:20pm W-S 10:00am-10:00pm"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (624, 'Morningside Park Zone 1', 'Park | POINT (-73.959 40.80247)', 40.80247, -73.959, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (625, 'Belmont Library and Enrico Fermi Cultural Center, NYPL', 'Library | POINT (-73.887884 40.854353)', 40.854353, -73.887884, '{"mon": "10:00-18:00", "tue": "10:00-18:00", "wed": "10:00-18:00", "thu": "10:00-18:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (626, 'Seward Park', 'Park | POINT (-73.9891 40.71472)', 40.71472, -73.9891, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (627, 'Admiral Playground', 'Park | POINT (-73.7376 40.77093)', 40.77093, -73.7376, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (628, 'Ehrenreich-Austin Playground', 'Park | POINT (-73.837 40.71579)', 40.71579, -73.837, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (629, 'Inwood Hill Park Zone 2', 'Park | POINT (-73.9201 40.87401)', 40.87401, -73.9201, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (630, '53rd Street Library, NYPL', 'Library | POINT (-73.977365 40.760815)', 40.760815, -73.977365, '{"mon": "11:00-18:00", "tue": "11:00-18:00", "wed": "11:00-18:00", "thu": "11:00-18:00", "fri": "11:00-18:00", "sat": "11:00-18:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (631, 'Seton Park Playground', 'Park | POINT (-73.9171 40.88617)', 40.88617, -73.9171, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (632, 'Walker Park', 'Park | POINT (-74.1088 40.64373)', 40.64373, -74.1088, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (633, 'Frawleys'' Run', 'Park | POINT (-73.9515 40.79707)', 40.79707, -73.9515, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (634, 'Seaside Playground', 'Park | POINT (-73.8305 40.58072)', 40.58072, -73.8305, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (635, 'Gravesend Park', 'Park | POINT (-73.9849 40.62398)', 40.62398, -73.9849, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (636, 'Plaza de Las Americas APT', 'Public Plaza | POINT (-73.937997 40.84593)', 40.84593, -73.937997, '{"mon": "08:00-20:00", "tue": "08:00-20:00", "wed": "08:00-20:00", "thu": "08:00-20:00", "fri": "08:00-20:00", "sat": "08:00-20:00", "sun": "08:00-20:00"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'This unit costs $.25 to use.'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (637, 'Sarsfield Playground', 'Park | POINT (-73.9372 40.62034)', 40.62034, -73.9372, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (638, 'Hudson River Park Pier 97 - Portaloo', 'Park | POINT (-73.995107 40.771441)', 40.771441, -73.995107, '{"mon": "06:00-01:00", "tue": "06:00-01:00", "wed": "06:00-01:00", "thu": "06:00-01:00", "fri": "06:00-01:00", "sat": "06:00-01:00", "sun": "06:00-01:00"}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (639, 'Schmul Park', 'Park | POINT (-74.1879 40.59011)', 40.59011, -74.1879, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (640, 'Taylor Playground', 'Park | POINT (-73.8662 40.83902)', 40.83902, -73.8662, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (641, 'Harvey Playground', 'Park | POINT (-73.8236 40.7829)', 40.7829, -73.8236, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (642, 'Huguenot Park Library, NYPL', 'Library | POINT (-74.19323 40.534087)', 40.534087, -74.19323, '{"mon": "10:00-18:00", "tue": "10:00-18:00", "wed": "10:00-18:00", "thu": "10:00-18:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (643, 'College Point Fields', 'Park | POINT (-73.8373 40.77582)', 40.77582, -73.8373, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (644, 'Queens Valley Playground', 'Park | POINT (-73.8239 40.72191)', 40.72191, -73.8239, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (645, 'Ferry Point Park Zone 4', 'Park | POINT (-73.8263 40.82017)', 40.82017, -73.8263, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (646, 'Breukelen Playground', 'Park | POINT (-73.894 40.65373)', 40.65373, -73.894, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (647, 'Roebling Playground', 'Park | POINT (-73.9624 40.70611)', 40.70611, -73.9624, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (648, '645 Fifth Avenue POPS', 'Privately Owned Public Space | POINT (-73.976087 40.759207)', 40.759207, -73.976087, '{"mon": "Closed", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "", "sun": "08:00-22:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (649, 'Brownsville Library, BPL', 'Library | POINT (-73.908605 40.671535)', 40.671535, -73.908605, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (650, 'Rosedale Library, QPL', 'Library | POINT (-73.739912 40.659972)', 40.659972, -73.739912, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (651, 'Midland Beach Zone 4', 'Park | POINT (-74.0836 40.57395)', 40.57395, -74.0836, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (652, 'Crown Heights Library, BPL', 'Library | POINT (-73.948104 40.661198)', 40.661198, -73.948104, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (653, 'Mill Basin Marina', 'Park | POINT (-73.901723 40.612465)', 40.612465, -73.901723, '{"mon": "09:00-17:00", "tue": "09:00-17:00", "wed": "09:00-17:00", "thu": "09:00-17:00", "fri": "09:00-17:00", "sat": "09:00-17:00", "sun": "09:00-17:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (654, 'Jackson Heights Library, QPL', 'Library | POINT (-73.885071 40.750204)', 40.750204, -73.885071, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Both Single-Stall All Gender and Multi-Stall W/M', 'Yes, a key is needed to enter', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (655, 'Owl''s Head Park', 'Park | POINT (-74.032 40.6393)', 40.6393, -74.032, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (656, 'Sperandeo Brothers Playground', 'Park | POINT (-73.8843 40.67763)', 40.67763, -73.8843, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (657, 'Abigail Playground', 'Park | POINT (-73.9048 40.81732)', 40.81732, -73.9048, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (658, 'Corlears Hook Park', 'Park | POINT (-73.9798 40.71175)', 40.71175, -73.9798, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (659, 'Highland Park Zone 2', 'Park | POINT (-73.8929 40.68316)', 40.68316, -73.8929, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (660, 'Sheepshead Bay Library, BPL', 'Library | POINT (-73.955375 40.587022)', 40.587022, -73.955375, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (661, 'Raymond O''Connor Park', 'Park | POINT (-73.779 40.77101)', 40.77101, -73.779, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (662, 'Captain Tilly Park', 'Park | POINT (-73.7982 40.71144)', 40.71144, -73.7982, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (663, 'Dutch Kills Playground', 'Park | POINT (-73.9335 40.75774)', 40.75774, -73.9335, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (664, 'Baisley Park Library, QPL', 'Library | POINT (-73.79168 40.68032)', 40.68032, -73.79168, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (665, 'Canarsie Park Zone 1', 'Park | POINT (-73.896 40.62897)', 40.62897, -73.896, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (666, 'Langston Hughes Playground', 'Park | POINT (-73.9464 40.81221)', 40.81221, -73.9464, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (667, 'Middle Village Library, QPL', 'Library | POINT (-73.880861 40.712942)', 40.712942, -73.880861, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (668, 'Mill Pond Indoor Tennis', 'Park | POINT (-73.931564 40.824175)', 40.824175, -73.931564, '{"mon": "Park Hours", "tue": "Park Hours", "wed": "Park Hours", "thu": "Park Hours", "fri": "Park Hours", "sat": "Park Hours", "sun": "Park Hours"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (669, 'Washington Heights Library, NYPL', 'Library | POINT (-73.939712 40.834557)', 40.834557, -73.939712, '{"mon": "10:00-19:00", "tue": "22:00-19:00", "wed": "10:00-19:00", "thu": "22:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (670, 'E.M.T. Christopher J. Prescott Playground', 'Park | POINT (-74.1858 40.52249)', 40.52249, -74.1858, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (671, 'Canarsie Park Zone 2', 'Park | POINT (-73.900317 40.626151)', 40.626151, -73.900317, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (672, 'Rockaway Community Playground', 'Park | POINT (-73.7848 40.5983)', 40.5983, -73.7848, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (673, 'Surf Playground', 'Park | POINT (-73.9927 40.57367)', 40.57367, -73.9927, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (674, 'City Island Library, NYPL', 'Library | POINT (-73.786368 40.8477)', 40.8477, -73.786368, '{"mon": "11:00-19:00", "tue": "11:00-18:00", "wed": "11:00-18:00", "thu": "11:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (675, 'Tavern On The Green', 'Park | POINT (-73.977781 40.772206)', 40.772206, -73.977781, '{"mon": "06:00-01:00", "tue": "06:00-01:00", "wed": "06:00-01:00", "thu": "06:00-01:00", "fri": "06:00-01:00", "sat": "06:00-01:00", "sun": "06:00-01:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (676, 'Dry Harbor Playground', 'Park | POINT (-73.8681 40.70232)', 40.70232, -73.8681, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (677, 'Baychester Library, NYPL', 'Library | POINT (-73.829317 40.870762)', 40.870762, -73.829317, '{"mon": "10:00-19:00", "tue": "22:00-19:00", "wed": "10:00-19:00", "thu": "22:00-19:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (678, '61 West 62nd Street POPS', 'Privately Owned Public Space | POINT (-73.982838 40.771123)', 40.771123, -73.982838, '{"mon": "to", "tue": "", "wed": "", "thu": "", "fri": "08:00-22:00", "sat": "&", "sun": "09:00-22:00"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Located within the David Rubenstein Atrium at Lincoln Center.', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (679, 'Hillcrest Library, QPL', 'Library | POINT (-73.781921 40.729263)', 40.729263, -73.781921, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Only one restroom is partially ADA compliant.  One rest room requires a key another does not.', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (680, 'Pierrepont Playground', 'Park | POINT (-73.9976 40.69635)', 40.69635, -73.9976, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (681, 'Conference House Park Zone 2', 'Park | POINT (-74.2517 40.50228)', 40.50228, -74.2517, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (682, 'Martin Luther King, Jr. Playground', 'Park | POINT (-73.950318 40.800334)', 40.800334, -73.950318, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (683, 'Seaside Library, QPL', 'Library | POINT (-73.837748 40.579413)', 40.579413, -73.837748, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Status: Closed for Construction', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (684, 'Bryant Park', 'Park | POINT (-73.9827 40.75404)', 40.75404, -73.9827, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (685, 'Dyker Playground', 'Park | POINT (-74.0132 40.61308)', 40.61308, -74.0132, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (686, 'Playground Seventy Five', 'Park | POINT (-73.8084 40.72638)', 40.72638, -73.8084, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (687, 'Melrose Library, NYPL', 'Library | POINT (-73.917585 40.826593)', 40.826593, -73.917585, '{"mon": "10:00-19:00", "tue": "10:00-19:00", "wed": "10:00-19:00", "thu": "10:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (688, 'Green Central Knoll', 'Park | POINT (-73.9335 40.70212)', 40.70212, -73.9335, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (689, 'Susan Smith McKinney Steward Park', 'Park | POINT (-73.9855 40.70077)', 40.70077, -73.9855, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (690, 'Waring Playground', 'Park | POINT (-73.8712 40.86062)', 40.86062, -73.8712, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (691, 'Oracle Playground', 'Park | POINT (-73.9716 40.69379)', 40.69379, -73.9716, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (692, 'Woodstock Library, NYPL', 'Library | POINT (-73.904649 40.820627)', 40.820627, -73.904649, '{"mon": "10:00-18:00", "tue": "22:00-18:00", "wed": "10:00-18:00", "thu": "22:00-18:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (693, 'Francis Lewis Park', 'Park | POINT (-73.8257 40.79627)', 40.79627, -73.8257, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (694, 'Astoria Park Zone 1', 'Park | POINT (-73.9252 40.77593)', 40.77593, -73.9252, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (695, 'Bella Abzug Park', 'Park | POINT (-73.9997 40.75632)', 40.75632, -73.9997, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (696, 'Fox Playground', 'Park | POINT (-73.9239 40.63269)', 40.63269, -73.9239, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (697, 'Parkside Playground', 'Park | POINT (-73.868 40.86844)', 40.86844, -73.868, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (698, 'Ocean Hill Playground', 'Park | POINT (-73.912 40.67457)', 40.67457, -73.912, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (699, 'Kings Bay Library, BPL', 'Library | POINT (-73.941126 40.59487)', 40.59487, -73.941126, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (700, 'Shore Road Park Zone 2', 'Park | POINT (-74.0387 40.63208)', 40.63208, -74.0387, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (701, 'St. James Park', 'Park | POINT (-73.8985 40.86544)', 40.86544, -73.8985, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (702, 'Marlboro Playground', 'Park | POINT (-73.9811 40.59136)', 40.59136, -73.9811, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (703, 'L/CPL Thomas P. Noonan Jr. Playground', 'Park | POINT (-73.9224 40.74108)', 40.74108, -73.9224, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (704, 'Chelsea Piers at Pier 61', 'Park | POINT (-74.008764 40.748592)', 40.748592, -74.008764, '{"mon": "10:00-20:00", "tue": "10:00-20:00", "wed": "10:00-20:00", "thu": "10:00-20:00", "fri": "10:00-20:00", "sat": "10:00-20:00", "sun": "10:00-20:00"}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (705, 'Heckscher Playground', 'Park | POINT (-73.9771 40.76837)', 40.76837, -73.9771, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (706, 'Springfield Park North', 'Park | POINT (-73.7595 40.66382)', 40.66382, -73.7595, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (707, 'Bowne Playground', 'Park | POINT (-73.8247 40.758)', 40.758, -73.8247, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (708, 'Holy Cow Playground', 'Park | POINT (-73.7764 40.74137)', 40.74137, -73.7764, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (709, 'Bayside Library, QPL', 'Library | POINT (-73.768363 40.760134)', 40.760134, -73.768363, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (710, 'Van Cortlandt Park Stables', 'Park | POINT (-73.894743 40.901041)', 40.901041, -73.894743, '{"mon": "11:00-19:00", "tue": "11:00-19:00", "wed": "11:00-19:00", "thu": "11:00-19:00", "fri": "11:00-19:00", "sat": "11:00-19:00", "sun": "11:00-19:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (711, 'P.S. 155 Playground', 'Park | POINT (-73.9353 40.79754)', 40.79754, -73.9353, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (712, 'De Hostos Playground', 'Park | POINT (-73.9495 40.70254)', 40.70254, -73.9495, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (713, 'Locust Manor Playground', 'Park | POINT (-73.7562 40.68593)', 40.68593, -73.7562, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (714, 'Saratoga Library, BPL', 'Library | POINT (-73.915134 40.684818)', 40.684818, -73.915134, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (715, 'Stadium Area', 'Park | POINT (-73.9247 40.79289)', 40.79289, -73.9247, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (716, 'Jesse Owens Playground', 'Park | POINT (-73.9325 40.69164)', 40.69164, -73.9325, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (717, 'Zimmerman Playground', 'Park | POINT (-73.8687 40.86609)', 40.86609, -73.8687, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (718, 'Coney Island Beach Zone 7c', 'Park | POINT (-73.9988 40.57176)', 40.57176, -73.9988, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (719, 'Nautilus Playground', 'Park | POINT (-73.7703 40.68465)', 40.68465, -73.7703, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (720, 'Gouverneur Playground', 'Park | POINT (-73.9034 40.83577)', 40.83577, -73.9034, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (721, 'Hudson Park Library, NYPL', 'Library | POINT (-74.005332 40.729991)', 40.729991, -74.005332, '{"mon": "10:00-18:00", "tue": "10:00-18:00", "wed": "10:00-18:00", "thu": "10:00-18:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (722, 'Shore Parkway Gas Station', 'Park | POINT (-73.90824 40.592538)', 40.592538, -73.90824, '{"mon": "00:00-24:00", "tue": "00:00-24:00", "wed": "00:00-24:00", "thu": "00:00-24:00", "fri": "00:00-24:00", "sat": "00:00-24:00", "sun": "00:00-24:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (723, 'Austin J. McDonald Playground', 'Park | POINT (-74.1151 40.62953)', 40.62953, -74.1151, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (724, 'Rockaway Beach 06b', 'Park | POINT (-73.8175 40.58297)', 40.58297, -73.8175, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (725, 'Mitchell-Linden Library, QPL', 'Library | POINT (-73.826942 40.76915)', 40.76915, -73.826942, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (726, 'Inwood Hill Park Zone 1', 'Park | POINT (-73.9214 40.8703)', 40.8703, -73.9214, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (727, 'American Playground', 'Park | POINT (-73.9576 40.72874)', 40.72874, -73.9576, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (728, 'Atlantic Ave Terminal LIRR Restroom', 'Transit | POINT (-73.977681 40.684909)', 40.684909, -73.977681, '{"mon": "07:00-12:00,13:00-19:00", "tue": "07:00-12:00,13:00-19:00", "wed": "07:00-12:00,13:00-19:00", "thu": "07:00-12:00,13:00-19:00", "fri": "07:00-12:00,13:00-19:00", "sat": "07:00-12:00,13:00-19:00", "sun": "07:00-12:00,13:00-19:00"}', ARRAY['MTA station with bathrooms located outside of fare gates and open to the wider public'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (729, 'Claremont', 'Park | POINT (-73.9622 40.81489)', 40.81489, -73.9622, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (730, 'Major Deegan No. Gas Station', 'Park | POINT (-73.881497 40.895123)', 40.895123, -73.881497, '{"mon": "00:00-24:00", "tue": "00:00-24:00", "wed": "00:00-24:00", "thu": "00:00-24:00", "fri": "00:00-24:00", "sat": "00:00-24:00", "sun": "00:00-24:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (731, 'Cambria Playground', 'Park | POINT (-73.7425 40.68856)', 40.68856, -73.7425, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (732, 'South Hollis Library, QPL', 'Library | POINT (-73.753799 40.707012)', 40.707012, -73.753799, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (733, 'The Bandshell', 'Park | POINT (-73.8585 40.69888)', 40.69888, -73.8585, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (734, 'Morningside Heights Library, NYPL', 'Library | POINT (-73.964777 40.806139)', 40.806139, -73.964777, '{"mon": "10:00-18:00", "tue": "10:00-18:00", "wed": "10:00-18:00", "thu": "10:00-18:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (735, 'Yorkville Library, NYPL', 'Library | POINT (-73.956374 40.773664)', 40.773664, -73.956374, '{"mon": "11:00-19:00", "tue": "22:00-18:00", "wed": "11:00-19:00", "thu": "22:00-18:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (736, 'Kolbert Playground', 'Park | POINT (-73.958 40.62035)', 40.62035, -73.958, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (737, 'Lincoln Terrace Park / Arthur S. Somers Playground', 'Park | POINT (-73.9276 40.66637)', 40.66637, -73.9276, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (738, 'Fort #4 Playground', 'Park | POINT (-73.901045 40.87423)', 40.87423, -73.901045, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (739, 'Bayside Marina', 'Park | POINT (-73.767053 40.779806)', 40.779806, -73.767053, '{"mon": "09:00-17:00", "tue": "09:00-17:00", "wed": "09:00-17:00", "thu": "09:00-17:00", "fri": "09:00-17:00", "sat": "09:00-17:00", "sun": "09:00-17:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (740, 'Allen Shandler Rec Area', 'Park | POINT (-73.8813 40.88995)', 40.88995, -73.8813, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (741, 'Hallets Cove Playground (area A)', 'Park | POINT (-73.9347 40.77163)', 40.77163, -73.9347, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (742, 'Brooklyn Bridge Park Pier 2 - Uplands', 'Park | POINT (-73.996308 40.700859)', 40.700859, -73.996308, '{"mon": "", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "", "sun": ""}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (743, 'Emerald Playground', 'Park | POINT (-73.8061 40.73082)', 40.73082, -73.8061, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (744, 'Pelham Parkway-Van Nest Library, NYPL', 'Library | POINT (-73.864148 40.854884)', 40.854884, -73.864148, '{"mon": "10:00-18:00", "tue": "22:00-18:00", "wed": "10:00-18:00", "thu": "22:00-18:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Partially Accessible', 'Single-Stall All Gender Restroom(s)', 'Status: Closed for Construction'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (745, 'Bayside Fields', 'Park | POINT (-73.785 40.77305)', 40.77305, -73.785, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (746, 'Mott Haven Library, NYPL', 'Library | POINT (-73.924383 40.811598)', 40.811598, -73.924383, '{"mon": "10:00-19:00", "tue": "22:00-19:00", "wed": "10:00-19:00", "thu": "22:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (747, 'St. Michael''s Playground', 'Park | POINT (-73.9003 40.75831)', 40.75831, -73.9003, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (748, 'Noble Playground', 'Park | POINT (-73.8719 40.83683)', 40.83683, -73.8719, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (749, 'Corporal Thompson Playground', 'Park | POINT (-74.1179 40.63852)', 40.63852, -74.1179, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (750, '120 Park Avenue POPS', 'Privately Owned Public Space | POINT (-73.978306 40.751936)', 40.751936, -73.978306, '{"mon": "to", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "07:30-21:30", "sun": "11:00-19:00"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Security will grant access to restrooms.'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (751, 'Woods Playground', 'Park | POINT (-73.9292 40.67484)', 40.67484, -73.9292, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (752, 'Devoe Park', 'Park | POINT (-73.9049 40.86369)', 40.86369, -73.9049, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (753, 'Allerton Library, NYPL', 'Library | POINT (-73.863224 40.866813)', 40.866813, -73.863224, '{"mon": "10:00-18:00", "tue": "10:00-18:00", "wed": "10:00-18:00", "thu": "10:00-18:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (754, 'Prall Playground', 'Park | POINT (-74.1177 40.62879)', 40.62879, -74.1177, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (755, 'Hattie Carthan Playground', 'Park | POINT (-73.9464 40.68562)', 40.68562, -73.9464, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (756, 'Marine Park Zone 6', 'Park | POINT (-73.9306 40.60401)', 40.60401, -73.9306, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (757, 'Ferry Terminal', 'Park | POINT (-74.01753 40.71498)', 40.71498, -74.01753, '{"mon": "", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "", "sun": ""}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (758, 'Bushwick Library, BPL', 'Library | POINT (-73.93962 40.704567)', 40.704567, -73.93962, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (759, 'Heckscher Playground', 'Park | POINT (-73.9186 40.6951)', 40.6951, -73.9186, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (760, 'South Ozone Park Library, QPL', 'Library | POINT (-73.809263 40.674792)', 40.674792, -73.809263, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (761, 'Angelo Campanaro Playground', 'Park | POINT (-73.8424 40.8679)', 40.8679, -73.8424, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (762, 'Playground One Forty Nine CIL', 'Park | POINT (-73.941282 40.82591)', 40.82591, -73.941282, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (763, 'Ozone Park Library, QPL', 'Library | POINT (-73.84649 40.680875)', 40.680875, -73.84649, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (764, 'Kissena Park Golf Course', 'Park | POINT (-73.799234 40.744678)', 40.744678, -73.799234, '{"mon": "Closed", "tue": "06:00-20:00", "wed": "06:00-20:00", "thu": "06:00-20:00", "fri": "06:00-20:00", "sat": "06:00-20:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (765, 'Damrosch Park', 'Park | POINT (-73.9857 40.77252)', 40.77252, -73.9857, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (766, 'Pratt Playground', 'Park | POINT (-73.9622 40.6926)', 40.6926, -73.9622, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (767, 'Clove Lakes Park Zone 1', 'Park | POINT (-74.1072 40.61825)', 40.61825, -74.1072, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (768, 'Muhlenberg Library, NYPL', 'Library | POINT (-73.99597 40.744496)', 40.744496, -73.99597, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Closed for Construction'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (769, 'People''s Park', 'Park | POINT (-73.917 40.80953)', 40.80953, -73.917, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (770, 'Jack Breininger Park', 'Park | POINT (-73.7289 40.72603)', 40.72603, -73.7289, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (771, 'Lozada Playground', 'Park | POINT (-73.9251 40.80783)', 40.80783, -73.9251, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (772, 'Bath Beach Park', 'Park | POINT (-74.0116 40.6023)', 40.6023, -74.0116, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (773, 'The Ramble', 'Park | POINT (-73.9688 40.77536)', 40.77536, -73.9688, '{"mon": "06:00-01:00", "tue": "06:00-01:00", "wed": "06:00-01:00", "thu": "06:00-01:00", "fri": "06:00-01:00", "sat": "06:00-01:00", "sun": "06:00-01:00"}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (774, 'Marion Hopkinson Playground', 'Park | POINT (-73.9134 40.68185)', 40.68185, -73.9134, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (775, 'John Street Snack Bar', 'Park | POINT (-74.003725 40.705585)', 40.705585, -74.003725, '{"mon": "Temp Closed", "tue": "Temp Closed", "wed": "Temp Closed", "thu": "Temp Closed", "fri": "Temp Closed", "sat": "Temp Closed", "sun": "Temp Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (776, 'Calvert Vaux Park Playground', 'Park | POINT (-73.9903 40.58813)', 40.58813, -73.9903, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (777, 'Carmansville Playground', 'Park | POINT (-73.9443 40.82916)', 40.82916, -73.9443, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (778, 'Baisley Pond Park Zone 1', 'Park | POINT (-73.7872 40.6814)', 40.6814, -73.7872, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (779, 'Crotona Park Lake', 'Park | POINT (-73.8934 40.83813)', 40.83813, -73.8934, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (780, 'Rosemary''s Playground', 'Park | POINT (-73.9044 40.70462)', 40.70462, -73.9044, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (781, 'Washington Square Park Western Half', 'Park | POINT (-73.9983 40.73075)', 40.73075, -73.9983, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (782, 'Little Island', 'Park | POINT (-74.010743 40.741724)', 40.741724, -74.010743, '{"mon": "06:00-23:00", "tue": "06:00-23:00", "wed": "06:00-23:00", "thu": "06:00-23:00", "fri": "06:00-23:00", "sat": "06:00-23:00", "sun": "06:00-23:00"}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (783, 'Hudson River Park Pier 40 - Courtyard Tunnel, Second Floor', 'Park | POINT (-74.011616 40.728807)', 40.728807, -74.011616, '{"mon": "08:00-23:00", "tue": "08:00-23:00", "wed": "08:00-23:00", "thu": "08:00-23:00", "fri": "08:00-23:00", "sat": "08:00-23:00", "sun": "08:00-23:00"}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (784, 'Frederick B. Judge Playground', 'Park | POINT (-73.8079 40.68312)', 40.68312, -73.8079, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (785, 'Dongan Hills Library, NYPL', 'Library | POINT (-74.101139 40.5904)', 40.5904, -74.101139, '{"mon": "11:00-18:00", "tue": "11:00-18:00", "wed": "11:00-18:00", "thu": "11:00-18:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Table outside restroom'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (786, 'Midland Playground', 'Park | POINT (-74.0908 40.56833)', 40.56833, -74.0908, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (787, 'Brower Park', 'Park | POINT (-73.9438 40.67384)', 40.67384, -73.9438, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (788, 'Anne Loftus Playground', 'Park | POINT (-73.9295 40.86512)', 40.86512, -73.9295, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (789, 'Laurelton Parkway West Playground', 'Park | POINT (-73.727 40.68501)', 40.68501, -73.727, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (790, 'Helen Marshall Playground', 'Park | POINT (-73.8714 40.76551)', 40.76551, -73.8714, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (791, 'Kew Gardens Hills Library, QPL', 'Library | POINT (-73.820759 40.725957)', 40.725957, -73.820759, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "Closed", "sun": "12:00-17:00"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (792, 'Epiphany Library, NYPL', 'Library | POINT (-73.98205 40.738095)', 40.738095, -73.98205, '{"mon": "12:00-19:00", "tue": "10:00-18:00", "wed": "12:00-19:00", "thu": "10:00-18:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (793, 'Riverbank Playground', 'Park | POINT (-73.9539 40.82562)', 40.82562, -73.9539, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (794, 'Monsignor Raul Del Valle Square', 'Park | POINT (-73.8906 40.8207)', 40.8207, -73.8906, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (795, 'Bellaire Playground', 'Park | POINT (-73.758 40.72172)', 40.72172, -73.758, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (796, 'Borough Park Library, BPL', 'Library | POINT (-73.989005 40.638897)', 40.638897, -73.989005, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "13:00-17:00", "sun": "12 pm to 5 pm"}', ARRAY['Partially Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (797, 'Ancient Playground', 'Park | POINT (-73.9616 40.781)', 40.781, -73.9616, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (798, 'South Shore Golf Course', 'Park | POINT (-74.205152 40.551065)', 40.551065, -74.205152, '{"mon": "Closed", "tue": "06:00-20:00", "wed": "06:00-20:00", "thu": "06:00-20:00", "fri": "06:00-20:00", "sat": "06:00-20:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (799, 'Fort Washington Park Zone 2A', 'Park | POINT (-73.9462 40.84721)', 40.84721, -73.9462, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (800, 'High Rock Park', 'Park | POINT (-74.122539 40.582768)', 40.582768, -74.122539, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (801, 'Jerome Playground', 'Park | POINT (-73.8794 40.65891)', 40.65891, -73.8794, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (802, '805 Third Avenue POPS', 'Privately Owned Public Space | POINT (-73.970541 40.755396)', 40.755396, -73.970541, '{"mon": "to", "tue": "", "wed": "", "thu": "", "fri": "08:00-19:00", "sat": "", "sun": ""}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (803, 'Gerard P. Dugan Playground', 'Park | POINT (-74.1115 40.56156)', 40.56156, -74.1115, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (804, 'McLaughlin Park', 'Park | POINT (-73.986 40.69667)', 40.69667, -73.986, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (805, 'Athens Square', 'Park | POINT (-73.9219 40.76801)', 40.76801, -73.9219, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (806, 'Irving Square Park', 'Park | POINT (-73.909205 40.692707)', 40.692707, -73.909205, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (807, 'Morris Park Library, NYPL', 'Library | POINT (-73.856959 40.848037)', 40.848037, -73.856959, '{"mon": "10:00-19:00", "tue": "22:00-19:00", "wed": "10:00-19:00", "thu": "22:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (808, 'Claremont Zone 3', 'Park | POINT (-73.908 40.83767)', 40.83767, -73.908, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (809, 'Hunters Point South', 'Park | POINT (-73.960924 40.738411)', 40.738411, -73.960924, '{"mon": "", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "", "sun": ""}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (810, 'Havemeyer Playground', 'Park | POINT (-73.8479 40.82998)', 40.82998, -73.8479, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (811, 'Cypress Hills Playground', 'Park | POINT (-73.8711 40.67075)', 40.67075, -73.8711, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (812, 'Arverne Library, QPL', 'Library | POINT (-73.784041 40.593155)', 40.593155, -73.784041, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (813, 'Robert Moses Playground', 'Park | POINT (-73.9687 40.74809)', 40.74809, -73.9687, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (814, 'Clarendon Library, BPL', 'Library | POINT (-73.947636 40.635748)', 40.635748, -73.947636, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (815, 'Sheep Meadow', 'Park | POINT (-73.9744 40.77305)', 40.77305, -73.9744, '{"mon": "06:00-23:00", "tue": "06:00-23:00", "wed": "06:00-23:00", "thu": "06:00-23:00", "fri": "06:00-23:00", "sat": "06:00-23:00", "sun": "06:00-23:00"}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (816, 'Brookville Park Playground', 'Park | POINT (-73.7422 40.66219)', 40.66219, -73.7422, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (817, 'Moore Homestead Playground', 'Park | POINT (-73.8824 40.74234)', 40.74234, -73.8824, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (818, 'Reiff Playground', 'Park | POINT (-73.9019 40.71886)', 40.71886, -73.9019, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (819, 'Mahoney Playground', 'Park | POINT (-74.0862 40.64348)', 40.64348, -74.0862, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (820, 'Millennium Playground', 'Park | POINT (-74.0193 40.63548)', 40.63548, -74.0193, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (821, 'Queensbridge Park', 'Park | POINT (-73.9496 40.7551)', 40.7551, -73.9496, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (822, 'Sachkerah Woods Playground', 'Park | POINT (-73.8816 40.88368)', 40.88368, -73.8816, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (823, 'Woodlawn Heights Library, NYPL', 'Library | POINT (-73.867943 40.900448)', 40.900448, -73.867943, '{"mon": "10:00-19:00", "tue": "22:00-19:00", "wed": "10:00-19:00", "thu": "22:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (824, 'Bronx Library Center, NYPL', 'Library | POINT (-73.894504 40.862989)', 40.862989, -73.894504, '{"mon": "09:00-21:00", "tue": "09:00-21:00", "wed": "09:00-21:00", "thu": "09:00-21:00", "fri": "10:00-20:00", "sat": "10:00-20:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (825, 'Queensbridge Tech Lab Library, QPL', 'Library | POINT (-73.944111 40.754953)', 40.754953, -73.944111, '{"mon": "12:00-20:00", "tue": "Closed", "wed": "12:00-20:00", "thu": "12:00-20:00", "fri": "Closed", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (826, 'Tottenville Library, NYPL', 'Library | POINT (-74.244108 40.509539)', 40.509539, -74.244108, '{"mon": "11:00-18:00", "tue": "11:00-18:00", "wed": "11:00-18:00", "thu": "11:00-18:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Table inside community room'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (827, 'Sumner Playground', 'Park | POINT (-73.9428 40.69716)', 40.69716, -73.9428, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (828, 'Cunningham Park Zone 3', 'Park | POINT (-73.7707 40.73664)', 40.73664, -73.7707, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (829, 'Dr. Green Playground', 'Park | POINT (-73.9074 40.66737)', 40.66737, -73.9074, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (830, 'Rev. Dr. Maggie Howard Playground', 'Park | POINT (-74.0792 40.62268)', 40.62268, -74.0792, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (831, 'John Golden Park', 'Park | POINT (-73.7677 40.77409)', 40.77409, -73.7677, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (832, 'Captain Rivera Playground', 'Park | POINT (-73.9068 40.81795)', 40.81795, -73.9068, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (833, 'St. Catherine''s Park', 'Park | POINT (-73.9586 40.76531)', 40.76531, -73.9586, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (834, 'Whitestone Playground', 'Park | POINT (-73.8083 40.79188)', 40.79188, -73.8083, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (835, 'Brighton Beach Library, BPL', 'Library | POINT (-73.966776 40.576116)', 40.576116, -73.966776, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (836, 'Playground', 'Park | POINT (-73.8038 40.74916)', 40.74916, -73.8038, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (837, 'Spuyten Duyvil Playground', 'Park | POINT (-73.9162 40.88715)', 40.88715, -73.9162, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (838, 'Leonardo Ingravallo Playground', 'Park | POINT (-73.8172 40.77597)', 40.77597, -73.8172, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (839, 'Coney Island Beach Zone 2b', 'Park | POINT (-73.9645 40.57465)', 40.57465, -73.9645, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (840, 'The High Line Zone 1', 'Park | POINT (-74.0082 40.73949)', 40.73949, -74.0082, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (841, 'Queens Village Library, QPL', 'Library | POINT (-73.73905 40.719897)', 40.719897, -73.73905, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (842, 'Howard Von Dohlen Playground', 'Park | POINT (-73.8131 40.69965)', 40.69965, -73.8131, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (843, 'Park Slope Library, BPL', 'Library | POINT (-73.983457 40.668243)', 40.668243, -73.983457, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (844, 'Farm Playground', 'Park | POINT (-73.7773 40.73606)', 40.73606, -73.7773, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (845, 'Clintonville Playground', 'Park | POINT (-73.8068 40.78302)', 40.78302, -73.8068, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (846, 'Juniper North Playground Tennis', 'Park | POINT (-73.8774 40.72067)', 40.72067, -73.8774, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (847, 'Flushing Meadows Ice Rink', 'Park | POINT (-73.837891 40.751909)', 40.751909, -73.837891, '{"mon": "M-F 10:30am-5:15pm S-S 12:00pm-8:00pm", "tue": "M-F 10:30am-5:15pm S-S 12:00pm-8:00pm", "wed": "M-F 10:30am-5:15pm S-S 12:00pm-8:00pm", "thu": "M-F 10:30am-5:15pm S-S 12:00pm-8:00pm", "fri": "M-F 10:30am-5:15pm S-S 12:00pm-8:00pm", "sat": "M-F 10:30am-5:15pm S-S 12:00pm-8:00pm", "sun": "M-F 10:30am-5:15pm S-S 12:00pm-8:00pm"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (848, 'Bay Ridge Library, BPL', 'Library | POINT (-74.02954 40.633634)', 40.633634, -74.02954, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (849, 'John J Carty Park', 'Park | POINT (-74.0294 40.6145)', 40.6145, -74.0294, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (850, 'Marble Hill Playground', 'Park | POINT (-73.9079 40.87769)', 40.87769, -73.9079, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (851, 'Carroll Gardens Library, BPL', 'Library | POINT (-73.99802 40.683222)', 40.683222, -73.99802, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Status: Closed for Construction', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (852, 'Union Square Park', 'Park | POINT (-73.9899 40.73645)', 40.73645, -73.9899, '{"mon": "12:00-23:00", "tue": "12:00-23:00", "wed": "12:00-23:00", "thu": "12:00-23:00", "fri": "12:00-23:00", "sat": "12:00-23:00", "sun": "12:00-23:00"}', ARRAY['Fully Accessible', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (853, 'Richmondtown Library, NYPL', 'Library | POINT (-74.138535 40.566538)', 40.566538, -74.138535, '{"mon": "10:00-18:00", "tue": "10:00-18:00", "wed": "10:00-18:00", "thu": "10:00-18:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Status: Closed for Construction', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (854, 'Paerdegat Basin Marina 2', 'Park | POINT (-73.902536 40.626089)', 40.626089, -73.902536, '{"mon": "09:00-17:00", "tue": "09:00-17:00", "wed": "09:00-17:00", "thu": "09:00-17:00", "fri": "09:00-17:00", "sat": "09:00-17:00", "sun": "09:00-17:00"}', ARRAY['Partially Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (855, 'Hollis Playground', 'Park | POINT (-73.7531 40.70672)', 40.70672, -73.7531, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (856, 'Fort Totten Park Zone 1', 'Park | POINT (-73.7775 40.79527)', 40.79527, -73.7775, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (857, 'Woodside Library, QPL', 'Library | POINT (-73.909795 40.74535)', 40.74535, -73.909795, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (858, 'Kips Bay Library, NYPL', 'Library | POINT (-73.979903 40.743818)', 40.743818, -73.979903, '{"mon": "10:00-18:00", "tue": "22:00-18:00", "wed": "10:00-18:00", "thu": "22:00-18:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (859, 'Woodhaven Library, QPL', 'Library | POINT (-73.861459 40.694539)', 40.694539, -73.861459, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (860, 'Rockaway Beach 07b', 'Park | POINT (-73.8261 40.58057)', 40.58057, -73.8261, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (861, 'Belvedere Castle', 'Park | POINT (-73.969136 40.780427)', 40.780427, -73.969136, '{"mon": "06:00-Dusk", "tue": "06:00-Dusk", "wed": "06:00-Dusk", "thu": "06:00-Dusk", "fri": "06:00-Dusk", "sat": "06:00-Dusk", "sun": "06:00-Dusk"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (862, 'East Flatbush Library, BPL', 'Library | POINT (-73.914942 40.655719)', 40.655719, -73.914942, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (863, 'Ferry Point Golf Course', 'Park | POINT (-73.831236 40.815276)', 40.815276, -73.831236, '{"mon": "Closed", "tue": "06:30-22:00", "wed": "06:30-22:00", "thu": "06:30-22:00", "fri": "06:30-22:00", "sat": "06:30-22:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (864, 'Slattery Playground', 'Park | POINT (-73.8982 40.85715)', 40.85715, -73.8982, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (865, 'Rudd Playground', 'Park | POINT (-73.905 40.68332)', 40.68332, -73.905, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (866, 'Foster Park Zone 1', 'Park | POINT (-73.9247 40.83119)', 40.83119, -73.9247, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (867, 'Douglaston-Little Neck Library, QPL', 'Library | POINT (-73.738231 40.768234)', 40.768234, -73.738231, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (868, 'Benson Playground', 'Park | POINT (-74.0023 40.60237)', 40.60237, -74.0023, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (869, 'Willink Hill', 'Park | POINT (-73.9635 40.66291)', 40.66291, -73.9635, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (870, 'Martinez Playground', 'Park | POINT (-73.9444 40.70899)', 40.70899, -73.9444, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (871, 'Neufeld Playground', 'Park | POINT (-73.9848 40.78344)', 40.78344, -73.9848, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (872, 'Brigadier General Charles Young Playground', 'Park | POINT (-73.9362 40.81961)', 40.81961, -73.9362, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (873, 'Kaiser Park Zone 1', 'Park | POINT (-73.9954 40.57852)', 40.57852, -73.9954, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (874, 'Hilton White Playground', 'Park | POINT (-73.9075 40.82291)', 40.82291, -73.9075, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (875, 'Grove Hill Playground', 'Park | POINT (-73.9085 40.81994)', 40.81994, -73.9085, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (876, 'Gen. Douglas MacArthur Park', 'Park | POINT (-74.1008 40.58593)', 40.58593, -74.1008, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (877, 'Holcombe Rucker Park', 'Park | POINT (-73.9362 40.82919)', 40.82919, -73.9362, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (878, 'Herbert Von King Park', 'Park | POINT (-73.9465 40.68985)', 40.68985, -73.9465, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (879, 'Fulton Park', 'Park | POINT (-73.9316 40.67979)', 40.67979, -73.9316, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (880, 'Schmidts Lane Recreation Fac.', 'Park | POINT (-74.119642 40.609563)', 40.609563, -74.119642, '{"mon": "20:00-Hours/", "tue": "20:00-Hours/", "wed": "20:00-Hours/", "thu": "20:00-Hours/", "fri": "20:00-Hours/", "sat": "20:00-Hours/", "sun": "20:00-Hours/"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (881, 'Bleecker Playground', 'Park | POINT (-74.0056 40.73636)', 40.73636, -74.0056, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (882, 'FDR Boardwalk/South Beach Restroom', 'Park | POINT (-74.066453 40.589204)', 40.589204, -74.066453, '{"mon": "Concession Operating Hours", "tue": "Concession Operating Hours", "wed": "Concession Operating Hours", "thu": "Concession Operating Hours", "fri": "Concession Operating Hours", "sat": "Concession Operating Hours", "sun": "Concession Operating Hours"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (883, 'Dyckman Marina Restaurant', 'Park | POINT (-73.93276 40.860769)', 40.860769, -73.93276, '{"mon": "Mon-Thurs-4:00pm-10pm Fri-Sat 11:00am-11:00pm", "tue": "Mon-Thurs-4:00pm-10pm Fri-Sat 11:00am-11:00pm", "wed": "Mon-Thurs-4:00pm-10pm Fri-Sat 11:00am-11:00pm", "thu": "Mon-Thurs-4:00pm-10pm Fri-Sat 11:00am-11:00pm", "fri": "Mon-Thurs-4:00pm-10pm Fri-Sat 11:00am-11:00pm", "sat": "Mon-Thurs-4:00pm-10pm Fri-Sat 11:00am-11:00pm", "sun": "11:00-22:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (884, 'Lyons Square Playground', 'Park | POINT (-73.8883 40.82263)', 40.82263, -73.8883, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (885, 'Terence Cardinal Cooke-Cathedral Library, NYPL', 'Library | POINT (-73.972542 40.756811)', 40.756811, -73.972542, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Closed'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (886, 'Olinville Playground', 'Park | POINT (-73.867 40.88433)', 40.88433, -73.867, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (887, 'Eastchester Playground', 'Park | POINT (-73.8527 40.86978)', 40.86978, -73.8527, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (888, '550 Madison Avenue POPS', 'Privately Owned Public Space | POINT (-73.973505 40.76147)', 40.76147, -73.973505, '{"mon": "Closed", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "", "sun": "07:00-23:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Restroom next to Black Box Coffee.', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (889, 'Crowley Playground', 'Park | POINT (-73.8799 40.72931)', 40.72931, -73.8799, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (890, 'Willoughby Playground', 'Park | POINT (-73.9467 40.69449)', 40.69449, -73.9467, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (891, 'Vidalia Park', 'Park | POINT (-73.8814 40.84408)', 40.84408, -73.8814, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (892, 'Rev J Polite Playground', 'Park | POINT (-73.8978 40.8269)', 40.8269, -73.8978, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (893, 'Coney Island Library, BPL', 'Library | POINT (-73.986063 40.576646)', 40.576646, -73.986063, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (894, 'Wards Meadow', 'Park | POINT (-73.9308 40.78308)', 40.78308, -73.9308, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (895, 'Herman Dolgon Playground', 'Park | POINT (-73.9396 40.59817)', 40.59817, -73.9396, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (896, 'Wingate Park', 'Park | POINT (-73.9446 40.65926)', 40.65926, -73.9446, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (897, 'Alley Springfield Playground', 'Park | POINT (-73.7485 40.74159)', 40.74159, -73.7485, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (898, 'Beach 59th St Playground', 'Park | POINT (-73.7891 40.5889)', 40.5889, -73.7891, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (899, 'Coney Island Beach Zone 6b', 'Park | POINT (-73.9885 40.57237)', 40.57237, -73.9885, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (900, 'Payson Playground', 'Park | POINT (-73.9291 40.86741)', 40.86741, -73.9291, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (901, 'Mill Basin Library, BPL', 'Library | POINT (-73.917023 40.619877)', 40.619877, -73.917023, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (902, 'Triborough Bridge Playground B', 'Park | POINT (-73.9235 40.77475)', 40.77475, -73.9235, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (903, 'Bensonhurst Indoor Tennis', 'Park | POINT (-74.001441 40.595081)', 40.595081, -74.001441, '{"mon": "Mon-Fri - 7:00am - 12:00am Sat-Sun 7:00am-10:00pm", "tue": "Mon-Fri - 7:00am - 12:00am Sat-Sun 7:00am-10:00pm", "wed": "Mon-Fri - 7:00am - 12:00am Sat-Sun 7:00am-10:00pm", "thu": "Mon-Fri - 7:00am - 12:00am Sat-Sun 7:00am-10:00pm", "fri": "Mon-Fri - 7:00am - 12:00am Sat-Sun 7:00am-10:00pm", "sat": "Mon-Fri - 7:00am - 12:00am Sat-Sun 7:00am-10:00pm", "sun": "Mon-Fri - 7:00am - 12:00am Sat-Sun 7:00am-10:00pm"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (904, 'Tiger Playground', 'Park | POINT (-73.9112 40.68803)', 40.68803, -73.9112, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (905, 'East River Park Zone 5', 'Park | POINT (-73.974 40.7218)', 40.7218, -73.974, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (906, 'Kensington Library, BPL', 'Library | POINT (-73.975437 40.6313)', 40.6313, -73.975437, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'The restrooms have a free feminine hygiene product dispenser.', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (907, '96th Street Library, NYPL', 'Library | POINT (-73.951807 40.785968)', 40.785968, -73.951807, '{"mon": "10:00-19:00", "tue": "10:00-19:00", "wed": "10:00-19:00", "thu": "10:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Partially Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (908, 'Rainey Park Playground', 'Park | POINT (-73.941 40.76535)', 40.76535, -73.941, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (909, 'Marcus Garvey Park Zone 1', 'Park | POINT (-73.9448 40.80461)', 40.80461, -73.9448, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (910, 'Woodtree Playground', 'Park | POINT (-73.9026 40.77752)', 40.77752, -73.9026, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (911, 'Mafera Park', 'Park | POINT (-73.8913 40.70604)', 40.70604, -73.8913, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (912, 'Edenwald Playground', 'Park | POINT (-73.8452 40.88409)', 40.88409, -73.8452, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (913, 'Dairy, Chess & Checkers House, Carousel', 'Park | POINT (-73.974625 40.769105)', 40.769105, -73.974625, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (914, 'Hudson River Park Pier 25', 'Park | POINT (-74.012697 40.719928)', 40.719928, -74.012697, '{"mon": "07:30-23:00", "tue": "07:30-23:00", "wed": "07:30-23:00", "thu": "07:30-23:00", "fri": "07:30-23:00", "sat": "07:30-23:00", "sun": "07:30-23:00"}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (915, 'Pfc Norton Playground', 'Park | POINT (-73.9448 40.61457)', 40.61457, -73.9448, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (916, 'Fordham Plaza APT', 'Public Plaza | POINT (-73.891159 40.860834)', 40.860834, -73.891159, '{"mon": "08:00-20:00", "tue": "08:00-20:00", "wed": "08:00-20:00", "thu": "08:00-20:00", "fri": "08:00-20:00", "sat": "08:00-20:00", "sun": "08:00-20:00"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'This unit costs $.25 to use.'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (917, 'Newport Playground', 'Park | POINT (-73.9069 40.66094)', 40.66094, -73.9069, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (918, 'McCarren Park Zone 1', 'Park | POINT (-73.9501 40.72077)', 40.72077, -73.9501, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (919, 'Brooklyn Bridge Park Zone 6', 'Park | POINT (-74.0017 40.69293)', 40.69293, -74.0017, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (920, 'Port Richmond Library, NYPL', 'Library | POINT (-74.131106 40.637594)', 40.637594, -74.131106, '{"mon": "11:00-18:00", "tue": "11:00-18:00", "wed": "11:00-18:00", "thu": "11:00-18:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (921, 'Midland Field', 'Park | POINT (-74.0995 40.57659)', 40.57659, -74.0995, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (922, 'Wolfe''s Pond Park Zone 2', 'Park | POINT (-74.191 40.51739)', 40.51739, -74.191, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (923, 'MacNeil Playground', 'Park | POINT (-73.8514 40.79352)', 40.79352, -73.8514, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (924, 'Pilgrim Hill & Conservatory Water', 'Park | POINT (-73.9665 40.77398)', 40.77398, -73.9665, '{"mon": "06:00-23:00", "tue": "06:00-23:00", "wed": "06:00-23:00", "thu": "06:00-23:00", "fri": "06:00-23:00", "sat": "06:00-23:00", "sun": "06:00-23:00"}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (925, 'Horatio Playground', 'Park | POINT (-73.754 40.75878)', 40.75878, -73.754, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (926, 'Roosevelt Island Library, NYPL', 'Library | POINT (-73.949446 40.762333)', 40.762333, -73.949446, '{"mon": "10:00-20:00", "tue": "10:00-18:00", "wed": "10:00-20:00", "thu": "10:00-18:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (927, 'Wright Brothers Playground', 'Park | POINT (-73.9416 40.83169)', 40.83169, -73.9416, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (928, 'St Mary''s Playground East', 'Park | POINT (-73.9105 40.80991)', 40.80991, -73.9105, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (929, 'Cambria Heights Library, QPL', 'Library | POINT (-73.741164 40.695731)', 40.695731, -73.741164, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (930, 'Pomonok Library, QPL', 'Library | POINT (-73.810096 40.732933)', 40.732933, -73.810096, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (931, 'Shore Road Park Zone 4', 'Park | POINT (-74.0357 40.612)', 40.612, -74.0357, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (932, 'Webster Library, NYPL', 'Library | POINT (-73.951343 40.770661)', 40.770661, -73.951343, '{"mon": "11:00-19:00", "tue": "11:00-19:00", "wed": "11:00-19:00", "thu": "11:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (933, 'Slope Park Playground', 'Park | POINT (-73.9893 40.6613)', 40.6613, -73.9893, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (934, 'Sternberg Park', 'Park | POINT (-73.9472 40.70586)', 40.70586, -73.9472, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (935, 'Twin Island', 'Park | POINT (-73.7866 40.87048)', 40.87048, -73.7866, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (936, 'Williamsbridge Oval', 'Park | POINT (-73.8786 40.87667)', 40.87667, -73.8786, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (937, '58th Street Library, NYPL', 'Library | POINT (-73.969383 40.762194)', 40.762194, -73.969383, '{"mon": "10:00-18:00", "tue": "10:00-18:00", "wed": "10:00-18:00", "thu": "10:00-18:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Partially Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (938, 'Jacob H. Schiff Playground', 'Park | POINT (-73.9521 40.82037)', 40.82037, -73.9521, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (939, 'Sedgwick Library, NYPL', 'Library | POINT (-73.917496 40.849453)', 40.849453, -73.917496, '{"mon": "10:00-18:00", "tue": "22:00-18:00", "wed": "10:00-18:00", "thu": "22:00-18:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (940, 'Banneker Playground', 'Park | POINT (-73.9488 40.69069)', 40.69069, -73.9488, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (941, 'Calvert Vaux Park Zone 2', 'Park | POINT (-73.992 40.58528)', 40.58528, -73.992, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (942, 'Horseshoe Playground', 'Park | POINT (-73.8978 40.82424)', 40.82424, -73.8978, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (943, 'Battery Park City Zone 1', 'Park | POINT (-74.0184 40.70523)', 40.70523, -74.0184, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (944, 'Keltch Memorial Park Snack Bar', 'Park | POINT (-73.917785 40.840542)', 40.840542, -73.917785, '{"mon": "06:30-02:00", "tue": "06:30-02:00", "wed": "06:30-02:00", "thu": "06:30-02:00", "fri": "06:30-02:00", "sat": "06:30-02:00", "sun": "06:30-02:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (945, 'Van Cortlandt Library, NYPL', 'Library | POINT (-73.894476 40.883625)', 40.883625, -73.894476, '{"mon": "10:00-19:00", "tue": "22:00-19:00", "wed": "10:00-19:00", "thu": "22:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (946, 'Yak Playground', 'Park | POINT (-73.9358 40.59246)', 40.59246, -73.9358, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (947, 'Parkchester Library, NYPL', 'Library | POINT (-73.858351 40.833789)', 40.833789, -73.858351, '{"mon": "10:00-20:00", "tue": "22:00-20:00", "wed": "10:00-20:00", "thu": "22:00-20:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (948, 'Grand Central Parkway Gas', 'Park | POINT (-73.861689 40.765016)', 40.765016, -73.861689, '{"mon": "00:00-24:00", "tue": "00:00-24:00", "wed": "00:00-24:00", "thu": "00:00-24:00", "fri": "00:00-24:00", "sat": "00:00-24:00", "sun": "00:00-24:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (949, 'Corona Golf Playground', 'Park | POINT (-73.854 40.74776)', 40.74776, -73.854, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (950, 'Dyker Beach Golf Course', 'Park | POINT (-74.019631 40.612719)', 40.612719, -74.019631, '{"mon": "Closed", "tue": "05:30-19:00", "wed": "05:30-19:00", "thu": "05:30-19:00", "fri": "05:30-19:00", "sat": "05:30-19:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (951, 'Alley Park', 'Park | POINT (-73.7456 40.747)', 40.747, -73.7456, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (952, 'Battery Park Zone 2', 'Park | POINT (-74.015 40.7014)', 40.7014, -74.015, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (953, 'Russell Pedersen Playground', 'Park | POINT (-74.0363 40.62642)', 40.62642, -74.0363, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (954, 'Playground One Fifty Two CLII', 'Park | POINT (-73.94 40.82795)', 40.82795, -73.94, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (955, 'Magenta Playground', 'Park | POINT (-73.8678 40.87355)', 40.87355, -73.8678, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (956, 'St. John''s Park', 'Park | POINT (-73.9353 40.67379)', 40.67379, -73.9353, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (957, 'Nostrand Playground', 'Park | POINT (-73.9475 40.6384)', 40.6384, -73.9475, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (958, 'River Park', 'Park | POINT (-73.8773 40.84317)', 40.84317, -73.8773, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (959, 'Eleanor Roosevelt Playground', 'Park | POINT (-73.9358 40.69275)', 40.69275, -73.9358, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (960, 'Imagination Playground at Betsy Head', 'Park | POINT (-73.9116 40.66454)', 40.66454, -73.9116, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (961, 'Dyker Library, BPL', 'Library | POINT (-74.01199 40.616316)', 40.616316, -74.01199, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (962, 'Williamsburg Bridge Bus Depot APT', 'Public Plaza | POINT (-73.959219 40.70918)', 40.70918, -73.959219, '{"mon": "08:00-20:00", "tue": "08:00-20:00", "wed": "08:00-20:00", "thu": "08:00-20:00", "fri": "08:00-20:00", "sat": "08:00-20:00", "sun": "08:00-20:00"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'The unit costs $.25 to use.'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (963, 'Dyker Beach Park Zone 1', 'Park | POINT (-74.0178 40.60569)', 40.60569, -74.0178, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (964, 'Alexander Hamilton Playground', 'Park | POINT (-73.9511 40.82296)', 40.82296, -73.9511, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (965, 'London Planetree Playground', 'Park | POINT (-73.8531 40.68592)', 40.68592, -73.8531, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (966, 'Greene Playground', 'Park | POINT (-73.9658 40.68637)', 40.68637, -73.9658, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (967, 'Hudson Beach Volleyball Courts & Café', 'Park | POINT (-73.9719 40.80258)', 40.80258, -73.9719, '{"mon": "11:00-23:00", "tue": "11:00-23:00", "wed": "11:00-23:00", "thu": "11:00-23:00", "fri": "11:00-23:00", "sat": "11:00-23:00", "sun": "11:00-23:00"}', ARRAY['Partially Accessible', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (968, 'Gun Hill Playground', 'Park | POINT (-73.8654 40.87468)', 40.87468, -73.8654, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (969, 'Tompkins Square Library, NYPL', 'Library | POINT (-73.980422 40.727296)', 40.727296, -73.980422, '{"mon": "11:00-19:00", "tue": "11:00-19:00", "wed": "11:00-19:00", "thu": "11:00-19:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (970, 'Rappaport Playground', 'Park | POINT (-74.0008 40.63678)', 40.63678, -74.0008, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (971, 'Charybdis Playground', 'Park | POINT (-73.9227 40.7796)', 40.7796, -73.9227, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (972, 'Stone Avenue Library, BPL', 'Library | POINT (-73.905251 40.664508)', 40.664508, -73.905251, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (973, 'Josephine Caminiti Playground', 'Park | POINT (-73.8616 40.7438)', 40.7438, -73.8616, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (974, 'Crotona Park Indoor Tennis', 'Park | POINT (-73.895042 40.839595)', 40.839595, -73.895042, '{"mon": "07:00-22:00", "tue": "07:00-22:00", "wed": "07:00-22:00", "thu": "07:00-22:00", "fri": "07:00-22:00", "sat": "07:00-22:00", "sun": "07:00-22:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (975, 'Mill Pond Indoor Tennis', 'Park | POINT (-73.931668 40.823539)', 40.823539, -73.931668, '{"mon": "", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "", "sun": ""}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (976, 'Chester Playground', 'Park | POINT (-73.9119 40.66903)', 40.66903, -73.9119, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (977, '2 Lincoln Square POPS', 'Privately Owned Public Space | POINT (-73.981429 40.773165)', 40.773165, -73.981429, '{"mon": "Closed", "tue": "for installation of new exhibits", "wed": "for installation of new exhibits", "thu": "for installation of new exhibits", "fri": "for installation of new exhibits", "sat": "for installation of new exhibits", "sun": "11:30-19:30"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', '2 all Gender Restroom available in public American Folk Art Museum - Enclosed portion of Covered Plaza', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (978, 'Cherry Tree Park', 'Park | POINT (-73.9472 40.78717)', 40.78717, -73.9472, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (979, 'Stephen A. Schwarzman Building, NYPL', 'Library | POINT (-73.982232 40.753213)', 40.753213, -73.982232, '{"mon": "10:00-18:00", "tue": "22:00-20:00", "wed": "10:00-20:00", "thu": "22:00-18:00", "fri": "10:00-18:00", "sat": "10:00-18:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (980, 'Sunnyside Library, QPL', 'Library | POINT (-73.921669 40.740855)', 40.740855, -73.921669, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (981, 'Markham Playground', 'Park | POINT (-74.1463 40.62307)', 40.62307, -74.1463, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (982, 'Orchard Bch. Pavilion', 'Park | POINT (-73.7938 40.86718)', 40.86718, -73.7938, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (983, 'Van Cortlandt Stadium', 'Park | POINT (-73.898124 40.88866)', 40.88866, -73.898124, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (984, 'Bayside Playground', 'Park | POINT (-73.825 40.58498)', 40.58498, -73.825, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (985, 'East Elmhurst Library, QPL', 'Library | POINT (-73.873868 40.76243)', 40.76243, -73.873868, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Both Single-Stall All Gender and Multi-Stall W/M', 'Yes, a key is needed to enter', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (986, 'Millbrook Playground', 'Park | POINT (-73.917 40.80434)', 40.80434, -73.917, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (987, 'Grand Army Plaza APT', 'Public Plaza | POINT (-73.969074 40.672237)', 40.672237, -73.969074, '{"mon": "08:00-20:00", "tue": "08:00-20:00", "wed": "08:00-20:00", "thu": "08:00-20:00", "fri": "08:00-20:00", "sat": "08:00-20:00", "sun": "08:00-20:00"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'This unit costs $.25 to use.'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (988, 'Lindower Park Playground', 'Park | POINT (-73.9112 40.61228)', 40.61228, -73.9112, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (989, 'Walt Whitman Library, BPL', 'Library | POINT (-73.977734 40.694498)', 40.694498, -73.977734, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Status: Closed for Construction', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (990, 'Flatlands Library, BPL', 'Library | POINT (-73.933215 40.619776)', 40.619776, -73.933215, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (991, 'Audubon Playground', 'Park | POINT (-73.9379 40.84167)', 40.84167, -73.9379, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (992, 'Anibal Aviles Playground', 'Park | POINT (-73.9628 40.80119)', 40.80119, -73.9628, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (993, 'South Beach Zone 2', 'Park | POINT (-74.0668 40.58886)', 40.58886, -74.0668, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (994, 'Mariners Harbor Library, NYPL', 'Library | POINT (-74.166583 40.634702)', 40.634702, -74.166583, '{"mon": "11:00-19:00", "tue": "11:00-19:00", "wed": "11:00-19:00", "thu": "11:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (995, 'Herald Square', 'Park | POINT (-73.987505 40.750455)', 40.750455, -73.987505, '{"mon": "08:00-21:00", "tue": "08:00-21:00", "wed": "08:00-21:00", "thu": "08:00-21:00", "fri": "08:00-21:00", "sat": "08:00-21:00", "sun": "08:00-21:00"}', ARRAY['Fully Accessible', 'Multi-Stall All Gender Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (996, 'Flushing Meadows Golf Course', 'Park | POINT (-73.840083 40.751447)', 40.751447, -73.840083, '{"mon": "Closed", "tue": "08:00-23:00", "wed": "08:00-23:00", "thu": "08:00-23:00", "fri": "08:00-23:00", "sat": "08:00-23:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (997, 'Charleston Library, NYPL', 'Library | POINT (-74.232184 40.531061)', 40.531061, -74.232184, '{"mon": "10:00-19:00", "tue": "10:00-19:00", "wed": "10:00-19:00", "thu": "10:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (998, 'Cunningham Park Zone 2', 'Park | POINT (-73.7736 40.72965)', 40.72965, -73.7736, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (999, 'Coleman Playground', 'Park | POINT (-73.9935 40.71088)', 40.71088, -73.9935, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1000, 'Louis Pasteur Park', 'Park | POINT (-73.7354 40.76176)', 40.76176, -73.7354, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1001, 'Heckscher Playground', 'Park | POINT (-73.9771 40.76837)', 40.76837, -73.9771, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1002, 'Pelham Bay Library, NYPL', 'Library | POINT (-73.827902 40.844326)', 40.844326, -73.827902, '{"mon": "10:00-18:00", "tue": "22:00-18:00", "wed": "10:00-18:00", "thu": "22:00-18:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1003, 'Yellowstone Park', 'Park | POINT (-73.8479 40.72624)', 40.72624, -73.8479, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1004, 'Grand Central (Metro North) LIRR Restroom', 'Transit | POINT (-73.976715 40.751816)', 40.751816, -73.976715, '{"mon": "07:00-12:00,13:00-19:00", "tue": "07:00-12:00,13:00-19:00", "wed": "07:00-12:00,13:00-19:00", "thu": "07:00-12:00,13:00-19:00", "fri": "07:00-12:00,13:00-19:00", "sat": "07:00-12:00,13:00-19:00", "sun": "07:00-12:00,13:00-19:00"}', ARRAY['MTA station with bathrooms located outside of fare gates and open to the wider public'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1005, 'Silent Springs Playground', 'Park | POINT (-73.8232 40.74965)', 40.74965, -73.8232, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1006, 'Walter Gladwin Park', 'Park | POINT (-73.89598 40.846448)', 40.846448, -73.89598, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1007, 'Tennis Courts - Forest Parkway', 'Park | POINT (-73.8581 40.69717)', 40.69717, -73.8581, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1008, 'McKinley Park Library, BPL', 'Library | POINT (-74.011839 40.629196)', 40.629196, -74.011839, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1009, 'Hamilton Fish Park Library, NYPL', 'Library | POINT (-73.979425 40.719788)', 40.719788, -73.979425, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Status: Closed for Construction'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1010, 'Chelsea Waterside Park', 'Park | POINT (-74.007768 40.74936)', 40.74936, -74.007768, '{"mon": "08:00-00:00", "tue": "08:00-00:00", "wed": "08:00-00:00", "thu": "08:00-00:00", "fri": "08:00-00:00", "sat": "08:00-00:00", "sun": "08:00-00:00"}', ARRAY['Fully Accessible'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1011, 'Bloomingdale Library, NYPL', 'Library | POINT (-73.967608 40.795882)', 40.795882, -73.967608, '{"mon": "10:00-19:00", "tue": "10:00-19:00", "wed": "11:00-19:00", "thu": "11:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall All Gender Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1012, 'Canarsie Park Zone 5', 'Park | POINT (-73.8832 40.63599)', 40.63599, -73.8832, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1013, 'Indian Memorial To Indian Field', 'Park | POINT (-73.879 40.89594)', 40.89594, -73.879, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1014, '175th Street Playground', 'Park | POINT (-73.8947 40.84456)', 40.84456, -73.8947, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1015, 'Bushwick Playground', 'Park | POINT (-73.912 40.69608)', 40.69608, -73.912, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1016, 'McGuire Fields', 'Park | POINT (-73.8988 40.61858)', 40.61858, -73.8988, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1017, 'Morrisania Library, NYPL', 'Library | POINT (-73.901795 40.831271)', 40.831271, -73.901795, '{"mon": "10:00-19:00", "tue": "10:00-19:00", "wed": "10:00-19:00", "thu": "10:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1018, 'Harris Playground', 'Park | POINT (-73.8927 40.87528)', 40.87528, -73.8927, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1019, 'South Jamaica Library, QPL', 'Library | POINT (-73.790213 40.695619)', 40.695619, -73.790213, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1020, 'Colucci Playground', 'Park | POINT (-73.8347 40.85247)', 40.85247, -73.8347, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1021, 'Ravenswood Library, QPL', 'Library | POINT (-73.936405 40.760688)', 40.760688, -73.936405, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1022, 'Washington Park', 'Park | POINT (-73.9846 40.673)', 40.673, -73.9846, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1023, 'El Shabazz Playground', 'Park | POINT (-73.9307 40.68269)', 40.68269, -73.9307, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Partially Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1024, 'Fresh Meadows Playground', 'Park | POINT (-73.7962 40.73445)', 40.73445, -73.7962, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1025, 'Baisley Pond Park Zone 3', 'Park | POINT (-73.7841 40.67779)', 40.67779, -73.7841, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1026, 'Wakefield Library, NYPL', 'Library | POINT (-73.859583 40.891093)', 40.891093, -73.859583, '{"mon": "10:00-19:00", "tue": "22:00-19:00", "wed": "10:00-19:00", "thu": "22:00-19:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in single-stall all gender restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1027, 'Police Officer Nicholas Demutiis Park', 'Park | POINT (-73.8397 40.68184)', 40.68184, -73.8397, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1028, 'Evelyn''s Playground', 'Park | POINT (-73.9896 40.73631)', 40.73631, -73.9896, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Single -Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1029, 'Playground', 'Park | POINT (-73.9008 40.88114)', 40.88114, -73.9008, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1030, 'Riverbend Playground', 'Park | POINT (-73.906 40.87191)', 40.87191, -73.906, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1031, 'Space Time Playground', 'Park | POINT (-73.8599 40.8221)', 40.8221, -73.8599, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1032, 'Captain Mario Fajardo Park', 'Park | POINT (-73.8148 40.7435)', 40.7435, -73.8148, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1033, 'Strawberry Playground', 'Park | POINT (-73.9559 40.70971)', 40.70971, -73.9559, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1034, 'Triassic Playground', 'Park | POINT (-73.8351 40.73001)', 40.73001, -73.8351, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1035, 'Seward Park Library, NYPL', 'Library | POINT (-73.988502 40.714418)', 40.714418, -73.988502, '{"mon": "10:00-20:00", "tue": "10:00-20:00", "wed": "10:00-20:00", "thu": "10:00-20:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1036, 'Fort Washington Park Zone 4', 'Park | POINT (-73.9313 40.86846)', 40.86846, -73.9313, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1037, 'Yolanda García Park', 'Park | POINT (-73.9139 40.82289)', 40.82289, -73.9139, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1038, 'Park Of The Americas', 'Park | POINT (-73.8618 40.74895)', 40.74895, -73.8618, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1039, 'Flushing Library, QPL', 'Library | POINT (-73.828886 40.757782)', 40.757782, -73.828886, '{"mon": "10:00-20:00", "tue": "10:00-20:00", "wed": "10:00-20:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1040, 'Dinosaur Playground', 'Park | POINT (-73.9752 40.79667)', 40.79667, -73.9752, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1041, 'Behagen Playground', 'Park | POINT (-73.901 40.82553)', 40.82553, -73.901, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1042, 'Washington Irving Library, BPL', 'Library | POINT (-73.912202 40.697503)', 40.697503, -73.912202, '{"mon": "", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "", "sun": ""}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1043, 'Leonard Library, BPL', 'Library | POINT (-73.947937 40.713653)', 40.713653, -73.947937, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Partially Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Status: Closed for Construction', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1044, 'Kings Highway Library, BPL', 'Library | POINT (-73.953107 40.610265)', 40.610265, -73.953107, '{"mon": "10:00-18:00", "tue": "13:00-20:00", "wed": "10:00-18:00", "thu": "10:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "13:00-17:00"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1045, 'Classic Playground', 'Park | POINT (-73.9864 40.78373)', 40.78373, -73.9864, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1046, 'Grady Playground', 'Park | POINT (-73.9644 40.58254)', 40.58254, -73.9644, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1047, 'Vleigh Playground', 'Park | POINT (-73.8162 40.72986)', 40.72986, -73.8162, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1048, 'Galapo Playground', 'Park | POINT (-73.9468 40.5979)', 40.5979, -73.9468, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1049, 'Adventure Playground', 'Park | POINT (-73.9366 40.8368)', 40.8368, -73.9366, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1050, 'Dyckman Street Marina', 'Park | POINT (-73.932281 40.868615)', 40.868615, -73.932281, '{"mon": "09:00-17:00", "tue": "09:00-17:00", "wed": "09:00-17:00", "thu": "09:00-17:00", "fri": "09:00-17:00", "sat": "09:00-17:00", "sun": "09:00-17:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1051, 'Willow Lake Playground', 'Park | POINT (-73.8371 40.7225)', 40.7225, -73.8371, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1052, 'St Nicholas', 'Park | POINT (-73.949 40.81564)', 40.81564, -73.949, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1053, 'Major Deegan So. Gas Station', 'Park | POINT (-73.88258 40.894936)', 40.894936, -73.88258, '{"mon": "00:00-24:00", "tue": "00:00-24:00", "wed": "00:00-24:00", "thu": "00:00-24:00", "fri": "00:00-24:00", "sat": "00:00-24:00", "sun": "00:00-24:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1054, 'Frederick Johnson Playground', 'Park | POINT (-73.9348 40.82467)', 40.82467, -73.9348, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1055, 'College Point Blvd Soccer Fields', 'Park | POINT (-73.8338 40.75101)', 40.75101, -73.8338, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Status: Not Operational'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1056, 'Washington Hall Park', 'Park | POINT (-73.9666 40.69542)', 40.69542, -73.9666, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1057, 'Rochdale Park', 'Park | POINT (-73.7744 40.67412)', 40.67412, -73.7744, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Changing Stations, in women''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1058, 'Juniper Valley Park Zone 1', 'Park | POINT (-73.8846 40.71876)', 40.71876, -73.8846, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations, in men''s restroom only'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1059, 'Jackson Pond Playground', 'Park | POINT (-73.843 40.70111)', 40.70111, -73.843, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1060, 'Catbird Playground', 'Park | POINT (-73.945 40.77358)', 40.77358, -73.945, '{"mon": "Closed", "tue": "Closed", "wed": "Closed", "thu": "Closed", "fri": "Closed", "sat": "Closed", "sun": "Closed"}', ARRAY['Fully Accessible', 'Both Single-Stall All Gender and Multi-Stall W/M', 'Status: Not Operational', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1061, 'Teardrop Park - Solaire Building', 'Park | POINT (-74.016184 40.716911)', 40.716911, -74.016184, '{"mon": "", "tue": "", "wed": "", "thu": "", "fri": "", "sat": "", "sun": ""}', NULL, 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1062, 'Nicholas Naquan Heyward Jr. Park', 'Park | POINT (-73.9878 40.68469)', 40.68469, -73.9878, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Multi-Stall W/M Restrooms', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1063, 'Soundview Library, NYPL', 'Library | POINT (-73.862891 40.818718)', 40.818718, -73.862891, '{"mon": "10:00-18:00", "tue": "22:00-18:00", "wed": "10:00-18:00", "thu": "22:00-18:00", "fri": "10:00-17:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Partially Accessible', 'Single-Stall All Gender Restroom(s)'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1064, 'Haffen Park Playground', 'Park | POINT (-73.8393 40.87354)', 40.87354, -73.8393, '{"mon": "08:00-16:00", "tue": "08:00-16:00", "wed": "08:00-16:00", "thu": "08:00-16:00", "fri": "08:00-16:00", "sat": "08:00-16:00", "sun": "08:00-16:00"}', ARRAY['Fully Accessible', 'Multi-Stall W/M Restrooms'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1065, 'Bay Terrace Library, QPL', 'Library | POINT (-73.777012 40.782532)', 40.782532, -73.777012, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Fully Accessible', 'Single-Stall All Gender Restroom(s)', 'Each restroom is accessible by key.  They are handicap accessible restrooms. Two are located in our hallway: enter the branch, make a left at our simple scan station and go straight. Key \"A\" is to restroom \"A\" and Key \"B\" is to restroom B.  Our children''s bathroom is located in the children''s room: walk to the left and it is against the wall. The key is easily accessible, either on the children''s desk in a basket or you may ask someone if the key is not found.', 'Changing Stations'], 0, 0);
-INSERT INTO restroom (id, name, address, latitude, longitude, hours_json, amenities, avg_rating, visit_count)
-VALUES (1066, 'Richmond Hill Library, QPL', 'Library | POINT (-73.831644 40.700806)', 40.700806, -73.831644, '{"mon": "10:00-18:00", "tue": "13:00-18:00", "wed": "10:00-18:00", "thu": "12:00-20:00", "fri": "10:00-18:00", "sat": "10:00-17:00", "sun": "Closed"}', ARRAY['Single-Stall All Gender Restroom(s)', 'Yes, a key is needed to enter', 'Changing Stations'], 0, 0);
-
-ALTER TABLE restroom ALTER COLUMN id RESTART WITH 1067;
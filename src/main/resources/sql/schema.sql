@@ -1,4 +1,5 @@
 -- Drop in dependency order
+DROP TABLE IF EXISTS visit_journal_checkpoint CASCADE;
 DROP TABLE IF EXISTS review CASCADE;
 DROP TABLE IF EXISTS edit_proposal CASCADE;
 DROP TABLE IF EXISTS api_call_log CASCADE;
@@ -46,26 +47,53 @@ CREATE TABLE restroom (
     id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
     name VARCHAR(255) NOT NULL,
     address VARCHAR(255),
+    -- Agency or organization running the restroom (e.g. NYC Parks), from the source dataset
+    operator VARCHAR(255),
     latitude DOUBLE PRECISION NOT NULL,
     longitude DOUBLE PRECISION NOT NULL,
     hours_json JSON DEFAULT '{}',
     amenities TEXT ARRAY,
+    -- Normalized amenity codes (see Amenity) and operational status derived from amenities
+    amenity_mask BIGINT,
+    status VARCHAR(32),
     avg_rating DOUBLE PRECISION DEFAULT 0,
-    visit_count BIGINT DEFAULT 0
+    -- Number of reviews behind avg_rating, used to smooth it when ranking
+    rating_count BIGINT DEFAULT 0,
+    -- Running totals of review rating and cleanliness over the rating_count reviews, kept
+    -- by each review insert and checked by RatingReconciler
+    rating_sum BIGINT DEFAULT 0,
+    cleanliness_sum BIGINT DEFAULT 0,
+    -- Number of those reviews rating 1 to 5 stars, served by the stats endpoint
+    rating_1 BIGINT DEFAULT 0,
+    rating_2 BIGINT DEFAULT 0,
+    rating_3 BIGINT DEFAULT 0,
+    rating_4 BIGINT DEFAULT 0,
+    rating_5 BIGINT DEFAULT 0,
+    visit_count BIGINT DEFAULT 0,
+    -- Unit vector on the sphere, used to rank nearby candidates without trig
+    unit_x DOUBLE PRECISION,
+    unit_y DOUBLE PRECISION,
+    unit_z DOUBLE PRECISION
 );
 
+CREATE INDEX idx_restroom_lat_lng ON restroom(latitude, longitude);
+
 -- User reviews
 CREATE TABLE review (
     id SERIAL PRIMARY KEY,
     rating INT NOT NULL CHECK (rating BETWEEN 1 AND 5),
     cleanliness INT NOT NULL CHECK (cleanliness BETWEEN 1 AND 5),
     comment TEXT,
-    helpful_votes INT DEFAULT 0,
+    helpful_votes INT NOT NULL DEFAULT 0,
     user_id VARCHAR(255) NOT NULL REFERENCES users(subject),
     restroom_id BIGINT NOT NULL REFERENCES restroom(id),
-    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Keyset pages of the recent and helpful review listings are range scans of these
+CREATE INDEX idx_review_restroom_recent ON review(restroom_id, created_at, id);
+CREATE INDEX idx_review_restroom_helpful ON review(restroom_id, helpful_votes, created_at, id);
+
 -- Restroom edit proposals
 CREATE TABLE edit_proposal (
     id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
@@ -91,3 +119,11 @@ CREATE TABLE api_call_log (
     duration_ms BIGINT,
     logged_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
 );
+
+-- Last visit journal segment whose increments are in restroom.visit_count (see VisitJournal)
+CREATE TABLE visit_journal_checkpoint (
+    id INT PRIMARY KEY,
+    segment BIGINT NOT NULL
+);
+
+INSERT INTO visit_journal_checkpoint (id, segment) VALUES (1, 0);
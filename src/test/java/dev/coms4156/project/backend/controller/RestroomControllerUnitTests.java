@@ -0,0 +1,251 @@
+package dev.coms4156.project.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.coms4156.project.backend.dto.NearbyBatchRequest;
+import dev.coms4156.project.backend.dto.NearbyQueryRequest;
+import dev.coms4156.project.backend.model.EditProposal;
+import dev.coms4156.project.backend.model.Restroom;
+import dev.coms4156.project.backend.service.db.EditProposalDbService;
+import dev.coms4156.project.backend.service.db.NearbyPage;
+import dev.coms4156.project.backend.service.db.NearbyQuery;
+import dev.coms4156.project.backend.service.db.RestroomCsvImporter;
+import dev.coms4156.project.backend.service.db.RestroomDbService;
+import dev.coms4156.project.backend.service.db.ReviewDbService;
+import dev.coms4156.project.backend.service.db.VisitDbService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Unit tests for RestroomController with stubbed services.
+ */
+public class RestroomControllerUnitTests {
+
+  private RestroomDbService restroomDbService;
+  private EditProposalDbService editProposalDbService;
+  private VisitDbService visitDbService;
+  private RestroomController controller;
+
+  @BeforeEach
+  public void setUp() {
+    restroomDbService = mock(RestroomDbService.class);
+    editProposalDbService = mock(EditProposalDbService.class);
+    visitDbService = mock(VisitDbService.class);
+    when(visitDbService.withVisitCounts(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    controller = new RestroomController(restroomDbService, mock(ReviewDbService.class),
+        editProposalDbService, mock(RestroomCsvImporter.class), visitDbService);
+  }
+
+  @Test
+  public void testApproveEditAppliesPendingProposal() {
+    EditProposal proposal = proposal(7L, 1L);
+    Restroom edited = new Restroom();
+    edited.setId(1L);
+    edited.setName("Renamed");
+    when(editProposalDbService.getById(7L)).thenReturn(Optional.of(proposal));
+    when(editProposalDbService.approve(proposal))
+        .thenReturn(new EditProposalDbService.Approval(true, edited));
+
+    ResponseEntity<?> response = controller.approveEdit(1L, 7L);
+
+    assertEquals(200, response.getStatusCode().value());
+    assertSame(edited, response.getBody());
+  }
+
+  @Test
+  public void testApproveEditDecidedProposalIsConflict() {
+    EditProposal proposal = proposal(7L, 1L);
+    when(editProposalDbService.getById(7L)).thenReturn(Optional.of(proposal));
+    when(editProposalDbService.approve(proposal))
+        .thenReturn(new EditProposalDbService.Approval(false, null));
+
+    assertEquals(409, controller.approveEdit(1L, 7L).getStatusCode().value());
+  }
+
+  @Test
+  public void testApproveEditOfOtherRestroomIsNotFound() {
+    when(editProposalDbService.getById(7L)).thenReturn(Optional.of(proposal(7L, 2L)));
+
+    ResponseEntity<?> response = controller.approveEdit(1L, 7L);
+
+    assertEquals(404, response.getStatusCode().value());
+    verify(editProposalDbService, never()).approve(any());
+  }
+
+  @Test
+  public void testApproveEditOfDeletedRestroomIsNotFound() {
+    EditProposal proposal = proposal(7L, 1L);
+    when(editProposalDbService.getById(7L)).thenReturn(Optional.of(proposal));
+    when(editProposalDbService.approve(proposal))
+        .thenReturn(new EditProposalDbService.Approval(true, null));
+
+    assertEquals(404, controller.approveEdit(1L, 7L).getStatusCode().value());
+  }
+
+  @Test
+  public void testApproveEditWithInvalidHoursIsBadRequest() {
+    EditProposal proposal = proposal(7L, 1L);
+    when(editProposalDbService.getById(7L)).thenReturn(Optional.of(proposal));
+    when(editProposalDbService.approve(proposal))
+        .thenThrow(new IllegalArgumentException("Hours are not valid JSON"));
+
+    ResponseEntity<?> response = controller.approveEdit(1L, 7L);
+
+    assertEquals(400, response.getStatusCode().value());
+    assertEquals("Hours are not valid JSON", ((Map<?, ?>) response.getBody()).get("error"));
+  }
+
+  @Test
+  public void testRejectEditLeavesRestroomUnchanged() {
+    when(editProposalDbService.getById(7L)).thenReturn(Optional.of(proposal(7L, 1L)));
+    when(editProposalDbService.decide(7L, "REJECTED")).thenReturn(true);
+
+    ResponseEntity<?> response = controller.rejectEdit(1L, 7L);
+
+    assertEquals(204, response.getStatusCode().value());
+    verify(editProposalDbService, never()).approve(any());
+  }
+
+  @Test
+  public void testRejectMissingEditIsNotFound() {
+    when(editProposalDbService.getById(7L)).thenReturn(Optional.empty());
+
+    assertEquals(404, controller.rejectEdit(1L, 7L).getStatusCode().value());
+  }
+
+  @Test
+  public void testNearbyRejectsLimitOutOfRange() {
+    for (int limit : new int[] {-1, 0, Integer.MAX_VALUE}) {
+      ResponseEntity<?> response = controller.nearby(40.8, -73.96, 1500, null, null, null,
+          limit, null, null, null, null);
+
+      assertEquals(400, response.getStatusCode().value());
+      assertNotNull(((Map<?, ?>) response.getBody()).get("error"));
+    }
+    verify(restroomDbService, never()).getNearby(any());
+  }
+
+  @Test
+  public void testNearbyRejectsRadiusOutOfRange() {
+    ResponseEntity<?> response = controller.nearby(40.8, -73.96, -1, null, null, null, 10,
+        null, null, null, null);
+
+    assertEquals(400, response.getStatusCode().value());
+    verify(restroomDbService, never()).getNearby(any());
+  }
+
+  @Test
+  public void testNearbyServesCurrentVisitCounts() {
+    Restroom cached = new Restroom();
+    cached.setId(1L);
+    cached.setVisitCount(4L);
+    when(restroomDbService.getNearby(any())).thenReturn(new NearbyPage(List.of(cached), null));
+    when(visitDbService.withVisitCounts(List.of(cached)))
+        .thenReturn(List.of(cached.withVisitCount(6L)));
+
+    ResponseEntity<?> response = controller.nearby(40.8, -73.96, 1500, null, null, null, 10,
+        null, null, null, null);
+
+    List<?> body = (List<?>) response.getBody();
+    assertEquals(6L, ((Restroom) body.get(0)).getVisitCount());
+    assertEquals(4L, cached.getVisitCount());
+  }
+
+  @Test
+  public void testNearbyBatchKeepsOrderWithItemErrors() {
+    when(restroomDbService.getNearbyBatch(any())).thenAnswer(invocation -> {
+      List<NearbyQuery> queries = invocation.getArgument(0);
+      return queries.stream()
+          .map(query -> new NearbyPage(List.of(), "after-" + (int) query.getLatitude()))
+          .toList();
+    });
+    NearbyBatchRequest request = new NearbyBatchRequest();
+    request.setQueries(Arrays.asList(item(1, null), item(null, null), item(3, -1), null,
+        item(5, 500), item(6, 20)));
+
+    ResponseEntity<?> response = controller.nearbyBatch(request);
+
+    assertEquals(200, response.getStatusCode().value());
+    List<Map<String, Object>> results = results(response);
+    assertEquals(6, results.size());
+    assertEquals("after-1", results.get(0).get("nextCursor"));
+    assertEquals("lat and lng are required", results.get(1).get("error"));
+    assertNotNull(results.get(2).get("error"));
+    assertEquals("lat and lng are required", results.get(3).get("error"));
+    assertNotNull(results.get(4).get("error"));
+    assertEquals("after-6", results.get(5).get("nextCursor"));
+    for (int i = 1; i < 5; i++) {
+      assertFalse(results.get(i).containsKey("restrooms"));
+    }
+  }
+
+  @Test
+  public void testNearbyBatchBoundsTotalResults() {
+    List<NearbyQueryRequest> items = new ArrayList<>();
+    for (int i = 0; i < 101; i++) {
+      items.add(item(40, NearbyQuery.MAX_LIMIT));
+    }
+    NearbyBatchRequest request = new NearbyBatchRequest();
+    request.setQueries(items);
+
+    assertEquals(400, controller.nearbyBatch(request).getStatusCode().value());
+
+    request.setQueries(items.subList(0, 100));
+    when(restroomDbService.getNearbyBatch(any())).thenAnswer(invocation -> {
+      List<NearbyQuery> queries = invocation.getArgument(0);
+      return queries.stream().map(query -> new NearbyPage(List.of(), null)).toList();
+    });
+    ResponseEntity<?> response = controller.nearbyBatch(request);
+    assertEquals(200, response.getStatusCode().value());
+    assertEquals(100, results(response).size());
+  }
+
+  @Test
+  public void testNearbyBatchRejectsTooManyQueries() {
+    List<NearbyQueryRequest> items = new ArrayList<>();
+    for (int i = 0; i < 1001; i++) {
+      items.add(item(40, 1));
+    }
+    NearbyBatchRequest request = new NearbyBatchRequest();
+    request.setQueries(items);
+
+    assertEquals(400, controller.nearbyBatch(request).getStatusCode().value());
+    verify(restroomDbService, never()).getNearbyBatch(any());
+  }
+
+  private static NearbyQueryRequest item(Integer lat, Integer limit) {
+    NearbyQueryRequest item = new NearbyQueryRequest();
+    item.setLat(lat == null ? null : lat.doubleValue());
+    item.setLng(-73.96);
+    item.setLimit(limit);
+    return item;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Map<String, Object>> results(ResponseEntity<?> response) {
+    return (List<Map<String, Object>>) ((Map<String, Object>) response.getBody()).get("results");
+  }
+
+  private static EditProposal proposal(Long id, Long restroomId) {
+    EditProposal proposal = new EditProposal();
+    proposal.setId(id);
+    proposal.setRestroomId(restroomId);
+    proposal.setProposedName("Renamed");
+    proposal.setStatus("PENDING");
+    return proposal;
+  }
+}
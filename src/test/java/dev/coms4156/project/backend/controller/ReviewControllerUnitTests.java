@@ -0,0 +1,201 @@
+package dev.coms4156.project.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.coms4156.project.backend.dto.ReviewBulkItem;
+import dev.coms4156.project.backend.dto.ReviewBulkRequest;
+import dev.coms4156.project.backend.model.Review;
+import dev.coms4156.project.backend.service.db.RestroomDbService;
+import dev.coms4156.project.backend.service.db.ReviewDbService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.core.DefaultOAuth2AuthenticatedPrincipal;
+import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
+
+/**
+ * Unit tests for ReviewController bulk ingestion with stubbed services.
+ */
+public class ReviewControllerUnitTests {
+
+  private static final OAuth2AuthenticatedPrincipal INTEGRATION =
+      new DefaultOAuth2AuthenticatedPrincipal("partner", Map.of("sub", "partner"),
+          AuthorityUtils.createAuthorityList("ROLE_THIRD_PARTY_INTEGRATION"));
+
+  private ReviewDbService reviewDbService;
+  private RestroomDbService restroomDbService;
+  private ReviewController controller;
+
+  @BeforeEach
+  public void setUp() {
+    reviewDbService = mock(ReviewDbService.class);
+    restroomDbService = mock(RestroomDbService.class);
+    controller = new ReviewController(reviewDbService, restroomDbService);
+  }
+
+  @Test
+  public void testBulkMatchesOutcomesToPositions() {
+    when(restroomDbService.existingIds(any())).thenReturn(Set.of(1L, 2L));
+    when(reviewDbService.createBulk(anyList())).thenAnswer(invocation -> {
+      List<Review> reviews = invocation.getArgument(0);
+      List<ReviewDbService.BulkOutcome> outcomes = new ArrayList<>();
+      for (Review review : reviews) {
+        if (review.getRestroomId() == 2L) {
+          outcomes.add(new ReviewDbService.BulkOutcome(review, "review could not be stored"));
+        } else {
+          review.setId(100L + outcomes.size());
+          outcomes.add(new ReviewDbService.BulkOutcome(review, null));
+        }
+      }
+      return outcomes;
+    });
+    ReviewBulkRequest request = new ReviewBulkRequest();
+    request.setReviews(Arrays.asList(item(1L, 5, 4), item(null, 5, 4), item(2L, 3, 3), null,
+        item(1L, 6, 4), item(9L, 4, 4), item(1L, 2, 2)));
+
+    ResponseEntity<?> response = controller.bulk(request, INTEGRATION);
+
+    assertEquals(200, response.getStatusCode().value());
+    Map<String, Object> body = body(response);
+    assertEquals(2, body.get("created"));
+    assertEquals(5, body.get("rejected"));
+    List<Map<String, Object>> results = results(response);
+    assertEquals(List.of("created", "invalid", "failed", "invalid", "invalid", "invalid",
+        "created"), results.stream().map(result -> result.get("status")).toList());
+    assertEquals(100L, ((Review) results.get(0).get("review")).getId());
+    assertEquals(102L, ((Review) results.get(6).get("review")).getId());
+    assertEquals("restroomId is required", results.get(1).get("error"));
+    assertEquals("review could not be stored", results.get(2).get("error"));
+    assertEquals("rating/cleanliness must be 1-5", results.get(4).get("error"));
+    assertEquals("Restroom not found", results.get(5).get("error"));
+  }
+
+  @Test
+  public void testBulkStampsReviewerOnEveryReview() {
+    when(restroomDbService.existingIds(any())).thenReturn(Set.of(1L));
+    when(reviewDbService.createBulk(anyList())).thenAnswer(invocation -> {
+      List<Review> reviews = invocation.getArgument(0);
+      return reviews.stream()
+          .map(review -> new ReviewDbService.BulkOutcome(review, null))
+          .toList();
+    });
+    ReviewBulkRequest request = new ReviewBulkRequest();
+    request.setReviews(List.of(item(1L, 4, 4), item(1L, 3, 5)));
+
+    List<Map<String, Object>> results = results(controller.bulk(request, INTEGRATION));
+
+    for (Map<String, Object> result : results) {
+      Review review = (Review) result.get("review");
+      assertEquals("partner", review.getUserId());
+      assertEquals(0, review.getHelpfulVotes());
+    }
+  }
+
+  @Test
+  public void testBulkAllInvalidStoresNothing() {
+    when(restroomDbService.existingIds(any())).thenReturn(Set.of());
+    when(reviewDbService.createBulk(anyList())).thenReturn(List.of());
+    ReviewBulkRequest request = new ReviewBulkRequest();
+    request.setReviews(List.of(item(7L, 4, 4)));
+
+    ResponseEntity<?> response = controller.bulk(request, INTEGRATION);
+
+    assertEquals(0, body(response).get("created"));
+    assertEquals(1, body(response).get("rejected"));
+    verify(reviewDbService).createBulk(List.of());
+  }
+
+  @Test
+  public void testBulkBoundsRequestSize() {
+    List<ReviewBulkItem> items = new ArrayList<>();
+    for (int i = 0; i < 5001; i++) {
+      items.add(item(1L, 4, 4));
+    }
+    ReviewBulkRequest request = new ReviewBulkRequest();
+    request.setReviews(items);
+
+    assertEquals(400, controller.bulk(request, INTEGRATION).getStatusCode().value());
+
+    request.setReviews(List.of());
+    assertEquals(400, controller.bulk(request, INTEGRATION).getStatusCode().value());
+    verify(reviewDbService, never()).createBulk(anyList());
+
+    when(restroomDbService.existingIds(any())).thenReturn(Set.of(1L));
+    when(reviewDbService.createBulk(anyList())).thenAnswer(invocation -> {
+      List<Review> reviews = invocation.getArgument(0);
+      return reviews.stream()
+          .map(review -> new ReviewDbService.BulkOutcome(review, null))
+          .toList();
+    });
+    request.setReviews(items.subList(0, 5000));
+    ResponseEntity<?> response = controller.bulk(request, INTEGRATION);
+    assertEquals(200, response.getStatusCode().value());
+    assertEquals(5000, body(response).get("created"));
+  }
+
+  @Test
+  public void testBulkWithoutSubjectIsUnauthorized() {
+    ReviewBulkRequest request = new ReviewBulkRequest();
+    request.setReviews(List.of(item(1L, 4, 4)));
+
+    ResponseEntity<?> response = controller.bulk(request, null);
+
+    assertEquals(401, response.getStatusCode().value());
+    assertTrue(body(response).containsKey("error"));
+    verify(reviewDbService, never()).createBulk(anyList());
+  }
+
+  @Test
+  public void testBulkPassesValidReviewsInRequestOrder() {
+    when(restroomDbService.existingIds(any())).thenReturn(Set.of(1L, 2L));
+    List<Review> seen = new ArrayList<>();
+    when(reviewDbService.createBulk(anyList())).thenAnswer(invocation -> {
+      List<Review> reviews = invocation.getArgument(0);
+      seen.addAll(reviews);
+      return reviews.stream()
+          .map(review -> new ReviewDbService.BulkOutcome(review, null))
+          .toList();
+    });
+    ReviewBulkRequest request = new ReviewBulkRequest();
+    request.setReviews(List.of(item(2L, 1, 1), item(1L, 0, 1), item(1L, 5, 5)));
+
+    List<Map<String, Object>> results = results(controller.bulk(request, INTEGRATION));
+
+    assertEquals(List.of(2L, 1L), seen.stream().map(Review::getRestroomId).toList());
+    assertSame(seen.get(0), results.get(0).get("review"));
+    assertSame(seen.get(1), results.get(2).get("review"));
+  }
+
+  private static ReviewBulkItem item(Long restroomId, int rating, int cleanliness) {
+    ReviewBulkItem item = new ReviewBulkItem();
+    item.setRestroomId(restroomId);
+    item.setRating(rating);
+    item.setCleanliness(cleanliness);
+    item.setComment("ok");
+    return item;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> body(ResponseEntity<?> response) {
+    return (Map<String, Object>) response.getBody();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Map<String, Object>> results(ResponseEntity<?> response) {
+    return (List<Map<String, Object>>) body(response).get("results");
+  }
+}
@@ -0,0 +1,58 @@
+package dev.coms4156.project.backend.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for Amenity and OperationalStatus normalization.
+ */
+public class AmenityUnitTests {
+
+  @Test
+  public void testMaskOfSourceAmenities() {
+    long mask = Amenity.maskOf(List.of("Changing Stations", "Multi-Stall",
+        "Partially Accessible", "Yes, a key is needed to enter"));
+
+    assertEquals(List.of(Amenity.CHANGING_STATION, Amenity.MULTI_STALL,
+        Amenity.PARTIALLY_ACCESSIBLE, Amenity.KEY_REQUIRED), Amenity.fromMask(mask));
+  }
+
+  @Test
+  public void testMaskIgnoresNegativeAndStatusEntries() {
+    assertEquals(0L, Amenity.maskOf(List.of("Changing Stations: No", "Status: Not Operational")));
+    assertEquals(0L, Amenity.maskOf(null));
+  }
+
+  @Test
+  public void testParseFilterAcceptsCodesAndText() {
+    long required = Amenity.parseFilter(List.of("changing-station", "Fully Accessible"));
+
+    assertEquals(Amenity.CHANGING_STATION.bit() | Amenity.FULLY_ACCESSIBLE.bit(), required);
+    assertEquals(0L, Amenity.parseFilter(null));
+  }
+
+  @Test
+  public void testParseFilterRejectsUnknown() {
+    assertThrows(IllegalArgumentException.class,
+        () -> Amenity.parseFilter(List.of("jacuzzi")));
+  }
+
+  @Test
+  public void testStatusFromAmenities() {
+    assertEquals(OperationalStatus.NOT_OPERATIONAL,
+        OperationalStatus.fromAmenities(List.of("Multi-Stall", "Status: Not Operational")));
+    assertEquals(OperationalStatus.OPERATIONAL,
+        OperationalStatus.fromAmenities(List.of("Multi-Stall")));
+  }
+
+  @Test
+  public void testStatusParse() {
+    assertEquals(OperationalStatus.NOT_OPERATIONAL, OperationalStatus.parse("not-operational"));
+    assertNull(OperationalStatus.parse(" "));
+    assertThrows(IllegalArgumentException.class, () -> OperationalStatus.parse("sometimes"));
+  }
+}
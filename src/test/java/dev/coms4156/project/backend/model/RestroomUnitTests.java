@@ -6,6 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.DayOfWeek;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -119,4 +122,37 @@ public class RestroomUnitTests {
     assertNotNull(restroom.getAmenities());
     assertTrue(restroom.getAmenities().isEmpty());
   }
+
+  @Test
+  public void testHoursSerializeAsObject() {
+    Restroom restroom = new Restroom();
+    restroom.setHoursJson("{\"mon\": \"08:00-16:00\", \"sun\": \"Closed\"}");
+
+    JsonNode json = new ObjectMapper().valueToTree(restroom);
+
+    assertTrue(json.get("hours").isObject());
+    assertEquals("08:00-16:00", json.get("hours").get("mon").asText());
+    assertEquals("Closed", json.get("hours").get("sun").asText());
+    assertFalse(json.has("hoursJson"));
+    assertTrue(restroom.getSchedule().isKnown(DayOfWeek.SUNDAY));
+  }
+
+  @Test
+  public void testWithVisitCountCopies() {
+    Restroom restroom = new Restroom();
+    restroom.setId(5L);
+    restroom.setName("Copy");
+    restroom.setHours("08:00-18:00");
+    restroom.setAmenities(List.of("wheelchair"));
+    restroom.setVisitCount(3L);
+
+    Restroom copy = restroom.withVisitCount(9L);
+
+    assertEquals(3L, restroom.getVisitCount());
+    assertEquals(9L, copy.getVisitCount());
+    assertEquals(5L, copy.getId());
+    assertEquals("Copy", copy.getName());
+    assertEquals("08:00-18:00", copy.getHours());
+    assertEquals(restroom.getAmenities(), copy.getAmenities());
+  }
 }
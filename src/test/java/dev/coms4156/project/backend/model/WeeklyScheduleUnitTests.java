@@ -0,0 +1,215 @@
+package dev.coms4156.project.backend.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for WeeklySchedule.
+ */
+public class WeeklyScheduleUnitTests {
+
+  private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+  // 2025-01-06 is a Monday.
+  private static ZonedDateTime monday(int hour, int minute) {
+    return ZonedDateTime.of(2025, 1, 6, hour, minute, 0, 0, NEW_YORK);
+  }
+
+  @Test
+  public void testSimpleRange() {
+    WeeklySchedule schedule = WeeklySchedule.parse("{\"mon\": \"08:00-16:00\"}");
+
+    assertFalse(schedule.isOpenAt(monday(7, 59)));
+    assertTrue(schedule.isOpenAt(monday(8, 0)));
+    assertTrue(schedule.isOpenAt(monday(15, 59)));
+    assertFalse(schedule.isOpenAt(monday(16, 0)));
+    assertFalse(schedule.isOpenAt(monday(12, 0).plusDays(1)));
+  }
+
+  @Test
+  public void testPartialQuarterHoursNeverCountAsOpen() {
+    WeeklySchedule schedule = WeeklySchedule.parse("{\"mon\": \"08:10-16:10\"}");
+
+    assertFalse(schedule.isOpenAt(monday(8, 10)));
+    assertTrue(schedule.isOpenAt(monday(8, 15)));
+    assertTrue(schedule.isOpenAt(monday(15, 59)));
+    assertFalse(schedule.isOpenAt(monday(16, 5)));
+    assertFalse(schedule.isOpenAt(monday(16, 12)));
+    assertEquals(monday(16, 0), schedule.nextClose(monday(12, 0)).orElseThrow());
+    // 15:30 for 35 minutes reaches into 16:00-16:10, which is no longer open.
+    ZonedDateTime from = monday(15, 30);
+    assertTrue(schedule.isOpenThroughout(WeeklySchedule.window(WeeklySchedule.slotOf(from),
+        WeeklySchedule.slotCount(from, Duration.ofMinutes(30)))));
+    assertFalse(schedule.isOpenThroughout(WeeklySchedule.window(WeeklySchedule.slotOf(from),
+        WeeklySchedule.slotCount(from, Duration.ofMinutes(35)))));
+  }
+
+  @Test
+  public void testClosedAndAllDay() {
+    WeeklySchedule schedule =
+        WeeklySchedule.parse("{\"mon\": \"Closed\", \"tue\": \"00:00-24:00\"}");
+
+    assertFalse(schedule.isOpenAt(monday(12, 0)));
+    assertTrue(schedule.isKnown(DayOfWeek.MONDAY));
+    assertTrue(schedule.isOpenAt(monday(0, 0).plusDays(1)));
+    assertTrue(schedule.isOpenAt(monday(23, 59).plusDays(1)));
+  }
+
+  @Test
+  public void testOvernightRangeSpillsIntoNextDay() {
+    WeeklySchedule schedule = WeeklySchedule.parse("{\"sun\": \"06:00-01:00\"}");
+
+    assertTrue(schedule.isOpenAt(monday(23, 30).minusDays(1)));
+    // Sunday night wraps around to Monday morning.
+    assertTrue(schedule.isOpenAt(monday(0, 30)));
+    assertFalse(schedule.isOpenAt(monday(1, 0)));
+  }
+
+  @Test
+  public void testMultipleRanges() {
+    WeeklySchedule schedule = WeeklySchedule.parse("{\"mon\": \"07:00-12:00,13:00-19:00\"}");
+
+    assertTrue(schedule.isOpenAt(monday(11, 45)));
+    assertFalse(schedule.isOpenAt(monday(12, 30)));
+    assertTrue(schedule.isOpenAt(monday(13, 0)));
+  }
+
+  @Test
+  public void testUnparseableValuesAreUnknown() {
+    assertSame(WeeklySchedule.UNKNOWN, WeeklySchedule.parse(null));
+    assertSame(WeeklySchedule.UNKNOWN, WeeklySchedule.parse("{}"));
+    assertSame(WeeklySchedule.UNKNOWN, WeeklySchedule.parse("not json"));
+
+    WeeklySchedule schedule =
+        WeeklySchedule.parse("{\"mon\": \"07:30-Dusk\", \"tue\": \"08:00-16:00\"}");
+    assertFalse(schedule.isKnown(DayOfWeek.MONDAY));
+    assertFalse(schedule.isOpenAt(monday(9, 0)));
+    assertTrue(schedule.isKnown(DayOfWeek.TUESDAY));
+  }
+
+  @Test
+  public void testStringEncodedJson() {
+    WeeklySchedule schedule = WeeklySchedule.parse("\"{\\\"mon\\\": \\\"08:00-16:00\\\"}\"");
+
+    assertTrue(schedule.isOpenAt(monday(9, 0)));
+  }
+
+  @Test
+  public void testNormalize() {
+    assertEquals("{\"mon\":\"08:00-16:00,18:00-22:30\",\"sun\":\"Park Hours\"}",
+        WeeklySchedule.normalize(
+            "{\"Sunday\": \"  Park   Hours \", \"MON\": \"8:00 - 16:00, 18:00-22:30\"}"));
+    assertEquals("{}", WeeklySchedule.normalize(" "));
+    assertEquals("{}", WeeklySchedule.normalize("{\"tue\": \"\", \"wed\": null}"));
+  }
+
+  @Test
+  public void testNormalizeRejectsMalformedHours() {
+    assertThrows(IllegalArgumentException.class, () -> WeeklySchedule.normalize("{\"mon\":"));
+    assertThrows(IllegalArgumentException.class, () -> WeeklySchedule.normalize("[1, 2]"));
+    assertThrows(IllegalArgumentException.class,
+        () -> WeeklySchedule.normalize("{\"someday\": \"08:00-16:00\"}"));
+    assertThrows(IllegalArgumentException.class,
+        () -> WeeklySchedule.normalize("{\"mon\": 8}"));
+  }
+
+  @Test
+  public void testWordsRoundTrip() {
+    WeeklySchedule schedule =
+        WeeklySchedule.parse("{\"mon\": \"22:00-02:00\", \"sun\": \"Closed\"}");
+    WeeklySchedule restored =
+        WeeklySchedule.fromWords(schedule.toWords(), schedule.knownDayMask());
+
+    assertTrue(restored.isOpenAt(monday(23, 0)));
+    assertTrue(restored.isOpenAt(monday(1, 0).plusDays(1)));
+    assertTrue(restored.isKnown(DayOfWeek.SUNDAY));
+    assertFalse(restored.isKnown(DayOfWeek.TUESDAY));
+    assertSame(WeeklySchedule.UNKNOWN, WeeklySchedule.fromWords(schedule.toWords(), 0));
+    assertThrows(IllegalArgumentException.class, () -> WeeklySchedule.fromWords(new long[1], 1));
+  }
+
+  @Test
+  public void testParseIsCachedAndKeepsDayText() {
+    String json = "{\"mon\": \"8:00 - 16:00\", \"tue\": \"Park Hours\"}";
+    WeeklySchedule schedule = WeeklySchedule.parse(json);
+
+    assertSame(schedule, WeeklySchedule.parse(json));
+    assertEquals(Map.of("mon", "08:00-16:00", "tue", "Park Hours"), schedule.getDays());
+    assertFalse(schedule.isKnown(DayOfWeek.TUESDAY));
+    assertEquals(Map.of(), WeeklySchedule.UNKNOWN.getDays());
+  }
+
+  @Test
+  public void testNextOpenAndClose() {
+    WeeklySchedule schedule =
+        WeeklySchedule.parse("{\"mon\": \"08:00-16:00\", \"tue\": \"22:00-02:00\"}");
+
+    assertEquals(Optional.of(monday(8, 0)), schedule.nextOpen(monday(7, 10)));
+    assertEquals(Optional.of(monday(9, 5)), schedule.nextOpen(monday(9, 5)));
+    assertEquals(Optional.of(monday(16, 0)), schedule.nextClose(monday(9, 5)));
+    assertEquals(Optional.of(monday(22, 0).plusDays(1)), schedule.nextOpen(monday(16, 0)));
+    // Tuesday's overnight range closes early Wednesday.
+    assertEquals(Optional.of(monday(2, 0).plusDays(2)),
+        schedule.nextClose(monday(23, 0).plusDays(1)));
+    // After Wednesday 02:00 the next opening is the following Monday.
+    assertEquals(Optional.of(monday(8, 0).plusDays(7)),
+        schedule.nextOpen(monday(3, 0).plusDays(2)));
+  }
+
+  @Test
+  public void testNextOpenAndCloseWhenNeverOrAlwaysOpen() {
+    WeeklySchedule always = WeeklySchedule.parse("{\"mon\": \"00:00-24:00\", "
+        + "\"tue\": \"00:00-24:00\", \"wed\": \"00:00-24:00\", \"thu\": \"00:00-24:00\", "
+        + "\"fri\": \"00:00-24:00\", \"sat\": \"00:00-24:00\", \"sun\": \"00:00-24:00\"}");
+
+    assertEquals(Optional.empty(), always.nextClose(monday(12, 0)));
+    assertEquals(Optional.empty(), WeeklySchedule.parse("{\"mon\": \"Closed\"}")
+        .nextOpen(monday(12, 0)));
+  }
+
+  @Test
+  public void testSlotCountCoversPartialSlots() {
+    assertEquals(1, WeeklySchedule.slotCount(monday(14, 10), null));
+    assertEquals(4, WeeklySchedule.slotCount(monday(14, 10), Duration.ofMinutes(45)));
+    assertEquals(4, WeeklySchedule.slotCount(monday(14, 0), Duration.ofHours(1)));
+    assertEquals(5, WeeklySchedule.slotCount(monday(14, 0).plusSeconds(1),
+        Duration.ofHours(1)));
+    assertEquals(WeeklySchedule.SLOTS_PER_WEEK,
+        WeeklySchedule.slotCount(monday(14, 10), Duration.ofDays(8)));
+  }
+
+  @Test
+  public void testOpenThroughoutWindow() {
+    WeeklySchedule schedule = WeeklySchedule.parse("{\"mon\": \"08:00-16:00\"}");
+    int slot = WeeklySchedule.slotOf(monday(15, 0));
+
+    assertTrue(schedule.isOpenThroughout(WeeklySchedule.window(slot, 4)));
+    assertFalse(schedule.isOpenThroughout(WeeklySchedule.window(slot, 5)));
+    assertFalse(WeeklySchedule.UNKNOWN.isOpenThroughout(WeeklySchedule.window(slot, 1)));
+  }
+
+  @Test
+  public void testWindowWrapsIntoMonday() {
+    WeeklySchedule schedule =
+        WeeklySchedule.parse("{\"sun\": \"22:00-02:00\", \"mon\": \"Closed\"}");
+    ZonedDateTime sunday = monday(23, 30).minusDays(1);
+    int count = WeeklySchedule.slotCount(sunday, Duration.ofMinutes(150));
+
+    assertEquals(10, count);
+    assertTrue(schedule.isOpenThroughout(
+        WeeklySchedule.window(WeeklySchedule.slotOf(sunday), count)));
+    assertFalse(schedule.isOpenThroughout(
+        WeeklySchedule.window(WeeklySchedule.slotOf(sunday), count + 1)));
+  }
+}
@@ -0,0 +1,73 @@
+package dev.coms4156.project.backend.service.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for DeltaCounter.
+ */
+public class DeltaCounterUnitTests {
+
+  @Test
+  public void testAddPendingAndDrain() {
+    DeltaCounter counter = new DeltaCounter(4);
+    counter.add(1L, 1);
+    counter.add(1L, 2);
+    counter.add(2L, 5);
+
+    assertEquals(3L, counter.pending(1L));
+    assertEquals(Map.of(1L, 3L, 2L, 5L), counter.drain(10));
+    assertEquals(0L, counter.pending(1L));
+    assertTrue(counter.isEmpty());
+    assertEquals(Map.of(), counter.drain(10));
+  }
+
+  @Test
+  public void testDrainIsBounded() {
+    DeltaCounter counter = new DeltaCounter(2);
+    for (long id = 1; id <= 10; id++) {
+      counter.add(id, id);
+    }
+
+    Map<Long, Long> first = counter.drain(4);
+    assertEquals(4, first.size());
+    assertFalse(counter.isEmpty());
+    assertEquals(6, counter.drain(100).size());
+    assertTrue(counter.isEmpty());
+  }
+
+  @Test
+  public void testConcurrentAddsAreNeverLost() throws InterruptedException {
+    DeltaCounter counter = new DeltaCounter(8);
+    AtomicLong drained = new AtomicLong();
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      threads.add(new Thread(() -> {
+        for (int i = 0; i < 20_000; i++) {
+          counter.add(i % 3, 1);
+        }
+      }));
+    }
+    Thread drainer = new Thread(() -> {
+      while (threads.stream().anyMatch(Thread::isAlive)) {
+        counter.drain(1).values().forEach(drained::addAndGet);
+      }
+    });
+    threads.forEach(Thread::start);
+    drainer.start();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    drainer.join();
+    counter.drain(10).values().forEach(drained::addAndGet);
+
+    assertEquals(8 * 20_000L, drained.get());
+  }
+}
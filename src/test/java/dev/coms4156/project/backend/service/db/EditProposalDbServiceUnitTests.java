@@ -0,0 +1,128 @@
+package dev.coms4156.project.backend.service.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.coms4156.project.backend.model.EditProposal;
+import dev.coms4156.project.backend.model.WeeklySchedule;
+import dev.coms4156.project.backend.service.index.ClusterIndex;
+import dev.coms4156.project.backend.service.index.NearbyCache;
+import dev.coms4156.project.backend.service.index.RankingModel;
+import dev.coms4156.project.backend.service.index.SpatialIndex;
+import dev.coms4156.project.backend.service.index.SuggestIndex;
+import dev.coms4156.project.backend.service.index.TextIndex;
+import dev.coms4156.project.backend.service.index.TileCache;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Unit tests for approving edit proposals against an in-memory H2 database.
+ */
+public class EditProposalDbServiceUnitTests {
+
+  private static final AtomicInteger DATABASES = new AtomicInteger();
+
+  private JdbcTemplate jdbcTemplate;
+  private SpatialIndex spatialIndex;
+  private EditProposalDbService service;
+
+  @BeforeEach
+  public void setUp() {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:edits" + DATABASES.incrementAndGet()
+        + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+    new ResourceDatabasePopulator(new ClassPathResource("sql/schema.sql")).execute(dataSource);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.update("INSERT INTO users (subject) VALUES ('alice')");
+    jdbcTemplate.update("INSERT INTO restroom (id, name, latitude, longitude, hours_json) "
+        + "VALUES (1, 'Bryant Park', 40.75, -73.98, '{}')");
+    spatialIndex = new SpatialIndex();
+    RestroomDbService restroomDbService = new RestroomDbService(jdbcTemplate, spatialIndex,
+        new ClusterIndex(), new TileCache(spatialIndex, 16), new NearbyCache(0.002, 100, 120),
+        new RankingModel(0.5, 0.25, 0.1, 0.15, 500, 3.5, 5, 100), new TextIndex(),
+        new SuggestIndex(), List.of(), "index", "America/New_York");
+    restroomDbService.rebuildIndex();
+    service = new EditProposalDbService(jdbcTemplate, restroomDbService,
+        new DataSourceTransactionManager(dataSource));
+  }
+
+  private EditProposal propose(long restroomId, String name, String hours) {
+    EditProposal proposal = new EditProposal();
+    proposal.setRestroomId(restroomId);
+    proposal.setProposedName(name);
+    proposal.setProposedHours(hours);
+    proposal.setProposerUserId("alice");
+    proposal.setStatus("PENDING");
+    return service.create(proposal);
+  }
+
+  private String status(EditProposal proposal) {
+    return jdbcTemplate.queryForObject("SELECT status FROM edit_proposal WHERE id = ?",
+        String.class, proposal.getId());
+  }
+
+  private String storedName() {
+    return jdbcTemplate.queryForObject("SELECT name FROM restroom WHERE id = 1", String.class);
+  }
+
+  @Test
+  public void testApproveWritesEditWithNormalizedHours() {
+    EditProposal proposal = propose(1L, "Renamed", "{\"Monday\": \"8:00 - 16:00\"}");
+
+    EditProposalDbService.Approval approval = service.approve(proposal);
+
+    assertTrue(approval.pending());
+    assertEquals("Renamed", approval.restroom().getName());
+    assertEquals("APPROVED", status(proposal));
+    assertEquals("Renamed", storedName());
+    assertEquals("{\"mon\":\"08:00-16:00\"}", approval.restroom().getHoursJson());
+    assertEquals("{\"mon\":\"08:00-16:00\"}", WeeklySchedule.normalize(jdbcTemplate
+        .queryForObject("SELECT hours_json FROM restroom WHERE id = 1", String.class)));
+    assertTrue(spatialIndex.get(1L).isPresent());
+  }
+
+  @Test
+  public void testApproveTwiceIsNotPending() {
+    EditProposal proposal = propose(1L, "Renamed", null);
+    service.approve(proposal);
+
+    EditProposalDbService.Approval again = service.approve(proposal);
+
+    assertFalse(again.pending());
+    assertNull(again.restroom());
+  }
+
+  @Test
+  public void testApproveOfDeletedRestroomStaysPending() {
+    EditProposal proposal = propose(1L, "Renamed", null);
+    // The restroom is removed behind the proposal's back, as an admin cleanup would.
+    jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+    jdbcTemplate.update("DELETE FROM restroom WHERE id = 1");
+
+    EditProposalDbService.Approval approval = service.approve(proposal);
+
+    assertTrue(approval.pending());
+    assertNull(approval.restroom());
+    assertEquals("PENDING", status(proposal));
+  }
+
+  @Test
+  public void testFailedEditStaysPending() {
+    EditProposal proposal = propose(1L, "Renamed", "not json");
+
+    assertThrows(IllegalArgumentException.class, () -> service.approve(proposal));
+
+    assertEquals("PENDING", status(proposal));
+    assertEquals("Bryant Park", storedName());
+  }
+}
@@ -0,0 +1,45 @@
+package dev.coms4156.project.backend.service.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for NearbyQuery parameter validation.
+ */
+public class NearbyQueryUnitTests {
+
+  @Test
+  public void testDefaultsLimit() {
+    NearbyQuery query = NearbyQuery.of(40.8, -73.96, 1500, null, null, null, null, null);
+    assertEquals(NearbyQuery.DEFAULT_LIMIT, query.getLimit());
+  }
+
+  @Test
+  public void testAcceptsBounds() {
+    assertEquals(1, NearbyQuery.of(40.8, -73.96, 1, null, null, null, 1, null).getLimit());
+    assertEquals(NearbyQuery.MAX_LIMIT, NearbyQuery.of(40.8, -73.96,
+        NearbyQuery.MAX_RADIUS_METERS, null, null, null, NearbyQuery.MAX_LIMIT, null).getLimit());
+  }
+
+  @Test
+  public void testRejectsLimitOutOfRange() {
+    for (int limit : new int[] {0, -1, NearbyQuery.MAX_LIMIT + 1, Integer.MAX_VALUE}) {
+      IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+          () -> NearbyQuery.of(40.8, -73.96, 1500, null, null, null, limit, null));
+      assertNotNull(ex.getMessage());
+    }
+  }
+
+  @Test
+  public void testRejectsRadiusOutOfRange() {
+    for (double radius : new double[] {0, -5, NearbyQuery.MAX_RADIUS_METERS + 1, Double.NaN,
+        Double.POSITIVE_INFINITY}) {
+      IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+          () -> NearbyQuery.of(40.8, -73.96, radius, null, null, null, 10, null));
+      assertNotNull(ex.getMessage());
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package dev.coms4156.project.backend.service.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import dev.coms4156.project.backend.model.Review;
+import dev.coms4156.project.backend.service.index.ClusterIndex;
+import dev.coms4156.project.backend.service.index.NearbyCache;
+import dev.coms4156.project.backend.service.index.RankingModel;
+import dev.coms4156.project.backend.service.index.SpatialIndex;
+import dev.coms4156.project.backend.service.index.SuggestIndex;
+import dev.coms4156.project.backend.service.index.TextIndex;
+import dev.coms4156.project.backend.service.index.TileCache;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Unit tests for the running rating totals and their reconciliation against an in-memory H2
+ * database.
+ */
+public class RatingReconcilerUnitTests {
+
+  private static final AtomicInteger DATABASES = new AtomicInteger();
+  private static final String TOTALS_SQL = """
+      SELECT rating_count, rating_sum, cleanliness_sum, rating_1, rating_2, rating_3, rating_4,
+             rating_5
+      FROM restroom WHERE id = ?
+      """;
+
+  private JdbcTemplate jdbcTemplate;
+  private SpatialIndex spatialIndex;
+  private RestroomDbService restroomDbService;
+  private RatingReconciler reconciler;
+
+  @BeforeEach
+  public void setUp() {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:ratings" + DATABASES.incrementAndGet()
+        + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+    new ResourceDatabasePopulator(new ClassPathResource("sql/schema.sql")).execute(dataSource);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.update("INSERT INTO users (subject) VALUES ('alice')");
+    jdbcTemplate.update("INSERT INTO restroom (id, name, latitude, longitude, avg_rating) "
+        + "VALUES (1, 'Bryant Park', 40.75, -73.98, 0), (2, 'Union Square', 40.73, -73.99, 0), "
+        + "(3, 'Madison Square', 40.74, -73.98, 4.5)");
+    spatialIndex = new SpatialIndex();
+    restroomDbService = new RestroomDbService(jdbcTemplate, spatialIndex, new ClusterIndex(),
+        new TileCache(spatialIndex, 16), new NearbyCache(0.002, 100, 120),
+        new RankingModel(0.5, 0.25, 0.1, 0.15, 500, 3.5, 5, 100), new TextIndex(),
+        new SuggestIndex(), List.of(), "index", "America/New_York");
+    restroomDbService.rebuildIndex();
+    reconciler = new RatingReconciler(jdbcTemplate, restroomDbService,
+        new DataSourceTransactionManager(dataSource));
+  }
+
+  private void insertReview(long restroomId, int rating, int cleanliness) {
+    jdbcTemplate.update("INSERT INTO review (restroom_id, user_id, rating, cleanliness) "
+        + "VALUES (?, 'alice', ?, ?)", restroomId, rating, cleanliness);
+  }
+
+  private List<Long> totals(long restroomId) {
+    return jdbcTemplate.queryForObject(TOTALS_SQL, (rs, rowNum) -> List.of(rs.getLong(1),
+        rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getLong(6),
+        rs.getLong(7), rs.getLong(8)), restroomId);
+  }
+
+  private double storedAverage(long restroomId) {
+    return jdbcTemplate.queryForObject("SELECT avg_rating FROM restroom WHERE id = ?",
+        Double.class, restroomId);
+  }
+
+  private static Review review(long restroomId, int rating, int cleanliness) {
+    Review review = new Review();
+    review.setRestroomId(restroomId);
+    review.setRating(rating);
+    review.setCleanliness(cleanliness);
+    return review;
+  }
+
+  @Test
+  public void testAddRatingKeepsTotalsAndHistogram() {
+    RestroomDbService.RatingTotals first = restroomDbService.addRating(1L, 5, 4);
+    RestroomDbService.RatingTotals second = restroomDbService.addRating(1L, 2, 3);
+
+    assertEquals(new RestroomDbService.RatingTotals(5.0, 1), first);
+    assertEquals(new RestroomDbService.RatingTotals(3.5, 2), second);
+    assertEquals(List.of(2L, 7L, 7L, 0L, 1L, 0L, 0L, 1L), totals(1L));
+    assertEquals(3.5, storedAverage(1L), 1e-9);
+    assertNull(restroomDbService.addRating(99L, 4, 4));
+  }
+
+  @Test
+  public void testAddRatingsGroupsReviewsPerRestroom() {
+    restroomDbService.addRating(1L, 4, 4);
+
+    Map<Long, RestroomDbService.RatingTotals> totals = restroomDbService.addRatings(List.of(
+        review(2L, 3, 2), review(1L, 1, 1), review(2L, 3, 5), review(99L, 5, 5)));
+
+    assertEquals(Map.of(1L, new RestroomDbService.RatingTotals(2.5, 2),
+        2L, new RestroomDbService.RatingTotals(3.0, 2)), totals);
+    assertEquals(List.of(2L, 5L, 5L, 1L, 0L, 0L, 1L, 0L), totals(1L));
+    assertEquals(List.of(2L, 6L, 7L, 0L, 0L, 2L, 0L, 0L), totals(2L));
+  }
+
+  @Test
+  public void testReconcileRestoresCorruptedTotals() {
+    insertReview(1L, 5, 4);
+    insertReview(1L, 3, 2);
+    restroomDbService.addRating(1L, 5, 4);
+    restroomDbService.addRating(1L, 3, 2);
+    insertReview(2L, 4, 4);
+    restroomDbService.addRating(2L, 4, 4);
+    assertEquals(0, reconciler.reconcile());
+
+    jdbcTemplate.update("UPDATE restroom SET rating_count = 7, rating_sum = 1, rating_4 = 3, "
+        + "avg_rating = 1 WHERE id = 1");
+    // A review row written without its totals, as a restore would.
+    insertReview(2L, 1, 1);
+
+    assertEquals(2, reconciler.reconcile());
+    assertEquals(List.of(2L, 8L, 6L, 0L, 0L, 1L, 0L, 1L), totals(1L));
+    assertEquals(4.0, storedAverage(1L), 1e-9);
+    assertEquals(List.of(2L, 5L, 5L, 1L, 0L, 0L, 1L, 0L), totals(2L));
+    assertEquals(2.5, storedAverage(2L), 1e-9);
+    assertEquals(4.0, spatialIndex.get(1L).orElseThrow().getAvgRating(), 1e-9);
+    assertEquals(2, spatialIndex.get(2L).orElseThrow().getRatingCount());
+    // A restroom without reviews keeps the average it was imported with.
+    assertEquals(4.5, storedAverage(3L), 1e-9);
+    assertEquals(0, reconciler.reconcile());
+  }
+}
@@ -0,0 +1,101 @@
+package dev.coms4156.project.backend.service.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.coms4156.project.backend.model.Amenity;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for RestroomCsvImporter row parsing and the streaming CsvReader.
+ */
+public class RestroomCsvImporterUnitTests {
+
+  private static final String HEADER =
+      "id,name,address,latitude,longitude,operator,hours_json,amenities,avg_rating,visit_count";
+
+  private static List<String> record(String line) throws IOException {
+    try (CsvReader reader = new CsvReader(new StringReader(line))) {
+      return reader.next();
+    }
+  }
+
+  private static RestroomCsvImporter.Row row(String line) throws IOException {
+    return new RestroomCsvImporter.RowParser(record(HEADER)).parse(record(line));
+  }
+
+  @Test
+  public void testReaderHandlesQuotesAndLineBreaks() throws IOException {
+    String csv = "a,\"b, \"\"c\"\"\",\r\n\"multi\nline\",x\n\nlast";
+    try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+      assertEquals(List.of("a", "b, \"c\"", ""), reader.next());
+      assertEquals(1, reader.getRecordLine());
+      assertEquals(List.of("multi\nline", "x"), reader.next());
+      assertEquals(2, reader.getRecordLine());
+      assertEquals(List.of(""), reader.next());
+      assertEquals(List.of("last"), reader.next());
+      assertEquals(5, reader.getRecordLine());
+      assertNull(reader.next());
+    }
+  }
+
+  @Test
+  public void testReaderRejectsUnterminatedQuote() {
+    assertThrows(IllegalArgumentException.class, () -> record("a,\"open"));
+  }
+
+  @Test
+  public void testParseRowNormalizesHoursAndAmenities() throws IOException {
+    RestroomCsvImporter.Row row = row("7, Bryant Park ,Park,40.7536,-73.9832,NYC Parks,"
+        + "\"{\"\"mon\"\": \"\"8:00 - 16:00\"\"}\","
+        + "\"{\"\"Changing  Stations\"\",\"\"Changing Stations\"\",Key,NULL}\",4.5,12");
+
+    assertEquals(7L, row.id());
+    assertEquals("Bryant Park", row.name());
+    assertEquals("NYC Parks", row.operator());
+    assertEquals("{\"mon\":\"08:00-16:00\"}", row.hoursJson());
+    assertEquals(List.of("Changing Stations", "Key"), row.amenities());
+    assertEquals(Amenity.CHANGING_STATION.bit() | Amenity.KEY_REQUIRED.bit(), row.amenityMask());
+    assertEquals("OPERATIONAL", row.status());
+    assertEquals(4.5, row.avgRating());
+    assertEquals(12L, row.visitCount());
+  }
+
+  @Test
+  public void testParseRowDefaultsOptionalColumns() throws IOException {
+    RestroomCsvImporter.Row row = row(",Library,,40.7,-73.9,,,{},,");
+
+    assertNull(row.id());
+    assertNull(row.address());
+    assertNull(row.operator());
+    assertEquals("{}", row.hoursJson());
+    assertEquals(List.of(), row.amenities());
+    assertEquals(0L, row.visitCount());
+  }
+
+  @Test
+  public void testParseRowRejectsInvalidValues() {
+    assertThrows(IllegalArgumentException.class, () -> row("1,,a,40.7,-73.9,,,{},0,0"));
+    assertThrows(IllegalArgumentException.class, () -> row("1,A,a,91,-73.9,,,{},0,0"));
+    assertThrows(IllegalArgumentException.class, () -> row("1,A,a,40.7,west,,,{},0,0"));
+    assertThrows(IllegalArgumentException.class, () -> row("x,A,a,40.7,-73.9,,,{},0,0"));
+    assertThrows(IllegalArgumentException.class, () -> row("1,A,a,40.7,-73.9,,{,{},0,0"));
+    assertThrows(IllegalArgumentException.class, () -> row("1,A,a,40.7,-73.9,,,Key,0,0"));
+    assertThrows(IllegalArgumentException.class, () -> row("1,A,a,40.7,-73.9,,,{},6,0"));
+    assertThrows(IllegalArgumentException.class, () -> row("1,A,a,40.7,-73.9,,,{},0,-1"));
+    assertThrows(IllegalArgumentException.class, () -> row("1,A,a,40.7,-73.9"));
+  }
+
+  @Test
+  public void testHeaderRequiresCoordinates() throws IOException {
+    RestroomCsvImporter.RowParser parser =
+        new RestroomCsvImporter.RowParser(record("\uFEFFName,Latitude,Longitude"));
+    assertEquals("Hall", parser.parse(record("Hall,40.7,-73.9")).name());
+    assertThrows(IllegalArgumentException.class,
+        () -> new RestroomCsvImporter.RowParser(record("name,latitude")));
+  }
+}
@@ -0,0 +1,167 @@
+package dev.coms4156.project.backend.service.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.coms4156.project.backend.model.Restroom;
+import dev.coms4156.project.backend.service.index.ClusterIndex;
+import dev.coms4156.project.backend.service.index.NearbyCache;
+import dev.coms4156.project.backend.service.index.RankingModel;
+import dev.coms4156.project.backend.service.index.SpatialIndex;
+import dev.coms4156.project.backend.service.index.SuggestIndex;
+import dev.coms4156.project.backend.service.index.TextIndex;
+import dev.coms4156.project.backend.service.index.TileCache;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Unit tests for RestroomDbService against an in-memory H2 database. The bounding-box nearby
+ * query must page exactly like the haversine query it replaces.
+ */
+public class RestroomDbServiceUnitTests {
+
+  private static final AtomicInteger DATABASES = new AtomicInteger();
+
+  private JdbcTemplate jdbcTemplate;
+  private RestroomDbService boundingBox;
+  private RestroomDbService haversine;
+
+  @BeforeEach
+  public void setUp() {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:nearby" + DATABASES.incrementAndGet()
+        + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+    new ResourceDatabasePopulator(new ClassPathResource("sql/schema.sql")).execute(dataSource);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    // Midtown, with three restrooms at one point so distances tie.
+    insert(1, 40.751, -73.981, "All Gender");
+    insert(2, 40.751, -73.981, null);
+    insert(3, 40.751, -73.981, "All Gender");
+    insert(4, 40.7525, -73.98, null);
+    insert(5, 40.7475, -73.98, "All Gender");
+    insert(6, 40.76, -73.99, "All Gender");
+    insert(7, 40.74, -73.97, null);
+    insert(8, 40.77, -73.98, "All Gender");
+    // Both sides of the antimeridian.
+    insert(20, 10.0, 179.995, null);
+    insert(21, 10.0, -179.995, "All Gender");
+    insert(22, 10.005, -179.99, null);
+    insert(23, 10.0, 179.95, "All Gender");
+    insert(24, 10.0, -179.985, "All Gender");
+    // Around the north pole, where a longitude box cannot be bounded.
+    insert(30, 89.995, 120, "All Gender");
+    insert(31, 89.98, -90, null);
+    insert(32, 89.999, 45, "All Gender");
+    insert(33, 89.95, 0, null);
+    insert(34, 89.99, 180, "All Gender");
+    boundingBox = service("bbox");
+    haversine = service("haversine");
+    // Backfills the unit vectors and amenity masks the bounding-box query and filters read.
+    boundingBox.rebuildIndex();
+  }
+
+  private void insert(long id, double lat, double lng, String amenity) {
+    jdbcTemplate.update("INSERT INTO restroom (id, name, latitude, longitude, amenities) "
+        + "VALUES (?, ?, ?, ?, " + (amenity == null ? "ARRAY[]" : "ARRAY['" + amenity + "']")
+        + ")", id, "Restroom " + id, lat, lng);
+  }
+
+  /**
+   * Cache disabled, so every page comes from the configured SQL strategy.
+   */
+  private RestroomDbService service(String mode) {
+    SpatialIndex spatialIndex = new SpatialIndex();
+    return new RestroomDbService(jdbcTemplate, spatialIndex, new ClusterIndex(),
+        new TileCache(spatialIndex, 16), new NearbyCache(0, 100, 120),
+        new RankingModel(0.5, 0.25, 0.1, 0.15, 500, 3.5, 5, 100), new TextIndex(),
+        new SuggestIndex(), List.of(), mode, "America/New_York");
+  }
+
+  /**
+   * Every page of a query, followed to the end, as the ids of each page and its cursor.
+   */
+  private static List<String> pages(RestroomDbService service, double lat, double lng,
+                                    double radiusMeters, Set<String> amenities, int limit) {
+    List<String> pages = new ArrayList<>();
+    String cursor = null;
+    do {
+      NearbyPage page = service.getNearby(NearbyQuery.of(lat, lng, radiusMeters, null,
+          amenities, null, limit, cursor));
+      cursor = page.getNextCursor();
+      pages.add(page.getRestrooms().stream().map(Restroom::getId).toList() + " " + cursor);
+    } while (cursor != null && pages.size() < 20);
+    return pages;
+  }
+
+  private void assertSamePages(double lat, double lng, double radiusMeters,
+                               Set<String> amenities) {
+    for (int limit : new int[] {1, 2, 3, 100}) {
+      assertEquals(pages(haversine, lat, lng, radiusMeters, amenities, limit),
+          pages(boundingBox, lat, lng, radiusMeters, amenities, limit));
+    }
+  }
+
+  private List<Long> firstPageIds(double lat, double lng, double radiusMeters) {
+    return boundingBox.getNearby(NearbyQuery.of(lat, lng, radiusMeters, null, null, null, 100,
+        null)).getRestrooms().stream().map(Restroom::getId).toList();
+  }
+
+  @Test
+  public void testBoundingBoxMatchesHaversineWithTies() {
+    assertSamePages(40.75, -73.98, 2000, null);
+    assertSamePages(40.75, -73.98, 2000, Set.of("all_gender"));
+    assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L), firstPageIds(40.75, -73.98, 2000));
+  }
+
+  @Test
+  public void testMoreTiesThanTheLimitedQueryReads() {
+    for (long id = 59; id >= 40; id--) {
+      insert(id, 51.5, -0.12, null);
+    }
+    boundingBox.rebuildIndex();
+
+    assertSamePages(51.5, -0.1201, 500, null);
+    assertEquals(List.of(40L, 41L), boundingBox.getNearby(NearbyQuery.of(51.5, -0.1201, 500,
+        null, null, null, 2, null)).getRestrooms().stream().map(Restroom::getId).toList());
+  }
+
+  @Test
+  public void testBoundingBoxMatchesHaversineAcrossAntimeridian() {
+    assertSamePages(10.0, 179.99, 3000, null);
+    assertSamePages(10.0, 179.99, 3000, Set.of("all_gender"));
+    List<Long> ids = firstPageIds(10.0, 179.99, 3000);
+    assertTrue(ids.containsAll(List.of(20L, 21L, 22L, 24L)));
+    assertTrue(!ids.contains(23L));
+  }
+
+  @Test
+  public void testBoundingBoxMatchesHaversineNearPole() {
+    assertSamePages(89.99, 0, 3000, null);
+    assertSamePages(89.99, 0, 3000, Set.of("all_gender"));
+    List<Long> ids = firstPageIds(89.99, 0, 3000);
+    assertTrue(ids.containsAll(List.of(30L, 31L, 32L, 34L)));
+    assertTrue(!ids.contains(33L));
+  }
+
+  @Test
+  public void testTextSearchWaitsForStartupIndex() {
+    RestroomDbService service = service("index");
+
+    assertEquals(List.of(), service.searchText("Restroom 21", null, null, 5));
+    assertEquals(List.of(), service.suggest("rest", 5));
+    // Requests never build the index themselves, so it is still empty.
+    assertEquals(List.of(), service.suggest("rest", 5));
+
+    service.onApplicationReady();
+    assertEquals(21L, service.searchText("Restroom 21", null, null, 5).get(0).getId());
+    assertEquals(5, service.suggest("rest", 5).size());
+  }
+}
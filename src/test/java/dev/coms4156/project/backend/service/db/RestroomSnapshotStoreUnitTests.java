@@ -0,0 +1,94 @@
+package dev.coms4156.project.backend.service.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+/**
+ * Unit tests for RestroomSnapshotStore.
+ */
+public class RestroomSnapshotStoreUnitTests {
+
+  private static final RestroomCsvImporter.Row PARK = new RestroomCsvImporter.Row(3L, "Park",
+      null, "NYC Parks", 40.75, -73.98, "{\"mon\":\"08:00-16:00\"}",
+      List.of("Changing Stations"), 1L, "OPERATIONAL", 4.5, 7);
+  private static final RestroomCsvImporter.Row CAFE = new RestroomCsvImporter.Row(9L, "Café",
+      "1 Main St", null, 40.7, -74.0, "{}", List.of(), 0L, "OPERATIONAL", 0, 0);
+
+  private static RestroomSnapshotStore store(Path file) {
+    return new RestroomSnapshotStore(file.toString(), new DefaultResourceLoader(),
+        "classpath:sql/schema.sql");
+  }
+
+  private static Path written(long dataVersion) throws IOException {
+    Path file = Files.createTempFile("restroom-snapshot", ".bin");
+    try (RestroomSnapshotStore.Writer writer = store(file).create(dataVersion).orElseThrow()) {
+      writer.append(PARK);
+      writer.append(CAFE);
+      writer.commit();
+    }
+    return file;
+  }
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    Path file = written(42L);
+    try {
+      RestroomSnapshotStore.Reader reader = store(file).open(42L).orElseThrow();
+      List<RestroomSnapshotStore.Entry> entries = new ArrayList<>();
+      reader.forEach(entries::add);
+
+      assertEquals(2, reader.size());
+      assertEquals(List.of(PARK, CAFE), entries.stream().map(e -> e.row()).toList());
+      ZonedDateTime mondayNoon =
+          ZonedDateTime.of(2025, 1, 6, 12, 0, 0, 0, ZoneId.of("America/New_York"));
+      assertTrue(entries.get(0).schedule().isOpenAt(mondayNoon));
+      assertFalse(entries.get(1).schedule().isOpenAt(mondayNoon));
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testStaleOrTruncatedSnapshotIsIgnored() throws IOException {
+    Path file = written(42L);
+    try {
+      assertTrue(store(file).open(43L).isEmpty());
+      assertTrue(new RestroomSnapshotStore(file.toString(), new DefaultResourceLoader(), "")
+          .open(42L).isEmpty());
+
+      byte[] bytes = Files.readAllBytes(file);
+      Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+      assertTrue(store(file).open(42L).isEmpty());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testUncommittedSnapshotLeavesNoFile() throws IOException {
+    Path dir = Files.createTempDirectory("restroom-snapshot");
+    Path file = dir.resolve("snapshot.bin");
+    try (RestroomSnapshotStore.Writer writer = store(file).create(1L).orElseThrow()) {
+      writer.append(PARK);
+    }
+    try (Stream<Path> listing = Files.list(dir)) {
+      assertEquals(0, listing.count());
+    }
+    assertTrue(store(file).open(1L).isEmpty());
+    assertFalse(new RestroomSnapshotStore("", new DefaultResourceLoader(), "").isEnabled());
+    Files.delete(dir);
+  }
+}
@@ -0,0 +1,45 @@
+package dev.coms4156.project.backend.service.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ReviewCursor and ReviewSort.
+ */
+public class ReviewCursorUnitTests {
+
+  @Test
+  public void testRoundTrip() {
+    Instant createdAt = Instant.parse("2025-03-01T12:34:56.123456Z");
+    String token = new ReviewCursor(ReviewSort.HELPFUL, 7, createdAt, 42L).encode();
+    ReviewCursor cursor = ReviewCursor.decode(token, ReviewSort.HELPFUL);
+
+    assertEquals(7, cursor.getHelpfulVotes());
+    assertEquals(createdAt, cursor.getCreatedAt());
+    assertEquals(42L, cursor.getId());
+  }
+
+  @Test
+  public void testDecodeRejectsOtherSortAndMalformedTokens() {
+    String token = new ReviewCursor(ReviewSort.RECENT, 0, Instant.EPOCH, 1L).encode();
+
+    assertNull(ReviewCursor.decode(null, ReviewSort.RECENT));
+    assertThrows(IllegalArgumentException.class,
+        () -> ReviewCursor.decode(token, ReviewSort.HELPFUL));
+    assertThrows(IllegalArgumentException.class,
+        () -> ReviewCursor.decode("not a cursor!", ReviewSort.RECENT));
+    assertThrows(IllegalArgumentException.class,
+        () -> ReviewCursor.decode("AAAA", ReviewSort.RECENT));
+  }
+
+  @Test
+  public void testSortParse() {
+    assertEquals(ReviewSort.RECENT, ReviewSort.parse(null));
+    assertEquals(ReviewSort.HELPFUL, ReviewSort.parse(" Helpful "));
+    assertThrows(IllegalArgumentException.class, () -> ReviewSort.parse("oldest"));
+  }
+}
@@ -0,0 +1,86 @@
+package dev.coms4156.project.backend.service.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import dev.coms4156.project.backend.model.Review;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ReviewPreviewCache.
+ */
+public class ReviewPreviewCacheUnitTests {
+
+  private static Review review(long id, int votes, long createdSecond) {
+    Review review = new Review();
+    review.setId(id);
+    review.setRestroomId(1L);
+    review.setHelpfulVotes(votes);
+    review.setCreatedAt(Instant.ofEpochSecond(createdSecond));
+    return review;
+  }
+
+  private static List<Long> ids(List<Review> reviews) {
+    return reviews.stream().map(Review::getId).toList();
+  }
+
+  @Test
+  public void testOfferKeepsTopInHelpfulOrder() {
+    ReviewPreviewCache cache = new ReviewPreviewCache(2, 10);
+    cache.put(1L, List.of(review(1, 5, 10), review(2, 3, 20)), cache.writeStamp());
+
+    cache.offer(review(3, 0, 30));
+    assertEquals(List.of(1L, 2L), ids(cache.get(1L)));
+
+    cache.offer(review(3, 4, 30));
+    assertEquals(List.of(1L, 3L), ids(cache.get(1L)));
+
+    cache.offer(review(3, 5, 30));
+    assertEquals(List.of(3L, 1L), ids(cache.get(1L)));
+  }
+
+  @Test
+  public void testStaleVoteCountIsIgnored() {
+    ReviewPreviewCache cache = new ReviewPreviewCache(3, 10);
+    cache.put(1L, List.of(review(1, 6, 10)), cache.writeStamp());
+
+    cache.offer(review(1, 5, 10));
+    assertEquals(6, cache.get(1L).get(0).getHelpfulVotes());
+  }
+
+  @Test
+  public void testPutAfterWriteIsDropped() {
+    ReviewPreviewCache cache = new ReviewPreviewCache(3, 10);
+    long stamp = cache.writeStamp();
+    cache.offer(review(1, 0, 10));
+    cache.put(1L, List.of(), stamp);
+
+    assertNull(cache.get(1L));
+  }
+
+  @Test
+  public void testApplyVotesReordersKeptReviews() {
+    ReviewPreviewCache cache = new ReviewPreviewCache(2, 10);
+    cache.put(1L, List.of(review(1, 5, 10), review(2, 3, 20)), cache.writeStamp());
+
+    cache.applyVotes(1L, 2L, 6);
+
+    List<Review> top = cache.get(1L);
+    assertEquals(List.of(2L, 1L), ids(top));
+    assertEquals(6, top.get(0).getHelpfulVotes());
+  }
+
+  @Test
+  public void testApplyVotesDropsPreviewAnOutsiderMayEnter() {
+    ReviewPreviewCache cache = new ReviewPreviewCache(2, 10);
+    cache.put(1L, List.of(review(1, 5, 10), review(2, 3, 20)), cache.writeStamp());
+
+    cache.applyVotes(1L, 3L, 2);
+    assertEquals(List.of(1L, 2L), ids(cache.get(1L)));
+
+    cache.applyVotes(1L, 3L, 3);
+    assertNull(cache.get(1L));
+  }
+}
@@ -0,0 +1,36 @@
+package dev.coms4156.project.backend.service.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ReviewStats.
+ */
+public class ReviewStatsUnitTests {
+
+  @Test
+  public void testAveragesAndHistogram() {
+    ReviewStats stats = ReviewStats.of(9L, 4, 14, 10, new long[] {0, 1, 0, 2, 1});
+
+    assertEquals(9L, stats.getRestroomId());
+    assertEquals(4, stats.getReviewCount());
+    assertEquals(3.5, stats.getAverageRating(), 1e-9);
+    assertEquals(2.5, stats.getAverageCleanliness(), 1e-9);
+    assertEquals(List.of(1, 2, 3, 4, 5), List.copyOf(stats.getHistogram().keySet()));
+    assertEquals(Map.of(1, 0L, 2, 1L, 3, 0L, 4, 2L, 5, 1L), stats.getHistogram());
+  }
+
+  @Test
+  public void testNoReviews() {
+    ReviewStats stats = ReviewStats.of(9L, 0, 0, 0, new long[5]);
+
+    assertEquals(0, stats.getReviewCount());
+    assertNull(stats.getAverageRating());
+    assertNull(stats.getAverageCleanliness());
+    assertEquals(5, stats.getHistogram().size());
+  }
+}
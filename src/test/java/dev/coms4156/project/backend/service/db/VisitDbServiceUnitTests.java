@@ -0,0 +1,160 @@
+package dev.coms4156.project.backend.service.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Unit tests for VisitDbService against an in-memory H2 database, with the restroom index
+ * stubbed by a map.
+ */
+public class VisitDbServiceUnitTests {
+
+  private static final AtomicInteger DATABASES = new AtomicInteger();
+
+  private JdbcTemplate jdbcTemplate;
+  private DataSourceTransactionManager transactionManager;
+
+  @BeforeEach
+  public void setUp() {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:visits" + DATABASES.incrementAndGet()
+        + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+    new ResourceDatabasePopulator(new ClassPathResource("sql/schema.sql")).execute(dataSource);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    transactionManager = new DataSourceTransactionManager(dataSource);
+    jdbcTemplate.update("INSERT INTO restroom (id, name, latitude, longitude, visit_count) "
+        + "VALUES (1, 'Bryant Park', 40.75, -73.98, 10)");
+  }
+
+  /**
+   * Service whose restroom index is loaded from the stored visit counts, the way startup
+   * builds it.
+   */
+  private VisitDbService service(VisitJournal journal) {
+    Map<Long, Long> index = new ConcurrentHashMap<>();
+    jdbcTemplate.query("SELECT id, visit_count FROM restroom", (ResultSet rs) -> {
+      index.put(rs.getLong(1), rs.getLong(2));
+    });
+    RestroomDbService restroomDbService = mock(RestroomDbService.class);
+    when(restroomDbService.isIndexReady()).thenReturn(true);
+    when(restroomDbService.getIndexedVisitCount(anyLong()))
+        .thenAnswer(invocation -> Optional.ofNullable(index.get(invocation.<Long>getArgument(0))));
+    doAnswer(invocation -> {
+      Map<Long, Long> deltas = invocation.getArgument(0);
+      deltas.forEach((id, delta) -> index.merge(id, delta, Long::sum));
+      return null;
+    }).when(restroomDbService).applyVisits(anyMap());
+    VisitDbService service =
+        new VisitDbService(jdbcTemplate, restroomDbService, transactionManager, journal, 100);
+    service.start();
+    return service;
+  }
+
+  private long storedCount() {
+    return jdbcTemplate.queryForObject("SELECT visit_count FROM restroom WHERE id = 1",
+        Long.class);
+  }
+
+  private static void deleteTree(Path directory) throws IOException {
+    try (Stream<Path> paths = Files.walk(directory)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  @Test
+  public void testCountMergesIndexedAndPendingVisits() {
+    VisitDbService service = service(new VisitJournal(""));
+
+    assertEquals(Optional.of(11L), service.recordVisit(1L));
+    assertEquals(Optional.of(12L), service.recordVisit(1L));
+    assertEquals(Optional.of(12L), service.getVisitCount(1L));
+    assertEquals(10, storedCount());
+    assertTrue(service.recordVisit(2L).isEmpty());
+
+    assertEquals(1, service.flushVisits());
+    assertEquals(12, storedCount());
+    assertEquals(Optional.of(12L), service.getVisitCount(1L));
+    assertEquals(0, service.flushVisits());
+  }
+
+  @Test
+  public void testFailedWriteKeepsVisitsForNextFlush() throws IOException {
+    Path directory = Files.createTempDirectory("visit-journal");
+    try {
+      VisitDbService service = service(new VisitJournal(directory.toString()));
+      service.recordVisit(1L);
+      service.recordVisit(1L);
+      // The checkpoint UPDATE fails after the visit UPDATE, so the whole flush rolls back.
+      jdbcTemplate.execute("ALTER TABLE visit_journal_checkpoint RENAME TO checkpoint_off");
+
+      assertEquals(0, service.flushVisits());
+      assertEquals(10, storedCount());
+      assertEquals(Optional.of(12L), service.getVisitCount(1L));
+
+      jdbcTemplate.execute("ALTER TABLE checkpoint_off RENAME TO visit_journal_checkpoint");
+      service.recordVisit(1L);
+      assertEquals(1, service.flushVisits());
+      assertEquals(13, storedCount());
+      assertEquals(Optional.of(13L), service.getVisitCount(1L));
+      service.drainVisits();
+    } finally {
+      deleteTree(directory);
+    }
+  }
+
+  @Test
+  public void testRestartReplaysVisitsAfterCheckpoint() throws IOException {
+    Path directory = Files.createTempDirectory("visit-journal");
+    try {
+      VisitJournal journal = new VisitJournal(directory.toString());
+      VisitDbService service = service(journal);
+      service.recordVisit(1L);
+      service.recordVisit(1L);
+      service.flushVisits();
+      service.recordVisit(1L);
+      service.recordVisit(1L);
+      service.recordVisit(1L);
+      // Stop without flushing, as a crash would.
+      journal.close();
+      assertEquals(12, storedCount());
+
+      VisitDbService restarted = service(new VisitJournal(directory.toString()));
+      assertEquals(Optional.of(15L), restarted.getVisitCount(1L));
+      assertEquals(1, restarted.flushVisits());
+      assertEquals(15, storedCount());
+      restarted.drainVisits();
+
+      VisitDbService again = service(new VisitJournal(directory.toString()));
+      assertEquals(Optional.of(15L), again.getVisitCount(1L));
+      assertEquals(0, again.flushVisits());
+      again.drainVisits();
+    } finally {
+      deleteTree(directory);
+    }
+  }
+}
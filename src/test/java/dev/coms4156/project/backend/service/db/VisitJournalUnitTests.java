@@ -0,0 +1,124 @@
+package dev.coms4156.project.backend.service.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for VisitJournal.
+ */
+public class VisitJournalUnitTests {
+
+  private static void deleteTree(Path directory) throws IOException {
+    try (Stream<Path> paths = Files.walk(directory)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  @Test
+  public void testReplaysSegmentsAfterCheckpoint() throws IOException {
+    Path directory = Files.createTempDirectory("visit-journal");
+    try {
+      VisitJournal journal = new VisitJournal(directory.toString());
+      assertTrue(journal.open(0).isEmpty());
+      journal.append(1L, 1);
+      journal.append(2L, 1);
+      long sealed = journal.rotate();
+      journal.append(1L, 1);
+      journal.append(1L, 3);
+      journal.close();
+
+      assertEquals(Map.of(1L, 5L, 2L, 1L), new VisitJournal(directory.toString()).open(0));
+      assertEquals(Map.of(1L, 4L), new VisitJournal(directory.toString()).open(sealed));
+    } finally {
+      deleteTree(directory);
+    }
+  }
+
+  @Test
+  public void testDeleteThroughKeepsCurrentSegment() throws IOException {
+    Path directory = Files.createTempDirectory("visit-journal");
+    try {
+      VisitJournal journal = new VisitJournal(directory.toString());
+      journal.open(0);
+      journal.append(7L, 1);
+      long first = journal.rotate();
+      journal.append(7L, 1);
+      long second = journal.rotate();
+      journal.append(8L, 1);
+      journal.deleteThrough(second);
+      journal.close();
+
+      assertFalse(Files.exists(directory.resolve("visits-" + first + ".log")));
+      assertFalse(Files.exists(directory.resolve("visits-" + second + ".log")));
+      assertEquals(Map.of(8L, 1L), new VisitJournal(directory.toString()).open(0));
+    } finally {
+      deleteTree(directory);
+    }
+  }
+
+  @Test
+  public void testIgnoresTornRecord() throws IOException {
+    Path directory = Files.createTempDirectory("visit-journal");
+    try {
+      VisitJournal journal = new VisitJournal(directory.toString());
+      journal.open(0);
+      journal.append(3L, 2);
+      long sealed = journal.rotate();
+      journal.close();
+      Files.write(directory.resolve("visits-" + sealed + ".log"), new byte[] {0, 0, 0, 1},
+          StandardOpenOption.APPEND);
+
+      assertEquals(Map.of(3L, 2L), new VisitJournal(directory.toString()).open(0));
+    } finally {
+      deleteTree(directory);
+    }
+  }
+
+  @Test
+  public void testFailedRotationKeepsCurrentSegment() throws IOException {
+    Path directory = Files.createTempDirectory("visit-journal");
+    try {
+      VisitJournal journal = new VisitJournal(directory.toString());
+      journal.open(0);
+      journal.append(4L, 1);
+      // A directory where the next segment file belongs makes opening it fail.
+      Path blocked = Files.createDirectory(directory.resolve("visits-2.log"));
+      assertThrows(UncheckedIOException.class, journal::rotate);
+
+      journal.append(4L, 2);
+      Files.delete(blocked);
+      assertEquals(1, journal.rotate());
+      journal.append(5L, 1);
+      journal.close();
+
+      assertEquals(Map.of(4L, 3L, 5L, 1L), new VisitJournal(directory.toString()).open(0));
+      assertEquals(Map.of(5L, 1L), new VisitJournal(directory.toString()).open(1));
+    } finally {
+      deleteTree(directory);
+    }
+  }
+
+  @Test
+  public void testDisabledJournalIsNoOp() {
+    VisitJournal journal = new VisitJournal("");
+    assertFalse(journal.isEnabled());
+    assertTrue(journal.open(0).isEmpty());
+    journal.append(1L, 1);
+    assertEquals(0, journal.rotate());
+    journal.close();
+  }
+}
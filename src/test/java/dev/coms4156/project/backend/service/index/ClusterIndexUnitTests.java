@@ -0,0 +1,80 @@
+package dev.coms4156.project.backend.service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ClusterIndex.
+ */
+public class ClusterIndexUnitTests {
+
+  private ClusterIndex index;
+
+  @BeforeEach
+  public void setUp() {
+    index = new ClusterIndex();
+    index.onRebuild(List.of(
+        new IndexedRestroom(1L, 40.7536, -73.9832),
+        new IndexedRestroom(2L, 40.7540, -73.9840),
+        new IndexedRestroom(3L, 40.7800, -73.9700),
+        new IndexedRestroom(4L, 51.5000, -0.1200)));
+  }
+
+  private List<MapCluster> world(int zoom) {
+    return index.clusters(-180, -85, 180, 85, zoom, 100);
+  }
+
+  @Test
+  public void testEveryZoomKeepsAllRestrooms() {
+    for (int zoom = 0; zoom <= ClusterIndex.MAX_ZOOM; zoom++) {
+      assertEquals(4, world(zoom).stream().mapToInt(MapCluster::getCount).sum());
+    }
+    assertEquals(1, world(0).size());
+    assertEquals(2, world(3).size());
+    assertEquals(4, world(ClusterIndex.MAX_ZOOM).size());
+  }
+
+  @Test
+  public void testClusterCentroidAndExpansion() {
+    MapCluster newYork = world(3).stream().filter(c -> c.getCount() == 3).findFirst()
+        .orElseThrow();
+
+    assertEquals((40.7536 + 40.7540 + 40.7800) / 3, newYork.getLatitude(), 1e-9);
+    assertTrue(newYork.getExpansionZoom() > 3);
+    assertEquals(null, newYork.getRestroomId());
+    List<MapCluster> split = index.clusters(-74.1, 40.6, -73.9, 40.9,
+        newYork.getExpansionZoom(), 100);
+    assertTrue(split.size() > 1);
+  }
+
+  @Test
+  public void testUpsertMovesRestroomBetweenClusters() {
+    IndexedRestroom previous = new IndexedRestroom(4L, 51.5000, -0.1200);
+    index.onUpsert(previous, new IndexedRestroom(4L, 40.7000, -74.0100));
+
+    assertEquals(1, world(3).size());
+    assertEquals(4, world(3).get(0).getCount());
+    index.onUpsert(null, new IndexedRestroom(5L, -33.86, 151.21));
+    MapCluster sydney = index.clusters(150, -34, 152, -33, 10, 100).get(0);
+    assertEquals(5L, sydney.getRestroomId());
+  }
+
+  @Test
+  public void testBoundingBoxAcrossAntimeridian() {
+    index.onUpsert(null, new IndexedRestroom(5L, -17.7, 178.0));
+    index.onUpsert(null, new IndexedRestroom(6L, -14.3, -170.7));
+
+    assertEquals(2, index.clusters(170, -20, -160, -10, 8, 100).size());
+  }
+
+  @Test
+  public void testTooManyClusters() {
+    assertThrows(IllegalArgumentException.class,
+        () -> index.clusters(-180, -85, 180, 85, ClusterIndex.MAX_ZOOM, 3));
+  }
+}
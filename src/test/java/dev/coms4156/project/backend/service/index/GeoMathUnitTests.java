@@ -0,0 +1,47 @@
+package dev.coms4156.project.backend.service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for GeoMath.
+ */
+public class GeoMathUnitTests {
+
+  @Test
+  public void testHaversineKnownDistance() {
+    // Times Square to Empire State Building is roughly 1.1 km.
+    double meters = GeoMath.haversineMeters(40.7580, -73.9855, 40.7484, -73.9857);
+
+    assertEquals(1067, meters, 5);
+    assertEquals(0.0, GeoMath.haversineMeters(40.0, -73.0, 40.0, -73.0), 1e-9);
+  }
+
+  @Test
+  public void testUnitVectorIsNormalized() {
+    double[] unit = GeoMath.unitVector(40.7536, -73.9832);
+
+    assertEquals(1.0, unit[0] * unit[0] + unit[1] * unit[1] + unit[2] * unit[2], 1e-12);
+  }
+
+  @Test
+  public void testChordSquaredMatchesUnitVectors() {
+    double[] a = GeoMath.unitVector(40.7536, -73.9832);
+    double[] b = GeoMath.unitVector(40.7000, -74.0100);
+    double chord = (a[0] - b[0]) * (a[0] - b[0])
+        + (a[1] - b[1]) * (a[1] - b[1])
+        + (a[2] - b[2]) * (a[2] - b[2]);
+    double meters = GeoMath.haversineMeters(40.7536, -73.9832, 40.7000, -74.0100);
+
+    assertEquals(GeoMath.chordSquared(meters), chord, 1e-12);
+    assertTrue(GeoMath.chordSquared(1000) < GeoMath.chordSquared(1001));
+  }
+
+  @Test
+  public void testLongitudeDeltaWidensTowardPoles() {
+    assertTrue(GeoMath.longitudeDelta(1000, 60) > GeoMath.longitudeDelta(1000, 0));
+    assertEquals(360.0, GeoMath.longitudeDelta(1000, 90), 0.0);
+  }
+}
@@ -0,0 +1,109 @@
+package dev.coms4156.project.backend.service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.coms4156.project.backend.model.Restroom;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for NearbyCache keys, counters and invalidation.
+ */
+public class NearbyCacheUnitTests {
+
+  private static NearbyCache.Key key(NearbyCache cache, double lat, double lng) {
+    return cache.keyFor(lat, lng, 1200, 10, -1, 0L, null);
+  }
+
+  private static void fill(NearbyCache cache, NearbyCache.Key key) {
+    cache.put(key, 2000, List.of(new Restroom()), cache.writeStamp());
+  }
+
+  @Test
+  public void testKeySnapsPointAndRadius() {
+    NearbyCache cache = new NearbyCache(0.01, 10, 60);
+    NearbyCache.Key first = key(cache, 40.7512, -73.9851);
+    NearbyCache.Key second = cache.keyFor(40.7588, -73.9809, 1500, 10, -1, 0L, null);
+
+    assertEquals(first, second);
+    assertEquals(1500d, first.radiusMeters());
+    double[] center = cache.center(first);
+    assertEquals(40.755, center[0], 1e-9);
+    assertEquals(-73.985, center[1], 1e-9);
+    assertTrue(cache.halfDiagonal(first) > 500 && cache.halfDiagonal(first) < 800);
+  }
+
+  @Test
+  public void testUncacheableQueries() {
+    assertNull(new NearbyCache(0.01, 10, 60).keyFor(40.75, -73.98, 20000, 10, -1, 0L, null));
+    assertNull(new NearbyCache(0, 10, 60).keyFor(40.75, -73.98, 500, 10, -1, 0L, null));
+  }
+
+  @Test
+  public void testHitAndMissCounters() {
+    NearbyCache cache = new NearbyCache(0.01, 10, 60);
+    NearbyCache.Key key = key(cache, 40.75, -73.98);
+
+    assertNull(cache.get(key));
+    fill(cache, key);
+    assertNotNull(cache.get(key));
+    assertEquals(1L, cache.stats().hits());
+    assertEquals(1L, cache.stats().misses());
+  }
+
+  @Test
+  public void testUpsertInvalidatesOnlyCoveringEntries() {
+    NearbyCache cache = new NearbyCache(0.01, 10, 60);
+    NearbyCache.Key midtown = key(cache, 40.75, -73.98);
+    NearbyCache.Key brooklyn = key(cache, 40.65, -73.95);
+    fill(cache, midtown);
+    fill(cache, brooklyn);
+
+    cache.onUpsert(null, new IndexedRestroom(1L, 40.756, -73.984));
+
+    assertNull(cache.get(midtown));
+    assertNotNull(cache.get(brooklyn));
+    assertEquals(1L, cache.stats().invalidations());
+  }
+
+  @Test
+  public void testRatingChangeInvalidates() {
+    NearbyCache cache = new NearbyCache(0.01, 10, 60);
+    NearbyCache.Key key = key(cache, 40.75, -73.98);
+    fill(cache, key);
+
+    cache.onDetailsChanged(new IndexedRestroom(1L, 40.755, -73.985));
+
+    assertNull(cache.get(key));
+  }
+
+  @Test
+  public void testPutAfterWriteIsDropped() {
+    NearbyCache cache = new NearbyCache(0.01, 10, 60);
+    NearbyCache.Key key = key(cache, 40.75, -73.98);
+    long stamp = cache.writeStamp();
+
+    cache.onUpsert(null, new IndexedRestroom(1L, 10, 10));
+    cache.put(key, 2000, List.of(), stamp);
+
+    assertNull(cache.get(key));
+  }
+
+  @Test
+  public void testEvictionAndExpiry() {
+    NearbyCache bounded = new NearbyCache(0.01, 1, 60);
+    NearbyCache.Key first = key(bounded, 40.75, -73.98);
+    fill(bounded, first);
+    fill(bounded, key(bounded, 40.65, -73.95));
+    assertNull(bounded.get(first));
+    assertEquals(1L, bounded.stats().evictions());
+
+    NearbyCache expiring = new NearbyCache(0.01, 10, 0);
+    NearbyCache.Key key = key(expiring, 40.75, -73.98);
+    fill(expiring, key);
+    assertNull(expiring.get(key));
+  }
+}
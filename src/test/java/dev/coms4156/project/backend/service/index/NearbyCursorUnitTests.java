@@ -0,0 +1,40 @@
+package dev.coms4156.project.backend.service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for NearbyCursor.
+ */
+public class NearbyCursorUnitTests {
+
+  @Test
+  public void testRoundTrip() {
+    NearbyCursor cursor = NearbyCursor.decode(new NearbyCursor(1234.5678, 42L).encode());
+
+    assertEquals(1234.5678, cursor.getDistanceMeters());
+    assertEquals(42L, cursor.getId());
+  }
+
+  @Test
+  public void testPrecedesUsesIdTiebreak() {
+    NearbyCursor cursor = new NearbyCursor(100.0, 5L);
+
+    assertTrue(cursor.precedes(100.5, 1L));
+    assertTrue(cursor.precedes(100.0, 6L));
+    assertFalse(cursor.precedes(100.0, 5L));
+    assertFalse(cursor.precedes(99.9, 9L));
+  }
+
+  @Test
+  public void testDecodeRejectsMalformedTokens() {
+    assertNull(NearbyCursor.decode(" "));
+    assertThrows(IllegalArgumentException.class, () -> NearbyCursor.decode("not a cursor!"));
+    assertThrows(IllegalArgumentException.class, () -> NearbyCursor.decode("AAAA"));
+  }
+}
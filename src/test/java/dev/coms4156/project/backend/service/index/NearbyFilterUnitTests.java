@@ -0,0 +1,63 @@
+package dev.coms4156.project.backend.service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.coms4156.project.backend.model.OperationalStatus;
+import dev.coms4156.project.backend.model.WeeklySchedule;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for NearbyFilter opening-hours windows.
+ */
+public class NearbyFilterUnitTests {
+
+  private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+  // 2025-01-06 is a Monday.
+  private static final ZonedDateTime MONDAY_NOON = ZonedDateTime.of(2025, 1, 6, 12, 0, 0, 0,
+      NEW_YORK);
+
+  private static IndexedRestroom restroom(String hoursJson) {
+    return new IndexedRestroom(1L, 40.75, -73.98, WeeklySchedule.parse(hoursJson), 0L,
+        OperationalStatus.OPERATIONAL);
+  }
+
+  @Test
+  public void testOpenAtAndOpenFor() {
+    IndexedRestroom weekdays = restroom("{\"mon\": \"08:00-16:00\", \"sat\": \"10:00-23:00\"}");
+    ZonedDateTime saturday = MONDAY_NOON.plusDays(5).withHour(22);
+
+    assertTrue(NearbyFilter.of(false, MONDAY_NOON, saturday, null, 0L, null).test(weekdays));
+    assertTrue(NearbyFilter.of(false, MONDAY_NOON, saturday, Duration.ofMinutes(60), 0L, null)
+        .test(weekdays));
+    assertFalse(NearbyFilter.of(false, MONDAY_NOON, saturday, Duration.ofMinutes(61), 0L, null)
+        .test(weekdays));
+    assertTrue(NearbyFilter.of(false, MONDAY_NOON, null, Duration.ofHours(4), 0L, null)
+        .test(weekdays));
+    assertFalse(NearbyFilter.of(true, MONDAY_NOON.withHour(7), saturday, null, 0L, null)
+        .test(weekdays));
+  }
+
+  @Test
+  public void testOpenKeyDistinguishesWindows() {
+    assertSame(NearbyFilter.NONE, NearbyFilter.of(null, MONDAY_NOON, null, null, 0L, null));
+    assertEquals(-1L, NearbyFilter.NONE.getOpenKey());
+
+    long now = NearbyFilter.of(true, MONDAY_NOON, 0L, null).getOpenKey();
+    long at = NearbyFilter.of(false, MONDAY_NOON, MONDAY_NOON, null, 0L, null).getOpenKey();
+    long during = NearbyFilter.of(false, MONDAY_NOON, MONDAY_NOON, Duration.ofHours(1), 0L,
+        null).getOpenKey();
+    long both = NearbyFilter.of(true, MONDAY_NOON, MONDAY_NOON, Duration.ofHours(1), 0L,
+        null).getOpenKey();
+
+    assertEquals(now, at);
+    assertNotEquals(at, during);
+    assertNotEquals(during, both);
+  }
+}
@@ -0,0 +1,40 @@
+package dev.coms4156.project.backend.service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for Polyline.
+ */
+public class PolylineUnitTests {
+
+  private static final String SAMPLE = "_p~iF~ps|U_ulLnnqC_mqNvxq`@";
+
+  @Test
+  public void testDecodeReferenceExample() {
+    List<double[]> points = Polyline.decode(SAMPLE);
+
+    assertEquals(3, points.size());
+    assertEquals(38.5, points.get(0)[0], 1e-9);
+    assertEquals(-120.2, points.get(0)[1], 1e-9);
+    assertEquals(40.7, points.get(1)[0], 1e-9);
+    assertEquals(-120.95, points.get(1)[1], 1e-9);
+    assertEquals(43.252, points.get(2)[0], 1e-9);
+    assertEquals(-126.453, points.get(2)[1], 1e-9);
+  }
+
+  @Test
+  public void testEncodeRoundTrip() {
+    assertEquals(SAMPLE, Polyline.encode(Polyline.decode(SAMPLE)));
+  }
+
+  @Test
+  public void testDecodeRejectsMalformedInput() {
+    assertThrows(IllegalArgumentException.class, () -> Polyline.decode(""));
+    assertThrows(IllegalArgumentException.class, () -> Polyline.decode("_p~iF"));
+    assertThrows(IllegalArgumentException.class, () -> Polyline.decode("abc def"));
+  }
+}
@@ -0,0 +1,62 @@
+package dev.coms4156.project.backend.service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.coms4156.project.backend.model.WeeklySchedule;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for RankingModel.
+ */
+public class RankingModelUnitTests {
+
+  private final RankingModel model = new RankingModel(0.5, 0.25, 0.1, 0.15, 500, 3.5, 5, 100);
+
+  private static IndexedRestroom rated(double avgRating, long ratingCount, long visits) {
+    return new IndexedRestroom(1L, 40.75, -73.98, null, 0L, null, avgRating, ratingCount,
+        visits);
+  }
+
+  @Test
+  public void testSmoothedRatingShrinksSmallSamples() {
+    assertEquals(3.5, model.smoothedRating(rated(0, 0, 0)), 1e-9);
+    assertEquals((5 * 3.5 + 5.0) / 6, model.smoothedRating(rated(5.0, 1, 0)), 1e-9);
+    assertTrue(model.smoothedRating(rated(4.0, 200, 0))
+        > model.smoothedRating(rated(5.0, 1, 0)));
+  }
+
+  @Test
+  public void testScoreBlendsTerms() {
+    double expected = 0.5 + 0.25 * 3.5 / 5 + 0.1 * 100 / 200.0;
+
+    assertEquals(expected, model.score(rated(0, 0, 100), 0, -1), 1e-9);
+    assertTrue(model.score(rated(0, 0, 0), 100, -1) > model.score(rated(0, 0, 0), 600, -1));
+  }
+
+  @Test
+  public void testOpenNowBonus() {
+    IndexedRestroom open = new IndexedRestroom(1L, 40.75, -73.98,
+        WeeklySchedule.parse("{\"mon\": \"00:00-23:59\"}"), 0L, null);
+
+    assertEquals(0.15, model.score(open, 0, 40) - model.score(open, 0, -1), 1e-9);
+  }
+
+  @Test
+  public void testReachBoundsScore() {
+    double reach = model.reach(0.6, 5.0, 500);
+
+    assertTrue(Double.isFinite(reach));
+    assertTrue(model.score(rated(5.0, 100000, 500), reach + 1, 0) < 0.6);
+    assertEquals(Double.POSITIVE_INFINITY, model.reach(0.2, 5.0, 500));
+  }
+
+  @Test
+  public void testRejectsNegativeWeights() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new RankingModel(-1, 0.25, 0.1, 0.15, 500, 3.5, 5, 100));
+    assertThrows(IllegalArgumentException.class,
+        () -> new RankingModel(0.5, 0.25, 0.1, 0.15, 0, 3.5, 5, 100));
+  }
+}
@@ -0,0 +1,224 @@
+package dev.coms4156.project.backend.service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SpatialIndex.
+ */
+public class SpatialIndexUnitTests {
+
+  private SpatialIndex index;
+
+  @BeforeEach
+  public void setUp() {
+    index = new SpatialIndex();
+    index.rebuild(List.of(
+        new IndexedRestroom(1L, 40.7536, -73.9832),
+        new IndexedRestroom(2L, 40.7540, -73.9840),
+        new IndexedRestroom(3L, 40.7800, -73.9700),
+        new IndexedRestroom(4L, 40.7000, -74.0100)));
+  }
+
+  @Test
+  public void testNearestOrdersByDistance() {
+    List<NearbyHit> hits = index.nearest(40.7536, -73.9832, 100000, 10, null);
+
+    assertEquals(4, hits.size());
+    assertEquals(1L, hits.get(0).getRestroom().getId());
+    assertEquals(2L, hits.get(1).getRestroom().getId());
+    assertEquals(0.0, hits.get(0).getDistanceMeters(), 1e-6);
+  }
+
+  @Test
+  public void testNearestRespectsRadiusAndLimit() {
+    assertEquals(2, index.nearest(40.7536, -73.9832, 500, 10, null).size());
+    assertEquals(1, index.nearest(40.7536, -73.9832, 500, 1, null).size());
+    assertTrue(index.nearest(0, 0, 1000, 10, null).isEmpty());
+  }
+
+  @Test
+  public void testNearestAppliesFilter() {
+    List<NearbyHit> hits = index.nearest(40.7536, -73.9832, 100000, 10,
+        entry -> entry.getId() % 2 == 1);
+
+    assertEquals(2, hits.size());
+    assertEquals(1L, hits.get(0).getRestroom().getId());
+    assertEquals(3L, hits.get(1).getRestroom().getId());
+  }
+
+  @Test
+  public void testUpsertMovesEntry() {
+    index.upsert(new IndexedRestroom(4L, 40.7537, -73.9833));
+
+    List<NearbyHit> hits = index.nearest(40.7536, -73.9832, 500, 10, null);
+    assertEquals(3, hits.size());
+    assertEquals(4, index.size());
+    assertEquals(40.7537, index.get(4L).orElseThrow().getLatitude());
+  }
+
+  @Test
+  public void testRemove() {
+    index.remove(1L);
+
+    assertFalse(index.get(1L).isPresent());
+    assertEquals(2L, index.nearest(40.7536, -73.9832, 500, 10, null).get(0)
+        .getRestroom().getId());
+  }
+
+  @Test
+  public void testNearestMatchesBruteForce() {
+    Random random = new Random(42);
+    List<IndexedRestroom> entries = new ArrayList<>();
+    for (long id = 0; id < 5000; id++) {
+      entries.add(new IndexedRestroom(id, 40.5 + random.nextDouble() * 0.4,
+          -74.25 + random.nextDouble() * 0.5));
+    }
+    index.rebuild(entries);
+
+    for (int query = 0; query < 50; query++) {
+      double lat = 40.5 + random.nextDouble() * 0.4;
+      double lng = -74.25 + random.nextDouble() * 0.5;
+      List<NearbyHit> expected = entries.stream()
+          .map(e -> new NearbyHit(e, GeoMath.haversineMeters(lat, lng, e.getLatitude(),
+              e.getLongitude())))
+          .filter(hit -> hit.getDistanceMeters() <= 2000)
+          .sorted(NearbyHit.BY_DISTANCE)
+          .limit(15)
+          .toList();
+      List<NearbyHit> actual = index.nearest(lat, lng, 2000, 15, null);
+
+      assertEquals(expected.size(), actual.size());
+      for (int i = 0; i < expected.size(); i++) {
+        assertEquals(expected.get(i).getRestroom().getId(), actual.get(i).getRestroom().getId());
+      }
+    }
+  }
+
+  @Test
+  public void testKeysetPagesMatchSingleQuery() {
+    Random random = new Random(7);
+    List<IndexedRestroom> entries = new ArrayList<>();
+    for (long id = 0; id < 3000; id++) {
+      // Duplicate coordinates exercise the id tiebreak across page boundaries.
+      double lat = 40.6 + random.nextInt(500) * 0.0005;
+      double lng = -74.1 + random.nextInt(500) * 0.0005;
+      entries.add(new IndexedRestroom(id, lat, lng));
+    }
+    index.rebuild(entries);
+
+    List<NearbyHit> expected = index.nearest(40.7, -74.0, 5000, 1000, null);
+    List<NearbyHit> paged = new ArrayList<>();
+    NearbyCursor cursor = null;
+    while (paged.size() < expected.size()) {
+      List<NearbyHit> page = index.nearest(40.7, -74.0, 5000, 37, null, cursor);
+      assertFalse(page.isEmpty());
+      paged.addAll(page);
+      NearbyHit last = page.get(page.size() - 1);
+      cursor = NearbyCursor.decode(
+          new NearbyCursor(last.getDistanceMeters(), last.getRestroom().getId()).encode());
+    }
+
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).getRestroom().getId(), paged.get(i).getRestroom().getId());
+    }
+  }
+
+  @Test
+  public void testAlongCorridorOrdersAlongRoute() {
+    // Route runs north-east from restroom 4 towards restroom 3.
+    Corridor corridor = Corridor.of(List.of(new double[] {40.7000, -74.0100},
+        new double[] {40.7536, -73.9836}, new double[] {40.7800, -73.9700}), 200);
+
+    List<NearbyHit> hits = index.alongCorridor(corridor, 10, null);
+
+    assertEquals(4, hits.size());
+    assertEquals(4L, hits.get(0).getRestroom().getId());
+    assertEquals(3L, hits.get(3).getRestroom().getId());
+    assertTrue(hits.get(1).getDistanceMeters() <= hits.get(2).getDistanceMeters());
+    assertEquals(2, index.alongCorridor(corridor, 2, null).size());
+  }
+
+  @Test
+  public void testAlongCorridorRespectsBuffer() {
+    Corridor corridor = Corridor.of(List.of(new double[] {40.7536, -73.9900},
+        new double[] {40.7536, -73.9700}), 30);
+
+    List<NearbyHit> hits = index.alongCorridor(corridor, 10, null);
+
+    assertEquals(1, hits.size());
+    assertEquals(1L, hits.get(0).getRestroom().getId());
+  }
+
+  @Test
+  public void testWithinPolygon() {
+    GeoPolygon polygon = GeoPolygon.of(List.of(new double[] {40.75, -73.99},
+        new double[] {40.76, -73.99}, new double[] {40.76, -73.98}, new double[] {40.75, -73.98}));
+
+    List<NearbyHit> hits = index.withinPolygon(polygon, 10, null);
+
+    assertEquals(2, hits.size());
+    assertTrue(index.withinPolygon(polygon, 10, entry -> entry.getId() > 2).isEmpty());
+  }
+
+  @Test
+  public void testBestPrefersWellRatedOverClosest() {
+    RankingModel model = new RankingModel(0.5, 0.25, 0.1, 0.15, 500, 3.5, 5, 100);
+    index.upsert(new IndexedRestroom(2L, 40.7540, -73.9840, null, 0L, null, 5.0, 40, 300));
+
+    List<NearbyHit> hits = index.best(40.7536, -73.9832, 5000, 2, null, model, -1);
+
+    assertEquals(List.of(2L, 1L), hits.stream().map(h -> h.getRestroom().getId()).toList());
+    assertTrue(hits.get(0).getScore() > hits.get(1).getScore());
+  }
+
+  @Test
+  public void testBestMatchesBruteForce() {
+    RankingModel model = new RankingModel(0.5, 0.25, 0.1, 0.15, 300, 3.5, 5, 100);
+    Random random = new Random(17);
+    List<IndexedRestroom> entries = new ArrayList<>();
+    for (long id = 0; id < 3000; id++) {
+      entries.add(new IndexedRestroom(id, 40.6 + random.nextDouble() * 0.3,
+          -74.1 + random.nextDouble() * 0.3, null, 0L, null, random.nextInt(6),
+          random.nextInt(30), random.nextInt(500)));
+    }
+    SpatialIndex dense = new SpatialIndex();
+    dense.rebuild(entries);
+
+    for (int i = 0; i < 20; i++) {
+      double lat = 40.65 + random.nextDouble() * 0.2;
+      double lng = -74.05 + random.nextDouble() * 0.2;
+      List<NearbyHit> expected = new ArrayList<>();
+      for (IndexedRestroom entry : entries) {
+        double distance = GeoMath.haversineMeters(lat, lng, entry.getLatitude(),
+            entry.getLongitude());
+        if (distance <= 3000) {
+          expected.add(new NearbyHit(entry, distance, model.score(entry, distance, -1)));
+        }
+      }
+      expected.sort(NearbyHit.BY_SCORE);
+
+      List<NearbyHit> hits = dense.best(lat, lng, 3000, 15, null, model, -1);
+
+      assertEquals(expected.subList(0, 15).stream().map(h -> h.getRestroom().getId()).toList(),
+          hits.stream().map(h -> h.getRestroom().getId()).toList());
+    }
+  }
+
+  @Test
+  public void testNotReadyUntilRebuilt() {
+    SpatialIndex fresh = new SpatialIndex();
+
+    assertFalse(fresh.isReady());
+    fresh.rebuild(List.of());
+    assertTrue(fresh.isReady());
+    assertTrue(fresh.nearest(40.0, -73.0, 1000, 5, null).isEmpty());
+  }
+}
@@ -0,0 +1,94 @@
+package dev.coms4156.project.backend.service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SuggestIndex.
+ */
+public class SuggestIndexUnitTests {
+
+  private SuggestIndex index;
+
+  @BeforeEach
+  public void setUp() {
+    index = new SuggestIndex();
+    index.rebuild(List.of(
+        new SuggestIndex.Entry(1L, "Bryant Park", 50, 4.0),
+        new SuggestIndex.Entry(2L, "Parkside Playground", 80, 3.0),
+        new SuggestIndex.Entry(3L, "Battery Park", 50, 4.5),
+        new SuggestIndex.Entry(4L, "Bryant Park", 10, 5.0)));
+  }
+
+  private List<String> names(String prefix, int limit) {
+    return index.suggest(prefix, limit).stream().map(SuggestIndex.Suggestion::name).toList();
+  }
+
+  @Test
+  public void testRanksByVisitsThenRating() {
+    assertEquals(List.of("Parkside Playground", "Battery Park", "Bryant Park"),
+        names("par", 10));
+    assertEquals(List.of("Parkside Playground"), names("par", 1));
+  }
+
+  @Test
+  public void testMatchesFromWordStartsOnly() {
+    assertEquals(List.of("Battery Park", "Bryant Park"), names("b", 10));
+    assertTrue(names("ark", 10).isEmpty());
+    assertEquals(List.of("Bryant Park"), names("  BRYANT p", 10));
+  }
+
+  @Test
+  public void testDuplicateNamesKeepBestRestroom() {
+    List<SuggestIndex.Suggestion> found = index.suggest("bryant", 10);
+
+    assertEquals(1, found.size());
+    assertEquals(1L, found.get(0).restroomId());
+  }
+
+  @Test
+  public void testNewNamesAreImmediateAndStatsWaitForRefresh() {
+    index.upsert(new SuggestIndex.Entry(5L, "Park Slope Library", 0, 0));
+    assertTrue(names("park s", 10).contains("Park Slope Library"));
+
+    index.updateStats(5L, 1000, 4.0);
+    assertEquals("Parkside Playground", names("par", 1).get(0));
+    index.refresh();
+    assertEquals("Park Slope Library", names("par", 1).get(0));
+  }
+
+  @Test
+  public void testRenamesApplyBeforeAndAfterRefresh() {
+    index.upsert(new SuggestIndex.Entry(2L, "Riverside Playground", 80, 3.0));
+
+    assertEquals(List.of("Battery Park", "Bryant Park"), names("par", 10));
+    assertEquals(List.of("Riverside Playground"), names("river", 10));
+    assertEquals(List.of("Riverside Playground", "Battery Park", "Bryant Park"),
+        names("p", 10));
+
+    index.refresh();
+
+    assertEquals(List.of("Battery Park", "Bryant Park"), names("par", 10));
+    assertEquals(List.of("Riverside Playground"), names("river", 10));
+  }
+
+  @Test
+  public void testKeepsTopNPerNode() {
+    List<SuggestIndex.Entry> many = new ArrayList<>();
+    for (long id = 0; id < 50; id++) {
+      many.add(new SuggestIndex.Entry(id, "Station " + id, id, 0));
+    }
+    index.rebuild(many);
+
+    List<SuggestIndex.Suggestion> found = index.suggest("sta", 50);
+
+    assertEquals(SuggestIndex.TOP_N, found.size());
+    assertEquals("Station 49", found.get(0).name());
+    assertTrue(index.suggest("", 5).isEmpty());
+  }
+}
@@ -0,0 +1,69 @@
+package dev.coms4156.project.backend.service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for TextIndex.
+ */
+public class TextIndexUnitTests {
+
+  private TextIndex index;
+
+  @BeforeEach
+  public void setUp() {
+    index = new TextIndex();
+    index.rebuild(List.of(
+        new TextIndex.Document(1L, "Bryant Park", "42nd St & 6th Ave"),
+        new TextIndex.Document(2L, "Union Square Park", "E 14th St"),
+        new TextIndex.Document(3L, "Café Grumpy", null)));
+  }
+
+  private List<Long> ids(String query) {
+    return index.search(query, 10, null).stream().map(TextIndex.Match::id).toList();
+  }
+
+  @Test
+  public void testTrigramsPadWords() {
+    assertEquals(List.of("  a", " ab", "abc", "bc "), List.copyOf(TextIndex.trigrams("ABC!")));
+    assertEquals("cafe grumpy", TextIndex.normalize("  Café, Grumpy "));
+  }
+
+  @Test
+  public void testMatchesNameAndAddress() {
+    assertEquals(1L, ids("bryant park").get(0));
+    assertEquals(List.of(2L), ids("14th"));
+    assertEquals(List.of(3L), ids("cafe"));
+  }
+
+  @Test
+  public void testToleratesTypos() {
+    assertEquals(1L, ids("bryant prk").get(0));
+    assertEquals(2L, ids("union squre").get(0));
+    assertTrue(ids("zzzz").isEmpty());
+  }
+
+  @Test
+  public void testBoostReordersMatches() {
+    List<TextIndex.Match> first = index.search("park", 10, id -> id == 1L ? 1d : 0d);
+    List<TextIndex.Match> second = index.search("park", 10, id -> id == 2L ? 1d : 0d);
+
+    assertEquals(1L, first.get(0).id());
+    assertEquals(2L, second.get(0).id());
+  }
+
+  @Test
+  public void testUpsertReplacesText() {
+    index.upsert(new TextIndex.Document(1L, "Herald Square", null));
+
+    assertTrue(ids("bryant park").isEmpty());
+    assertEquals(List.of(1L), ids("herald"));
+
+    index.remove(1L);
+    assertTrue(ids("herald").isEmpty());
+  }
+}
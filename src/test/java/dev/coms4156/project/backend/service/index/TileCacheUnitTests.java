@@ -0,0 +1,83 @@
+package dev.coms4156.project.backend.service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.coms4156.project.backend.model.Amenity;
+import dev.coms4156.project.backend.model.OperationalStatus;
+import dev.coms4156.project.backend.model.WeeklySchedule;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for TileCache and TileEncoder.
+ */
+public class TileCacheUnitTests {
+
+  private static final int Z = 14;
+
+  private SpatialIndex spatialIndex;
+  private TileCache cache;
+  private int tileX;
+  private int tileY;
+
+  @BeforeEach
+  public void setUp() {
+    spatialIndex = new SpatialIndex();
+    cache = new TileCache(spatialIndex, 16);
+    List<IndexedRestroom> entries = List.of(
+        new IndexedRestroom(7L, 40.7536, -73.9832, WeeklySchedule.UNKNOWN,
+            Amenity.CHANGING_STATION.bit(), OperationalStatus.NOT_OPERATIONAL),
+        new IndexedRestroom(3L, 40.7540, -73.9840),
+        new IndexedRestroom(9L, 51.5000, -0.1200));
+    spatialIndex.rebuild(entries);
+    cache.onRebuild(entries);
+    tileX = (int) Math.floor(GeoMath.mercatorX(-73.9832) * (1 << Z));
+    tileY = (int) Math.floor(GeoMath.mercatorY(40.7536) * (1 << Z));
+  }
+
+  @Test
+  public void testTileRoundTrip() {
+    List<TileEncoder.Point> points = TileEncoder.decode(cache.get(Z, tileX, tileY).bytes());
+
+    assertEquals(2, points.size());
+    assertEquals(3L, points.get(0).id());
+    assertEquals(7L, points.get(1).id());
+    assertEquals(OperationalStatus.NOT_OPERATIONAL, points.get(1).status());
+    assertEquals(Amenity.CHANGING_STATION.bit(), points.get(1).amenityMask());
+    assertTrue(points.get(0).x() < points.get(1).x());
+    assertTrue(points.get(0).y() < points.get(1).y());
+  }
+
+  @Test
+  public void testTileCachedUntilRestroomInsideChanges() {
+    TileCache.Tile first = cache.get(Z, tileX, tileY);
+    assertSame(first, cache.get(Z, tileX, tileY));
+
+    IndexedRestroom london = new IndexedRestroom(9L, 51.5000, -0.1200);
+    IndexedRestroom moved = new IndexedRestroom(9L, 51.5001, -0.1201);
+    spatialIndex.upsert(moved);
+    cache.onUpsert(london, moved);
+    assertSame(first, cache.get(Z, tileX, tileY));
+
+    IndexedRestroom added = new IndexedRestroom(11L, 40.7537, -73.9833);
+    spatialIndex.upsert(added);
+    cache.onUpsert(null, added);
+    TileCache.Tile second = cache.get(Z, tileX, tileY);
+    assertNotSame(first, second);
+    assertEquals(3, TileEncoder.decode(second.bytes()).size());
+  }
+
+  @Test
+  public void testDecodeRejectsTruncatedTile() {
+    byte[] bytes = cache.get(Z, tileX, tileY).bytes();
+    byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+
+    assertThrows(IllegalArgumentException.class, () -> TileEncoder.decode(truncated));
+  }
+}